@@ -0,0 +1,59 @@
+package io.github.suho149.realtime_auction.domain.auction.broadcast;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.suho149.realtime_auction.domain.auction.dto.AuctionStatusResponse;
+import io.github.suho149.realtime_auction.global.websocket.ExactDestinationSubscriptionRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * 경매 상태를 구독자에게 전송한다. 상태 하나를 바이트로 한 번만 만들고, 브로커는 그 배열을 모든 구독자에게 그대로 넘긴다.
+ * (메시지 변환기를 거치지 않으므로 발행마다 객체 -> JSON 변환이 반복되지 않음)
+ *
+ * - /topic/auctions/{id}        : JSON
+ * - /topic/auctions/{id}/binary : AuctionStatusCodec 형식 (구독자가 있을 때만 만들어서 전송)
+ *   STOMP는 application/octet-stream 본문을 WebSocket 바이너리 프레임으로 보내므로 SockJS(/ws)가 아닌 /ws-native 에서만 사용한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AuctionStatusBroadcaster {
+
+    public static final String TOPIC_PREFIX = "/topic/auctions/";
+    public static final String BINARY_SUFFIX = "/binary";
+
+    private final SimpMessageSendingOperations messagingTemplate;
+    private final ObjectMapper objectMapper;
+    private final ExactDestinationSubscriptionRegistry subscriptionRegistry;
+
+    public void broadcast(long productId, AuctionStatusResponse status) {
+        String destination = TOPIC_PREFIX + productId;
+        send(destination, toJson(status), MimeTypeUtils.APPLICATION_JSON);
+
+        String binaryDestination = destination + BINARY_SUFFIX;
+        if (subscriptionRegistry.hasSubscribers(binaryDestination)) {
+            send(binaryDestination, AuctionStatusCodec.encode(status), MimeTypeUtils.APPLICATION_OCTET_STREAM);
+        }
+    }
+
+    private void send(String destination, byte[] payload, MimeType contentType) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(contentType);
+        accessor.setLeaveMutable(true); // 템플릿이 목적지 헤더를 같은 헤더 객체에 채움
+        messagingTemplate.send(destination, MessageBuilder.createMessage(payload, accessor.getMessageHeaders()));
+    }
+
+    private byte[] toJson(AuctionStatusResponse status) {
+        try {
+            return objectMapper.writeValueAsBytes(status);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("경매 상태 직렬화 실패", e);
+        }
+    }
+}
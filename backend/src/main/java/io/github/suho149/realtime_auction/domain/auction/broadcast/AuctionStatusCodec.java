@@ -0,0 +1,71 @@
+package io.github.suho149.realtime_auction.domain.auction.broadcast;
+
+import io.github.suho149.realtime_auction.domain.auction.dto.AuctionStatusResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 경매 상태의 압축 바이너리 형식 (/topic/auctions/{id}/binary 구독용).
+ *
+ * [버전 1바이트][현재 최고가][입찰자 수][시청자 수][최고 입찰자 이름 바이트 길이][이름 UTF-8]
+ * 숫자는 모두 부호 없는 LEB128 varint (7비트씩, 상위 비트 1 = 다음 바이트 있음). 최고가가 없으면 0.
+ * 일반적인 상태 메시지가 JSON으로 100바이트 안팎인 것에 비해 20바이트 안팎이다.
+ */
+public final class AuctionStatusCodec {
+
+    public static final byte VERSION = 1;
+
+    private AuctionStatusCodec() {
+    }
+
+    public static byte[] encode(AuctionStatusResponse status) {
+        byte[] name = (status.getHighestBidderName() != null)
+                ? status.getHighestBidderName().getBytes(StandardCharsets.UTF_8)
+                : new byte[0];
+        ByteArrayOutputStream out = new ByteArrayOutputStream(16 + name.length);
+        out.write(VERSION);
+        writeVarLong(out, status.getCurrentHighestBid() != null ? status.getCurrentHighestBid() : 0L);
+        writeVarLong(out, status.getBidderCount());
+        writeVarLong(out, status.getViewerCount());
+        writeVarLong(out, name.length);
+        out.write(name, 0, name.length);
+        return out.toByteArray();
+    }
+
+    public static AuctionStatusResponse decode(byte[] bytes) {
+        if (bytes.length == 0 || bytes[0] != VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 경매 상태 형식입니다.");
+        }
+        int[] position = {1};
+        long highestBid = readVarLong(bytes, position);
+        int bidderCount = (int) readVarLong(bytes, position);
+        long viewerCount = readVarLong(bytes, position);
+        int nameLength = (int) readVarLong(bytes, position);
+        String name = new String(bytes, position[0], nameLength, StandardCharsets.UTF_8);
+        return new AuctionStatusResponse(highestBid, name, bidderCount, viewerCount);
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("음수는 기록할 수 없습니다: " + value);
+        }
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarLong(byte[] bytes, int[] position) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = bytes[position[0]++];
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("잘못된 varint 입니다.");
+    }
+}
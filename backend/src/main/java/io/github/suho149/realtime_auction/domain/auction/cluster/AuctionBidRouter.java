@@ -0,0 +1,35 @@
+package io.github.suho149.realtime_auction.domain.auction.cluster;
+
+import io.github.suho149.realtime_auction.domain.auction.dto.BidResult;
+import io.github.suho149.realtime_auction.domain.auction.service.AuctionService;
+import io.github.suho149.realtime_auction.global.cluster.ClusterMembership;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 입찰 진입점. 경매(상품 ID)마다 consistent hashing으로 정해진 소유 노드 하나만 입찰을 처리한다.
+ * 이 노드가 소유하면 바로 처리하고, 아니면 소유 노드로 전달해서 결과를 받는다.
+ * 한 경매의 입찰이 한 노드에 모이므로 노드 간 분산 락 없이 노드 안의 락과 메모리 상태로 처리할 수 있다.
+ */
+@Service
+@RequiredArgsConstructor
+public class AuctionBidRouter {
+
+    private final ClusterMembership clusterMembership;
+    private final AuctionService auctionService;
+    private final BidForwarder bidForwarder;
+
+    public BidResult placeBid(long productId, long bidAmount, long bidderId) {
+        String owner = clusterMembership.ownerOf(productId);
+        if (clusterMembership.isLocal(owner)) {
+            return auctionService.placeBid(productId, bidAmount, bidderId);
+        }
+
+        BidResult result = bidForwarder.forward(owner, productId, bidAmount, bidderId);
+        if (result.getStatus() == BidResult.Status.ACCEPTED) {
+            // 소유 노드는 자기 노드의 구독자에게만 전송하므로 입찰을 받은 이 노드의 구독자에게도 전송
+            auctionService.broadcastAuctionStatus(productId);
+        }
+        return result;
+    }
+}
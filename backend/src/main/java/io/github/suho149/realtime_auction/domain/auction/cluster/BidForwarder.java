@@ -0,0 +1,195 @@
+package io.github.suho149.realtime_auction.domain.auction.cluster;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.suho149.realtime_auction.domain.auction.dto.BidResult;
+import io.github.suho149.realtime_auction.domain.auction.service.AuctionService;
+import io.github.suho149.realtime_auction.global.cluster.NodeIdentity;
+import io.github.suho149.realtime_auction.global.error.exception.InvalidRequestException;
+import io.github.suho149.realtime_auction.global.redis.RedisStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 다른 노드가 소유한 경매의 입찰을 Redis Pub/Sub으로 소유 노드에 전달하고 결과를 받는다.
+ * 노드마다 요청 채널(auction:bid-requests:{노드 ID})과 응답 채널(auction:bid-replies:{노드 ID})을 하나씩 구독한다.
+ *
+ * 소유 노드는 받은 입찰을 bidExecutor에서 AuctionService.placeBid로 처리하고 (자기 판단으로 소유자가 아니어도 처리해서 전달이 돌지 않게 함),
+ * 요청한 노드는 forward-timeout-ms 동안 응답을 기다린다. Pub/Sub은 전달을 보장하지 않으므로 시간 안에 응답이 없으면
+ * 거절이 아니라 결과를 알 수 없다는 응답(UNKNOWN)을 돌려준다 (소유 노드에서는 수락되었을 수 있음).
+ * 소유 노드의 오류는 요청 값 오류(CLIENT)와 서버 오류(SERVER)를 구분해서 전달하고, 서버 오류는 400이 아닌 오류로 다시 던진다.
+ */
+@Slf4j
+@Component
+public class BidForwarder implements MessageListener {
+
+    private static final String REQUEST_CHANNEL_PREFIX = "auction:bid-requests:";
+    private static final String REPLY_CHANNEL_PREFIX = "auction:bid-replies:";
+
+    private final RedisStore redisStore;
+    private final ObjectMapper objectMapper;
+    private final AuctionService auctionService;
+    private final ThreadPoolTaskExecutor bidExecutor;
+    private final String nodeId;
+    private final long timeoutMs;
+
+    private final AtomicLong requestIds = new AtomicLong();
+    // 요청 ID -> 응답을 기다리는 입찰
+    private final Map<Long, CompletableFuture<BidResult>> pending = new ConcurrentHashMap<>();
+
+    public BidForwarder(RedisStore redisStore,
+                        ObjectMapper objectMapper,
+                        AuctionService auctionService,
+                        @Qualifier("bidExecutor") ThreadPoolTaskExecutor bidExecutor,
+                        NodeIdentity nodeIdentity,
+                        @Value("${auction.cluster.forward-timeout-ms:3000}") long timeoutMs) {
+        this.redisStore = redisStore;
+        this.objectMapper = objectMapper;
+        this.auctionService = auctionService;
+        this.bidExecutor = bidExecutor;
+        this.nodeId = nodeIdentity.getId();
+        this.timeoutMs = timeoutMs;
+    }
+
+    public String requestChannel() {
+        return REQUEST_CHANNEL_PREFIX + nodeId;
+    }
+
+    public String replyChannel() {
+        return REPLY_CHANNEL_PREFIX + nodeId;
+    }
+
+    // 소유 노드에 입찰을 보내고 결과를 기다림
+    public BidResult forward(String owner, long productId, long bidAmount, long bidderId) {
+        long requestId = requestIds.incrementAndGet();
+        CompletableFuture<BidResult> reply = new CompletableFuture<>();
+        pending.put(requestId, reply);
+        try {
+            redisStore.publish(REQUEST_CHANNEL_PREFIX + owner,
+                    toJson(new ForwardedBid(requestId, nodeId, productId, bidAmount, bidderId)));
+            return reply.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("입찰 전달 응답 없음 - 소유 노드: {}, 상품 ID: {}", owner, productId);
+            return BidResult.unknown("입찰 처리 결과를 확인하지 못했습니다. 현재 가격을 확인한 뒤 다시 시도해주세요.",
+                    auctionService.lastKnownHighestBid(productId));
+        } catch (ExecutionException e) {
+            // 소유 노드에서 발생한 오류 (존재하지 않는 상품 등)를 그대로 전달
+            throw (e.getCause() instanceof RuntimeException cause) ? cause : new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("입찰 전달 중 인터럽트 발생", e);
+        } finally {
+            pending.remove(requestId);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        try {
+            if (channel.equals(requestChannel())) {
+                handleRequest(objectMapper.readValue(message.getBody(), ForwardedBid.class));
+            } else if (channel.equals(replyChannel())) {
+                handleReply(objectMapper.readValue(message.getBody(), BidReply.class));
+            }
+        } catch (IOException e) {
+            log.warn("입찰 전달 메시지 처리 실패: {}", e.getMessage());
+        }
+    }
+
+    // 구독 스레드를 막지 않도록 입찰 처리는 bidExecutor에서
+    private void handleRequest(ForwardedBid bid) {
+        try {
+            bidExecutor.execute(() -> reply(bid, process(bid)));
+        } catch (TaskRejectedException e) {
+            reply(bid, BidReply.of(bid.requestId(), BidResult.rejected("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.",
+                    auctionService.lastKnownHighestBid(bid.productId()))));
+        }
+    }
+
+    private BidReply process(ForwardedBid bid) {
+        try {
+            return BidReply.of(bid.requestId(), auctionService.placeBid(bid.productId(), bid.bidAmount(), bid.bidderId()));
+        } catch (InvalidRequestException e) {
+            return BidReply.failed(bid.requestId(), ErrorKind.CLIENT, e.getMessage());
+        } catch (RuntimeException e) {
+            log.warn("전달받은 입찰 처리 실패 - 상품 ID: {}, 원인: {}", bid.productId(), e.getMessage());
+            return BidReply.failed(bid.requestId(), ErrorKind.SERVER, "입찰 처리 중 오류가 발생했습니다.");
+        }
+    }
+
+    private void reply(ForwardedBid bid, BidReply reply) {
+        try {
+            redisStore.publish(REPLY_CHANNEL_PREFIX + bid.origin(), toJson(reply));
+        } catch (RuntimeException e) {
+            log.warn("입찰 결과 응답 실패 - 요청 노드: {}, 원인: {}", bid.origin(), e.getMessage());
+        }
+    }
+
+    // 시간 초과로 이미 포기한 요청의 응답은 무시
+    private void handleReply(BidReply reply) {
+        CompletableFuture<BidResult> future = pending.get(reply.requestId());
+        if (future == null) {
+            return;
+        }
+        if (reply.errorKind() == ErrorKind.CLIENT) {
+            future.completeExceptionally(new InvalidRequestException(reply.error()));
+        } else if (reply.errorKind() == ErrorKind.SERVER) {
+            future.completeExceptionally(new IllegalStateException("소유 노드 입찰 처리 실패: " + reply.error()));
+        } else {
+            future.complete(reply.toResult());
+        }
+    }
+
+    private String toJson(Object message) {
+        try {
+            return objectMapper.writeValueAsString(message);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("입찰 전달 메시지 직렬화 실패", e);
+        }
+    }
+
+    record ForwardedBid(long requestId, String origin, long productId, long bidAmount, long bidderId) {
+    }
+
+    // 소유 노드에서 발생한 오류의 종류. CLIENT는 요청한 노드에서 InvalidRequestException(400), SERVER는 IllegalStateException으로
+    enum ErrorKind {
+        CLIENT,
+        SERVER
+    }
+
+    // 처리 결과. errorKind가 있으면 요청한 노드에서 예외로 (단건 처리와 같은 응답 코드가 되도록)
+    record BidReply(long requestId, BidResult.Status status, String reason, long currentHighestBid, Long sequence,
+                    ErrorKind errorKind, String error) {
+
+        static BidReply of(long requestId, BidResult result) {
+            return new BidReply(requestId, result.getStatus(), result.getReason(), result.getCurrentHighestBid(), result.getSequence(), null, null);
+        }
+
+        static BidReply failed(long requestId, ErrorKind errorKind, String error) {
+            return new BidReply(requestId, null, null, 0L, null, errorKind, error);
+        }
+
+        BidResult toResult() {
+            return (status == BidResult.Status.ACCEPTED)
+                    ? BidResult.accepted(currentHighestBid, sequence)
+                    : BidResult.rejected(reason, currentHighestBid);
+        }
+    }
+}
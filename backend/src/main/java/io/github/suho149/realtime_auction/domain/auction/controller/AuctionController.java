@@ -1,7 +1,8 @@
 package io.github.suho149.realtime_auction.domain.auction.controller;
 
+import io.github.suho149.realtime_auction.domain.auction.cluster.AuctionBidRouter;
 import io.github.suho149.realtime_auction.domain.auction.dto.BidRequest;
-import io.github.suho149.realtime_auction.domain.auction.service.AuctionService;
+import io.github.suho149.realtime_auction.global.jwt.AuthUser;
 import lombok.RequiredArgsConstructor;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
@@ -13,13 +14,13 @@ import java.security.Principal;
 @RequiredArgsConstructor
 public class AuctionController {
 
-    private final AuctionService auctionService;
+    private final AuctionBidRouter auctionBidRouter;
 
     // 클라이언트가 /app/auctions/bid 경로로 메시지를 보내면 이 메서드가 처리
     @MessageMapping("/auctions/bid")
     public void handleBid(@Payload BidRequest bidRequest, Principal principal) {
-        // Principal 객체에서 현재 로그인한 사용자의 이메일을 가져옴
-        String bidderEmail = principal.getName();
-        auctionService.placeBid(bidRequest.getProductId(), bidRequest.getBidAmount(), bidderEmail);
+        // Principal 객체에서 현재 로그인한 사용자의 ID를 가져옴
+        Long bidderId = AuthUser.from(principal).getId();
+        auctionBidRouter.placeBid(bidRequest.getProductId(), bidRequest.getBidAmount(), bidderId);
     }
 }
@@ -0,0 +1,43 @@
+package io.github.suho149.realtime_auction.domain.auction.controller;
+
+import io.github.suho149.realtime_auction.domain.auction.dto.AuctionRankingResponse;
+import io.github.suho149.realtime_auction.domain.auction.ranking.AuctionRankingService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+// 메인 화면용 경매 랭킹 (Redis에서만 조회, DB 접근 없음)
+@RestController
+@RequestMapping("/api/v1/auctions")
+public class AuctionRankingController {
+
+    private final AuctionRankingService auctionRankingService;
+    private final int maxSize;
+
+    public AuctionRankingController(AuctionRankingService auctionRankingService,
+                                    @Value("${auction.ranking.max-size:50}") int maxSize) {
+        this.auctionRankingService = auctionRankingService;
+        this.maxSize = maxSize;
+    }
+
+    // 최근 입찰이 활발한 경매 (예: /api/v1/auctions/hot?size=10)
+    @GetMapping("/hot")
+    public ResponseEntity<List<AuctionRankingResponse>> hot(@RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(auctionRankingService.hot(clamp(size)));
+    }
+
+    // 종료가 임박한 진행 중 경매 (예: /api/v1/auctions/ending-soon?size=10)
+    @GetMapping("/ending-soon")
+    public ResponseEntity<List<AuctionRankingResponse>> endingSoon(@RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(auctionRankingService.endingSoon(clamp(size)));
+    }
+
+    private int clamp(int size) {
+        return Math.max(1, Math.min(size, maxSize));
+    }
+}
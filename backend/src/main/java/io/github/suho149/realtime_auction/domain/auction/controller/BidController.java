@@ -0,0 +1,50 @@
+package io.github.suho149.realtime_auction.domain.auction.controller;
+
+import io.github.suho149.realtime_auction.domain.auction.cluster.AuctionBidRouter;
+import io.github.suho149.realtime_auction.domain.auction.dto.BidPlaceRequest;
+import io.github.suho149.realtime_auction.domain.auction.dto.BidResult;
+import io.github.suho149.realtime_auction.global.jwt.AuthUser;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.concurrent.CompletableFuture;
+
+// WebSocket 없이 HTTP로 입찰하는 API (모바일/배치 클라이언트용)
+@RestController
+@RequestMapping("/api/v1/auctions")
+public class BidController {
+
+    private final AuctionBidRouter auctionBidRouter;
+    private final ThreadPoolTaskExecutor bidExecutor;
+
+    public BidController(AuctionBidRouter auctionBidRouter, @Qualifier("bidExecutor") ThreadPoolTaskExecutor bidExecutor) {
+        this.auctionBidRouter = auctionBidRouter;
+        this.bidExecutor = bidExecutor;
+    }
+
+    // 입찰은 bidExecutor에서 처리(다른 노드 소유 경매는 전달 후 응답 대기)되고, 서블릿 스레드는 결과를 기다리지 않고 바로 반환됨
+    // 수락: 200 OK, 거절: 409 Conflict, 결과를 알 수 없음(소유 노드 응답 시간 초과): 202 Accepted (모두 본문에 현재 최고가 포함)
+    @PostMapping("/{productId}/bids")
+    public CompletableFuture<ResponseEntity<BidResult>> placeBid(@PathVariable Long productId,
+                                                                 @Valid @RequestBody BidPlaceRequest request,
+                                                                 Authentication authentication) {
+        Long bidderId = AuthUser.from(authentication).getId();
+
+        return CompletableFuture
+                .supplyAsync(() -> auctionBidRouter.placeBid(productId, request.getBidAmount(), bidderId), bidExecutor)
+                .thenApply(result -> ResponseEntity.status(httpStatus(result.getStatus())).body(result));
+    }
+
+    private static HttpStatus httpStatus(BidResult.Status status) {
+        return switch (status) {
+            case ACCEPTED -> HttpStatus.OK;
+            case REJECTED -> HttpStatus.CONFLICT;
+            case UNKNOWN -> HttpStatus.ACCEPTED;
+        };
+    }
+}
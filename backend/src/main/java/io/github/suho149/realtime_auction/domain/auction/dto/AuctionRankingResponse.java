@@ -0,0 +1,16 @@
+package io.github.suho149.realtime_auction.domain.auction.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class AuctionRankingResponse {
+    private Long productId;
+    private String title;
+    private Long currentPrice;          // 최고 입찰가 (입찰이 없으면 시작가)
+    private LocalDateTime auctionEndTime;
+    private Double heat;                // 인기 랭킹에서만: 반감기 가중 최근 입찰 수
+}
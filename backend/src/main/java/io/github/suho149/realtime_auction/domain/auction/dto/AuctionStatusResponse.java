@@ -9,4 +9,5 @@ public class AuctionStatusResponse {
     private Long currentHighestBid;
     private String highestBidderName;
     private int bidderCount;
+    private long viewerCount; // 지금 보는 중인 인원 (주기적으로 집계된 값)
 }
@@ -0,0 +1,13 @@
+package io.github.suho149.realtime_auction.domain.auction.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+
+@Getter
+public class BidPlaceRequest {
+
+    @NotNull(message = "입찰 금액은 필수입니다.")
+    @Positive(message = "입찰 금액은 0보다 커야 합니다.")
+    private Long bidAmount;
+}
@@ -0,0 +1,34 @@
+package io.github.suho149.realtime_auction.domain.auction.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 입찰 처리 결과 (REST 입찰 API 응답)
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class BidResult {
+
+    public enum Status {
+        ACCEPTED,
+        REJECTED,
+        UNKNOWN    // 소유 노드의 응답을 받지 못해 수락 여부를 알 수 없음 (현재 가격을 다시 확인해야 함)
+    }
+
+    private final Status status;
+    private final String reason;           // 거절 사유, 결과를 알 수 없는 이유 (수락 시 null)
+    private final long currentHighestBid;  // 처리 후 현재 최고가
+    private final Long sequence;           // 경매별 입찰 순번 (수락 시에만)
+
+    public static BidResult accepted(long highestBid, long sequence) {
+        return new BidResult(Status.ACCEPTED, null, highestBid, sequence);
+    }
+
+    public static BidResult rejected(String reason, long currentHighestBid) {
+        return new BidResult(Status.REJECTED, reason, currentHighestBid, null);
+    }
+
+    public static BidResult unknown(String reason, long lastKnownHighestBid) {
+        return new BidResult(Status.UNKNOWN, reason, lastKnownHighestBid, null);
+    }
+}
@@ -0,0 +1,10 @@
+package io.github.suho149.realtime_auction.domain.auction.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ViewerCountResponse {
+    private long viewerCount;
+}
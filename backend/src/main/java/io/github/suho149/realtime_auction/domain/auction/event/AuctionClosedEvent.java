@@ -0,0 +1,16 @@
+package io.github.suho149.realtime_auction.domain.auction.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 경매 종료 처리 트랜잭션 안에서 발행 (낙찰자가 없으면 winnerId, winnerEmail, winningPrice 는 null)
+@Getter
+@AllArgsConstructor
+public class AuctionClosedEvent {
+    private final Long productId;
+    private final String title;
+    private final String sellerEmail;
+    private final Long winnerId;
+    private final String winnerEmail;
+    private final Long winningPrice;
+}
@@ -0,0 +1,14 @@
+package io.github.suho149.realtime_auction.domain.auction.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 입찰이 수락된 뒤(락 해제 후) 발행
+@Getter
+@AllArgsConstructor
+public class BidPlacedEvent {
+    private final long productId;
+    private final long bidAmount;
+    private final long bidderId;
+    private final long sequence;
+}
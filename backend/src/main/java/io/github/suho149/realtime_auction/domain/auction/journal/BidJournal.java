@@ -0,0 +1,482 @@
+package io.github.suho149.realtime_auction.domain.auction.journal;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * 수락된 입찰을 메모리 매핑된 append-only 파일에 기록하는 로컬 저널.
+ * Redis가 flush/failover로 경매 상태를 잃어도 저널을 재생해서 복구할 수 있다.
+ *
+ * 레코드 형식: [int 본문 길이][int CRC32][본문]
+ * 본문 형식: [byte 타입][long 시퀀스][long 상품 ID][long 입찰가][long 경매별 입찰 순번][short 입찰자 길이][입찰자 UTF-8]
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "auction.journal", name = "enabled", havingValue = "true")
+public class BidJournal {
+
+    private static final byte TYPE_BID = 1;
+    private static final byte TYPE_CLOSE = 2;
+    private static final int HEADER_SIZE = 8;
+    private static final int BODY_FIXED_SIZE = 35;
+    private static final int MIN_SEGMENT_SIZE = 1024 * 1024;
+    private static final int SNAPSHOT_MAGIC = 0x424A534E; // "BJSN"
+    private static final String SEGMENT_PREFIX = "journal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String SNAPSHOT_FILE = "snapshot.dat";
+
+    private final Path directory;
+    private final int segmentSize;
+    private final long flushIntervalMs;
+    private final boolean syncCommit;
+
+    private final Map<Long, JournaledAuction> auctions = new ConcurrentHashMap<>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final Object durableMonitor = new Object();
+
+    // --- writeLock으로 보호되는 상태 ---
+    private Segment current;
+    private long lastSequence;
+    private int dirtyFrom; // 아직 fsync되지 않은 구간의 시작 위치
+
+    private volatile long durableSequence;
+    private volatile long lastSnapshotSequence;
+    private ScheduledExecutorService flusher;
+
+    public BidJournal(@Value("${auction.journal.dir:./data/journal}") String directory,
+                      @Value("${auction.journal.segment-size-bytes:67108864}") int segmentSize,
+                      @Value("${auction.journal.flush-interval-ms:2}") long flushIntervalMs,
+                      @Value("${auction.journal.sync-commit:true}") boolean syncCommit) {
+        if (segmentSize < MIN_SEGMENT_SIZE) {
+            throw new IllegalArgumentException("저널 세그먼트 크기는 1MB 이상이어야 합니다: " + segmentSize);
+        }
+        this.directory = Paths.get(directory);
+        this.segmentSize = segmentSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.syncCommit = syncCommit;
+    }
+
+    @PostConstruct
+    public void open() throws IOException {
+        Files.createDirectories(directory);
+
+        // 1. 스냅샷 적재 후, 스냅샷 이후의 레코드만 세그먼트에서 재생
+        long snapshotSequence = loadSnapshot();
+        lastSequence = snapshotSequence;
+        lastSnapshotSequence = snapshotSequence;
+
+        List<Path> segments = listSegments();
+        for (int i = 0; i < segments.size(); i++) {
+            boolean last = (i == segments.size() - 1);
+            Segment segment = Segment.map(segments.get(i), last ? segmentSize : 0);
+            int end = replay(segment, snapshotSequence);
+            if (last) {
+                truncateTail(segment, end);
+                segment.buffer.position(end);
+                current = segment;
+            } else {
+                segment.channel.close();
+            }
+        }
+
+        // 2. 기록할 세그먼트가 없으면 새로 생성
+        if (current == null) {
+            current = Segment.map(segmentPath(lastSequence + 1), segmentSize);
+        }
+        dirtyFrom = current.buffer.position();
+        durableSequence = lastSequence;
+
+        log.info("입찰 저널 복구 완료 - 경로: {}, 마지막 시퀀스: {}, 진행 중 경매: {}건", directory, lastSequence, auctions.size());
+
+        // 3. 그룹 커밋: 일정 주기로 모인 기록을 한 번에 fsync
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "bid-journal-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flush, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void close() {
+        if (flusher != null) {
+            flusher.shutdown();
+        }
+        if (current == null) {
+            return;
+        }
+        writeLock.lock();
+        try {
+            current.buffer.force();
+            current.channel.close();
+            markDurable(lastSequence);
+        } catch (IOException e) {
+            log.warn("입찰 저널 종료 중 오류", e);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // 수락된 입찰을 Redis가 매긴 경매별 입찰 순번과 함께 기록하고 저널 시퀀스 번호를 반환 (fsync는 그룹 커밋으로 처리)
+    public long appendBid(long productId, long bidAmount, String bidder, long bidSequence) {
+        byte[] bidderBytes = bidder.getBytes(StandardCharsets.UTF_8);
+        if (bidderBytes.length > 0xFFFF) {
+            throw new IllegalArgumentException("입찰자 식별자가 너무 깁니다.");
+        }
+
+        writeLock.lock();
+        try {
+            long sequence = lastSequence + 1;
+            write(TYPE_BID, sequence, productId, bidAmount, bidSequence, bidderBytes);
+            lastSequence = sequence;
+            auctions.computeIfAbsent(productId, JournaledAuction::new).applyBid(sequence, bidAmount, bidder, bidSequence);
+            return sequence;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // 경매 종료를 기록. 다음 스냅샷부터 해당 경매는 저널에서 제거(compaction)된다.
+    public long appendClose(long productId) {
+        writeLock.lock();
+        try {
+            long sequence = lastSequence + 1;
+            write(TYPE_CLOSE, sequence, productId, 0L, 0L, new byte[0]);
+            lastSequence = sequence;
+            auctions.remove(productId);
+            return sequence;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // 주어진 시퀀스까지 디스크에 반영될 때까지 대기 (sync-commit 설정 시)
+    public void awaitDurable(long sequence) {
+        if (!syncCommit || durableSequence >= sequence) {
+            return;
+        }
+        synchronized (durableMonitor) {
+            while (durableSequence < sequence) {
+                try {
+                    durableMonitor.wait(flushIntervalMs + 1);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    public JournaledAuction find(long productId) {
+        writeLock.lock();
+        try {
+            JournaledAuction auction = auctions.get(productId);
+            return auction != null ? auction.copy() : null;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public List<JournaledAuction> liveAuctions() {
+        writeLock.lock();
+        try {
+            return auctions.values().stream().map(JournaledAuction::copy).toList();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // 주기적으로 스냅샷을 남기고, 스냅샷에 포함된 세그먼트를 삭제 (종료된 경매는 스냅샷에서 빠지므로 함께 정리됨)
+    @Scheduled(fixedDelayString = "${auction.journal.snapshot-interval-ms:300000}",
+            initialDelayString = "${auction.journal.snapshot-interval-ms:300000}")
+    public void snapshot() {
+        long sequence;
+        List<JournaledAuction> snapshot;
+        Path activeSegment;
+
+        writeLock.lock();
+        try {
+            if (lastSequence == lastSnapshotSequence) {
+                return;
+            }
+            roll(); // 이후 기록은 새 세그먼트로 가도록 분리
+            sequence = lastSequence;
+            snapshot = auctions.values().stream().map(JournaledAuction::copy).toList();
+            activeSegment = current.path;
+        } finally {
+            writeLock.unlock();
+        }
+
+        try {
+            writeSnapshot(sequence, snapshot);
+            lastSnapshotSequence = sequence;
+            for (Path segment : listSegments()) {
+                if (segment.getFileName().toString().compareTo(activeSegment.getFileName().toString()) < 0) {
+                    Files.deleteIfExists(segment);
+                }
+            }
+            log.info("입찰 저널 스냅샷 완료 - 시퀀스: {}, 진행 중 경매: {}건", sequence, snapshot.size());
+        } catch (IOException e) {
+            log.error("입찰 저널 스냅샷 실패", e);
+        }
+    }
+
+    private void write(byte type, long sequence, long productId, long amount, long bidSequence, byte[] bidderBytes) {
+        int bodyLength = BODY_FIXED_SIZE + bidderBytes.length;
+        if (current.buffer.position() + HEADER_SIZE + bodyLength > current.buffer.capacity()) {
+            roll();
+        }
+
+        MappedByteBuffer buffer = current.buffer;
+        int start = buffer.position();
+        int body = start + HEADER_SIZE;
+        buffer.put(body, type);
+        buffer.putLong(body + 1, sequence);
+        buffer.putLong(body + 9, productId);
+        buffer.putLong(body + 17, amount);
+        buffer.putLong(body + 25, bidSequence);
+        buffer.putShort(body + 33, (short) bidderBytes.length);
+        buffer.put(body + BODY_FIXED_SIZE, bidderBytes);
+        buffer.putInt(start + 4, checksum(buffer, body, bodyLength));
+        // 길이를 마지막에 기록: 길이가 0이면 재생 시 로그의 끝으로 간주된다
+        buffer.putInt(start, bodyLength);
+        buffer.position(body + bodyLength);
+    }
+
+    // writeLock 안에서 호출: 현재 세그먼트를 닫고 새 세그먼트를 연다
+    private void roll() {
+        if (current.buffer.position() == 0) {
+            return;
+        }
+        try {
+            current.buffer.force();
+            current.channel.close();
+            markDurable(lastSequence);
+            current = Segment.map(segmentPath(lastSequence + 1), segmentSize);
+            dirtyFrom = 0;
+        } catch (IOException e) {
+            throw new UncheckedIOException("입찰 저널 세그먼트 전환 실패", e);
+        }
+    }
+
+    private void flush() {
+        Segment segment;
+        int from;
+        int to;
+        long sequence;
+
+        writeLock.lock();
+        try {
+            if (durableSequence >= lastSequence) {
+                return;
+            }
+            segment = current;
+            from = dirtyFrom;
+            to = segment.buffer.position();
+            sequence = lastSequence;
+            dirtyFrom = to;
+        } finally {
+            writeLock.unlock();
+        }
+
+        try {
+            // fsync는 락 밖에서 수행해 그동안에도 다음 입찰이 기록될 수 있도록 함
+            if (to > from) {
+                segment.buffer.force(from, to - from);
+            }
+            markDurable(sequence);
+        } catch (RuntimeException e) {
+            log.error("입찰 저널 fsync 실패", e);
+        }
+    }
+
+    private void markDurable(long sequence) {
+        synchronized (durableMonitor) {
+            if (sequence > durableSequence) {
+                durableSequence = sequence;
+                durableMonitor.notifyAll();
+            }
+        }
+    }
+
+    // 세그먼트를 처음부터 읽으며 상태를 복원하고, 마지막으로 유효한 레코드의 끝 위치를 반환
+    private int replay(Segment segment, long snapshotSequence) {
+        MappedByteBuffer buffer = segment.buffer;
+        int position = 0;
+        while (position + HEADER_SIZE <= buffer.capacity()) {
+            int length = buffer.getInt(position);
+            if (length < BODY_FIXED_SIZE || position + HEADER_SIZE + length > buffer.capacity()) {
+                break;
+            }
+            int body = position + HEADER_SIZE;
+            if (checksum(buffer, body, length) != buffer.getInt(position + 4)) {
+                log.warn("입찰 저널 체크섬 불일치 - 파일: {}, 위치: {}. 이후 레코드는 무시합니다.", segment.path, position);
+                break;
+            }
+            apply(buffer, body, snapshotSequence);
+            position = body + length;
+        }
+        return position;
+    }
+
+    private void apply(ByteBuffer buffer, int body, long snapshotSequence) {
+        long sequence = buffer.getLong(body + 1);
+        lastSequence = Math.max(lastSequence, sequence);
+        if (sequence <= snapshotSequence) {
+            return; // 이미 스냅샷에 반영된 레코드
+        }
+
+        long productId = buffer.getLong(body + 9);
+        if (buffer.get(body) == TYPE_CLOSE) {
+            auctions.remove(productId);
+            return;
+        }
+
+        byte[] bidderBytes = new byte[Short.toUnsignedInt(buffer.getShort(body + 33))];
+        buffer.get(body + BODY_FIXED_SIZE, bidderBytes);
+        auctions.computeIfAbsent(productId, JournaledAuction::new)
+                .applyBid(sequence, buffer.getLong(body + 17), new String(bidderBytes, StandardCharsets.UTF_8), buffer.getLong(body + 25));
+    }
+
+    // 기록 도중 중단된(torn) 레코드의 잔여 바이트를 지워서 이후 기록과 섞이지 않도록 함
+    private void truncateTail(Segment segment, int end) {
+        MappedByteBuffer buffer = segment.buffer;
+        if (end + Integer.BYTES > buffer.capacity() || buffer.getInt(end) == 0) {
+            return;
+        }
+        for (int i = end; i < buffer.capacity(); i++) {
+            buffer.put(i, (byte) 0);
+        }
+        buffer.force();
+    }
+
+    private long loadSnapshot() throws IOException {
+        Path path = directory.resolve(SNAPSHOT_FILE);
+        if (!Files.exists(path)) {
+            return 0L;
+        }
+
+        CheckedInputStream checked = new CheckedInputStream(new BufferedInputStream(Files.newInputStream(path)), new CRC32());
+        try (DataInputStream in = new DataInputStream(checked)) {
+            if (in.readInt() != SNAPSHOT_MAGIC) {
+                throw new IOException("입찰 저널 스냅샷 형식이 올바르지 않습니다: " + path);
+            }
+            long sequence = in.readLong();
+            int count = in.readInt();
+            List<JournaledAuction> restored = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                long productId = in.readLong();
+                long highestBid = in.readLong();
+                long auctionSequence = in.readLong();
+                long bidSequence = in.readLong();
+                String highestBidder = in.readUTF();
+                int bidderCount = in.readInt();
+                Set<String> bidders = new HashSet<>(bidderCount * 2);
+                for (int j = 0; j < bidderCount; j++) {
+                    bidders.add(in.readUTF());
+                }
+                restored.add(JournaledAuction.restore(productId, highestBid, highestBidder, bidders, auctionSequence, bidSequence));
+            }
+            long expected = checked.getChecksum().getValue();
+            if (in.readLong() != expected) {
+                throw new IOException("입찰 저널 스냅샷 체크섬이 일치하지 않습니다: " + path);
+            }
+            restored.forEach(auction -> auctions.put(auction.getProductId(), auction));
+            return sequence;
+        }
+    }
+
+    private void writeSnapshot(long sequence, List<JournaledAuction> snapshot) throws IOException {
+        Path temp = directory.resolve(SNAPSHOT_FILE + ".tmp");
+        try (FileOutputStream file = new FileOutputStream(temp.toFile())) {
+            CheckedOutputStream checked = new CheckedOutputStream(new BufferedOutputStream(file), new CRC32());
+            DataOutputStream out = new DataOutputStream(checked);
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeLong(sequence);
+            out.writeInt(snapshot.size());
+            for (JournaledAuction auction : snapshot) {
+                out.writeLong(auction.getProductId());
+                out.writeLong(auction.getHighestBid());
+                out.writeLong(auction.getLastSequence());
+                out.writeLong(auction.getBidSequence());
+                out.writeUTF(auction.getHighestBidder());
+                out.writeInt(auction.getBidders().size());
+                for (String bidder : auction.getBidders()) {
+                    out.writeUTF(bidder);
+                }
+            }
+            out.writeLong(checked.getChecksum().getValue());
+            out.flush();
+            file.getFD().sync();
+        }
+        Files.move(temp, directory.resolve(SNAPSHOT_FILE), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private List<Path> listSegments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private Path segmentPath(long firstSequence) {
+        return directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, firstSequence, SEGMENT_SUFFIX));
+    }
+
+    private static int checksum(ByteBuffer buffer, int offset, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(offset, length));
+        return (int) crc.getValue();
+    }
+
+    private record Segment(Path path, FileChannel channel, MappedByteBuffer buffer) {
+
+        // minSize가 0이면 기존 파일 크기 그대로 매핑 (재생 전용)
+        static Segment map(Path path, int minSize) throws IOException {
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            long size = Math.max(channel.size(), minSize);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            return new Segment(path, channel, buffer);
+        }
+    }
+}
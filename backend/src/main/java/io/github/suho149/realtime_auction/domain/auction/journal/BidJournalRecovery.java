@@ -0,0 +1,78 @@
+package io.github.suho149.realtime_auction.domain.auction.journal;
+
+import io.github.suho149.realtime_auction.domain.auction.store.AuctionRedisKeys;
+import io.github.suho149.realtime_auction.global.redis.RedisStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 저널에 남아있는 경매 상태를 Redis로 되돌려 놓는 역할
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "auction.journal", name = "enabled", havingValue = "true")
+public class BidJournalRecovery {
+
+    // Redis의 최고가가 없거나 저널보다 낮을 때만 최고가/최고 입찰자/입찰자를 되돌리고, 입찰 순번은 max(현재, 저널)로 맞춤
+    // (한 경매의 키는 같은 해시 태그라서 원자적으로 실행되고, 그 사이 수락된 더 높은 입찰을 덮어쓰지 않음)
+    // ARGV: [최고가, 최고 입찰자, 입찰 순번, 입찰자...]
+    private static final RedisScript<Long> RESTORE_SCRIPT = new DefaultRedisScript<>(
+            "local restored = 0 " +
+            "local current = redis.call('get', KEYS[1]) " +
+            "if not current or tonumber(current) < tonumber(ARGV[1]) then " +
+            "  redis.call('set', KEYS[1], ARGV[1]) " +
+            "  redis.call('set', KEYS[2], ARGV[2]) " +
+            "  if #ARGV > 3 then redis.call('sadd', KEYS[3], unpack(ARGV, 4)) end " +
+            "  restored = 1 " +
+            "end " +
+            "local sequence = redis.call('get', KEYS[4]) " +
+            "if not sequence or tonumber(sequence) < tonumber(ARGV[3]) then redis.call('set', KEYS[4], ARGV[3]) end " +
+            "return restored",
+            Long.class
+    );
+
+    private final BidJournal bidJournal;
+    private final RedisStore redisStore;
+
+    // 애플리케이션 시작 시, Redis가 비어있거나 저널보다 뒤처진 경매를 복구
+    @EventListener(ApplicationReadyEvent.class)
+    public void restoreAll() {
+        List<JournaledAuction> auctions = bidJournal.liveAuctions();
+        long restored = auctions.stream().filter(this::restore).count();
+        log.info("입찰 저널 기반 Redis 복구 완료 - 대상: {}건, 복구: {}건", auctions.size(), restored);
+    }
+
+    // 실행 중 Redis 상태가 사라진 경우(flush/failover) 해당 경매만 복구. 저널에도 없으면 null
+    public JournaledAuction recover(long productId) {
+        JournaledAuction auction = bidJournal.find(productId);
+        if (auction == null) {
+            return null;
+        }
+        if (restore(auction)) {
+            log.warn("Redis 경매 상태 유실 감지, 저널로 복구했습니다. 상품 ID: {}, 최고가: {}", productId, auction.getHighestBid());
+        }
+        return auction;
+    }
+
+    private boolean restore(JournaledAuction auction) {
+        long productId = auction.getProductId();
+        List<String> args = new ArrayList<>(auction.getBidders().size() + 3);
+        args.add(String.valueOf(auction.getHighestBid()));
+        args.add(auction.getHighestBidder());
+        args.add(String.valueOf(auction.getBidSequence()));
+        args.addAll(auction.getBidders());
+        Long restored = redisStore.execute(RESTORE_SCRIPT,
+                List.of(AuctionRedisKeys.highestBid(productId), AuctionRedisKeys.highestBidder(productId),
+                        AuctionRedisKeys.bidders(productId), AuctionRedisKeys.sequence(productId)),
+                args.toArray());
+        return restored != null && restored == 1L;
+    }
+}
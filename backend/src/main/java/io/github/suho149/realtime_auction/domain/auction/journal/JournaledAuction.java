@@ -0,0 +1,51 @@
+package io.github.suho149.realtime_auction.domain.auction.journal;
+
+import lombok.Getter;
+
+import java.util.HashSet;
+import java.util.Set;
+
+// 저널을 재생(replay)해서 복원한 경매 한 건의 상태
+@Getter
+public class JournaledAuction {
+
+    private final long productId;
+    private long highestBid;
+    private String highestBidder;
+    private final Set<String> bidders;
+    private long lastSequence; // 이 경매에 마지막으로 반영된 저널 시퀀스
+    private long bidSequence;  // 마지막 수락 입찰의 경매별 입찰 순번 (Redis AuctionRedisKeys.sequence)
+
+    JournaledAuction(long productId) {
+        this(productId, 0L, null, new HashSet<>(), 0L, 0L);
+    }
+
+    private JournaledAuction(long productId, long highestBid, String highestBidder, Set<String> bidders,
+                             long lastSequence, long bidSequence) {
+        this.productId = productId;
+        this.highestBid = highestBid;
+        this.highestBidder = highestBidder;
+        this.bidders = bidders;
+        this.lastSequence = lastSequence;
+        this.bidSequence = bidSequence;
+    }
+
+    // 저널에는 Redis 조건부 기록이 수락한 입찰만 입찰 락 안에서 순서대로 기록되므로 마지막 레코드가 곧 최고가
+    void applyBid(long sequence, long bidAmount, String bidder, long bidSequence) {
+        this.lastSequence = sequence;
+        this.highestBid = bidAmount;
+        this.highestBidder = bidder;
+        this.bidSequence = bidSequence;
+        this.bidders.add(bidder);
+    }
+
+    // 스냅샷/조회용 복사본 (내부 Set이 외부에서 변경되지 않도록)
+    JournaledAuction copy() {
+        return new JournaledAuction(productId, highestBid, highestBidder, new HashSet<>(bidders), lastSequence, bidSequence);
+    }
+
+    static JournaledAuction restore(long productId, long highestBid, String highestBidder, Set<String> bidders,
+                                    long lastSequence, long bidSequence) {
+        return new JournaledAuction(productId, highestBid, highestBidder, bidders, lastSequence, bidSequence);
+    }
+}
@@ -0,0 +1,153 @@
+package io.github.suho149.realtime_auction.domain.auction.presence;
+
+import io.github.suho149.realtime_auction.domain.auction.dto.ViewerCountResponse;
+import io.github.suho149.realtime_auction.domain.auction.store.AuctionRedisKeys;
+import io.github.suho149.realtime_auction.global.cluster.NodeIdentity;
+import io.github.suho149.realtime_auction.global.redis.RedisBatch;
+import io.github.suho149.realtime_auction.global.redis.RedisStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 노드별 시청자 수를 Redis에 모아 전체 시청자 수를 계산하고, 정해진 주기로만 브로드캐스트한다.
+ * (입장/퇴장마다 전송하지 않으므로 인기 경매에서도 메시지 폭주가 생기지 않음)
+ *
+ * - 기본 모드: 경매별 해시에 노드마다 "시청자 수:갱신 시각"을 기록하고 합산. 갱신이 멈춘 노드 값은 무시한다.
+ * - HyperLogLog 모드: 구간(sync 주기)마다 시청자 식별자를 PFADD 하고 최근 두 구간의 합집합을 PFCOUNT.
+ *   시청자가 매우 많은 경우에도 경매당 메모리가 고정(약 12KB)되고, 같은 사용자의 여러 탭은 한 명으로 센다.
+ */
+@Slf4j
+@Component
+public class ViewerCountAggregator {
+
+    private final ViewerPresenceTracker presenceTracker;
+    private final RedisStore redisStore;
+    private final SimpMessageSendingOperations messagingTemplate;
+    private final String nodeId;
+    private final long syncIntervalMs;
+    private final boolean hyperLogLog;
+
+    // 이 노드가 마지막으로 Redis에 자기 값을 기록한 경매
+    private Set<Long> publishedAuctions = new HashSet<>();
+    // 경매별 마지막으로 브로드캐스트한 전체 시청자 수
+    private final Map<Long, Long> viewerTotals = new ConcurrentHashMap<>();
+
+    public ViewerCountAggregator(ViewerPresenceTracker presenceTracker,
+                                 RedisStore redisStore,
+                                 SimpMessageSendingOperations messagingTemplate,
+                                 NodeIdentity nodeIdentity,
+                                 @Value("${auction.presence.sync-interval-ms:2000}") long syncIntervalMs,
+                                 @Value("${auction.presence.hyper-log-log:false}") boolean hyperLogLog) {
+        this.presenceTracker = presenceTracker;
+        this.redisStore = redisStore;
+        this.messagingTemplate = messagingTemplate;
+        this.nodeId = nodeIdentity.getId();
+        this.syncIntervalMs = syncIntervalMs;
+        this.hyperLogLog = hyperLogLog;
+    }
+
+    // 가장 최근에 집계된 전체 시청자 수 (이 노드에 시청자가 없는 경매는 0)
+    public long viewerCount(long productId) {
+        return viewerTotals.getOrDefault(productId, 0L);
+    }
+
+    @Scheduled(fixedRateString = "${auction.presence.sync-interval-ms:2000}")
+    public void sync() {
+        try {
+            Map<Long, Long> totals = hyperLogLog ? aggregateHyperLogLog() : aggregateCounts();
+            broadcastChanged(totals);
+        } catch (Exception e) {
+            // Redis 장애 시에는 이번 주기만 건너뛰고 다음 주기에 다시 집계
+            log.warn("시청자 수 집계 실패: {}", e.getMessage());
+        }
+    }
+
+    private Map<Long, Long> aggregateCounts() {
+        Map<Long, Long> localCounts = presenceTracker.localCounts();
+        long now = System.currentTimeMillis();
+        long staleAfterMs = syncIntervalMs * 3;
+
+        // 1. 내 노드 값 기록 (시청자가 사라진 경매는 내 필드 삭제) + 합산할 경매의 전체 해시 조회
+        List<Long> productIds = new ArrayList<>(localCounts.keySet());
+        RedisBatch batch = redisStore.batch();
+        for (Long productId : productIds) {
+            String key = AuctionRedisKeys.viewers(productId);
+            batch.putHash(key, nodeId, localCounts.get(productId) + ":" + now)
+                    .expire(key, staleAfterMs)
+                    .hashEntries(key);
+        }
+        for (Long productId : publishedAuctions) {
+            if (!localCounts.containsKey(productId)) {
+                batch.deleteHashFields(AuctionRedisKeys.viewers(productId), nodeId);
+            }
+        }
+        List<Object> results = batch.execute();
+        publishedAuctions = new HashSet<>(productIds);
+
+        // 2. 갱신이 멈춘(종료된) 노드의 값은 제외하고 합산
+        Map<Long, Long> totals = new ConcurrentHashMap<>();
+        for (int i = 0; i < productIds.size(); i++) {
+            @SuppressWarnings("unchecked")
+            Map<String, String> entries = (Map<String, String>) results.get(i * 3 + 2);
+            totals.put(productIds.get(i), sumFreshCounts(entries, now - staleAfterMs));
+        }
+        return totals;
+    }
+
+    private Map<Long, Long> aggregateHyperLogLog() {
+        Map<Long, Set<String>> localViewers = presenceTracker.localViewers();
+        long window = System.currentTimeMillis() / syncIntervalMs;
+
+        List<Long> productIds = new ArrayList<>(localViewers.keySet());
+        RedisBatch batch = redisStore.batch();
+        for (Long productId : productIds) {
+            String currentKey = AuctionRedisKeys.viewersHll(productId, window);
+            batch.addToHyperLogLog(currentKey, localViewers.get(productId).toArray(new String[0]))
+                    .expire(currentKey, syncIntervalMs * 3)
+                    .countHyperLogLog(currentKey, AuctionRedisKeys.viewersHll(productId, window - 1));
+        }
+        List<Object> results = batch.execute();
+
+        Map<Long, Long> totals = new ConcurrentHashMap<>();
+        for (int i = 0; i < productIds.size(); i++) {
+            totals.put(productIds.get(i), (Long) results.get(i * 3 + 2));
+        }
+        return totals;
+    }
+
+    private void broadcastChanged(Map<Long, Long> totals) {
+        totals.forEach((productId, total) -> {
+            Long previous = viewerTotals.put(productId, total);
+            if (!total.equals(previous)) {
+                messagingTemplate.convertAndSend("/topic/auctions/" + productId + "/viewers", new ViewerCountResponse(total));
+            }
+        });
+        // 이 노드에 더 이상 시청자가 없는 경매는 보낼 대상이 없으므로 정리
+        viewerTotals.keySet().retainAll(totals.keySet());
+    }
+
+    private static long sumFreshCounts(Map<String, String> entries, long freshSince) {
+        long total = 0L;
+        if (entries == null) {
+            return total;
+        }
+        for (String value : entries.values()) {
+            int separator = value.indexOf(':');
+            if (separator < 0 || Long.parseLong(value.substring(separator + 1)) < freshSince) {
+                continue;
+            }
+            total += Long.parseLong(value.substring(0, separator));
+        }
+        return total;
+    }
+}
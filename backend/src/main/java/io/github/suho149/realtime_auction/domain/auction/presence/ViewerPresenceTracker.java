@@ -0,0 +1,157 @@
+package io.github.suho149.realtime_auction.domain.auction.presence;
+
+import io.github.suho149.realtime_auction.domain.auction.broadcast.AuctionStatusBroadcaster;
+import io.github.suho149.realtime_auction.global.jwt.AuthUser;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.security.Principal;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이 노드에 접속한 STOMP 세션들의 경매 토픽 구독을 추적해서 경매별 "지금 보는 중" 인원을 센다.
+ * 한 세션이 같은 경매를 여러 번(JSON 토픽과 /binary 토픽 등) 구독해도 한 명으로 세고,
+ * 시청자가 0명이 된 경매는 카운터에서 지워서 종료된 경매가 쌓이지 않게 한다.
+ * 노드 간 합산과 브로드캐스트는 ViewerCountAggregator가 주기적으로 처리한다.
+ */
+@Component
+public class ViewerPresenceTracker {
+
+    private static final String AUCTION_TOPIC_PREFIX = "/topic/auctions/";
+
+    // 경매별 시청 중인 세션 수 (0이 되면 항목 삭제)
+    private final Map<Long, Long> viewerCounts = new ConcurrentHashMap<>();
+    // 세션 ID -> 해당 세션의 경매 구독 목록
+    private final Map<String, SessionViews> sessions = new ConcurrentHashMap<>();
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Long productId = parseProductId(accessor.getDestination());
+        if (productId == null || accessor.getSessionId() == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+
+        SessionViews views = sessions.computeIfAbsent(accessor.getSessionId(),
+                sessionId -> new SessionViews(viewerKey(sessionId, event.getUser())));
+        // 그 사이 연결 종료로 닫힌 세션이면 세지 않음 (카운터 반영은 세션 락 안에서 하므로 종료 처리와 겹치지 않음)
+        views.subscribe(accessor.getSubscriptionId(), productId);
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        SessionViews views = (accessor.getSessionId() != null) ? sessions.get(accessor.getSessionId()) : null;
+        if (views == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+
+        views.unsubscribe(accessor.getSubscriptionId());
+    }
+
+    // 연결 종료 이벤트는 중복 발행될 수 있으므로 세션을 먼저 제거해서 한 번만 반영
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        SessionViews views = sessions.remove(event.getSessionId());
+        if (views != null) {
+            views.close();
+        }
+    }
+
+    // 이 노드에서 현재 시청자가 있는 경매의 시청자 수 (세션 수 기준)
+    public Map<Long, Long> localCounts() {
+        return new HashMap<>(viewerCounts);
+    }
+
+    // HyperLogLog 집계용: 경매별 시청자 식별자 (로그인 사용자는 사용자 ID, 아니면 세션 ID)
+    public Map<Long, Set<String>> localViewers() {
+        Map<Long, Set<String>> viewers = new ConcurrentHashMap<>();
+        sessions.values().forEach(views -> views.products().forEach(productId ->
+                viewers.computeIfAbsent(productId, id -> new HashSet<>()).add(views.viewerKey)));
+        return viewers;
+    }
+
+    private void decrement(long productId) {
+        viewerCounts.computeIfPresent(productId, (id, count) -> (count > 1) ? count - 1 : null);
+    }
+
+    // Redis에 기록되는 값이므로 이메일(Principal 이름) 대신 사용자 ID를 사용
+    private static String viewerKey(String sessionId, Principal user) {
+        if (user instanceof Authentication authentication && authentication.getPrincipal() instanceof AuthUser authUser) {
+            return "user:" + authUser.getId();
+        }
+        return "session:" + sessionId;
+    }
+
+    // "/topic/auctions/{id}" 와 바이너리 형식인 "/topic/auctions/{id}/binary" 만 시청으로 본다 (다른 하위 토픽은 제외)
+    private static Long parseProductId(String destination) {
+        if (destination == null || !destination.startsWith(AUCTION_TOPIC_PREFIX)) {
+            return null;
+        }
+        int end = destination.endsWith(AuctionStatusBroadcaster.BINARY_SUFFIX)
+                ? destination.length() - AuctionStatusBroadcaster.BINARY_SUFFIX.length()
+                : destination.length();
+        try {
+            return Long.parseLong(destination.substring(AUCTION_TOPIC_PREFIX.length(), end));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // 한 세션의 구독. 같은 세션의 구독/해제/종료가 겹칠 수 있어 모든 접근과 시청자 수 반영은 synchronized
+    // 연결 종료로 닫힌 뒤에는 구독/해제를 반영하지 않음 (종료 시 이미 모두 차감)
+    private class SessionViews {
+        private final String viewerKey;
+        private boolean closed;
+        // 구독 ID -> 상품 ID
+        private final Map<String, Long> subscriptions = new HashMap<>();
+        // 상품 ID -> 이 세션의 해당 경매 구독 수
+        private final Map<Long, Integer> productSubscriptions = new HashMap<>();
+
+        private SessionViews(String viewerKey) {
+            this.viewerKey = viewerKey;
+        }
+
+        // 이 세션이 해당 경매를 처음 구독했으면 시청자 수 증가
+        private synchronized void subscribe(String subscriptionId, long productId) {
+            if (closed || subscriptions.putIfAbsent(subscriptionId, productId) != null) {
+                return;
+            }
+            if (productSubscriptions.merge(productId, 1, Integer::sum) == 1) {
+                viewerCounts.merge(productId, 1L, Long::sum);
+            }
+        }
+
+        // 해제로 이 세션이 해당 경매를 더 이상 구독하지 않게 됐으면 시청자 수 감소
+        private synchronized void unsubscribe(String subscriptionId) {
+            Long productId = closed ? null : subscriptions.remove(subscriptionId);
+            if (productId == null) {
+                return;
+            }
+            if (productSubscriptions.computeIfPresent(productId, (id, count) -> (count > 1) ? count - 1 : null) == null) {
+                decrement(productId);
+            }
+        }
+
+        // 연결 종료: 시청 중인 경매의 시청자 수를 모두 감소시키고 이후 구독은 무시
+        private synchronized void close() {
+            closed = true;
+            productSubscriptions.keySet().forEach(ViewerPresenceTracker.this::decrement);
+            subscriptions.clear();
+            productSubscriptions.clear();
+        }
+
+        private synchronized Set<Long> products() {
+            return new HashSet<>(productSubscriptions.keySet());
+        }
+    }
+}
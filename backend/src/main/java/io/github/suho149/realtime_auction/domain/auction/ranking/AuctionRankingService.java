@@ -0,0 +1,225 @@
+package io.github.suho149.realtime_auction.domain.auction.ranking;
+
+import io.github.suho149.realtime_auction.domain.auction.dto.AuctionRankingResponse;
+import io.github.suho149.realtime_auction.domain.auction.event.AuctionClosedEvent;
+import io.github.suho149.realtime_auction.domain.auction.event.BidPlacedEvent;
+import io.github.suho149.realtime_auction.domain.auction.store.AuctionRedisKeys;
+import io.github.suho149.realtime_auction.domain.product.entity.Product;
+import io.github.suho149.realtime_auction.domain.product.entity.ProductStatus;
+import io.github.suho149.realtime_auction.domain.product.event.ProductCreatedEvent;
+import io.github.suho149.realtime_auction.domain.product.repository.ProductRepository;
+import io.github.suho149.realtime_auction.global.redis.RedisBatch;
+import io.github.suho149.realtime_auction.global.redis.RedisStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Redis Sorted Set으로 유지하는 경매 랭킹. 등록/입찰/종료 이벤트로 점진적으로 갱신하고, 조회 시 DB를 거치지 않는다.
+ *
+ * - 인기(hot): 입찰 시각 t에 가중치 2^((t - epoch) / 반감기)를 ZINCRBY. 점수 순서가 곧 지수 감쇠된 입찰 속도 순서가 된다.
+ *   값이 무한히 커지지 않도록 주기적으로 기준 시각(epoch)을 앞당기면서 전체 점수를 같은 비율로 줄인다 (ZUNIONSTORE WEIGHTS).
+ * - 마감 임박(ending soon): 점수 = 종료 시각. 아직 끝나지 않은 경매 중 가장 이른 것부터 조회.
+ */
+@Slf4j
+@Service
+public class AuctionRankingService {
+
+    // 기준 시각이 없으면 지금으로 정하고, 입찰 1건의 가중치를 더함
+    private static final RedisScript<Long> RECORD_BID_SCRIPT = new DefaultRedisScript<>(
+            "local epoch = redis.call('get', KEYS[2]) " +
+            "if not epoch then epoch = ARGV[2]; redis.call('set', KEYS[2], epoch) end " +
+            "redis.call('zincrby', KEYS[1], 2 ^ ((tonumber(ARGV[2]) - tonumber(epoch)) / tonumber(ARGV[3])), ARGV[1]) " +
+            "return 1",
+            Long.class
+    );
+    // 지난 반감기 수만큼 전체 점수를 2^-steps 배로 줄이고 기준 시각을 옮긴 뒤, 사실상 0이 된 항목은 제거
+    private static final RedisScript<Long> RESCALE_SCRIPT = new DefaultRedisScript<>(
+            "local epoch = tonumber(redis.call('get', KEYS[2])) " +
+            "if not epoch then return 0 end " +
+            "local steps = math.floor((tonumber(ARGV[1]) - epoch) / tonumber(ARGV[2])) " +
+            "if steps <= 0 then return 0 end " +
+            "redis.call('zunionstore', KEYS[1], 1, KEYS[1], 'WEIGHTS', 2 ^ -steps) " +
+            "redis.call('set', KEYS[2], string.format('%d', epoch + steps * tonumber(ARGV[2]))) " +
+            "redis.call('zremrangebyscore', KEYS[1], '-inf', ARGV[3]) " +
+            "return steps",
+            Long.class
+    );
+    private static final double MIN_HOT_SCORE = 0.01;
+    private static final int SEED_CHUNK_SIZE = 1000;
+
+    private final RedisStore redisStore;
+    private final ProductRepository productRepository;
+    private final long halfLifeMs;
+
+    public AuctionRankingService(RedisStore redisStore,
+                                 ProductRepository productRepository,
+                                 @Value("${auction.ranking.hot-half-life-ms:600000}") long halfLifeMs) {
+        this.redisStore = redisStore;
+        this.productRepository = productRepository;
+        this.halfLifeMs = halfLifeMs;
+    }
+
+    // 입찰 속도가 높은 순 상위 N개
+    public List<AuctionRankingResponse> hot(int size) {
+        Set<ZSetOperations.TypedTuple<String>> ranked = redisStore.reverseRangeWithScores(AuctionRedisKeys.hotRanking(), 0, size - 1);
+        if (ranked == null || ranked.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> productIds = new ArrayList<>();
+        List<Double> scores = new ArrayList<>();
+        ranked.forEach(tuple -> {
+            productIds.add(Long.parseLong(tuple.getValue()));
+            scores.add(tuple.getScore());
+        });
+
+        RedisBatch batch = redisStore.batch().get(AuctionRedisKeys.hotRankingEpoch());
+        List<Object> results = fetchSummaries(batch, productIds);
+        String epoch = (String) results.get(0);
+        // 점수를 현재 시각 기준으로 환산 = 반감기로 감쇠된 입찰 수
+        double decay = (epoch != null) ? Math.pow(2, -(double) (System.currentTimeMillis() - Long.parseLong(epoch)) / halfLifeMs) : 1.0;
+
+        List<AuctionRankingResponse> responses = new ArrayList<>();
+        for (int i = 0; i < productIds.size(); i++) {
+            AuctionRankingResponse response = toResponse(productIds.get(i), results, 1 + i * 2, scores.get(i) * decay);
+            if (response != null) {
+                responses.add(response);
+            }
+        }
+        return responses;
+    }
+
+    // 아직 끝나지 않은 경매 중 종료가 임박한 순 상위 N개
+    public List<AuctionRankingResponse> endingSoon(int size) {
+        Set<String> ranked = redisStore.rangeByScore(AuctionRedisKeys.endingSoonRanking(),
+                System.currentTimeMillis(), Double.POSITIVE_INFINITY, 0, size);
+        if (ranked == null || ranked.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> productIds = ranked.stream().map(Long::parseLong).toList();
+        List<Object> results = fetchSummaries(redisStore.batch(), productIds);
+
+        List<AuctionRankingResponse> responses = new ArrayList<>();
+        for (int i = 0; i < productIds.size(); i++) {
+            AuctionRankingResponse response = toResponse(productIds.get(i), results, i * 2, null);
+            if (response != null) {
+                responses.add(response);
+            }
+        }
+        return responses;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onProductCreated(ProductCreatedEvent event) {
+        register(event.getProductId(), event.getTitle(), event.getStartingPrice(), event.getAuctionEndTime());
+    }
+
+    // 입찰 경로에서 동기 호출되므로 랭킹 갱신 실패가 이미 수락된 입찰 응답에 영향을 주지 않게 함
+    @EventListener
+    public void onBidPlaced(BidPlacedEvent event) {
+        try {
+            redisStore.execute(RECORD_BID_SCRIPT,
+                    List.of(AuctionRedisKeys.hotRanking(), AuctionRedisKeys.hotRankingEpoch()),
+                    String.valueOf(event.getProductId()), String.valueOf(System.currentTimeMillis()), String.valueOf(halfLifeMs));
+        } catch (Exception e) {
+            log.warn("인기 경매 랭킹 갱신 실패. 상품 ID: {}, 원인: {}", event.getProductId(), e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onAuctionClosed(AuctionClosedEvent event) {
+        String member = String.valueOf(event.getProductId());
+        redisStore.batch()
+                .removeFromSortedSet(AuctionRedisKeys.hotRanking(), member)
+                .removeFromSortedSet(AuctionRedisKeys.endingSoonRanking(), member)
+                .delete(AuctionRedisKeys.summary(event.getProductId()))
+                .execute();
+    }
+
+    // 여러 노드가 동시에 실행해도 스크립트가 원자적이고, 이미 옮겨진 기준 시각이면 아무것도 하지 않음
+    @Scheduled(fixedRateString = "${auction.ranking.rescale-interval-ms:3600000}")
+    public void rescaleHotRanking() {
+        Long steps = redisStore.execute(RESCALE_SCRIPT,
+                List.of(AuctionRedisKeys.hotRanking(), AuctionRedisKeys.hotRankingEpoch()),
+                String.valueOf(System.currentTimeMillis()), String.valueOf(halfLifeMs), String.valueOf(MIN_HOT_SCORE));
+        if (steps != null && steps > 0) {
+            log.info("인기 경매 랭킹 점수 재조정 - 반감기 {}회 경과", steps);
+        }
+    }
+
+    // 랭킹 도입 전부터 진행 중이던 경매를 채움 (마감 임박 랭킹이 비어있을 때만)
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedEndingSoonRanking() {
+        if (!redisStore.rangeByScore(AuctionRedisKeys.endingSoonRanking(), Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, 0, 1).isEmpty()) {
+            return;
+        }
+
+        long lastId = 0L;
+        int seeded = 0;
+        List<Product> chunk;
+        do {
+            chunk = productRepository.findByStatusAndIdGreaterThanOrderByIdAsc(ProductStatus.SELLING, lastId, PageRequest.of(0, SEED_CHUNK_SIZE));
+            for (Product product : chunk) {
+                register(product.getId(), product.getTitle(), product.getStartingPrice(), product.getAuctionEndTime());
+                lastId = product.getId();
+            }
+            seeded += chunk.size();
+        } while (chunk.size() == SEED_CHUNK_SIZE);
+        log.info("마감 임박 랭킹 초기화 - {}건", seeded);
+    }
+
+    private void register(long productId, String title, long startingPrice, LocalDateTime auctionEndTime) {
+        long endTimeMillis = auctionEndTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        redisStore.batch()
+                .putHashAll(AuctionRedisKeys.summary(productId), Map.of(
+                        "title", title,
+                        "startingPrice", String.valueOf(startingPrice),
+                        "auctionEndTime", String.valueOf(endTimeMillis)))
+                .addToSortedSet(AuctionRedisKeys.endingSoonRanking(), String.valueOf(productId), endTimeMillis)
+                .execute();
+    }
+
+    // 경매별 [요약 해시, 현재 최고가]를 한 번의 파이프라인으로 조회
+    private static List<Object> fetchSummaries(RedisBatch batch, List<Long> productIds) {
+        for (Long productId : productIds) {
+            batch.hashEntries(AuctionRedisKeys.summary(productId))
+                    .get(AuctionRedisKeys.highestBid(productId));
+        }
+        return batch.execute();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static AuctionRankingResponse toResponse(long productId, List<Object> results, int index, Double heat) {
+        Map<String, String> summary = (Map<String, String>) results.get(index);
+        if (summary == null || summary.isEmpty()) {
+            return null; // 종료 처리와 겹쳐 요약이 이미 지워진 경우
+        }
+        String highestBid = (String) results.get(index + 1);
+        return new AuctionRankingResponse(
+                productId,
+                summary.get("title"),
+                Long.parseLong(highestBid != null ? highestBid : summary.get("startingPrice")),
+                LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(summary.get("auctionEndTime"))), ZoneId.systemDefault()),
+                heat
+        );
+    }
+}
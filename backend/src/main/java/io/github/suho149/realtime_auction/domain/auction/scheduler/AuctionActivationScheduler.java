@@ -0,0 +1,183 @@
+package io.github.suho149.realtime_auction.domain.auction.scheduler;
+
+import io.github.suho149.realtime_auction.domain.auction.service.AuctionService;
+import io.github.suho149.realtime_auction.domain.auction.store.LiveAuctionStore;
+import io.github.suho149.realtime_auction.domain.product.entity.Product;
+import io.github.suho149.realtime_auction.domain.product.entity.ProductStatus;
+import io.github.suho149.realtime_auction.domain.product.event.ProductCreatedEvent;
+import io.github.suho149.realtime_auction.domain.product.repository.ProductRepository;
+import io.github.suho149.realtime_auction.global.redis.RedisBatch;
+import io.github.suho149.realtime_auction.global.redis.RedisStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.PriorityBlockingQueue;
+
+/**
+ * 경매 활성화 단계. 시작 시각이 lead-ms 안으로 다가온 경매를 미리 이 노드의 LiveAuctionStore에 등록하고
+ * Redis에 시작가를 기록해 두어, 시작 직후 몰리는 첫 입찰들도 DB 조회 없이 평소와 같은 경로로 처리되게 한다.
+ * 등록된 경매는 시작 전/종료 후 입찰을 메모리에서 바로 거절하고, 시작 시각이 되면 현재 상태를 구독자에게 한 번 전송한다.
+ *
+ * LiveAuctionStore는 노드마다 따로 있으므로 모든 노드가 각자 실행한다. (Redis 기록은 SETNX라 중복 실행해도 안전)
+ * 다른 노드에서 등록된 상품은 이 노드에 이벤트가 오지 않으므로, 매 실행마다 (now, now + lead-ms] 구간을 다시 조회하고 이미 등록된 경매는 건너뛴다.
+ * 종료 처리(AuctionScheduler)는 한 노드에서만 저장소 항목을 지우므로, 종료 시각이 retention-ms 넘게 지난 경매는 각 노드가 여기서 정리한다.
+ */
+@Slf4j
+@Component
+public class AuctionActivationScheduler {
+
+    // 기동 시 이미 진행 중인 경매까지 포함하기 위한 조회 하한
+    private static final LocalDateTime BEGINNING = LocalDateTime.of(2000, 1, 1, 0, 0);
+    private static final int CHUNK_SIZE = 500;
+    // 종료 경매 정리는 저장소 전체를 훑으므로 활성화 주기보다 드물게
+    private static final long REMOVE_ENDED_INTERVAL_MS = 60_000L;
+
+    private final ProductRepository productRepository;
+    private final RedisStore redisStore;
+    private final LiveAuctionStore liveAuctionStore;
+    private final AuctionService auctionService;
+    private final long leadMs;
+    private final long retentionMs;
+
+    // 기동 후 첫 조회를 마쳤는지 (스케줄러 스레드에서만 접근)
+    private boolean caughtUp;
+    // 다음 종료 경매 정리 시각 (스케줄러 스레드에서만 접근)
+    private long nextRemoveEndedAt;
+    // 활성화됐지만 아직 시작하지 않은 경매 (시작 시각 순)
+    private final PriorityBlockingQueue<PendingStart> pendingStarts =
+            new PriorityBlockingQueue<>(64, Comparator.comparingLong(PendingStart::startTimeMillis));
+
+    public AuctionActivationScheduler(ProductRepository productRepository,
+                                      RedisStore redisStore,
+                                      LiveAuctionStore liveAuctionStore,
+                                      AuctionService auctionService,
+                                      @Value("${auction.activation.lead-ms:60000}") long leadMs,
+                                      @Value("${auction.activation.retention-ms:300000}") long retentionMs) {
+        this.productRepository = productRepository;
+        this.redisStore = redisStore;
+        this.liveAuctionStore = liveAuctionStore;
+        this.auctionService = auctionService;
+        this.leadMs = leadMs;
+        this.retentionMs = retentionMs;
+    }
+
+    @Scheduled(fixedDelayString = "${auction.activation.interval-ms:1000}")
+    public void activate() {
+        announceStarted(System.currentTimeMillis());
+        removeEnded(System.currentTimeMillis());
+
+        // 기동 시에는 진행 중인 경매까지, 이후에는 아직 시작하지 않은 경매 구간 전체를 매번 다시 조회
+        // (이전 실행이 지나간 구간에 다른 노드가 나중에 등록한 상품도 시작 전에 잡힘)
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime from = caughtUp ? now : BEGINNING;
+        LocalDateTime until = now.plus(leadMs, ChronoUnit.MILLIS);
+
+        long lastId = 0L;
+        int activated = 0;
+        List<Product> chunk;
+        do {
+            chunk = productRepository.findStartingBetween(ProductStatus.SELLING, from, until, lastId, PageRequest.of(0, CHUNK_SIZE));
+            if (chunk.isEmpty()) {
+                break;
+            }
+            RedisBatch seeds = redisStore.batch();
+            int seedCount = 0;
+            long nowMillis = System.currentTimeMillis();
+            for (Product product : chunk) {
+                lastId = product.getId();
+                if (liveAuctionStore.contains(product.getId())) {
+                    continue;
+                }
+                activated++;
+                if (register(product.getId(), product.getStartingPrice(), product.getAuctionStartTime(), product.getAuctionEndTime(), nowMillis)) {
+                    seeds.setIfAbsent(liveAuctionStore.highestBidKey(product.getId()), LiveAuctionStore.toDecimalBytes(product.getStartingPrice()));
+                    seedCount++;
+                }
+            }
+            seed(seeds, seedCount);
+        } while (chunk.size() == CHUNK_SIZE);
+
+        // 기동 시 조회가 모두 끝난 뒤에만 시작 전 구간 조회로 전환 (실패하면 다음 실행에서 처음부터 다시 처리)
+        caughtUp = true;
+        if (activated > 0) {
+            log.info("경매 활성화 - {}건 (시작 시각 {} 이전)", activated, until);
+        }
+    }
+
+    // 등록한 노드는 다음 조회를 기다리지 않고 바로 활성화 (다른 노드는 다음 activate 조회에서 활성화)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onProductCreated(ProductCreatedEvent event) {
+        if (event.getAuctionStartTime().isAfter(LocalDateTime.now().plus(leadMs, ChronoUnit.MILLIS))) {
+            return;
+        }
+        if (register(event.getProductId(), event.getStartingPrice(), event.getAuctionStartTime(), event.getAuctionEndTime(), System.currentTimeMillis())) {
+            seed(redisStore.batch().setIfAbsent(liveAuctionStore.highestBidKey(event.getProductId()),
+                    LiveAuctionStore.toDecimalBytes(event.getStartingPrice())), 1);
+        }
+    }
+
+    // 저장소에 등록하고, 아직 시작 전이면 시작 알림 대상에 넣음. 시작 전이라 Redis 시작가 기록이 필요하면 true
+    // 이미 등록된 경매(상품 등록 이벤트로 먼저 활성화됐거나 입찰로 등록된 경우)는 건너뜀
+    private boolean register(long productId, long startingPrice, LocalDateTime startTime, LocalDateTime endTime, long nowMillis) {
+        if (liveAuctionStore.contains(productId)) {
+            return false;
+        }
+        long startTimeMillis = LiveAuctionStore.epochMillis(startTime);
+        liveAuctionStore.register(productId, startingPrice, startTimeMillis, LiveAuctionStore.epochMillis(endTime));
+        if (startTimeMillis <= nowMillis) {
+            // 이미 시작된 경매는 입찰이 있었을 수 있으므로 Redis는 건드리지 않음 (유실됐다면 저널 복구 경로를 따름)
+            return false;
+        }
+        pendingStarts.add(new PendingStart(productId, startTimeMillis));
+        return true;
+    }
+
+    // 시작 전 경매의 최고가를 시작가로 기록해서 첫 입찰의 저널 복구 확인을 생략 (실패해도 입찰 경로의 기존 처리로 동작)
+    private void seed(RedisBatch seeds, int count) {
+        if (count == 0) {
+            return;
+        }
+        try {
+            seeds.execute();
+        } catch (Exception e) {
+            log.warn("경매 활성화 중 Redis 기록 실패 - {}건, 원인: {}", count, e.getMessage());
+        }
+    }
+
+    // 종료 후 retention-ms 동안은 남겨둬서 종료 직후의 입찰을 DB 조회 없이 거절
+    private void removeEnded(long nowMillis) {
+        if (nowMillis < nextRemoveEndedAt) {
+            return;
+        }
+        nextRemoveEndedAt = nowMillis + REMOVE_ENDED_INTERVAL_MS;
+        int removed = liveAuctionStore.removeEndedBefore(nowMillis - retentionMs);
+        if (removed > 0) {
+            log.info("종료된 경매 정리 - {}건", removed);
+        }
+    }
+
+    // 시작 시각이 지난 경매의 현재 상태(시작가)를 대기 중인 구독자에게 전송
+    private void announceStarted(long nowMillis) {
+        PendingStart next;
+        while ((next = pendingStarts.peek()) != null && next.startTimeMillis() <= nowMillis) {
+            pendingStarts.remove(next);
+            try {
+                auctionService.broadcastAuctionStatus(next.productId());
+            } catch (Exception e) {
+                log.warn("경매 시작 알림 실패. 상품 ID: {}, 원인: {}", next.productId(), e.getMessage());
+            }
+        }
+    }
+
+    private record PendingStart(long productId, long startTimeMillis) {
+    }
+}
@@ -1,19 +1,36 @@
 package io.github.suho149.realtime_auction.domain.auction.scheduler;
 
+import io.github.suho149.realtime_auction.domain.auction.event.AuctionClosedEvent;
+import io.github.suho149.realtime_auction.domain.auction.journal.BidJournal;
+import io.github.suho149.realtime_auction.domain.auction.journal.BidJournalRecovery;
+import io.github.suho149.realtime_auction.domain.auction.journal.JournaledAuction;
+import io.github.suho149.realtime_auction.domain.auction.store.AuctionRedisKeys;
+import io.github.suho149.realtime_auction.domain.auction.store.LiveAuctionStore;
+import io.github.suho149.realtime_auction.domain.notification.service.NotificationOutboxService;
 import io.github.suho149.realtime_auction.domain.product.entity.Product;
 import io.github.suho149.realtime_auction.domain.product.entity.ProductStatus;
 import io.github.suho149.realtime_auction.domain.product.repository.ProductRepository;
-import io.github.suho149.realtime_auction.domain.user.entity.User;
+import io.github.suho149.realtime_auction.domain.user.dto.UserProfile;
+import io.github.suho149.realtime_auction.domain.user.index.UserAuctionIndex;
 import io.github.suho149.realtime_auction.domain.user.repository.UserRepository;
+import io.github.suho149.realtime_auction.domain.user.service.SellerStatsDelta;
+import io.github.suho149.realtime_auction.domain.user.service.SellerStatsService;
+import io.github.suho149.realtime_auction.domain.user.service.UserProfileCache;
+import io.github.suho149.realtime_auction.global.redis.RedisStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Component
@@ -22,7 +39,15 @@ public class AuctionScheduler {
 
     private final ProductRepository productRepository;
     private final UserRepository userRepository;
-    private final RedisTemplate<String, String> redisTemplate;
+    private final UserProfileCache userProfileCache;
+    private final RedisStore redisStore;
+    private final LiveAuctionStore liveAuctionStore;
+    private final NotificationOutboxService notificationOutboxService;
+    private final SellerStatsService sellerStatsService;
+    private final UserAuctionIndex userAuctionIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectProvider<BidJournal> bidJournalProvider;
+    private final ObjectProvider<BidJournalRecovery> bidJournalRecoveryProvider;
 
     // 1분마다 실행 (fixedRate = 60000ms)
     @Scheduled(fixedRate = 60000)
@@ -41,40 +66,118 @@ public class AuctionScheduler {
             return;
         }
 
+        // 판매자별 현황 증감분 (판매자마다 한 번씩, 마지막에 반영)
+        Map<Long, SellerStatsDelta> sellerStats = new HashMap<>();
+
         for (Product product : productsToClose) {
             log.info("경매 종료 처리 시작 - 상품 ID: {}", product.getId());
 
-            // 2. Redis에서 최종 낙찰 정보 조회
-            String highestBidderEmail = redisTemplate.opsForValue().get("auction:" + product.getId() + ":highestBidder");
-            String highestBidStr = redisTemplate.opsForValue().get("auction:" + product.getId() + ":highestBid");
+            // 2. Redis에서 최종 낙찰 정보 조회 (한 번의 파이프라인으로)
+            List<Object> finalState = redisStore.batch()
+                    .get(AuctionRedisKeys.highestBidder(product.getId()))
+                    .get(AuctionRedisKeys.highestBid(product.getId()))
+                    .get(AuctionRedisKeys.sequence(product.getId()))
+                    .execute();
+            String highestBidder = (String) finalState.get(0);
+            String highestBidStr = (String) finalState.get(1);
+            String sequence = (String) finalState.get(2);
+            // 입찰 수 = 마지막 입찰 순번. 순번 없이 입찰자만 있으면(순번 도입 전 입찰) 알 수 없음
+            Long bidCount = (sequence != null) ? Long.valueOf(sequence) : (highestBidder == null ? 0L : null);
+
+            // Redis 상태가 유실된 경우, 저널이 있으면 저널 기준으로 낙찰 처리 (유찰로 잘못 처리되는 것 방지)
+            if (highestBidder == null || highestBidStr == null) {
+                BidJournalRecovery recovery = bidJournalRecoveryProvider.getIfAvailable();
+                JournaledAuction journaled = (recovery != null) ? recovery.recover(product.getId()) : null;
+                if (journaled != null) {
+                    highestBidder = journaled.getHighestBidder();
+                    highestBidStr = String.valueOf(journaled.getHighestBid());
+                    bidCount = null; // Redis 순번이 유실되어 입찰 수를 알 수 없음
+                }
+            }
+
+            // 판매자 이메일은 프로필 캐시에서 (프록시의 ID만 사용하므로 판매자 엔티티를 로딩하지 않음)
+            UserProfile seller = userProfileCache.get(product.getSeller().getId());
+            String sellerEmail = (seller != null) ? seller.getEmail() : null;
+            String winnerEmail = null;
 
             // 3. 낙찰자가 있는 경우, 낙찰 처리 진행
-            if (highestBidderEmail != null && highestBidStr != null) {
-                User winner = userRepository.findByEmail(highestBidderEmail)
-                        .orElse(null); // 낙찰자가 탈퇴했을 경우 등 예외 상황 고려
+            if (highestBidder != null && highestBidStr != null) {
+                UserProfile winner = findBidder(highestBidder); // 낙찰자가 탈퇴했을 경우 등 예외 상황 고려
 
                 if (winner != null) {
                     long winningPrice = Long.parseLong(highestBidStr);
-                    product.closeAuction(winner, winningPrice);
-                    log.info("낙찰 성공! 상품 ID: {}, 낙찰자: {}, 낙찰가: {}", product.getId(), winner.getEmail(), winningPrice);
+                    product.closeAuction(userRepository.getReferenceById(winner.getId()), winningPrice);
+                    winnerEmail = winner.getEmail();
+                    log.info("낙찰 성공! 상품 ID: {}, 낙찰자: {}, 낙찰가: {}", product.getId(), winner.getId(), winningPrice);
 
-                    // TODO: 판매자와 낙찰자에게 알림 전송 로직 추가
+                    // 판매자와 낙찰자 알림은 같은 트랜잭션에서 아웃박스에만 기록 (전송은 NotificationDispatcher가 비동기로)
+                    notificationOutboxService.enqueueAuctionResult(product, sellerEmail, winnerEmail, winningPrice);
                 } else {
                     // 낙찰자는 있지만 DB에 없는 경우 (탈퇴 등) - 유찰 처리
                     product.closeAuction(null, null); // 낙찰자 없음으로 상태 변경
-                    log.warn("낙찰자({})를 찾을 수 없어 유찰 처리됩니다. 상품 ID: {}", highestBidderEmail, product.getId());
+                    notificationOutboxService.enqueueAuctionResult(product, sellerEmail, null, null);
+                    log.warn("낙찰자({})를 찾을 수 없어 유찰 처리됩니다. 상품 ID: {}", highestBidder, product.getId());
                 }
 
             } else {
                 // 4. 입찰자가 아무도 없는 경우 - 유찰 처리
                 product.closeAuction(null, null); // winner와 winningPrice를 null로 설정
+                notificationOutboxService.enqueueAuctionResult(product, sellerEmail, null, null);
                 log.info("입찰자가 없어 유찰되었습니다. 상품 ID: {}", product.getId());
             }
 
-            // 5. 처리 후 Redis 데이터 정리 (선택사항이지만 권장)
-            redisTemplate.delete("auction:" + product.getId() + ":highestBid");
-            redisTemplate.delete("auction:" + product.getId() + ":highestBidder");
-            redisTemplate.delete("auction:" + product.getId() + ":bidders");
+            sellerStats.merge(product.getSeller().getId(),
+                    SellerStatsDelta.closed(product.getWinningPrice(), bidCount), SellerStatsDelta::plus);
+
+            // 종료 이벤트 발행 (검색 색인, Redis 데이터 정리 등은 커밋 이후에 반영)
+            eventPublisher.publishEvent(new AuctionClosedEvent(
+                    product.getId(),
+                    product.getTitle(),
+                    sellerEmail,
+                    product.getWinner() != null ? product.getWinner().getId() : null,
+                    winnerEmail,
+                    product.getWinningPrice()
+            ));
+        }
+
+        // 판매자 현황도 같은 트랜잭션에서 갱신 (종료 처리와 함께 커밋)
+        sellerStatsService.applyAll(sellerStats);
+    }
+
+    // 5. 종료 처리가 커밋된 뒤에 Redis 데이터/저장소/저널 정리
+    // 커밋 전에 지우면 롤백됐을 때 다음 실행이 최종 낙찰 정보를 잃고 유찰로 처리하게 됨
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onAuctionClosed(AuctionClosedEvent event) {
+        long productId = event.getProductId();
+
+        // 사용자별 경매 목록에서 보여줄 결과를 경매 키를 지우기 전에 기록 (실패해도 정리는 계속)
+        try {
+            userAuctionIndex.recordClosed(productId, event.getTitle(), event.getWinnerId(), event.getWinningPrice());
+        } catch (Exception e) {
+            log.warn("경매 결과 기록 실패. 상품 ID: {}, 원인: {}", productId, e.getMessage());
+        }
+
+        try {
+            // 같은 해시 태그라 DEL 한 번으로 삭제
+            redisStore.delete(
+                    AuctionRedisKeys.highestBid(productId),
+                    AuctionRedisKeys.highestBidder(productId),
+                    AuctionRedisKeys.bidders(productId),
+                    AuctionRedisKeys.sequence(productId)
+            );
+        } catch (Exception e) {
+            log.warn("종료된 경매의 Redis 데이터 정리 실패. 상품 ID: {}, 원인: {}", productId, e.getMessage());
+        }
+        liveAuctionStore.remove(productId);
+        bidJournalProvider.ifAvailable(bidJournal -> bidJournal.appendClose(productId));
+    }
+
+    // Redis에는 입찰자 ID가 기록됨. 이 변경 전부터 진행 중이던 경매는 이메일이 남아있을 수 있어 이메일로도 조회
+    private UserProfile findBidder(String bidder) {
+        Long bidderId = LiveAuctionStore.parseBidderId(bidder);
+        if (bidderId != null) {
+            return userProfileCache.get(bidderId);
         }
+        return userRepository.findByEmail(bidder).map(UserProfile::from).orElse(null);
     }
 }
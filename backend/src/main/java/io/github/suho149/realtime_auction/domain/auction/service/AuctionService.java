@@ -1,90 +1,255 @@
 package io.github.suho149.realtime_auction.domain.auction.service;
 
+import io.github.suho149.realtime_auction.domain.auction.broadcast.AuctionStatusBroadcaster;
 import io.github.suho149.realtime_auction.domain.auction.dto.AuctionStatusResponse;
+import io.github.suho149.realtime_auction.domain.auction.dto.BidResult;
+import io.github.suho149.realtime_auction.domain.auction.event.BidPlacedEvent;
+import io.github.suho149.realtime_auction.domain.auction.journal.BidJournal;
+import io.github.suho149.realtime_auction.domain.auction.journal.BidJournalRecovery;
+import io.github.suho149.realtime_auction.domain.auction.journal.JournaledAuction;
+import io.github.suho149.realtime_auction.domain.auction.presence.ViewerCountAggregator;
+import io.github.suho149.realtime_auction.domain.auction.store.AuctionRedisKeys;
+import io.github.suho149.realtime_auction.domain.auction.store.LiveAuctionStore;
+import io.github.suho149.realtime_auction.domain.notification.service.OutbidNotifier;
 import io.github.suho149.realtime_auction.domain.product.entity.Product;
 import io.github.suho149.realtime_auction.domain.product.repository.ProductRepository;
+import io.github.suho149.realtime_auction.domain.user.dto.UserProfile;
+import io.github.suho149.realtime_auction.domain.user.service.UserProfileCache;
+import io.github.suho149.realtime_auction.global.cluster.ClusterMembershipChangedEvent;
+import io.github.suho149.realtime_auction.global.error.exception.InvalidRequestException;
+import io.github.suho149.realtime_auction.global.redis.RedisStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.redisson.api.RLock;
-import org.redisson.api.RedissonClient;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class AuctionService {
 
+    // 현재 최고가보다 높을 때만 최고가/최고 입찰자/입찰자 집합/입찰 순번을 갱신 (한 경매의 키는 같은 해시 태그)
+    // 결과: 수락 [1, 이전 최고 입찰자, 입찰자 수, 입찰 순번] / 거절 [0, 현재 최고가]
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> WRITE_BID_SCRIPT = new DefaultRedisScript<>(
+            "local current = redis.call('get', KEYS[1]) " +
+            "if current and tonumber(current) >= tonumber(ARGV[1]) then return {0, current} end " +
+            "local previous = redis.call('get', KEYS[2]) " +
+            "redis.call('set', KEYS[1], ARGV[1]) " +
+            "redis.call('set', KEYS[2], ARGV[2]) " +
+            "redis.call('sadd', KEYS[3], ARGV[2]) " +
+            "return {1, previous, redis.call('scard', KEYS[3]), redis.call('incr', KEYS[4])}",
+            List.class
+    );
+    private static final int BID_LOCK_STRIPES = 1024; // 2의 거듭제곱
+
     private final ProductRepository productRepository;
-    private final RedisTemplate<String, String> redisTemplate;
-    private final RedissonClient redissonClient;
-    private final SimpMessageSendingOperations messagingTemplate;
+    private final RedisStore redisStore;
+    private final AuctionStatusBroadcaster auctionStatusBroadcaster;
+    private final LiveAuctionStore liveAuctionStore;
+    private final ViewerCountAggregator viewerCountAggregator;
+    private final OutbidNotifier outbidNotifier;
+    private final UserProfileCache userProfileCache;
+    private final ApplicationEventPublisher eventPublisher;
+    // auction.journal.enabled=true 일 때만 등록되는 선택 기능
+    private final ObjectProvider<BidJournal> bidJournalProvider;
+    private final ObjectProvider<BidJournalRecovery> bidJournalRecoveryProvider;
+
+    // 경매별 입찰 직렬화용 노드 내부 락 (상품 ID로 나눈 줄무늬 락)
+    private final ReentrantLock[] bidLocks = createBidLocks();
+
+    // 이 노드가 소유한 경매(ClusterMembership.ownerOf)의 입찰을 처리. 다른 노드 소유 경매는 AuctionBidRouter가 소유 노드로 전달한다
+    // Redis/저널에는 입찰자를 사용자 ID 문자열로, 저장소에는 사용자 ID 그대로 기록 (표시 이름은 브로드캐스트할 때 프로필 캐시에서)
+    public BidResult placeBid(long productId, long bidAmount, long bidderId) {
+        BidJournal bidJournal = bidJournalProvider.getIfAvailable();
+        long journalSequence = 0L;
+        long previousBidderId;
+        long bidSequence;
+
+        // 1. 활성화 단계(AuctionActivationScheduler)를 거치지 않은 경매만 상품을 조회해서 저장소에 등록 (이후 입찰은 DB를 거치지 않음)
+        if (!liveAuctionStore.contains(productId)) {
+            Product product = productRepository.findById(productId)
+                    .orElseThrow(() -> new InvalidRequestException("상품을 찾을 수 없습니다."));
+            liveAuctionStore.register(productId, product.getStartingPrice(),
+                    LiveAuctionStore.epochMillis(product.getAuctionStartTime()), LiveAuctionStore.epochMillis(product.getAuctionEndTime()));
+        }
 
-    public void placeBid(Long productId, Long bidAmount, String bidderName) {
-        // Redisson을 이용한 분산 락 획득
-        RLock lock = redissonClient.getLock("auction_lock:" + productId);
+        // 2. 경매 기간 밖의 입찰은 락/Redis 없이 메모리에서 바로 거절
+        LiveAuctionStore.BiddingWindow window = liveAuctionStore.biddingWindow(productId, System.currentTimeMillis());
+        if (window == LiveAuctionStore.BiddingWindow.NOT_STARTED) {
+            return BidResult.rejected("아직 시작되지 않은 경매입니다.", lastKnownHighestBid(productId));
+        }
+        if (window == LiveAuctionStore.BiddingWindow.ENDED) {
+            return BidResult.rejected("이미 종료된 경매입니다.", lastKnownHighestBid(productId));
+        }
 
+        // 3. 경매마다 한 노드만 입찰을 처리하므로 분산 락 대신 노드 안의 락으로 직렬화
+        ReentrantLock lock = bidLocks[Long.hashCode(productId) & (BID_LOCK_STRIPES - 1)];
         try {
-            // 락 획득 시도 (최대 10초 대기, 락 획득 후 5초간 유효)
-            boolean isLocked = lock.tryLock(10, 5, TimeUnit.SECONDS);
-            if (!isLocked) {
+            if (!lock.tryLock(10, TimeUnit.SECONDS)) {
                 log.warn("입찰 락 획득 실패: {}", productId);
-                // TODO: 락 획득 실패 시 예외 처리 또는 재시도 로직
-                return;
+                return BidResult.rejected("입찰이 몰려 처리하지 못했습니다. 다시 시도해주세요.", lastKnownHighestBid(productId));
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("입찰 처리 중 인터럽트 발생", e);
+        }
 
+        try {
             // --- 임계 영역 (Critical Section) ---
-            // 1. 상품 정보 및 현재 최고가 조회
-            Product product = productRepository.findById(productId)
-                    .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다."));
-
-            String highestBidStr = redisTemplate.opsForValue().get("auction:" + productId + ":highestBid");
-            long currentHighestBid = (highestBidStr != null) ? Long.parseLong(highestBidStr) : product.getStartingPrice();
+            // 4. 현재 최고가 조회 (이 노드가 반영한 값이 있으면 메모리에서, 없으면 Redis)
+            long currentHighestBid = currentHighestBid(productId);
 
-            // 2. 유효성 검증: 새 입찰가가 현재 최고가보다 높은지 확인
+            // 5. 유효성 검증: 새 입찰가가 현재 최고가보다 높은지 확인
             if (bidAmount <= currentHighestBid) {
                 // TODO: 입찰가가 낮을 경우 특정 사용자에게만 에러 메시지 전송
                 log.info("입찰가가 현재 최고가보다 낮거나 같습니다.");
-                return;
+                return BidResult.rejected("입찰가가 현재 최고가보다 높아야 합니다.", currentHighestBid);
             }
 
-            // 3. Redis에 새로운 최고가와 입찰자 정보 업데이트
-            redisTemplate.opsForValue().set("auction:" + productId + ":highestBid", String.valueOf(bidAmount));
-            redisTemplate.opsForValue().set("auction:" + productId + ":highestBidder", bidderName);
-            redisTemplate.opsForSet().add("auction:" + productId + ":bidders", bidderName);
+            // 6. Redis에 새로운 최고가와 입찰자 정보를 조건부로 기록
+            List<?> written = writeBid(productId, bidAmount, bidderId);
+            if ((Long) written.get(0) == 0L) {
+                // 소유 노드가 바뀌는 사이 다른 노드가 더 높은 입찰을 먼저 기록한 경우. 캐싱된 값은 버리고 Redis 기준으로 거절
+                liveAuctionStore.forgetBid(productId);
+                return BidResult.rejected("입찰가가 현재 최고가보다 높아야 합니다.", LiveAuctionStore.parseDecimal((byte[]) written.get(1)));
+            }
+
+            // 7. 수락된 입찰만 입찰 순번과 함께 저널에 기록하고 (Redis 유실 시 복구용, 응답은 디스크 반영 후) 저장소에 반영
+            previousBidderId = LiveAuctionStore.parseBidderId((byte[]) written.get(1));
+            int bidderCount = ((Long) written.get(2)).intValue();
+            bidSequence = (Long) written.get(3);
+            if (bidJournal != null) {
+                journalSequence = bidJournal.appendBid(productId, bidAmount, String.valueOf(bidderId), bidSequence);
+            }
+            liveAuctionStore.recordBid(productId, bidAmount, bidderId, bidderCount);
             // --- 임계 영역 종료 ---
 
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new RuntimeException("입찰 처리 중 인터럽트 발생", e);
         } finally {
-            // 락 해제
-            if (lock.isLocked() && lock.isHeldByCurrentThread()) {
-                lock.unlock();
-            }
+            lock.unlock();
+        }
+
+        // 8. 그룹 커밋으로 저널이 디스크에 반영된 뒤 브로드캐스팅 (락 밖에서 대기)
+        if (bidJournal != null) {
+            bidJournal.awaitDurable(journalSequence);
         }
 
-        // 4. 경매 상태를 모든 구독자에게 브로드캐스팅
+        // 9. 경매 상태를 모든 구독자에게 브로드캐스팅
         broadcastAuctionStatus(productId);
+
+        // 10. 최고 입찰자 자리에서 밀려난 사용자에게 개인 알림 (사용자별로 모아서 전송)
+        if (previousBidderId != LiveAuctionStore.MISSING && previousBidderId != bidderId) {
+            outbidNotifier.outbid(previousBidderId, productId, bidAmount);
+        }
+        // 11. 입찰 이벤트 발행 (검색 색인의 현재가 등)
+        eventPublisher.publishEvent(new BidPlacedEvent(productId, bidAmount, bidderId, bidSequence));
+
+        return BidResult.accepted(bidAmount, bidSequence);
+    }
+
+    // 소유 노드가 반영한 최고가가 있으면 그대로 사용. 없으면 미리 계산된 키 바이트로 Redis를 조회하고, 문자열 생성 없이 바로 long으로 변환
+    private long currentHighestBid(long productId) {
+        long storedHighestBid = liveAuctionStore.highestBid(productId);
+        if (storedHighestBid != LiveAuctionStore.MISSING) {
+            return storedHighestBid;
+        }
+        byte[] highestBid = redisStore.get(liveAuctionStore.highestBidKey(productId));
+        if (highestBid != null) {
+            return LiveAuctionStore.parseDecimal(highestBid);
+        }
+        // 키 마이그레이션(LegacyAuctionKeyMigration) 전에 옛 키로만 기록된 최고가. 첫 수락 입찰부터는 새 키에 기록됨
+        String legacyHighestBid = redisStore.get(AuctionRedisKeys.legacyHighestBid(productId));
+        if (legacyHighestBid != null) {
+            return Long.parseLong(legacyHighestBid);
+        }
+
+        // Redis에 최고가가 없을 때: 저널에 기록이 남아있으면 복구하고, 없으면 시작가를 사용
+        BidJournalRecovery recovery = bidJournalRecoveryProvider.getIfAvailable();
+        JournaledAuction journaled = (recovery != null) ? recovery.recover(productId) : null;
+        return (journaled != null) ? journaled.getHighestBid() : liveAuctionStore.startingPrice(productId);
+    }
+
+    // 락 없이 이 노드가 마지막으로 알고 있는 최고가 (거절 응답용)
+    public long lastKnownHighestBid(long productId) {
+        long highestBid = liveAuctionStore.highestBid(productId);
+        if (highestBid != LiveAuctionStore.MISSING) {
+            return highestBid;
+        }
+        long startingPrice = liveAuctionStore.startingPrice(productId);
+        return (startingPrice != LiveAuctionStore.MISSING) ? startingPrice : 0L;
     }
 
-    public void broadcastAuctionStatus(Long productId) {
-        String highestBidStr = redisTemplate.opsForValue().get("auction:" + productId + ":highestBid");
-        String highestBidder = redisTemplate.opsForValue().get("auction:" + productId + ":highestBidder");
-        Long bidderCount = redisTemplate.opsForSet().size("auction:" + productId + ":bidders");
+    // 저장소에 미리 만들어 둔 키 바이트로 실행하고 인자도 바로 10진수 바이트로 (결과의 문자열 값은 byte[])
+    private List<?> writeBid(long productId, long bidAmount, long bidderId) {
+        return redisStore.execute(WRITE_BID_SCRIPT, liveAuctionStore.bidScriptKeys(productId),
+                LiveAuctionStore.toDecimalBytes(bidAmount), LiveAuctionStore.toDecimalBytes(bidderId));
+    }
+
+    // 소유 노드가 바뀌면 이 노드가 캐싱한 최고가는 다른 노드가 받은 입찰보다 오래됐을 수 있으므로 비움
+    @EventListener
+    public void onClusterMembershipChanged(ClusterMembershipChangedEvent event) {
+        liveAuctionStore.forgetBids();
+    }
+
+    // 입찰자 ID -> 화면에 보여줄 이름 (이전 버전이 기록한 이메일은 그대로)
+    private String displayName(String bidder) {
+        Long bidderId = LiveAuctionStore.parseBidderId(bidder);
+        return (bidderId != null) ? displayName(bidderId.longValue()) : bidder;
+    }
+
+    private String displayName(long bidderId) {
+        UserProfile profile = userProfileCache.get(bidderId);
+        return (profile != null) ? profile.getName() : "알 수 없는 사용자";
+    }
+
+    public void broadcastAuctionStatus(long productId) {
+        // 이 노드에서 방금 반영한 입찰이 있으면 저장소 값으로 바로 전송 (Redis 재조회 없음)
+        long storedHighestBid = liveAuctionStore.highestBid(productId);
+        if (storedHighestBid != LiveAuctionStore.MISSING) {
+            auctionStatusBroadcaster.broadcast(productId, new AuctionStatusResponse(
+                    storedHighestBid,
+                    displayName(liveAuctionStore.highestBidderId(productId)),
+                    liveAuctionStore.bidderCount(productId),
+                    viewerCountAggregator.viewerCount(productId)
+            ));
+            return;
+        }
+
+        List<Object> results = redisStore.batch()
+                .get(AuctionRedisKeys.highestBid(productId))
+                .get(AuctionRedisKeys.highestBidder(productId))
+                .sizeOfSet(liveAuctionStore.biddersKey(productId))
+                .execute();
+        String highestBidStr = (String) results.get(0);
+        String highestBidder = (String) results.get(1);
+        Long bidderCount = (Long) results.get(2);
 
         long currentHighestBid = (highestBidStr != null) ? Long.parseLong(highestBidStr) : 0L;
 
         AuctionStatusResponse statusResponse = new AuctionStatusResponse(
                 currentHighestBid,
-                highestBidder != null ? highestBidder : "입찰자 없음",
-                bidderCount != null ? bidderCount.intValue() : 0
+                highestBidder != null ? displayName(highestBidder) : "입찰자 없음",
+                bidderCount != null ? bidderCount.intValue() : 0,
+                viewerCountAggregator.viewerCount(productId)
         );
 
-        // 해당 상품의 토픽을 구독 중인 모든 클라이언트에게 메시지 전송
-        messagingTemplate.convertAndSend("/topic/auctions/" + productId, statusResponse);
+        // 해당 상품의 토픽을 구독 중인 모든 클라이언트에게 메시지 전송 (한 번 직렬화한 바이트를 공유)
+        auctionStatusBroadcaster.broadcast(productId, statusResponse);
+    }
+
+    private static ReentrantLock[] createBidLocks() {
+        ReentrantLock[] locks = new ReentrantLock[BID_LOCK_STRIPES];
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        return locks;
     }
 }
@@ -0,0 +1,76 @@
+package io.github.suho149.realtime_auction.domain.auction.store;
+
+/**
+ * 경매 관련 Redis 키 규칙.
+ * Redis Cluster에서 한 경매의 키들이 모두 같은 슬롯에 배치되도록 {productId}를 해시 태그로 사용한다.
+ * (같은 슬롯에 있어야 MULTI/Lua 같은 다중 키 원자 연산이 가능)
+ */
+public final class AuctionRedisKeys {
+
+    private AuctionRedisKeys() {
+    }
+
+    public static String highestBid(long productId) {
+        return prefix(productId) + ":highestBid";
+    }
+
+    public static String highestBidder(long productId) {
+        return prefix(productId) + ":highestBidder";
+    }
+
+    public static String bidders(long productId) {
+        return prefix(productId) + ":bidders";
+    }
+
+    // 수락된 입찰마다 1씩 증가하는 경매별 입찰 순번
+    public static String sequence(long productId) {
+        return prefix(productId) + ":sequence";
+    }
+
+    // 해시 태그 도입 전 형식의 최고가 키. LegacyAuctionKeyMigration 실행 전까지 입찰 경로가 함께 확인한다
+    public static String legacyHighestBid(long productId) {
+        return "auction:" + productId + ":highestBid";
+    }
+
+    public static String lock(long productId) {
+        return prefix(productId) + ":lock";
+    }
+
+    // 노드별 시청자 수 (field: 노드 ID, value: "시청자 수:갱신 시각")
+    public static String viewers(long productId) {
+        return prefix(productId) + ":viewers";
+    }
+
+    // 시청자 HyperLogLog. window 구간마다 새 키를 사용한다
+    public static String viewersHll(long productId, long window) {
+        return prefix(productId) + ":viewers:hll:" + window;
+    }
+
+    // 목록/랭킹 응답용 경매 요약 (제목, 시작가, 종료 시각). DB 조회 없이 랭킹을 응답하기 위해 사용
+    public static String summary(long productId) {
+        return prefix(productId) + ":summary";
+    }
+
+    // 종료된 경매의 결과 (제목, 낙찰자 ID, 낙찰가). 경매 종료 후에도 사용자별 경매 목록에서 보여주기 위해 일정 기간 유지
+    public static String result(long productId) {
+        return prefix(productId) + ":result";
+    }
+
+    // 입찰 속도(감쇠) 랭킹과 그 기준 시각. Lua로 함께 다루므로 같은 해시 태그를 사용
+    public static String hotRanking() {
+        return "{auctions:hot}:ranking";
+    }
+
+    public static String hotRankingEpoch() {
+        return "{auctions:hot}:epoch";
+    }
+
+    // 종료 시각 랭킹 (score: 종료 시각 epoch millis)
+    public static String endingSoonRanking() {
+        return "auctions:ending";
+    }
+
+    private static String prefix(long productId) {
+        return "auction:{" + productId + "}";
+    }
+}
@@ -0,0 +1,87 @@
+package io.github.suho149.realtime_auction.domain.auction.store;
+
+import io.github.suho149.realtime_auction.domain.product.entity.ProductStatus;
+import io.github.suho149.realtime_auction.domain.product.repository.ProductRepository;
+import io.github.suho149.realtime_auction.global.redis.RedisStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 해시 태그 도입 전 키(auction:{id}:... 에서 중괄호가 없는 형식)로 저장된
+ * 진행 중 경매 상태를 새 키로 옮기는 일회성 마이그레이션.
+ * 모든 노드가 새 키 규칙으로 배포된 뒤에 auction.redis.migrate-legacy-keys=true로 한 번 실행한다.
+ * 실행 전까지는 입찰 경로(AuctionService)가 새 최고가 키가 없을 때 옛 최고가 키를 확인하므로 옛 최고가보다 낮은 입찰은 거절되고,
+ * 실행 중에 입찰이 수락되어도 새 키의 최고가가 옛 값보다 낮을 때만 덮어쓰므로 더 높은 입찰을 되돌리지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "auction.redis", name = "migrate-legacy-keys", havingValue = "true")
+public class LegacyAuctionKeyMigration {
+
+    // 새 키(같은 해시 태그)의 최고가가 옛 최고가보다 낮거나 없을 때만 최고가/최고 입찰자를 옮기고, 입찰자는 합침
+    // ARGV: [옛 최고가(없으면 ""), 옛 최고 입찰자(없으면 ""), 옛 입찰자...]
+    private static final RedisScript<Long> MIGRATE_SCRIPT = new DefaultRedisScript<>(
+            "local moved = 0 " +
+            "local current = redis.call('get', KEYS[1]) " +
+            "if ARGV[1] ~= '' and (not current or tonumber(current) < tonumber(ARGV[1])) then " +
+            "  redis.call('set', KEYS[1], ARGV[1]) " +
+            "  if ARGV[2] ~= '' then redis.call('set', KEYS[2], ARGV[2]) else redis.call('del', KEYS[2]) end " +
+            "  moved = 1 " +
+            "end " +
+            "if #ARGV > 2 then redis.call('sadd', KEYS[3], unpack(ARGV, 3)) end " +
+            "return moved",
+            Long.class
+    );
+
+    private final ProductRepository productRepository;
+    private final RedisStore redisStore;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        List<Long> productIds = productRepository.findIdsByStatus(ProductStatus.SELLING);
+        long migrated = productIds.stream().filter(this::migrate).count();
+        log.info("경매 Redis 키 마이그레이션 완료 - 진행 중 경매: {}건, 이전: {}건", productIds.size(), migrated);
+    }
+
+    private boolean migrate(Long productId) {
+        String legacyHighestBidKey = AuctionRedisKeys.legacyHighestBid(productId);
+        String legacyHighestBidderKey = "auction:" + productId + ":highestBidder";
+        String legacyBiddersKey = "auction:" + productId + ":bidders";
+
+        String legacyHighestBid = redisStore.get(legacyHighestBidKey);
+        Set<String> legacyBidders = redisStore.members(legacyBiddersKey);
+        if (legacyHighestBid == null && (legacyBidders == null || legacyBidders.isEmpty())) {
+            return false;
+        }
+
+        // 클러스터에서는 옛 키와 새 키의 슬롯이 다를 수 있으므로 옛 값은 미리 읽고, 새 키끼리만 스크립트로 원자적으로 갱신
+        // (여러 노드가 동시에 실행해도 결과가 같음)
+        String legacyHighestBidder = redisStore.get(legacyHighestBidderKey);
+        List<String> args = new ArrayList<>();
+        args.add(legacyHighestBid != null ? legacyHighestBid : "");
+        args.add(legacyHighestBidder != null ? legacyHighestBidder : "");
+        if (legacyBidders != null) {
+            args.addAll(legacyBidders);
+        }
+        redisStore.execute(MIGRATE_SCRIPT,
+                List.of(AuctionRedisKeys.highestBid(productId), AuctionRedisKeys.highestBidder(productId), AuctionRedisKeys.bidders(productId)),
+                args.toArray());
+
+        // 옛 키들은 슬롯이 서로 다를 수 있으므로 하나씩 삭제. 최고가 키는 입찰 경로가 읽으므로 새 키를 기록한 뒤에 지움
+        redisStore.delete(legacyHighestBidKey);
+        redisStore.delete(legacyHighestBidderKey);
+        redisStore.delete(legacyBiddersKey);
+        return true;
+    }
+}
@@ -0,0 +1,526 @@
+package io.github.suho149.realtime_auction.domain.auction.store;
+
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * 진행 중인 경매 상태를 productId(primitive long) 기준으로 보관하는 인메모리 저장소.
+ * 박싱/문자열 키 생성 없이 입찰 경로에서 조회/갱신할 수 있도록
+ * 세그먼트별 오픈 어드레싱(선형 탐사) 해시 테이블 + 평면 배열로 구성한다.
+ *
+ * Redis가 여전히 노드 간 공유 상태의 원본이며, 이 저장소는 시작가, 입찰 가능 시간, Redis 키 바이트,
+ * 마지막으로 이 노드가 반영한 최고가/입찰자/입찰자 수를 캐싱한다.
+ */
+@Component
+public class LiveAuctionStore {
+
+    public static final long MISSING = Long.MIN_VALUE;
+
+    // 입찰 시각이 경매 기간 안인지 (등록되지 않은 경매는 UNKNOWN)
+    public enum BiddingWindow {
+        UNKNOWN,
+        NOT_STARTED,
+        OPEN,
+        ENDED
+    }
+
+    private static final int SEGMENT_COUNT = 16; // 2의 거듭제곱
+    private static final int INITIAL_SEGMENT_CAPACITY = 64;
+
+    private final Segment[] segments = new Segment[SEGMENT_COUNT];
+
+    public LiveAuctionStore() {
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i] = new Segment(INITIAL_SEGMENT_CAPACITY);
+        }
+    }
+
+    // 입찰 가능 시간 제한 없이 등록
+    public void register(long productId, long startingPrice) {
+        register(productId, startingPrice, Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    // 처음 보는 경매를 등록 (시작/종료 시각은 epoch millis). 이미 있으면 아무것도 하지 않음
+    public void register(long productId, long startingPrice, long startTimeMillis, long endTimeMillis) {
+        long hash = mix(productId);
+        Segment segment = segmentFor(hash);
+        long stamp = segment.lock.writeLock();
+        try {
+            if (segment.indexOf(productId, hash) < 0) {
+                segment.insert(productId, hash, startingPrice, startTimeMillis, endTimeMillis);
+            }
+        } finally {
+            segment.lock.unlockWrite(stamp);
+        }
+    }
+
+    public boolean contains(long productId) {
+        long hash = mix(productId);
+        Segment segment = segmentFor(hash);
+        long stamp = segment.lock.readLock();
+        try {
+            return segment.indexOf(productId, hash) >= 0;
+        } finally {
+            segment.lock.unlockRead(stamp);
+        }
+    }
+
+    // 수락된 입찰을 반영 (입찰자는 사용자 ID 그대로 보관해서 입찰마다 문자열을 만들지 않음)
+    public void recordBid(long productId, long bidAmount, long bidderId, int bidderCount) {
+        long hash = mix(productId);
+        Segment segment = segmentFor(hash);
+        long stamp = segment.lock.writeLock();
+        try {
+            int index = segment.indexOf(productId, hash);
+            if (index >= 0) {
+                segment.highestBids[index] = bidAmount;
+                segment.highestBidderIds[index] = bidderId;
+                segment.bidderCounts[index] = bidderCount;
+            }
+        } finally {
+            segment.lock.unlockWrite(stamp);
+        }
+    }
+
+    public void remove(long productId) {
+        long hash = mix(productId);
+        Segment segment = segmentFor(hash);
+        long stamp = segment.lock.writeLock();
+        try {
+            int index = segment.indexOf(productId, hash);
+            if (index >= 0) {
+                segment.delete(index);
+            }
+        } finally {
+            segment.lock.unlockWrite(stamp);
+        }
+    }
+
+    // 종료 시각이 cutoffMillis 이전인 경매를 모두 삭제하고 삭제한 수를 반환
+    // 경매 종료 처리는 한 노드에서만 하므로, 다른 노드에 등록된 종료 경매는 이것으로 정리한다
+    public int removeEndedBefore(long cutoffMillis) {
+        int removed = 0;
+        for (Segment segment : segments) {
+            long stamp = segment.lock.writeLock();
+            try {
+                // 삭제하면 뒤의 항목이 같은 칸으로 당겨질 수 있으므로 그 칸을 다시 확인
+                int i = 0;
+                while (i < segment.productIds.length) {
+                    if (segment.productIds[i] != 0L && segment.endTimes[i] < cutoffMillis) {
+                        segment.delete(i);
+                        removed++;
+                    } else {
+                        i++;
+                    }
+                }
+            } finally {
+                segment.lock.unlockWrite(stamp);
+            }
+        }
+        return removed;
+    }
+
+    // 한 경매의 캐싱된 최고가/입찰자를 비움 (다음 조회는 Redis에서)
+    public void forgetBid(long productId) {
+        long hash = mix(productId);
+        Segment segment = segmentFor(hash);
+        long stamp = segment.lock.writeLock();
+        try {
+            int index = segment.indexOf(productId, hash);
+            if (index >= 0) {
+                segment.highestBids[index] = MISSING;
+                segment.highestBidderIds[index] = MISSING;
+                segment.bidderCounts[index] = 0;
+            }
+        } finally {
+            segment.lock.unlockWrite(stamp);
+        }
+    }
+
+    // 이 노드가 반영한 최고가/입찰자/입찰자 수를 모두 비움 (등록 정보는 유지)
+    // 경매 소유 노드가 바뀌면 다른 노드가 받은 입찰이 있을 수 있으므로 다음 조회는 Redis에서 다시 읽게 함
+    public void forgetBids() {
+        for (Segment segment : segments) {
+            long stamp = segment.lock.writeLock();
+            try {
+                Arrays.fill(segment.highestBids, MISSING);
+                Arrays.fill(segment.highestBidderIds, MISSING);
+                Arrays.fill(segment.bidderCounts, 0);
+            } finally {
+                segment.lock.unlockWrite(stamp);
+            }
+        }
+    }
+
+    public long startingPrice(long productId) {
+        long hash = mix(productId);
+        Segment segment = segmentFor(hash);
+        long stamp = segment.lock.readLock();
+        try {
+            int index = segment.indexOf(productId, hash);
+            return index >= 0 ? segment.startingPrices[index] : MISSING;
+        } finally {
+            segment.lock.unlockRead(stamp);
+        }
+    }
+
+    // 경매 시작 전/종료 후 입찰을 락과 Redis 없이 거절하기 위한 확인
+    public BiddingWindow biddingWindow(long productId, long nowMillis) {
+        long hash = mix(productId);
+        Segment segment = segmentFor(hash);
+        long stamp = segment.lock.readLock();
+        try {
+            int index = segment.indexOf(productId, hash);
+            if (index < 0) {
+                return BiddingWindow.UNKNOWN;
+            }
+            if (nowMillis < segment.startTimes[index]) {
+                return BiddingWindow.NOT_STARTED;
+            }
+            return nowMillis < segment.endTimes[index] ? BiddingWindow.OPEN : BiddingWindow.ENDED;
+        } finally {
+            segment.lock.unlockRead(stamp);
+        }
+    }
+
+    // 아직 입찰이 반영되지 않았거나 등록되지 않은 경매면 MISSING
+    public long highestBid(long productId) {
+        long hash = mix(productId);
+        Segment segment = segmentFor(hash);
+        long stamp = segment.lock.readLock();
+        try {
+            int index = segment.indexOf(productId, hash);
+            return index >= 0 ? segment.highestBids[index] : MISSING;
+        } finally {
+            segment.lock.unlockRead(stamp);
+        }
+    }
+
+    // 아직 입찰이 반영되지 않았거나 등록되지 않은 경매면 MISSING
+    public long highestBidderId(long productId) {
+        long hash = mix(productId);
+        Segment segment = segmentFor(hash);
+        long stamp = segment.lock.readLock();
+        try {
+            int index = segment.indexOf(productId, hash);
+            return index >= 0 ? segment.highestBidderIds[index] : MISSING;
+        } finally {
+            segment.lock.unlockRead(stamp);
+        }
+    }
+
+    public int bidderCount(long productId) {
+        long hash = mix(productId);
+        Segment segment = segmentFor(hash);
+        long stamp = segment.lock.readLock();
+        try {
+            int index = segment.indexOf(productId, hash);
+            return index >= 0 ? segment.bidderCounts[index] : 0;
+        } finally {
+            segment.lock.unlockRead(stamp);
+        }
+    }
+
+    // --- 경매별로 미리 계산해 둔 Redis 키 바이트 ---
+
+    public byte[] highestBidKey(long productId) {
+        return key(productId, KeyType.HIGHEST_BID);
+    }
+
+    public byte[] highestBidderKey(long productId) {
+        return key(productId, KeyType.HIGHEST_BIDDER);
+    }
+
+    public byte[] biddersKey(long productId) {
+        return key(productId, KeyType.BIDDERS);
+    }
+
+    // 입찰 기록 스크립트의 KEYS [최고가, 최고 입찰자, 입찰자 집합, 입찰 순번]. 등록된 경매는 저장소의 배열을 그대로 돌려주므로 수정하면 안 됨
+    public byte[][] bidScriptKeys(long productId) {
+        long hash = mix(productId);
+        Segment segment = segmentFor(hash);
+        long stamp = segment.lock.readLock();
+        try {
+            int index = segment.indexOf(productId, hash);
+            return index >= 0 ? segment.keys[index] : KeyType.buildAll(productId);
+        } finally {
+            segment.lock.unlockRead(stamp);
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            long stamp = segment.lock.readLock();
+            try {
+                size += segment.size;
+            } finally {
+                segment.lock.unlockRead(stamp);
+            }
+        }
+        return size;
+    }
+
+    // 상품의 경매 시각(서버 시간대 기준 LocalDateTime) -> epoch millis
+    public static long epochMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    // Redis에 기록된 입찰자(사용자 ID). 이전 버전이 기록한 이메일이면 null
+    public static Long parseBidderId(String bidder) {
+        if (bidder == null || bidder.isEmpty()) {
+            return null;
+        }
+        for (int i = 0; i < bidder.length(); i++) {
+            if (bidder.charAt(i) < '0' || bidder.charAt(i) > '9') {
+                return null;
+            }
+        }
+        return Long.parseLong(bidder);
+    }
+
+    // 입찰 기록 스크립트가 돌려준 입찰자 바이트를 String/박싱 없이 사용자 ID로. 없거나 이전 버전이 기록한 이메일이면 MISSING
+    public static long parseBidderId(byte[] bidder) {
+        if (bidder == null || bidder.length == 0 || bidder.length > 18) {
+            return MISSING;
+        }
+        for (byte b : bidder) {
+            if (b < '0' || b > '9') {
+                return MISSING;
+            }
+        }
+        return parseDecimal(bidder);
+    }
+
+    // Redis에 저장된 10진수 문자열 바이트를 String 생성 없이 long으로 변환
+    public static long parseDecimal(byte[] digits) {
+        int i = 0;
+        boolean negative = digits.length > 0 && digits[0] == '-';
+        if (negative) {
+            i = 1;
+        }
+        if (i == digits.length) {
+            throw new NumberFormatException("빈 숫자 값입니다.");
+        }
+        long value = 0;
+        for (; i < digits.length; i++) {
+            int digit = digits[i] - '0';
+            if (digit < 0 || digit > 9) {
+                throw new NumberFormatException("숫자가 아닌 값입니다: " + new String(digits, StandardCharsets.US_ASCII));
+            }
+            value = value * 10 + digit;
+        }
+        return negative ? -value : value;
+    }
+
+    // long 값을 Redis에 저장할 10진수 바이트로 변환 (중간 String 없이 배열 하나만 할당)
+    public static byte[] toDecimalBytes(long value) {
+        if (value == Long.MIN_VALUE) {
+            return Long.toString(value).getBytes(StandardCharsets.US_ASCII);
+        }
+        boolean negative = value < 0;
+        long remaining = negative ? -value : value;
+        int length = negative ? 2 : 1;
+        for (long v = remaining; v >= 10; v /= 10) {
+            length++;
+        }
+        byte[] bytes = new byte[length];
+        for (int i = length - 1; i >= (negative ? 1 : 0); i--) {
+            bytes[i] = (byte) ('0' + remaining % 10);
+            remaining /= 10;
+        }
+        if (negative) {
+            bytes[0] = '-';
+        }
+        return bytes;
+    }
+
+    private byte[] key(long productId, KeyType type) {
+        long hash = mix(productId);
+        Segment segment = segmentFor(hash);
+        long stamp = segment.lock.readLock();
+        try {
+            int index = segment.indexOf(productId, hash);
+            return index >= 0 ? segment.keys[index][type.ordinal()] : type.build(productId);
+        } finally {
+            segment.lock.unlockRead(stamp);
+        }
+    }
+
+    private Segment segmentFor(long hash) {
+        return segments[(int) (hash >>> 60) & (SEGMENT_COUNT - 1)];
+    }
+
+    // MurmurHash3 fmix64: 연속된 productId가 한 구간에 몰리지 않도록 섞음
+    private static long mix(long key) {
+        long h = key;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    // 선언 순서가 입찰 기록 스크립트의 KEYS 순서
+    private enum KeyType {
+        HIGHEST_BID,
+        HIGHEST_BIDDER,
+        BIDDERS,
+        SEQUENCE;
+
+        private static final KeyType[] VALUES = values();
+
+        byte[] build(long productId) {
+            String key = switch (this) {
+                case HIGHEST_BID -> AuctionRedisKeys.highestBid(productId);
+                case HIGHEST_BIDDER -> AuctionRedisKeys.highestBidder(productId);
+                case BIDDERS -> AuctionRedisKeys.bidders(productId);
+                case SEQUENCE -> AuctionRedisKeys.sequence(productId);
+            };
+            return key.getBytes(StandardCharsets.UTF_8);
+        }
+
+        static byte[][] buildAll(long productId) {
+            byte[][] keys = new byte[VALUES.length][];
+            for (KeyType type : VALUES) {
+                keys[type.ordinal()] = type.build(productId);
+            }
+            return keys;
+        }
+    }
+
+    // 락 하나가 보호하는 해시 테이블 조각. 모든 필드는 lock 안에서만 접근한다.
+    private static final class Segment {
+
+        private final StampedLock lock = new StampedLock();
+
+        private long[] productIds; // 0 = 빈 칸 (상품 ID는 1부터 시작)
+        private long[] startingPrices;
+        private long[] startTimes;
+        private long[] endTimes;
+        private long[] highestBids;
+        private long[] highestBidderIds;
+        private int[] bidderCounts;
+        private byte[][][] keys; // 경매별 Redis 키 바이트 (KeyType 순서)
+        private int size;
+
+        Segment(int capacity) {
+            allocate(capacity);
+        }
+
+        int indexOf(long productId, long hash) {
+            int mask = productIds.length - 1;
+            for (int i = (int) hash & mask; ; i = (i + 1) & mask) {
+                long current = productIds[i];
+                if (current == productId) {
+                    return i;
+                }
+                if (current == 0L) {
+                    return -1;
+                }
+            }
+        }
+
+        void insert(long productId, long hash, long startingPrice, long startTime, long endTime) {
+            if ((size + 1) * 2 > productIds.length) {
+                resize(productIds.length * 2);
+            }
+            int mask = productIds.length - 1;
+            int i = (int) hash & mask;
+            while (productIds[i] != 0L) {
+                i = (i + 1) & mask;
+            }
+            productIds[i] = productId;
+            startingPrices[i] = startingPrice;
+            startTimes[i] = startTime;
+            endTimes[i] = endTime;
+            highestBids[i] = MISSING;
+            highestBidderIds[i] = MISSING;
+            bidderCounts[i] = 0;
+            keys[i] = KeyType.buildAll(productId);
+            size++;
+        }
+
+        // 선형 탐사 테이블의 backward-shift 삭제 (툼스톤 없이 탐사 체인을 유지)
+        void delete(int index) {
+            int mask = productIds.length - 1;
+            int hole = index;
+            for (int i = (index + 1) & mask; productIds[i] != 0L; i = (i + 1) & mask) {
+                int home = (int) mix(productIds[i]) & mask;
+                boolean movable = (hole <= i) ? (home <= hole || home > i) : (home <= hole && home > i);
+                if (movable) {
+                    copy(i, hole);
+                    hole = i;
+                }
+            }
+            clear(hole);
+            size--;
+        }
+
+        private void copy(int from, int to) {
+            productIds[to] = productIds[from];
+            startingPrices[to] = startingPrices[from];
+            startTimes[to] = startTimes[from];
+            endTimes[to] = endTimes[from];
+            highestBids[to] = highestBids[from];
+            highestBidderIds[to] = highestBidderIds[from];
+            bidderCounts[to] = bidderCounts[from];
+            keys[to] = keys[from];
+        }
+
+        private void clear(int index) {
+            productIds[index] = 0L;
+            keys[index] = null;
+        }
+
+        private void resize(int capacity) {
+            long[] oldIds = productIds;
+            long[] oldStartingPrices = startingPrices;
+            long[] oldStartTimes = startTimes;
+            long[] oldEndTimes = endTimes;
+            long[] oldHighestBids = highestBids;
+            long[] oldHighestBidderIds = highestBidderIds;
+            int[] oldBidderCounts = bidderCounts;
+            byte[][][] oldKeys = keys;
+
+            allocate(capacity);
+            int mask = capacity - 1;
+            for (int from = 0; from < oldIds.length; from++) {
+                if (oldIds[from] == 0L) {
+                    continue;
+                }
+                int to = (int) mix(oldIds[from]) & mask;
+                while (productIds[to] != 0L) {
+                    to = (to + 1) & mask;
+                }
+                productIds[to] = oldIds[from];
+                startingPrices[to] = oldStartingPrices[from];
+                startTimes[to] = oldStartTimes[from];
+                endTimes[to] = oldEndTimes[from];
+                highestBids[to] = oldHighestBids[from];
+                highestBidderIds[to] = oldHighestBidderIds[from];
+                bidderCounts[to] = oldBidderCounts[from];
+                keys[to] = oldKeys[from];
+            }
+        }
+
+        private void allocate(int capacity) {
+            productIds = new long[capacity];
+            startingPrices = new long[capacity];
+            startTimes = new long[capacity];
+            endTimes = new long[capacity];
+            highestBids = new long[capacity];
+            Arrays.fill(highestBids, MISSING);
+            highestBidderIds = new long[capacity];
+            Arrays.fill(highestBidderIds, MISSING);
+            bidderCounts = new int[capacity];
+            keys = new byte[capacity][][];
+        }
+    }
+}
@@ -1,12 +1,12 @@
 package io.github.suho149.realtime_auction.domain.auth.controller;
 
 import io.github.suho149.realtime_auction.global.jwt.JwtTokenProvider;
+import io.github.suho149.realtime_auction.global.redis.RedisStore;
 import io.github.suho149.realtime_auction.global.util.CookieUtil;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -21,17 +21,22 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class AuthController {
 
-    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisStore redisStore;
     private final JwtTokenProvider jwtTokenProvider;
 
     @PostMapping("/logout")
     public ResponseEntity<?> logout(HttpServletRequest request, HttpServletResponse response, Authentication authentication) {
         // 1. Redis에서 Refresh Token 삭제
         if (authentication != null) {
-            redisTemplate.delete("RT:" + authentication.getName());
+            redisStore.delete("RT:" + authentication.getName());
         }
 
-        // 2. 쿠키 삭제
+        // 2. Access Token은 만료 전까지 모든 노드에서 거부되도록 폐기
+        CookieUtil.getCookie(request, "access_token")
+                .map(Cookie::getValue)
+                .ifPresent(jwtTokenProvider::revoke);
+
+        // 3. 쿠키 삭제
         CookieUtil.deleteCookie(request, response, "access_token");
         CookieUtil.deleteCookie(request, response, "refresh_token");
 
@@ -60,7 +65,7 @@ public class AuthController {
         String email = authentication.getName();
 
         // 4. Redis에 저장된 Refresh Token과 일치하는지 확인
-        String savedRefreshToken = redisTemplate.opsForValue().get("RT:" + email);
+        String savedRefreshToken = redisStore.get("RT:" + email);
         if (savedRefreshToken == null || !savedRefreshToken.equals(refreshToken)) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Refresh Token이 일치하지 않습니다.");
         }
@@ -0,0 +1,16 @@
+package io.github.suho149.realtime_auction.domain.notification.channel;
+
+import io.github.suho149.realtime_auction.domain.notification.dto.NotificationMessage;
+
+import java.util.List;
+
+/**
+ * 알림 전송 채널. 빈으로 등록된 모든 채널이 NotificationDispatcher에서 사용된다.
+ * 예외를 던지면 해당 배치 전체가 재시도되므로 (최소 한 번 전달) 같은 알림을 여러 번 받을 수 있다.
+ */
+public interface NotificationChannel {
+
+    String name();
+
+    void deliver(List<NotificationMessage> notifications) throws Exception;
+}
@@ -0,0 +1,29 @@
+package io.github.suho149.realtime_auction.domain.notification.channel;
+
+import io.github.suho149.realtime_auction.domain.notification.dto.NotificationMessage;
+import io.github.suho149.realtime_auction.domain.notification.dto.NotificationResponse;
+import io.github.suho149.realtime_auction.global.websocket.UserMessageRelay;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// 접속 중인 사용자에게 /user/queue/notifications 로 전송 (모든 노드의 세션 대상)
+@Component
+@RequiredArgsConstructor
+public class WebSocketNotificationChannel implements NotificationChannel {
+
+    private final UserMessageRelay userMessageRelay;
+
+    @Override
+    public String name() {
+        return "websocket";
+    }
+
+    @Override
+    public void deliver(List<NotificationMessage> notifications) {
+        for (NotificationMessage notification : notifications) {
+            userMessageRelay.sendToUser(notification.getRecipientEmail(), "/queue/notifications", new NotificationResponse(notification));
+        }
+    }
+}
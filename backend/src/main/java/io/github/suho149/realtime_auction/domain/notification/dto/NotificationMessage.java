@@ -0,0 +1,27 @@
+package io.github.suho149.realtime_auction.domain.notification.dto;
+
+import io.github.suho149.realtime_auction.domain.notification.entity.NotificationOutbox;
+import io.github.suho149.realtime_auction.domain.notification.entity.NotificationType;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 채널로 전달되는 알림. id는 같은 알림이 재전송됐을 때 수신 측에서 중복을 걸러내는 용도
+@Getter
+public class NotificationMessage {
+    private final Long id;
+    private final String recipientEmail;
+    private final NotificationType type;
+    private final Long productId;
+    private final String message;
+    private final LocalDateTime createdAt;
+
+    public NotificationMessage(NotificationOutbox outbox) {
+        this.id = outbox.getId();
+        this.recipientEmail = outbox.getRecipientEmail();
+        this.type = outbox.getType();
+        this.productId = outbox.getProductId();
+        this.message = outbox.getMessage();
+        this.createdAt = outbox.getCreatedAt();
+    }
+}
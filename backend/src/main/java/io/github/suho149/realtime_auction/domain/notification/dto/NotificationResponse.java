@@ -0,0 +1,24 @@
+package io.github.suho149.realtime_auction.domain.notification.dto;
+
+import io.github.suho149.realtime_auction.domain.notification.entity.NotificationType;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// /user/queue/notifications 로 전송되는 알림
+@Getter
+public class NotificationResponse {
+    private final Long id;
+    private final NotificationType type;
+    private final Long productId;
+    private final String message;
+    private final LocalDateTime createdAt;
+
+    public NotificationResponse(NotificationMessage notification) {
+        this.id = notification.getId();
+        this.type = notification.getType();
+        this.productId = notification.getProductId();
+        this.message = notification.getMessage();
+        this.createdAt = notification.getCreatedAt();
+    }
+}
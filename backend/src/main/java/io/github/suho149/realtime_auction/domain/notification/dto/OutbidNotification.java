@@ -0,0 +1,21 @@
+package io.github.suho149.realtime_auction.domain.notification.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// /user/queue/outbid 로 전송되는 상위 입찰 알림 (짧은 구간 동안의 알림을 하나로 묶음)
+@Getter
+@AllArgsConstructor
+public class OutbidNotification {
+    private List<OutbidAlert> alerts;
+
+    @Getter
+    @AllArgsConstructor
+    public static class OutbidAlert {
+        private Long productId;
+        private Long currentHighestBid; // 구간 내 마지막으로 확인된 최고가
+        private int outbidCount;        // 구간 내에서 밀려난 횟수
+    }
+}
@@ -0,0 +1,81 @@
+package io.github.suho149.realtime_auction.domain.notification.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 트랜잭션 아웃박스. 경매 종료 처리와 같은 트랜잭션에서 저장되고,
+ * NotificationDispatcher가 커밋된 행만 읽어 비동기로 전송한다 (최소 한 번 전달).
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "notification_outbox",
+        indexes = @Index(name = "idx_notification_outbox_status_next_attempt", columnList = "status, next_attempt_at"))
+public class NotificationOutbox {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String recipientEmail;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private NotificationType type;
+
+    @Column(nullable = false)
+    private Long productId;
+
+    @Column(nullable = false)
+    private String message;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OutboxStatus status;
+
+    @Column(nullable = false)
+    private int attempts; // 전송 시도 횟수
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt; // 이 시각 이후에 전송(재시도) 대상
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime sentAt;
+
+    @Column(length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Builder
+    public NotificationOutbox(String recipientEmail, NotificationType type, Long productId, String message) {
+        this.recipientEmail = recipientEmail;
+        this.type = type;
+        this.productId = productId;
+        this.message = message;
+        this.status = OutboxStatus.PENDING;
+        this.attempts = 0;
+        this.createdAt = LocalDateTime.now();
+        this.nextAttemptAt = this.createdAt;
+    }
+
+    // 전송 실패 처리: 지수 백오프로 다음 시도 시각을 미루고, 최대 횟수를 넘으면 FAILED
+    public void retryLater(String error, int maxAttempts, long backoffMs) {
+        this.attempts++;
+        this.lastError = (error != null && error.length() > MAX_ERROR_LENGTH) ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        if (this.attempts >= maxAttempts) {
+            this.status = OutboxStatus.FAILED;
+            return;
+        }
+        this.nextAttemptAt = LocalDateTime.now().plusNanos(backoffMs * 1_000_000L);
+    }
+}
@@ -0,0 +1,7 @@
+package io.github.suho149.realtime_auction.domain.notification.entity;
+
+public enum NotificationType {
+    AUCTION_WON,    // 낙찰자에게: 낙찰 성공
+    AUCTION_SOLD,   // 판매자에게: 상품 낙찰 완료
+    AUCTION_UNSOLD  // 판매자에게: 유찰
+}
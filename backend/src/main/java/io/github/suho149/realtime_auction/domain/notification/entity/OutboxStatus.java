@@ -0,0 +1,7 @@
+package io.github.suho149.realtime_auction.domain.notification.entity;
+
+public enum OutboxStatus {
+    PENDING, // 전송 대기 (재시도 포함)
+    SENT,    // 전송 완료
+    FAILED   // 최대 재시도 횟수 초과
+}
@@ -0,0 +1,27 @@
+package io.github.suho149.realtime_auction.domain.notification.repository;
+
+import io.github.suho149.realtime_auction.domain.notification.entity.NotificationOutbox;
+import io.github.suho149.realtime_auction.domain.notification.entity.OutboxStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    // 전송 시각이 된 대기 알림을 오래된 순으로 조회
+    List<NotificationOutbox> findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(OutboxStatus status, LocalDateTime now, Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE NotificationOutbox n SET n.status = :status, n.attempts = n.attempts + 1, n.sentAt = :sentAt WHERE n.id IN :ids")
+    int markSent(@Param("ids") Collection<Long> ids, @Param("status") OutboxStatus status, @Param("sentAt") LocalDateTime sentAt);
+
+    @Modifying
+    @Query("DELETE FROM NotificationOutbox n WHERE n.status = :status AND n.sentAt < :before")
+    int deleteSentBefore(@Param("status") OutboxStatus status, @Param("before") LocalDateTime before);
+}
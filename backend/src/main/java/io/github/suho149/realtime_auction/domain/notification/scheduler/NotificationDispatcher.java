@@ -0,0 +1,95 @@
+package io.github.suho149.realtime_auction.domain.notification.scheduler;
+
+import io.github.suho149.realtime_auction.domain.notification.channel.NotificationChannel;
+import io.github.suho149.realtime_auction.domain.notification.dto.NotificationMessage;
+import io.github.suho149.realtime_auction.domain.notification.service.NotificationOutboxService;
+import io.github.suho149.realtime_auction.global.redis.RedisLock;
+import io.github.suho149.realtime_auction.global.redis.RedisStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 아웃박스에 쌓인 알림을 배치로 읽어 모든 채널로 전송한다.
+ * DB 트랜잭션은 조회/상태 갱신에만 짧게 사용하고, 채널 I/O는 트랜잭션 밖에서 수행한다.
+ * 여러 노드 중 락을 잡은 한 노드만 전송하며, 실패한 알림은 백오프 후 다시 전송된다 (최소 한 번 전달).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationDispatcher {
+
+    private static final String DISPATCH_LOCK_KEY = "notification:dispatch:lock";
+    private static final int MAX_BATCHES_PER_RUN = 20; // 락 리스(30초) 안에 끝나도록 한 번에 처리할 배치 수 제한
+
+    private final NotificationOutboxService notificationOutboxService;
+    private final List<NotificationChannel> channels;
+    private final RedisStore redisStore;
+
+    @Value("${auction.notification.batch-size:100}")
+    private int batchSize;
+
+    @Value("${auction.notification.retention-days:7}")
+    private int retentionDays;
+
+    @Scheduled(fixedDelayString = "${auction.notification.dispatch-interval-ms:1000}")
+    public void dispatch() {
+        RedisLock lock = redisStore.getLock(DISPATCH_LOCK_KEY);
+        try {
+            // 다른 노드가 전송 중이면 이번 주기는 건너뜀
+            if (!lock.tryLock(0, 30, TimeUnit.SECONDS)) {
+                return;
+            }
+
+            List<NotificationMessage> batch;
+            int rounds = 0;
+            do {
+                batch = notificationOutboxService.findDue(batchSize);
+                dispatchBatch(batch);
+            } while (batch.size() == batchSize && ++rounds < MAX_BATCHES_PER_RUN);
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("알림 전송 처리 중 오류", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 매일 새벽 전송 완료된 오래된 알림 정리
+    @Scheduled(cron = "0 0 4 * * *")
+    public void purgeSent() {
+        int deleted = notificationOutboxService.purgeSentBefore(LocalDateTime.now().minusDays(retentionDays));
+        log.info("전송 완료 알림 정리: {}건", deleted);
+    }
+
+    private void dispatchBatch(List<NotificationMessage> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        Map<Long, String> errors = new HashMap<>();
+        for (NotificationChannel channel : channels) {
+            try {
+                channel.deliver(batch);
+            } catch (Exception e) {
+                log.warn("알림 채널 전송 실패 - 채널: {}, 건수: {}, 사유: {}", channel.name(), batch.size(), e.getMessage());
+                batch.forEach(notification -> errors.merge(notification.getId(), channel.name() + ": " + e.getMessage(), (a, b) -> a + "; " + b));
+            }
+        }
+
+        notificationOutboxService.markSent(batch.stream().map(NotificationMessage::getId).filter(id -> !errors.containsKey(id)).toList());
+        if (!errors.isEmpty()) {
+            notificationOutboxService.markFailed(errors);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package io.github.suho149.realtime_auction.domain.notification.service;
+
+import io.github.suho149.realtime_auction.domain.notification.dto.NotificationMessage;
+import io.github.suho149.realtime_auction.domain.notification.entity.NotificationOutbox;
+import io.github.suho149.realtime_auction.domain.notification.entity.NotificationType;
+import io.github.suho149.realtime_auction.domain.notification.entity.OutboxStatus;
+import io.github.suho149.realtime_auction.domain.notification.repository.NotificationOutboxRepository;
+import io.github.suho149.realtime_auction.domain.product.entity.Product;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+public class NotificationOutboxService {
+
+    private static final long MAX_BACKOFF_MS = 10 * 60 * 1000L;
+
+    private final NotificationOutboxRepository notificationOutboxRepository;
+
+    @Value("${auction.notification.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${auction.notification.retry-backoff-ms:1000}")
+    private long retryBackoffMs;
+
+    // 경매 종료 결과를 아웃박스에 기록. 반드시 경매 종료 처리 트랜잭션 안에서 호출되어야 한다
+    @Transactional(propagation = Propagation.MANDATORY)
+    // 낙찰자가 없으면 winnerEmail 은 null, 판매자를 찾을 수 없으면(탈퇴 등) 판매자 알림은 생략
+    public void enqueueAuctionResult(Product product, String sellerEmail, String winnerEmail, Long winningPrice) {
+        if (winnerEmail != null) {
+            enqueue(winnerEmail, NotificationType.AUCTION_WON, product,
+                    String.format("'%s' 경매에 %,d원으로 낙찰되었습니다.", product.getTitle(), winningPrice));
+        }
+        if (sellerEmail == null) {
+            return;
+        }
+        if (winnerEmail != null) {
+            enqueue(sellerEmail, NotificationType.AUCTION_SOLD, product,
+                    String.format("'%s' 상품이 %,d원에 낙찰되었습니다.", product.getTitle(), winningPrice));
+        } else {
+            enqueue(sellerEmail, NotificationType.AUCTION_UNSOLD, product,
+                    String.format("'%s' 상품이 입찰자 없이 유찰되었습니다.", product.getTitle()));
+        }
+    }
+
+    // 읽기 복제본이 아닌 primary에서 조회 (복제 지연 때문에 이미 전송 처리한 알림을 다시 읽지 않도록)
+    @Transactional
+    public List<NotificationMessage> findDue(int batchSize) {
+        return notificationOutboxRepository
+                .findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(OutboxStatus.PENDING, LocalDateTime.now(), PageRequest.of(0, batchSize))
+                .stream()
+                .map(NotificationMessage::new)
+                .toList();
+    }
+
+    @Transactional
+    public void markSent(Collection<Long> ids) {
+        if (!ids.isEmpty()) {
+            notificationOutboxRepository.markSent(ids, OutboxStatus.SENT, LocalDateTime.now());
+        }
+    }
+
+    // 알림 ID -> 실패 사유
+    @Transactional
+    public void markFailed(Map<Long, String> errors) {
+        notificationOutboxRepository.findAllById(errors.keySet()).forEach(outbox -> {
+            long backoffMs = Math.min(retryBackoffMs << Math.min(outbox.getAttempts(), 20), MAX_BACKOFF_MS);
+            outbox.retryLater(errors.get(outbox.getId()), maxAttempts, backoffMs);
+        });
+    }
+
+    @Transactional
+    public int purgeSentBefore(LocalDateTime before) {
+        return notificationOutboxRepository.deleteSentBefore(OutboxStatus.SENT, before);
+    }
+
+    private void enqueue(String recipientEmail, NotificationType type, Product product, String message) {
+        notificationOutboxRepository.save(NotificationOutbox.builder()
+                .recipientEmail(recipientEmail)
+                .type(type)
+                .productId(product.getId())
+                .message(message)
+                .build());
+    }
+}
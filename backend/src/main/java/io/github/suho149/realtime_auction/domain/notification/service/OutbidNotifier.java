@@ -0,0 +1,64 @@
+package io.github.suho149.realtime_auction.domain.notification.service;
+
+import io.github.suho149.realtime_auction.domain.notification.dto.OutbidNotification;
+import io.github.suho149.realtime_auction.domain.notification.dto.OutbidNotification.OutbidAlert;
+import io.github.suho149.realtime_auction.domain.user.dto.UserProfile;
+import io.github.suho149.realtime_auction.domain.user.service.UserProfileCache;
+import io.github.suho149.realtime_auction.global.websocket.UserMessageRelay;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 최고 입찰자 자리에서 밀려난 사용자에게 /user/queue/outbid 로 알림을 보낸다.
+ * 입찰마다 바로 보내지 않고 사용자별로 모아 두었다가 일정 주기마다 한 번에 전송한다.
+ * (1초에 20번 밀려나도 메시지는 한 번, 경매별로 마지막 최고가와 횟수만 전달)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutbidNotifier {
+
+    private final UserMessageRelay userMessageRelay;
+    private final UserProfileCache userProfileCache;
+
+    // 사용자 ID -> (상품 ID -> 대기 중인 알림)
+    private final Map<Long, Map<Long, OutbidAlert>> pending = new ConcurrentHashMap<>();
+
+    public void outbid(long previousBidder, long productId, long newHighestBid) {
+        pending.compute(previousBidder, (user, alerts) -> {
+            Map<Long, OutbidAlert> merged = (alerts != null) ? alerts : new HashMap<>();
+            OutbidAlert previous = merged.get(productId);
+            int count = (previous != null) ? previous.getOutbidCount() + 1 : 1;
+            merged.put(productId, new OutbidAlert(productId, newHighestBid, count));
+            return merged;
+        });
+    }
+
+    @Scheduled(fixedRateString = "${auction.outbid.coalesce-window-ms:1000}")
+    public void flush() {
+        for (Long user : pending.keySet()) {
+            Map<Long, OutbidAlert> alerts = pending.remove(user);
+            if (alerts == null) {
+                continue;
+            }
+            try {
+                // 사용자 목적지는 principal 이름(이메일) 기준이므로 전송 시점에 한 번만 변환
+                UserProfile profile = userProfileCache.get(user);
+                if (profile == null) {
+                    continue;
+                }
+                userMessageRelay.sendToUser(profile.getEmail(), "/queue/outbid", new OutbidNotification(new ArrayList<>(alerts.values())));
+            } catch (Exception e) {
+                // 상위 입찰 알림은 실시간 안내용이라 유실되어도 재전송하지 않음
+                log.warn("상위 입찰 알림 전송 실패 - 사용자: {}, 사유: {}", user, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package io.github.suho149.realtime_auction.domain.product.bulk;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.suho149.realtime_auction.domain.product.dto.ProductCreateRequest;
+import io.github.suho149.realtime_auction.global.error.exception.InvalidRequestException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 첫 행이 헤더인 CSV (RFC 4180). 열 순서는 자유이고 필요 없는 열은 무시한다.
+ * 따옴표로 감싼 값 안의 쉼표/줄바꿈/"" 를 지원하며, 줄 번호는 행이 시작한 물리적 줄 기준이다.
+ * 빈 값은 null로 보고 유효성 검증(@NotNull 등)에 맡긴다.
+ */
+class CsvProductImportReader implements ProductImportReader {
+
+    static final List<String> COLUMNS = List.of("title", "description", "startingPrice", "auctionStartTime", "auctionEndTime");
+
+    private final Reader reader;
+    private final ObjectMapper objectMapper;
+    private final StringBuilder field = new StringBuilder();
+    private String[] header; // 열 위치 -> 필드 이름 (사용하지 않는 열은 null)
+    private long lineNumber = 1;
+    private boolean eof;
+
+    CsvProductImportReader(Reader reader, ObjectMapper objectMapper) {
+        this.reader = reader;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public ProductImportRow next() throws IOException {
+        if (header == null) {
+            readHeader();
+        }
+        while (!eof) {
+            long line = lineNumber;
+            Record record = readRecord();
+            if (record == null) {
+                return null;
+            }
+            if (record.error() != null) {
+                return ProductImportRow.failed(line, record.error());
+            }
+            List<String> fields = record.fields();
+            if (fields.size() == 1 && fields.get(0).isEmpty()) {
+                continue; // 빈 줄
+            }
+            if (fields.size() != header.length) {
+                return ProductImportRow.failed(line, "열 개수가 헤더와 다릅니다. (헤더 " + header.length + "개, 행 " + fields.size() + "개)");
+            }
+            return toRow(line, fields);
+        }
+        return null;
+    }
+
+    private ProductImportRow toRow(long line, List<String> fields) {
+        Map<String, String> values = new LinkedHashMap<>();
+        for (int i = 0; i < header.length; i++) {
+            if (header[i] != null) {
+                String value = fields.get(i);
+                values.put(header[i], value.isEmpty() ? null : value);
+            }
+        }
+        try {
+            // 숫자/날짜 변환은 JSON 요청과 같은 ObjectMapper 설정을 따름
+            return ProductImportRow.parsed(line, objectMapper.convertValue(values, ProductCreateRequest.class));
+        } catch (IllegalArgumentException e) {
+            String message = (e.getCause() instanceof JsonMappingException cause) ? cause.getOriginalMessage() : e.getMessage();
+            return ProductImportRow.failed(line, "값 형식이 올바르지 않습니다: " + message);
+        }
+    }
+
+    private void readHeader() throws IOException {
+        Record record = readRecord();
+        if (record == null || record.error() != null) {
+            throw new InvalidRequestException("CSV 헤더를 읽을 수 없습니다.");
+        }
+        List<String> names = record.fields();
+        header = new String[names.size()];
+        for (int i = 0; i < names.size(); i++) {
+            String name = names.get(i).strip();
+            if (i == 0 && name.startsWith("\uFEFF")) {
+                name = name.substring(1); // UTF-8 BOM
+            }
+            for (String column : COLUMNS) {
+                if (column.equalsIgnoreCase(name)) {
+                    header[i] = column;
+                }
+            }
+        }
+        List<String> present = Arrays.asList(header);
+        List<String> missing = COLUMNS.stream().filter(column -> !present.contains(column)).toList();
+        if (!missing.isEmpty()) {
+            throw new InvalidRequestException("CSV 헤더에 필요한 열이 없습니다: " + String.join(", ", missing));
+        }
+    }
+
+    // 다음 행의 필드들. 입력이 끝났으면 null
+    // 행이 최대 길이를 넘거나 따옴표가 닫히지 않으면 error를 담아 돌려주고, 다음 행부터 계속 읽을 수 있게 행 끝까지 소비함
+    private Record readRecord() throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            eof = true;
+            return null;
+        }
+        List<String> fields = new ArrayList<>();
+        field.setLength(0);
+        int rowChars = 0;
+        boolean quoted = false;
+        while (true) {
+            if (c == -1) {
+                eof = true;
+                if (quoted) {
+                    return new Record(null, "따옴표가 닫히지 않았습니다.");
+                }
+                break;
+            }
+            rowChars++;
+            if (quoted) {
+                if (c == '"') {
+                    int next = reader.read();
+                    if (next != '"') {
+                        quoted = false;
+                        c = next;
+                        continue;
+                    }
+                } else if (c == '\n') {
+                    lineNumber++;
+                }
+                append(c, rowChars);
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                if (rowChars <= MAX_ROW_CHARS) {
+                    fields.add(field.toString());
+                }
+                field.setLength(0);
+            } else if (c == '\n') {
+                lineNumber++;
+                break;
+            } else if (c != '\r') {
+                append(c, rowChars);
+            }
+            c = reader.read();
+        }
+        if (rowChars > MAX_ROW_CHARS) {
+            return new Record(null, "행이 너무 깁니다. (최대 " + MAX_ROW_CHARS + "자)");
+        }
+        fields.add(field.toString());
+        return new Record(fields, null);
+    }
+
+    // 최대 길이를 넘은 행은 더 담지 않고 끝까지 읽기만 함 (메모리 사용량을 행 길이와 무관하게 유지)
+    private void append(int c, int rowChars) {
+        if (rowChars <= MAX_ROW_CHARS) {
+            field.append((char) c);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private record Record(List<String> fields, String error) {
+    }
+}
@@ -0,0 +1,67 @@
+package io.github.suho149.realtime_auction.domain.product.bulk;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.suho149.realtime_auction.domain.product.dto.ProductCreateRequest;
+
+import java.io.IOException;
+import java.io.Reader;
+
+// 한 줄에 JSON 객체 하나 (application/x-ndjson). 빈 줄은 건너뜀
+class NdjsonProductImportReader implements ProductImportReader {
+
+    private final Reader reader;
+    private final ObjectMapper objectMapper;
+    private final StringBuilder line = new StringBuilder();
+    private long lineNumber;
+    private boolean eof;
+
+    NdjsonProductImportReader(Reader reader, ObjectMapper objectMapper) {
+        this.reader = reader;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public ProductImportRow next() throws IOException {
+        while (!eof) {
+            boolean truncated = readLine();
+            if (truncated) {
+                return ProductImportRow.failed(lineNumber, "행이 너무 깁니다. (최대 " + MAX_ROW_CHARS + "자)");
+            }
+            if (line.toString().isBlank()) {
+                continue;
+            }
+            try {
+                return ProductImportRow.parsed(lineNumber, objectMapper.readValue(line.toString(), ProductCreateRequest.class));
+            } catch (JsonProcessingException e) {
+                return ProductImportRow.failed(lineNumber, "JSON 형식이 올바르지 않습니다: " + e.getOriginalMessage());
+            }
+        }
+        return null;
+    }
+
+    // 다음 줄을 line에 읽음. 최대 길이를 넘으면 줄 끝까지 버리고 true
+    private boolean readLine() throws IOException {
+        line.setLength(0);
+        lineNumber++;
+        boolean truncated = false;
+        int c;
+        while ((c = reader.read()) != -1 && c != '\n') {
+            if (line.length() < MAX_ROW_CHARS) {
+                line.append((char) c);
+            } else {
+                truncated = true;
+            }
+        }
+        eof = (c == -1);
+        if (!line.isEmpty() && line.charAt(line.length() - 1) == '\r') {
+            line.setLength(line.length() - 1);
+        }
+        return truncated;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,182 @@
+package io.github.suho149.realtime_auction.domain.product.bulk;
+
+import io.github.suho149.realtime_auction.domain.product.dto.ProductBulkImportResponse;
+import io.github.suho149.realtime_auction.domain.product.dto.ProductBulkImportResponse.RowError;
+import io.github.suho149.realtime_auction.domain.product.dto.ProductCreateRequest;
+import io.github.suho149.realtime_auction.domain.product.entity.Product;
+import io.github.suho149.realtime_auction.domain.product.event.ProductCreatedEvent;
+import io.github.suho149.realtime_auction.domain.user.entity.User;
+import io.github.suho149.realtime_auction.domain.user.service.SellerStatsDelta;
+import io.github.suho149.realtime_auction.domain.user.service.SellerStatsService;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 대량 등록. 읽은 행을 바로 검증하고, 통과한 행을 batch-size 개씩 모아 한 트랜잭션으로 저장한다.
+ * ID는 시퀀스에서 미리 받으므로(Product.id) 한 청크의 INSERT가 JDBC 배치(hibernate.jdbc.batch_size)로 나간다.
+ * 저장한 엔티티는 청크마다 영속성 컨텍스트에서 비우므로 메모리 사용량은 파일 크기와 무관하다.
+ *
+ * 형식/검증 오류인 행은 건너뛰고 줄 번호와 함께 보고한다. 청크 저장이 실패하면 그 청크만 한 행씩 다시 저장해서
+ * 실패한 행만 골라낸다 (이미 커밋된 앞 청크는 그대로 유지).
+ */
+@Slf4j
+@Service
+public class ProductBulkImportService {
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SellerStatsService sellerStatsService;
+    private final int batchSize;
+    private final int maxReportedErrors;
+
+    public ProductBulkImportService(EntityManager entityManager,
+                                    PlatformTransactionManager transactionManager,
+                                    Validator validator,
+                                    ApplicationEventPublisher eventPublisher,
+                                    SellerStatsService sellerStatsService,
+                                    @Value("${auction.bulk-import.batch-size:100}") int batchSize,
+                                    @Value("${auction.bulk-import.max-reported-errors:100}") int maxReportedErrors) {
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.validator = validator;
+        this.eventPublisher = eventPublisher;
+        this.sellerStatsService = sellerStatsService;
+        this.batchSize = batchSize;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    public ProductBulkImportResponse importProducts(ProductImportReader reader, Long sellerId, String sellerEmail) throws IOException {
+        Report report = new Report(maxReportedErrors);
+        List<ProductImportRow> chunk = new ArrayList<>(batchSize);
+        ProductImportRow row;
+        while ((row = reader.next()) != null) {
+            report.total++;
+            String error = row.isFailed() ? row.error() : validate(row.request());
+            if (error != null) {
+                report.fail(row.line(), error);
+                continue;
+            }
+            chunk.add(row);
+            if (chunk.size() == batchSize) {
+                insertChunk(chunk, sellerId, sellerEmail, report);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            insertChunk(chunk, sellerId, sellerEmail, report);
+        }
+
+        log.info("상품 대량 등록 - 판매자 ID: {}, 전체 {}건, 등록 {}건, 실패 {}건", sellerId, report.total, report.imported, report.failed);
+        return new ProductBulkImportResponse(report.total, report.imported, report.failed, report.errors);
+    }
+
+    // 검증 오류 메시지 (없으면 null). 필드 이름 순으로 합쳐서 같은 입력이면 같은 메시지
+    private String validate(ProductCreateRequest request) {
+        Set<ConstraintViolation<ProductCreateRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                .map(ConstraintViolation::getMessage)
+                .collect(Collectors.joining(", "));
+    }
+
+    private void insertChunk(List<ProductImportRow> chunk, Long sellerId, String sellerEmail, Report report) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> persist(chunk, sellerId, sellerEmail));
+            report.imported += chunk.size();
+            return;
+        } catch (RuntimeException e) {
+            if (chunk.size() == 1) {
+                report.fail(chunk.get(0).line(), "저장 실패: " + rootMessage(e));
+                return;
+            }
+            log.warn("상품 대량 등록 청크 저장 실패, 행 단위로 다시 저장 - {}건, 원인: {}", chunk.size(), rootMessage(e));
+        }
+        for (ProductImportRow row : chunk) {
+            insertChunk(List.of(row), sellerId, sellerEmail, report);
+        }
+    }
+
+    private void persist(List<ProductImportRow> chunk, Long sellerId, String sellerEmail) {
+        // 판매자는 참조만 (SELECT 없음)
+        User seller = entityManager.getReference(User.class, sellerId);
+        try {
+            for (ProductImportRow row : chunk) {
+                ProductCreateRequest request = row.request();
+                Product product = Product.builder()
+                        .title(request.getTitle())
+                        .description(request.getDescription())
+                        .startingPrice(request.getStartingPrice())
+                        .auctionStartTime(request.getAuctionStartTime())
+                        .auctionEndTime(request.getAuctionEndTime())
+                        .seller(seller)
+                        .build();
+                entityManager.persist(product); // 시퀀스 ID만 할당하고 INSERT는 flush에서 배치로
+
+                // 단건 등록과 같은 이벤트 (커밋된 청크의 상품만 검색 색인/랭킹/활성화에 반영됨)
+                eventPublisher.publishEvent(new ProductCreatedEvent(
+                        product.getId(),
+                        product.getTitle(),
+                        product.getDescription(),
+                        product.getStartingPrice(),
+                        product.getAuctionStartTime(),
+                        product.getAuctionEndTime(),
+                        sellerId,
+                        sellerEmail
+                ));
+            }
+            entityManager.flush();
+            // 판매자 현황은 청크 단위로 한 번만 갱신 (행마다 갱신하면 그때마다 flush되어 INSERT 배치가 끊김)
+            sellerStatsService.apply(sellerId, SellerStatsDelta.created(chunk.size()));
+        } finally {
+            entityManager.clear();
+        }
+    }
+
+    private static String rootMessage(Throwable e) {
+        Throwable root = e;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        return root.getMessage();
+    }
+
+    // 결과 집계. 실패 행은 최대 개수까지만 보관
+    private static final class Report {
+
+        private final int maxErrors;
+        private final List<RowError> errors = new ArrayList<>();
+        private long total;
+        private long imported;
+        private long failed;
+
+        Report(int maxErrors) {
+            this.maxErrors = maxErrors;
+        }
+
+        void fail(long line, String message) {
+            failed++;
+            if (errors.size() < maxErrors) {
+                errors.add(new RowError(line, message));
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package io.github.suho149.realtime_auction.domain.product.bulk;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.suho149.realtime_auction.global.error.exception.InvalidRequestException;
+import org.springframework.http.MediaType;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 대량 등록 요청 본문을 한 행씩 읽는다. 요청 전체를 메모리에 올리지 않으므로 파일 크기와 무관하게 현재 행만 보관한다.
+ * 형식이 잘못된 행은 예외 대신 실패 행으로 돌려주어 나머지 행은 계속 처리한다.
+ */
+public interface ProductImportReader extends Closeable {
+
+    MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
+    // 한 행의 최대 문자 수 (넘으면 그 행은 실패 처리하고 나머지는 건너뜀)
+    int MAX_ROW_CHARS = 64 * 1024;
+
+    // 다음 행. 더 없으면 null
+    ProductImportRow next() throws IOException;
+
+    static ProductImportReader of(MediaType contentType, InputStream body, ObjectMapper objectMapper) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        if (MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType)) {
+            return new NdjsonProductImportReader(reader, objectMapper);
+        }
+        if (TEXT_CSV.isCompatibleWith(contentType)) {
+            return new CsvProductImportReader(reader, objectMapper);
+        }
+        throw new InvalidRequestException("지원하지 않는 형식입니다. application/x-ndjson 또는 text/csv로 보내주세요.");
+    }
+}
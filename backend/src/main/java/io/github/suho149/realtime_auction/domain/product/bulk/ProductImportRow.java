@@ -0,0 +1,19 @@
+package io.github.suho149.realtime_auction.domain.product.bulk;
+
+import io.github.suho149.realtime_auction.domain.product.dto.ProductCreateRequest;
+
+// 대량 등록 파일의 한 행. 읽기(형식) 오류가 있으면 request 대신 error를 담음
+public record ProductImportRow(long line, ProductCreateRequest request, String error) {
+
+    public static ProductImportRow parsed(long line, ProductCreateRequest request) {
+        return new ProductImportRow(line, request, null);
+    }
+
+    public static ProductImportRow failed(long line, String error) {
+        return new ProductImportRow(line, null, error);
+    }
+
+    public boolean isFailed() {
+        return error != null;
+    }
+}
@@ -0,0 +1,154 @@
+package io.github.suho149.realtime_auction.domain.product.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.suho149.realtime_auction.domain.auction.event.AuctionClosedEvent;
+import io.github.suho149.realtime_auction.domain.product.event.ProductCreatedEvent;
+import io.github.suho149.realtime_auction.domain.product.event.ProductsArchivedEvent;
+import io.github.suho149.realtime_auction.global.datasource.ReplicaRoutingDataSource;
+import io.github.suho149.realtime_auction.global.redis.RedisBatch;
+import io.github.suho149.realtime_auction.global.redis.RedisStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 상품 목록/상세 응답의 버전(ETag)과 직렬화된 응답 캐시.
+ *
+ * - 버전: Redis 카운터. 목록은 등록/종료/아카이브 때, 상세는 해당 상품 종료 때 증가 (커밋 후).
+ *   모든 노드가 같은 카운터를 보므로 ETag가 노드와 무관하게 같고, If-None-Match가 일치하면 DB를 거치지 않고 304.
+ * - 응답 캐시: 이 노드 메모리에 "ETag + 요청 키" -> JSON 바이트. 버전이 바뀌면 키가 달라지므로 별도 무효화가 필요 없고,
+ *   짧은 TTL과 최대 크기로 메모리를 제한한다.
+ * Redis에 접근할 수 없으면 ETag 없이(캐시 없이) 응답하도록 null을 돌려준다.
+ * 버전을 올린 시각도 함께 기록한다. 버전은 커밋 후에 올리므로, 새 버전으로 캐싱할 응답은 그 시각 이전의 커밋을 봐야 한다.
+ * 복제본이 그 시각까지 따라잡지 못했으면 그 응답만 primary에서 읽는다 (ReplicaRoutingDataSource.readCommittedBefore).
+ * 버전을 올린 노드와 읽는 노드의 시계는 NTP 수준으로 맞춰져 있다고 가정한다.
+ */
+@Slf4j
+@Component
+public class ProductResponseCache {
+
+    private static final String LIST_VERSION_KEY = "products:list:version";
+    private static final String BUMPED_AT_SUFFIX = ":bumped-at";
+
+    private final RedisStore redisStore;
+    private final ObjectMapper objectMapper;
+    private final long ttlMs;
+    // 접근 순서로 정렬되는 LinkedHashMap (LRU, 모든 접근은 synchronized)
+    private final LinkedHashMap<String, CachedResponse> responses;
+
+    public ProductResponseCache(RedisStore redisStore,
+                                ObjectMapper objectMapper,
+                                @Value("${auction.product-cache.ttl-ms:5000}") long ttlMs,
+                                @Value("${auction.product-cache.max-entries:1000}") int maxEntries) {
+        this.redisStore = redisStore;
+        this.objectMapper = objectMapper;
+        this.ttlMs = ttlMs;
+        this.responses = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    // ETag는 URL마다 따로 비교되므로 목록은 페이지와 무관하게 목록 버전만 담는다
+    public ResponseVersion listVersion() {
+        return readVersion(LIST_VERSION_KEY, "products-");
+    }
+
+    public ResponseVersion detailVersion(long productId) {
+        return readVersion(detailVersionKey(productId), "product-" + productId + "-");
+    }
+
+    // 같은 ETag + 요청 키의 응답이 TTL 안에 있으면 그대로, 없으면 버전을 올린 시각 이전의 커밋이 보이는 곳에서 만들어 보관
+    public byte[] getOrLoad(ResponseVersion version, String requestKey, Supplier<?> loader) {
+        String key = version.eTag() + requestKey;
+        long now = System.currentTimeMillis();
+        synchronized (responses) {
+            CachedResponse cached = responses.get(key);
+            if (cached != null && cached.expiresAt > now) {
+                return cached.body;
+            }
+        }
+
+        byte[] body = serialize(ReplicaRoutingDataSource.readCommittedBefore(version.bumpedAt(), loader));
+        synchronized (responses) {
+            responses.put(key, new CachedResponse(body, now + ttlMs));
+        }
+        return body;
+    }
+
+    public byte[] serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("응답 직렬화 실패", e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onProductCreated(ProductCreatedEvent event) {
+        bumpVersions(LIST_VERSION_KEY);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onAuctionClosed(AuctionClosedEvent event) {
+        bumpVersions(LIST_VERSION_KEY, detailVersionKey(event.getProductId()));
+    }
+
+    // 아카이브된 상품의 상세 응답은 그대로이므로 목록만
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onProductsArchived(ProductsArchivedEvent event) {
+        bumpVersions(LIST_VERSION_KEY);
+    }
+
+    private void bumpVersions(String... keys) {
+        try {
+            String now = String.valueOf(System.currentTimeMillis());
+            RedisBatch batch = redisStore.batch();
+            for (String key : keys) {
+                batch.increment(key).set(key + BUMPED_AT_SUFFIX, now);
+            }
+            batch.execute();
+        } catch (Exception e) {
+            // 증가하지 못하면 클라이언트가 이전 응답을 계속 쓸 수 있으므로 경고로 남김
+            log.warn("상품 응답 버전 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    // 한 번도 오르지 않은 버전은 0, 올린 시각도 0 (복제본에서 읽어도 됨)
+    private ResponseVersion readVersion(String key, String eTagPrefix) {
+        try {
+            List<Object> values = redisStore.batch()
+                    .get(key)
+                    .get(key + BUMPED_AT_SUFFIX)
+                    .execute();
+            String version = (String) values.get(0);
+            String bumpedAt = (String) values.get(1);
+            return new ResponseVersion("\"" + eTagPrefix + (version != null ? version : "0") + "\"",
+                    bumpedAt != null ? Long.parseLong(bumpedAt) : 0L);
+        } catch (Exception e) {
+            log.warn("상품 응답 버전 조회 실패, 캐시 없이 응답합니다: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static String detailVersionKey(long productId) {
+        return "product:" + productId + ":version";
+    }
+
+    // 응답의 ETag와 그 버전을 올린 시각(epoch ms)
+    public record ResponseVersion(String eTag, long bumpedAt) {
+    }
+
+    private record CachedResponse(byte[] body, long expiresAt) {
+    }
+}
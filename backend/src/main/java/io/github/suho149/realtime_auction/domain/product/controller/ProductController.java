@@ -1,18 +1,34 @@
 package io.github.suho149.realtime_auction.domain.product.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.suho149.realtime_auction.domain.product.bulk.ProductBulkImportService;
+import io.github.suho149.realtime_auction.domain.product.bulk.ProductImportReader;
+import io.github.suho149.realtime_auction.domain.product.cache.ProductResponseCache;
+import io.github.suho149.realtime_auction.domain.product.cache.ProductResponseCache.ResponseVersion;
+import io.github.suho149.realtime_auction.domain.product.dto.ProductBulkImportResponse;
 import io.github.suho149.realtime_auction.domain.product.dto.ProductCreateRequest;
-import io.github.suho149.realtime_auction.domain.product.dto.ProductResponse;
+import io.github.suho149.realtime_auction.domain.product.dto.ProductSearchRequest;
+import io.github.suho149.realtime_auction.domain.product.dto.ProductSearchResponse;
 import io.github.suho149.realtime_auction.domain.product.service.ProductService;
+import io.github.suho149.realtime_auction.global.jwt.AuthUser;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/api/v1/products")
@@ -20,30 +36,74 @@ import java.net.URI;
 public class ProductController {
 
     private final ProductService productService;
+    private final ProductResponseCache productResponseCache;
+    private final ProductBulkImportService productBulkImportService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     public ResponseEntity<Void> createProduct(@Valid @RequestBody ProductCreateRequest request, Authentication authentication) {
-        // Authentication 객체에서 현재 로그인한 사용자의 이메일을 가져옴
-        String sellerEmail = authentication.getName();
+        // Authentication 객체에서 현재 로그인한 사용자의 ID와 이메일을 가져옴 (사용자 테이블 조회 없음)
+        AuthUser seller = AuthUser.from(authentication);
 
-        Long productId = productService.createProduct(request, sellerEmail);
+        Long productId = productService.createProduct(request, seller.getId(), seller.getUsername());
 
         // 생성된 상품의 URI를 Location 헤더에 담아 201 Created 응답 반환
         return ResponseEntity.created(URI.create("/api/v1/products/" + productId)).build();
     }
 
-    // 상품 목록 조회 API
+    // 상품 대량 등록 API. 본문을 메모리에 모으지 않고 읽으면서 저장하며, 잘못된 행은 건너뛰고 줄 번호와 함께 응답
+    // NDJSON: 한 줄에 단건 등록과 같은 JSON 객체 하나 / CSV: 첫 행이 헤더 (title,description,startingPrice,auctionStartTime,auctionEndTime)
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_NDJSON_VALUE, "text/csv"})
+    public ResponseEntity<ProductBulkImportResponse> importProducts(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                                                    InputStream body,
+                                                                    Authentication authentication) throws IOException {
+        AuthUser seller = AuthUser.from(authentication);
+        try (ProductImportReader reader = ProductImportReader.of(MediaType.parseMediaType(contentType), body, objectMapper)) {
+            return ResponseEntity.ok(productBulkImportService.importProducts(reader, seller.getId(), seller.getUsername()));
+        }
+    }
+
+    // 상품 목록 조회 API (ETag 지원: If-None-Match가 현재 버전과 같으면 DB 조회 없이 304)
     // 예: /api/v1/products?page=0&size=10&sort=id,desc
     @GetMapping
-    public ResponseEntity<Page<ProductResponse>> getProducts(@PageableDefault(size = 10, sort = "id") Pageable pageable) {
-        Page<ProductResponse> products = productService.getProducts(pageable);
+    public ResponseEntity<byte[]> getProducts(@PageableDefault(size = 10, sort = "id") Pageable pageable, WebRequest webRequest) {
+        return conditionalResponse(productResponseCache.listVersion(), "list:" + pageable, webRequest,
+                () -> productService.getProducts(pageable));
+    }
+
+    // 상품 검색 API (제목/설명 키워드, 상태, 현재가 범위, 마감까지 남은 시간)
+    // 예: /api/v1/products/search?keyword=아이폰&status=SELLING&maxPrice=500000&sort=ENDING_SOON&page=0&size=20
+    @GetMapping("/search")
+    public ResponseEntity<Page<ProductSearchResponse>> searchProducts(@ModelAttribute ProductSearchRequest request,
+                                                                      @PageableDefault(size = 20) Pageable pageable) {
+        Page<ProductSearchResponse> products = productService.searchProducts(request, pageable);
         return ResponseEntity.ok(products);
     }
 
-    // 상품 상세 조회 API
+    // 상품 상세 조회 API (ETag 지원)
     @GetMapping("/{productId}")
-    public ResponseEntity<ProductResponse> getProduct(@PathVariable Long productId) {
-        ProductResponse product = productService.getProduct(productId);
-        return ResponseEntity.ok(product);
+    public ResponseEntity<byte[]> getProduct(@PathVariable Long productId, WebRequest webRequest) {
+        return conditionalResponse(productResponseCache.detailVersion(productId), "detail:" + productId, webRequest,
+                () -> productService.getProduct(productId));
+    }
+
+    // 버전이 같으면 304, 아니면 캐시된(없으면 새로 만든) JSON 바이트를 그대로 응답
+    // 클라이언트/프록시는 응답을 저장하되 매번 ETag로 재검증 (no-cache)
+    private ResponseEntity<byte[]> conditionalResponse(ResponseVersion version, String requestKey, WebRequest webRequest, Supplier<?> loader) {
+        if (version == null) {
+            // 버전을 알 수 없으면(Redis 장애) 캐시 없이 응답
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(productResponseCache.serialize(loader.get()));
+        }
+        String eTag = version.eTag();
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(CacheControl.noCache()).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(productResponseCache.getOrLoad(version, requestKey, loader));
     }
 }
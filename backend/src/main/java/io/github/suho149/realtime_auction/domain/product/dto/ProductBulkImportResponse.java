@@ -0,0 +1,25 @@
+package io.github.suho149.realtime_auction.domain.product.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class ProductBulkImportResponse {
+    private final long total; // 읽은 행 수 (빈 줄 제외)
+    private final long imported;
+    private final long failed;
+    private final List<RowError> errors; // 앞에서부터 max-reported-errors 개까지
+    private final boolean errorsTruncated; // 실패 행이 더 있지만 생략됨
+
+    public ProductBulkImportResponse(long total, long imported, long failed, List<RowError> errors) {
+        this.total = total;
+        this.imported = imported;
+        this.failed = failed;
+        this.errors = List.copyOf(errors);
+        this.errorsTruncated = failed > errors.size();
+    }
+
+    public record RowError(long line, String message) {
+    }
+}
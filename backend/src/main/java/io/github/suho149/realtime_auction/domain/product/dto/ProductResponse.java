@@ -1,5 +1,6 @@
 package io.github.suho149.realtime_auction.domain.product.dto;
 
+import io.github.suho149.realtime_auction.domain.product.entity.ArchivedProduct;
 import io.github.suho149.realtime_auction.domain.product.entity.Product;
 import io.github.suho149.realtime_auction.domain.product.entity.ProductStatus;
 import lombok.Getter;
@@ -33,6 +34,21 @@ public class ProductResponse {
         );
     }
 
+    // 아카이브된 상품 (판매자 이름은 호출하는 쪽에서 조회해서 전달)
+    public static ProductResponse from(ArchivedProduct product, String sellerName) {
+        return new ProductResponse(
+                product.getId(),
+                product.getTitle(),
+                product.getDescription(),
+                product.getStartingPrice(),
+                product.getWinningPrice(),
+                product.getAuctionStartTime(),
+                product.getAuctionEndTime(),
+                product.getStatus(),
+                sellerName
+        );
+    }
+
     // private 생성자
     private ProductResponse(Long id, String title, String description, Long startingPrice, Long winningPrice, LocalDateTime auctionStartTime, LocalDateTime auctionEndTime, ProductStatus status, String sellerName) {
         this.id = id;
@@ -0,0 +1,31 @@
+package io.github.suho149.realtime_auction.domain.product.dto;
+
+import io.github.suho149.realtime_auction.domain.product.entity.ProductStatus;
+import io.github.suho149.realtime_auction.domain.product.search.ProductSearchQuery;
+import io.github.suho149.realtime_auction.domain.product.search.ProductSearchSort;
+import lombok.Getter;
+import lombok.Setter;
+
+// 상품 검색 조건 (쿼리 파라미터). 값이 없는 조건은 적용하지 않음
+// 예: /api/v1/products/search?keyword=아이폰&status=SELLING&minPrice=10000&endingWithinMinutes=60&sort=ENDING_SOON
+@Getter
+@Setter
+public class ProductSearchRequest {
+    private String keyword;
+    private ProductStatus status;
+    private Long minPrice; // 현재가 기준
+    private Long maxPrice;
+    private Long endingWithinMinutes;
+    private ProductSearchSort sort;
+
+    public ProductSearchQuery toQuery() {
+        return ProductSearchQuery.builder()
+                .keyword(keyword)
+                .status(status)
+                .minPrice(minPrice)
+                .maxPrice(maxPrice)
+                .endingWithinMillis(endingWithinMinutes != null ? endingWithinMinutes * 60_000L : null)
+                .sort(sort)
+                .build();
+    }
+}
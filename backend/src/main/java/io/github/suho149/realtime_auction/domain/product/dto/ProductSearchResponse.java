@@ -0,0 +1,37 @@
+package io.github.suho149.realtime_auction.domain.product.dto;
+
+import io.github.suho149.realtime_auction.domain.product.entity.Product;
+import io.github.suho149.realtime_auction.domain.product.entity.ProductStatus;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class ProductSearchResponse {
+    private final Long id;
+    private final String title;
+    private final ProductStatus status;
+    private final Long currentPrice; // 검색 색인 기준 현재가 (진행 중이면 최고 입찰가)
+    private final LocalDateTime auctionEndTime;
+    private final String sellerName;
+
+    public static ProductSearchResponse of(Product product, long currentPrice) {
+        return new ProductSearchResponse(
+                product.getId(),
+                product.getTitle(),
+                product.getStatus(),
+                currentPrice,
+                product.getAuctionEndTime(),
+                product.getSeller().getName()
+        );
+    }
+
+    private ProductSearchResponse(Long id, String title, ProductStatus status, Long currentPrice, LocalDateTime auctionEndTime, String sellerName) {
+        this.id = id;
+        this.title = title;
+        this.status = status;
+        this.currentPrice = currentPrice;
+        this.auctionEndTime = auctionEndTime;
+        this.sellerName = sellerName;
+    }
+}
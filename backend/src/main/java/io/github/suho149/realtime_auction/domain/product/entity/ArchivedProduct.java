@@ -0,0 +1,57 @@
+package io.github.suho149.realtime_auction.domain.product.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 종료 후 일정 기간이 지나 products 테이블에서 옮겨진 상품 (콜드 데이터).
+ * 테이블은 auction_end_time 기준 월별 RANGE 파티션으로 나뉘며 (ArchivePartitionManager),
+ * 파티션 테이블은 외래 키를 가질 수 없어서 판매자/낙찰자는 연관관계 없이 ID만 보관한다.
+ * 행은 DB 안에서 INSERT ... SELECT 로만 만들어지므로 생성자는 JPA용만 둔다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@IdClass(ArchivedProductId.class)
+@Table(name = "archived_products")
+public class ArchivedProduct {
+
+    @Id
+    private Long id; // products 테이블에서 쓰던 ID 그대로
+
+    @Id
+    @Column(nullable = false)
+    private LocalDateTime auctionEndTime;
+
+    @Column(nullable = false, length = 100)
+    private String title;
+
+    @Lob
+    @Column(nullable = false)
+    private String description;
+
+    @Column(nullable = false)
+    private Long startingPrice;
+
+    private Long winningPrice;
+
+    @Column(nullable = false)
+    private LocalDateTime auctionStartTime;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ProductStatus status;
+
+    @Column(name = "seller_id", nullable = false)
+    private Long sellerId;
+
+    @Column(name = "winner_id")
+    private Long winnerId;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,17 @@
+package io.github.suho149.realtime_auction.domain.product.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+// 아카이브 테이블의 기본 키 (파티션 키인 종료 시각이 기본 키에 포함되어야 함)
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class ArchivedProductId implements Serializable {
+    private Long id;
+    private LocalDateTime auctionEndTime;
+}
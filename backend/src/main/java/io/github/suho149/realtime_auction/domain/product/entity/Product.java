@@ -14,8 +14,10 @@ import java.time.LocalDateTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Product {
 
+    // 시퀀스에서 ID를 50개씩 미리 받아 INSERT를 JDBC 배치로 묶을 수 있게 함 (IDENTITY는 행마다 INSERT 후 ID를 받아야 해서 배치 불가)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_seq")
+    @SequenceGenerator(name = "product_seq", sequenceName = "product_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 100)
@@ -0,0 +1,20 @@
+package io.github.suho149.realtime_auction.domain.product.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 상품 등록 트랜잭션 안에서 발행 (검색 색인 등은 커밋 후 반영)
+@Getter
+@AllArgsConstructor
+public class ProductCreatedEvent {
+    private final Long productId;
+    private final String title;
+    private final String description;
+    private final Long startingPrice;
+    private final LocalDateTime auctionStartTime;
+    private final LocalDateTime auctionEndTime;
+    private final Long sellerId;
+    private final String sellerEmail;
+}
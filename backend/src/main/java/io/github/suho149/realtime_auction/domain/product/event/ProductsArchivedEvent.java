@@ -0,0 +1,13 @@
+package io.github.suho149.realtime_auction.domain.product.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 아카이브 배치 트랜잭션 안에서 발행 (검색 색인 등은 커밋 후 반영)
+@Getter
+@AllArgsConstructor
+public class ProductsArchivedEvent {
+    private final List<Long> productIds;
+}
@@ -0,0 +1,28 @@
+package io.github.suho149.realtime_auction.domain.product.repository;
+
+import io.github.suho149.realtime_auction.domain.product.entity.ArchivedProduct;
+import io.github.suho149.realtime_auction.domain.product.entity.ArchivedProductId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+
+public interface ArchivedProductRepository extends JpaRepository<ArchivedProduct, ArchivedProductId> {
+
+    // 상세 조회 폴백용 (종료 시각을 모르므로 모든 파티션의 기본 키 인덱스를 확인)
+    @Query("SELECT a FROM ArchivedProduct a WHERE a.id = :id")
+    Optional<ArchivedProduct> findByProductId(@Param("id") Long id);
+
+    // 종료된 상품을 엔티티로 읽어오지 않고 DB 안에서 그대로 복사
+    @Modifying
+    @Query(value = "INSERT INTO archived_products " +
+            "(id, auction_end_time, title, description, starting_price, winning_price, auction_start_time, status, seller_id, winner_id, archived_at) " +
+            "SELECT p.id, p.auction_end_time, p.title, p.description, p.starting_price, p.winning_price, p.auction_start_time, p.status, p.seller_id, p.winner_id, :archivedAt " +
+            "FROM product p WHERE p.id IN (:ids) AND p.status = 'SOLD_OUT'",
+            nativeQuery = true)
+    int copyFromProducts(@Param("ids") Collection<Long> ids, @Param("archivedAt") LocalDateTime archivedAt);
+}
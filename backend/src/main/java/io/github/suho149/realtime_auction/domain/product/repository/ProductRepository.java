@@ -2,13 +2,15 @@ package io.github.suho149.realtime_auction.domain.product.repository;
 
 import io.github.suho149.realtime_auction.domain.product.entity.Product;
 import io.github.suho149.realtime_auction.domain.product.entity.ProductStatus;
-import io.lettuce.core.dynamic.annotation.Param;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,7 +26,41 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     @Query("SELECT p FROM Product p JOIN FETCH p.seller WHERE p.id = :id")
     Optional<Product> findByIdWithSeller(@Param("id") Long id);
 
+    // 검색 결과 페이지의 상품들을 판매자 정보와 함께 조회 (순서는 호출하는 쪽에서 맞춤)
+    @Query("SELECT p FROM Product p JOIN FETCH p.seller WHERE p.id IN :ids")
+    List<Product> findAllByIdWithSeller(@Param("ids") Collection<Long> ids);
+
+    // id 순으로 나눠서 전체 상품을 읽을 때 사용 (검색 색인 생성)
+    List<Product> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    // 특정 상태의 상품만 id 순으로 나눠서 읽을 때 사용 (경매 랭킹 초기화)
+    List<Product> findByStatusAndIdGreaterThanOrderByIdAsc(ProductStatus status, Long id, Pageable pageable);
+
+    // 시작 시각이 (from, until] 구간인 특정 상태의 상품을 id 순으로 나눠서 조회 (경매 활성화)
+    @Query("SELECT p FROM Product p WHERE p.status = :status AND p.auctionStartTime > :from AND p.auctionStartTime <= :until " +
+            "AND p.id > :afterId ORDER BY p.id")
+    List<Product> findStartingBetween(@Param("status") ProductStatus status,
+                                      @Param("from") LocalDateTime from,
+                                      @Param("until") LocalDateTime until,
+                                      @Param("afterId") Long afterId,
+                                      Pageable pageable);
+
     // 스케줄링 대상 조회 메서드 추가
     // 현재 시간을 기준으로, 경매 종료 시간이 지났고 상태가 SELLING인 상품들을 조회
     List<Product> findByAuctionEndTimeBeforeAndStatus(LocalDateTime now, ProductStatus status);
+
+    // 아카이브 대상: 종료 시각이 기준보다 이전인 특정 상태의 상품 ID (id 순으로 일부만)
+    @Query("SELECT p.id FROM Product p WHERE p.status = :status AND p.auctionEndTime < :before ORDER BY p.id")
+    List<Long> findIdsByStatusAndAuctionEndTimeBefore(@Param("status") ProductStatus status,
+                                                      @Param("before") LocalDateTime before,
+                                                      Pageable pageable);
+
+    // 아카이브 테이블로 복사한 상품 삭제 (상태 조건으로 혹시 모를 진행 중 상품 삭제를 방지)
+    @Modifying
+    @Query("DELETE FROM Product p WHERE p.id IN :ids AND p.status = :status")
+    int deleteByIdInAndStatus(@Param("ids") Collection<Long> ids, @Param("status") ProductStatus status);
+
+    // 특정 상태인 상품의 ID만 조회 (Redis 키 마이그레이션 등 엔티티 전체가 필요 없는 경우)
+    @Query("SELECT p.id FROM Product p WHERE p.status = :status")
+    List<Long> findIdsByStatus(@Param("status") ProductStatus status);
 }
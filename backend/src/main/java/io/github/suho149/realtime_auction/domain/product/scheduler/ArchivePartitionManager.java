@@ -0,0 +1,117 @@
+package io.github.suho149.realtime_auction.domain.product.scheduler;
+
+import io.github.suho149.realtime_auction.global.redis.RedisLock;
+import io.github.suho149.realtime_auction.global.redis.RedisStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * archived_products 테이블을 auction_end_time 기준 월별 RANGE 파티션으로 유지한다 (MariaDB).
+ *
+ * - 파티션이 없으면(JPA가 일반 테이블로 만든 직후) p_history(이번 달 이전) + 월별 파티션 + p_future 로 변환
+ * - 이후에는 항상 비어있는 p_future 를 쪼개서 앞으로 몇 달치 월별 파티션을 미리 만들어 둠 (데이터 이동 없음)
+ * 오래된 이력은 월 단위 파티션을 DROP 하는 것으로 한 번에 정리할 수 있다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "auction.archive", name = "enabled", havingValue = "true")
+public class ArchivePartitionManager {
+
+    private static final String TABLE = "archived_products";
+    private static final String PARTITION_LOCK_KEY = "product:archive:partition:lock";
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RedisStore redisStore;
+    private final int monthsAhead;
+
+    public ArchivePartitionManager(JdbcTemplate jdbcTemplate,
+                                   RedisStore redisStore,
+                                   @Value("${auction.archive.partition-months-ahead:3}") int monthsAhead) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.redisStore = redisStore;
+        this.monthsAhead = monthsAhead;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "0 30 3 * * *")
+    public void ensurePartitions() {
+        RedisLock lock = redisStore.getLock(PARTITION_LOCK_KEY);
+        try {
+            // DDL은 한 노드에서만 실행
+            if (!lock.tryLock(0, 5, TimeUnit.MINUTES)) {
+                return;
+            }
+
+            List<String> existing = jdbcTemplate.queryForList(
+                    "SELECT PARTITION_NAME FROM information_schema.PARTITIONS " +
+                    "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL " +
+                    "ORDER BY PARTITION_ORDINAL_POSITION",
+                    String.class, TABLE);
+
+            YearMonth current = YearMonth.now();
+            if (existing.isEmpty()) {
+                jdbcTemplate.execute(partitionTableSql(current, monthsAhead));
+                log.info("아카이브 테이블 파티션 생성 - {} ~ {}", current, current.plusMonths(monthsAhead));
+                return;
+            }
+
+            for (YearMonth month : monthsToAdd(existing, current, monthsAhead)) {
+                jdbcTemplate.execute("ALTER TABLE " + TABLE + " REORGANIZE PARTITION p_future INTO (" +
+                        monthPartition(month) + ", PARTITION p_future VALUES LESS THAN (MAXVALUE))");
+                log.info("아카이브 테이블 파티션 추가 - {}", month);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("아카이브 테이블 파티션 관리 중 오류", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 기존 월별 파티션 중 가장 마지막 달 다음부터 (이번 달 + monthsAhead)까지
+    static List<YearMonth> monthsToAdd(List<String> existingPartitions, YearMonth current, int monthsAhead) {
+        YearMonth last = null;
+        for (String name : existingPartitions) {
+            if (name.matches("p\\d{6}")) {
+                YearMonth month = YearMonth.parse(name, PARTITION_NAME);
+                if (last == null || month.isAfter(last)) {
+                    last = month;
+                }
+            }
+        }
+
+        YearMonth from = (last == null || last.isBefore(current)) ? current : last.plusMonths(1);
+        List<YearMonth> months = new ArrayList<>();
+        for (YearMonth month = from; !month.isAfter(current.plusMonths(monthsAhead)); month = month.plusMonths(1)) {
+            months.add(month);
+        }
+        return months;
+    }
+
+    static String partitionTableSql(YearMonth current, int monthsAhead) {
+        StringBuilder sql = new StringBuilder("ALTER TABLE " + TABLE + " PARTITION BY RANGE COLUMNS(auction_end_time) (")
+                .append("PARTITION p_history VALUES LESS THAN ('").append(current.atDay(1)).append("')");
+        for (int i = 0; i <= monthsAhead; i++) {
+            sql.append(", ").append(monthPartition(current.plusMonths(i)));
+        }
+        return sql.append(", PARTITION p_future VALUES LESS THAN (MAXVALUE))").toString();
+    }
+
+    private static String monthPartition(YearMonth month) {
+        return "PARTITION " + month.format(PARTITION_NAME) + " VALUES LESS THAN ('" + month.plusMonths(1).atDay(1) + "')";
+    }
+}
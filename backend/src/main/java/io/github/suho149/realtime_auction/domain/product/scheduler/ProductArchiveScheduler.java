@@ -0,0 +1,74 @@
+package io.github.suho149.realtime_auction.domain.product.scheduler;
+
+import io.github.suho149.realtime_auction.domain.product.service.ProductArchiveService;
+import io.github.suho149.realtime_auction.global.redis.RedisLock;
+import io.github.suho149.realtime_auction.global.redis.RedisStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 종료 후 일정 기간이 지난 상품을 products 테이블에서 아카이브 테이블로 조금씩 옮긴다.
+ * products 테이블(목록 조회, 종료 스케줄러 쿼리, 인덱스)의 크기가 누적 이력이 아니라 진행 중인 경매 수를 따라가게 하기 위함.
+ * 한 배치는 짧은 트랜잭션으로 처리하고 배치 사이에 잠시 쉬어서 운영 트래픽과 복제 지연에 주는 영향을 줄인다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "auction.archive", name = "enabled", havingValue = "true")
+public class ProductArchiveScheduler {
+
+    private static final String ARCHIVE_LOCK_KEY = "product:archive:lock";
+    private static final int MAX_BATCHES_PER_RUN = 50; // 락 리스(5분) 안에 끝나도록 한 번에 처리할 배치 수 제한
+
+    private final ProductArchiveService productArchiveService;
+    private final RedisStore redisStore;
+
+    @Value("${auction.archive.closed-for-days:7}")
+    private int closedForDays;
+
+    @Value("${auction.archive.batch-size:500}")
+    private int batchSize;
+
+    @Value("${auction.archive.batch-pause-ms:100}")
+    private long batchPauseMs;
+
+    @Scheduled(fixedDelayString = "${auction.archive.interval-ms:600000}")
+    public void archive() {
+        RedisLock lock = redisStore.getLock(ARCHIVE_LOCK_KEY);
+        try {
+            // 다른 노드가 옮기는 중이면 이번 주기는 건너뜀
+            if (!lock.tryLock(0, 5, TimeUnit.MINUTES)) {
+                return;
+            }
+
+            LocalDateTime closedBefore = LocalDateTime.now().minusDays(closedForDays);
+            int total = 0;
+            int moved;
+            int rounds = 0;
+            do {
+                moved = productArchiveService.archiveBatch(closedBefore, batchSize);
+                total += moved;
+                if (moved == batchSize) {
+                    Thread.sleep(batchPauseMs);
+                }
+            } while (moved == batchSize && ++rounds < MAX_BATCHES_PER_RUN);
+
+            if (total > 0) {
+                log.info("종료된 상품 아카이브: {}건", total);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("상품 아카이브 처리 중 오류", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,444 @@
+package io.github.suho149.realtime_auction.domain.product.search;
+
+import io.github.suho149.realtime_auction.domain.product.entity.ProductStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 상품 검색용 인메모리 역색인.
+ * 제목/설명을 단어 단위로 색인하고, 검색어는 접두어로 매칭한다 ("아이폰" -> "아이폰을", "아이폰15").
+ * 상태는 상태별 비트셋, 현재가/종료 시각은 상품 순번(ordinal) 기준의 배열에 두어 후보 필터링과 정렬을 DB 없이 처리한다.
+ *
+ * 상품은 삭제되지 않으므로 순번은 추가 순서대로 증가하고, 각 단어의 포스팅 목록도 항상 정렬된 상태를 유지한다.
+ * 현재가는 입찰마다 갱신되므로 쓰기 락 없이 VarHandle(CAS/opaque)로 갱신하고 읽는다.
+ */
+@Component
+public class ProductSearchIndex {
+
+    // 긴 설명 전체를 색인하면 메모리가 커지므로 앞부분만 색인
+    static final int MAX_DESCRIPTION_CHARS = 2000;
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final VarHandle PRICE = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+    // 같은 포스팅 객체를 두 맵에 둔다: 색인 시에는 해시맵으로 빠르게 찾고, 접두어 검색은 정렬된 맵에서
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final TreeMap<String, Postings> sortedTerms = new TreeMap<>();
+
+    private long[] productIds = new long[INITIAL_CAPACITY];
+    private final BitSet[] statusMembers = new BitSet[ProductStatus.values().length];
+    // 아카이브되어 검색에서 빠진 순번 (순번은 재사용하지 않고, 재기동 시 색인을 새로 만들면서 정리됨)
+    private final BitSet removed = new BitSet();
+    private long[] endTimes = new long[INITIAL_CAPACITY]; // epoch millis
+    private long[] prices = new long[INITIAL_CAPACITY];
+    private int size;
+
+    public ProductSearchIndex() {
+        for (int i = 0; i < statusMembers.length; i++) {
+            statusMembers[i] = new BitSet();
+        }
+    }
+
+    // 상품 추가 (이미 색인된 상품이면 무시)
+    public void add(long productId, String title, String description, ProductStatus status, long price, long endTimeMillis) {
+        lock.writeLock().lock();
+        try {
+            if (ordinals.containsKey(productId)) {
+                return;
+            }
+            ensureCapacity(size + 1);
+            int ordinal = size++;
+            ordinals.put(productId, ordinal);
+            productIds[ordinal] = productId;
+            statusMembers[status.ordinal()].set(ordinal);
+            endTimes[ordinal] = endTimeMillis;
+            PRICE.setOpaque(prices, ordinal, price);
+
+            Set<String> terms = new LinkedHashSet<>(tokenize(title));
+            terms.addAll(tokenize(truncate(description)));
+            for (String term : terms) {
+                Postings termPostings = postings.get(term);
+                if (termPostings == null) {
+                    termPostings = new Postings();
+                    postings.put(term, termPostings);
+                    sortedTerms.put(term, termPostings);
+                }
+                termPostings.add(ordinal);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 입찰로 현재가가 바뀐 경우 (더 낮은 값으로는 되돌리지 않음)
+    public void updatePrice(long productId, long price) {
+        lock.readLock().lock();
+        try {
+            Integer ordinal = ordinals.get(productId);
+            if (ordinal == null) {
+                return;
+            }
+            int index = ordinal;
+            long current = (long) PRICE.getOpaque(prices, index);
+            while (price > current && !PRICE.weakCompareAndSet(prices, index, current, price)) {
+                current = (long) PRICE.getOpaque(prices, index);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 경매 종료 시 상태와 최종가 반영
+    public void close(long productId, Long finalPrice) {
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinals.get(productId);
+            if (ordinal == null) {
+                return;
+            }
+            for (BitSet members : statusMembers) {
+                members.clear(ordinal);
+            }
+            statusMembers[ProductStatus.SOLD_OUT.ordinal()].set(ordinal);
+            if (finalPrice != null) {
+                PRICE.setOpaque(prices, ordinal.intValue(), finalPrice.longValue());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 아카이브된 상품을 검색 대상에서 제외
+    public void remove(long productId) {
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinals.remove(productId);
+            if (ordinal == null) {
+                return;
+            }
+            for (BitSet members : statusMembers) {
+                members.clear(ordinal);
+            }
+            removed.set(ordinal);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean contains(long productId) {
+        lock.readLock().lock();
+        try {
+            return ordinals.containsKey(productId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ordinals.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public ProductSearchResult search(ProductSearchQuery query, int offset, int limit, long nowMillis) {
+        lock.readLock().lock();
+        try {
+            BitSet candidates = filterStatus(matchText(query.getKeyword()), query.getStatus());
+            TopK topK = new TopK(offset + limit);
+            long endingBefore = (query.getEndingWithinMillis() != null) ? nowMillis + query.getEndingWithinMillis() : Long.MAX_VALUE;
+            long endingAfter = (query.getEndingWithinMillis() != null) ? nowMillis : Long.MIN_VALUE;
+            long minPrice = (query.getMinPrice() != null) ? query.getMinPrice() : Long.MIN_VALUE;
+            long maxPrice = (query.getMaxPrice() != null) ? query.getMaxPrice() : Long.MAX_VALUE;
+            ProductSearchSort sort = (query.getSort() != null) ? query.getSort() : ProductSearchSort.NEWEST;
+
+            // 최근 등록순은 순번 역순으로 훑으면 처음 찾은 k개가 곧 결과이므로, 이후로는 개수만 센다
+            boolean newest = sort == ProductSearchSort.NEWEST;
+            long total = 0;
+            int ordinal = first(candidates, newest);
+            while (ordinal >= 0) {
+                long endTime = endTimes[ordinal];
+                long price = (long) PRICE.getOpaque(prices, ordinal);
+                if (endTime > endingAfter && endTime <= endingBefore
+                        && price >= minPrice && price <= maxPrice) {
+                    if (!newest || total < offset + limit) {
+                        topK.offer(sortKey(sort, ordinal, endTime, price), ordinal);
+                    }
+                    total++;
+                }
+                ordinal = next(candidates, ordinal, newest);
+            }
+
+            int[] ranked = topK.sorted();
+            List<ProductSearchResult.Hit> hits = new ArrayList<>();
+            for (int i = offset; i < ranked.length; i++) {
+                int hit = ranked[i];
+                hits.add(new ProductSearchResult.Hit(productIds[hit], (long) PRICE.getOpaque(prices, hit)));
+            }
+            return new ProductSearchResult(total, hits);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 검색어의 각 단어를 접두어로 갖는 단어들의 합집합을 구하고, 단어끼리는 교집합. 검색어가 없으면 null(전체)
+    private BitSet matchText(String keyword) {
+        List<String> terms = tokenize(keyword);
+        if (terms.isEmpty()) {
+            return null;
+        }
+
+        BitSet result = null;
+        for (String term : new LinkedHashSet<>(terms)) {
+            BitSet matched = new BitSet(size);
+            NavigableMap<String, Postings> range = sortedTerms.subMap(term, true, term + Character.MAX_VALUE, false);
+            for (Postings termPostings : range.values()) {
+                termPostings.addTo(matched);
+            }
+            if (result == null) {
+                result = matched;
+            } else {
+                result.and(matched);
+            }
+            if (result.isEmpty()) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    private BitSet filterStatus(BitSet candidates, ProductStatus status) {
+        if (status == null) {
+            return excludeRemoved(candidates);
+        }
+        if (candidates == null) {
+            return (BitSet) statusMembers[status.ordinal()].clone();
+        }
+        candidates.and(statusMembers[status.ordinal()]);
+        return candidates;
+    }
+
+    // 상태 조건이 없을 때도 아카이브된 순번은 빠지도록 (제거된 상품이 없으면 그대로)
+    private BitSet excludeRemoved(BitSet candidates) {
+        if (removed.isEmpty()) {
+            return candidates;
+        }
+        if (candidates == null) {
+            candidates = new BitSet(size);
+            candidates.set(0, size);
+        }
+        candidates.andNot(removed);
+        return candidates;
+    }
+
+    private int first(BitSet candidates, boolean descending) {
+        if (size == 0) {
+            return -1;
+        }
+        if (candidates == null) {
+            return descending ? size - 1 : 0;
+        }
+        return descending ? candidates.previousSetBit(size - 1) : candidates.nextSetBit(0);
+    }
+
+    private int next(BitSet candidates, int ordinal, boolean descending) {
+        if (candidates == null) {
+            int next = descending ? ordinal - 1 : ordinal + 1;
+            return (next < size) ? next : -1;
+        }
+        if (descending) {
+            return (ordinal > 0) ? candidates.previousSetBit(ordinal - 1) : -1;
+        }
+        int next = candidates.nextSetBit(ordinal + 1);
+        return (next < size) ? next : -1;
+    }
+
+    private static long sortKey(ProductSearchSort sort, int ordinal, long endTime, long price) {
+        return switch (sort) {
+            case ENDING_SOON -> endTime;
+            case PRICE_ASC -> price;
+            case PRICE_DESC -> -price;
+            case NEWEST -> -ordinal;
+        };
+    }
+
+    // 소문자로 바꾸고 문자/숫자가 아닌 글자를 기준으로 분리
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean wordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                tokens.add(text.substring(start, i).toLowerCase());
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    private static String truncate(String description) {
+        return (description != null && description.length() > MAX_DESCRIPTION_CHARS)
+                ? description.substring(0, MAX_DESCRIPTION_CHARS)
+                : description;
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= productIds.length) {
+            return;
+        }
+        int capacity = Math.max(required, productIds.length * 2);
+        productIds = Arrays.copyOf(productIds, capacity);
+        endTimes = Arrays.copyOf(endTimes, capacity);
+        prices = Arrays.copyOf(prices, capacity);
+    }
+
+    // 한 단어의 상품 순번 목록 (추가 순서 = 오름차순).
+    // 많은 상품에 등장하는 단어는 int 배열보다 비트셋이 작고 합집합(or)도 빠르므로 비트셋으로 전환한다
+    private static final class Postings {
+        private static final int DENSE_MIN_COUNT = 1024;
+
+        private int[] ordinals = new int[2];
+        private BitSet bits;
+        private int count;
+
+        void add(int ordinal) {
+            count++;
+            if (bits != null) {
+                bits.set(ordinal);
+                return;
+            }
+            if (count > ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, ordinals.length * 2);
+            }
+            ordinals[count - 1] = ordinal;
+            // 상품 32개 중 1개 이상에 등장하면 비트셋이 int 배열보다 작아짐
+            if (count >= DENSE_MIN_COUNT && (long) count * Integer.SIZE >= ordinal) {
+                bits = new BitSet(ordinal + 1);
+                for (int i = 0; i < count; i++) {
+                    bits.set(ordinals[i]);
+                }
+                ordinals = null;
+            }
+        }
+
+        void addTo(BitSet target) {
+            if (bits != null) {
+                target.or(bits);
+                return;
+            }
+            for (int i = 0; i < count; i++) {
+                target.set(ordinals[i]);
+            }
+        }
+    }
+
+    // 정렬 키가 작은 k개만 유지하는 최대 힙 (박싱 없이 전체 결과를 정렬하지 않고 상위 k개만 추림)
+    private static final class TopK {
+        private final int capacity;
+        private final long[] keys;
+        private final int[] ordinals;
+        private int count;
+
+        TopK(int capacity) {
+            this.capacity = capacity;
+            this.keys = new long[capacity];
+            this.ordinals = new int[capacity];
+        }
+
+        void offer(long key, int ordinal) {
+            if (capacity == 0) {
+                return;
+            }
+            if (count < capacity) {
+                keys[count] = key;
+                ordinals[count] = ordinal;
+                siftUp(count++);
+            } else if (less(key, ordinal, keys[0], ordinals[0])) {
+                keys[0] = key;
+                ordinals[0] = ordinal;
+                siftDown(0);
+            }
+        }
+
+        int[] sorted() {
+            int[] result = new int[count];
+            long[] heapKeys = Arrays.copyOf(keys, count);
+            int[] heapOrdinals = Arrays.copyOf(ordinals, count);
+            Integer[] order = new Integer[count];
+            for (int i = 0; i < count; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, Comparator.<Integer>comparingLong(i -> heapKeys[i]).thenComparingInt(i -> heapOrdinals[i]));
+            for (int i = 0; i < count; i++) {
+                result[i] = heapOrdinals[order[i]];
+            }
+            return result;
+        }
+
+        // 정렬 키가 같으면 순번으로 비교해서 항상 같은 순서가 되도록 함
+        private static boolean less(long keyA, int ordinalA, long keyB, int ordinalB) {
+            return keyA < keyB || (keyA == keyB && ordinalA < ordinalB);
+        }
+
+        private void siftUp(int index) {
+            while (index > 0) {
+                int parent = (index - 1) / 2;
+                if (!less(keys[parent], ordinals[parent], keys[index], ordinals[index])) {
+                    return;
+                }
+                swap(index, parent);
+                index = parent;
+            }
+        }
+
+        private void siftDown(int index) {
+            while (true) {
+                int left = index * 2 + 1;
+                int right = left + 1;
+                int largest = index;
+                if (left < count && less(keys[largest], ordinals[largest], keys[left], ordinals[left])) {
+                    largest = left;
+                }
+                if (right < count && less(keys[largest], ordinals[largest], keys[right], ordinals[right])) {
+                    largest = right;
+                }
+                if (largest == index) {
+                    return;
+                }
+                swap(index, largest);
+                index = largest;
+            }
+        }
+
+        private void swap(int a, int b) {
+            long key = keys[a];
+            keys[a] = keys[b];
+            keys[b] = key;
+            int ordinal = ordinals[a];
+            ordinals[a] = ordinals[b];
+            ordinals[b] = ordinal;
+        }
+    }
+}
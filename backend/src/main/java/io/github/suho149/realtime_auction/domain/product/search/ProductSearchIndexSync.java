@@ -0,0 +1,168 @@
+package io.github.suho149.realtime_auction.domain.product.search;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.suho149.realtime_auction.domain.auction.event.AuctionClosedEvent;
+import io.github.suho149.realtime_auction.domain.auction.event.BidPlacedEvent;
+import io.github.suho149.realtime_auction.domain.auction.store.AuctionRedisKeys;
+import io.github.suho149.realtime_auction.domain.product.entity.Product;
+import io.github.suho149.realtime_auction.domain.product.entity.ProductStatus;
+import io.github.suho149.realtime_auction.domain.product.event.ProductCreatedEvent;
+import io.github.suho149.realtime_auction.domain.product.event.ProductsArchivedEvent;
+import io.github.suho149.realtime_auction.domain.product.repository.ProductRepository;
+import io.github.suho149.realtime_auction.global.redis.RedisBatch;
+import io.github.suho149.realtime_auction.global.redis.RedisStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+/**
+ * 검색 색인을 DB/Redis와 맞춰 유지한다.
+ * - 기동 시: DB의 전체 상품을 id 순으로 나눠 읽어 색인하고, 진행 중인 경매는 Redis의 현재 최고가를 반영
+ * - 실행 중: 등록/종료(커밋 후)/입찰 이벤트를 Redis Pub/Sub으로 모든 노드에 전파해서 각 노드의 색인에 반영
+ *   입찰은 입찰 경로에서 동기로 호출되므로 메모리에 경매별 최고가만 모아 두고, price-flush-interval-ms 마다 경매당 한 번씩 전파
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductSearchIndexSync implements MessageListener {
+
+    public static final String CHANNEL = "product-index";
+    private static final int LOAD_CHUNK_SIZE = 1000;
+
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductRepository productRepository;
+    private final RedisStore redisStore;
+    private final ObjectMapper objectMapper;
+
+    // 아직 전파하지 않은 경매별 최고 입찰가
+    private final Map<Long, Long> pendingPrices = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long startedAt = System.currentTimeMillis();
+        long lastId = 0L;
+        List<Product> chunk;
+        do {
+            chunk = productRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, LOAD_CHUNK_SIZE));
+            List<Long> livePrices = livePrices(chunk);
+            for (int i = 0; i < chunk.size(); i++) {
+                Product product = chunk.get(i);
+                productSearchIndex.add(product.getId(), product.getTitle(), product.getDescription(), product.getStatus(),
+                        livePrices.get(i), toMillis(product.getAuctionEndTime()));
+                lastId = product.getId();
+            }
+        } while (chunk.size() == LOAD_CHUNK_SIZE);
+
+        log.info("상품 검색 색인 생성 완료 - {}건, {}ms", productSearchIndex.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onProductCreated(ProductCreatedEvent event) {
+        publish(new IndexUpdate(IndexUpdate.Type.CREATED, event.getProductId(), event.getTitle(), event.getDescription(),
+                event.getStartingPrice(), toMillis(event.getAuctionEndTime())));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onAuctionClosed(AuctionClosedEvent event) {
+        pendingPrices.remove(event.getProductId());
+        publish(new IndexUpdate(IndexUpdate.Type.CLOSED, event.getProductId(), null, null, event.getWinningPrice(), 0L));
+    }
+
+    // 아카이브된 상품은 검색 대상에서 제외 (상세 조회는 아카이브 테이블로 폴백)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onProductsArchived(ProductsArchivedEvent event) {
+        event.getProductIds().forEach(productId ->
+                publish(new IndexUpdate(IndexUpdate.Type.ARCHIVED, productId, null, null, null, 0L)));
+    }
+
+    // Redis를 거치지 않으므로 이미 수락된 입찰 응답에 영향을 주지 않음
+    @EventListener
+    public void onBidPlaced(BidPlacedEvent event) {
+        pendingPrices.merge(event.getProductId(), event.getBidAmount(), Math::max);
+    }
+
+    // 모아 둔 가격을 경매당 한 번씩 전파. 전파하지 못한 가격은 다음 주기에 다시 시도
+    @Scheduled(fixedDelayString = "${auction.search.price-flush-interval-ms:200}")
+    public void flushPrices() {
+        for (Long productId : pendingPrices.keySet()) {
+            Long price = pendingPrices.remove(productId);
+            if (price == null) {
+                continue;
+            }
+            try {
+                publish(new IndexUpdate(IndexUpdate.Type.PRICE, productId, null, null, price, 0L));
+            } catch (RuntimeException e) {
+                pendingPrices.merge(productId, price, Math::max);
+                log.warn("상품 검색 색인 가격 전파 실패, 다음 주기에 재시도합니다: {}", e.getMessage());
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            IndexUpdate update = objectMapper.readValue(message.getBody(), IndexUpdate.class);
+            switch (update.type()) {
+                case CREATED -> productSearchIndex.add(update.productId(), update.title(), update.description(),
+                        ProductStatus.SELLING, update.price(), update.endTimeMillis());
+                case CLOSED -> productSearchIndex.close(update.productId(), update.price());
+                case PRICE -> productSearchIndex.updatePrice(update.productId(), update.price());
+                case ARCHIVED -> productSearchIndex.remove(update.productId());
+            }
+        } catch (IOException e) {
+            log.warn("상품 검색 색인 갱신 메시지 처리 실패: {}", e.getMessage());
+        }
+    }
+
+    private void publish(IndexUpdate update) {
+        try {
+            redisStore.publish(CHANNEL, objectMapper.writeValueAsString(update));
+        } catch (JsonProcessingException e) {
+            log.warn("상품 검색 색인 갱신 메시지 직렬화 실패 - 상품 ID: {}", update.productId());
+        }
+    }
+
+    // 진행 중인 경매는 Redis 최고가, 없으면 시작가. 종료된 경매는 낙찰가(유찰이면 시작가)
+    private List<Long> livePrices(List<Product> products) {
+        RedisBatch batch = redisStore.batch();
+        products.forEach(product -> batch.get(AuctionRedisKeys.highestBid(product.getId())));
+        List<Object> highestBids = batch.execute();
+
+        return IntStream.range(0, products.size()).mapToObj(i -> {
+            Product product = products.get(i);
+            if (product.getStatus() == ProductStatus.SOLD_OUT) {
+                return product.getWinningPrice() != null ? product.getWinningPrice() : product.getStartingPrice();
+            }
+            String highestBid = (String) highestBids.get(i);
+            return highestBid != null ? Long.parseLong(highestBid) : product.getStartingPrice();
+        }).toList();
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    record IndexUpdate(Type type, Long productId, String title, String description, Long price, long endTimeMillis) {
+        enum Type {
+            CREATED, CLOSED, PRICE, ARCHIVED
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package io.github.suho149.realtime_auction.domain.product.search;
+
+import io.github.suho149.realtime_auction.domain.product.entity.ProductStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+// 검색 조건. null 인 조건은 적용하지 않는다
+@Getter
+@Builder
+public class ProductSearchQuery {
+    private final String keyword;
+    private final ProductStatus status;
+    private final Long minPrice;           // 현재가 기준 (입찰이 없으면 시작가)
+    private final Long maxPrice;
+    private final Long endingWithinMillis; // 지금부터 이 시간 안에 마감되는 경매만
+    private final ProductSearchSort sort;
+}
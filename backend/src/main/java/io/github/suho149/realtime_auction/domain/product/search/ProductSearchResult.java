@@ -0,0 +1,20 @@
+package io.github.suho149.realtime_auction.domain.product.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class ProductSearchResult {
+    private final long total;
+    private final List<Hit> hits;
+
+    @Getter
+    @AllArgsConstructor
+    public static class Hit {
+        private final long productId;
+        private final long currentPrice;
+    }
+}
@@ -0,0 +1,8 @@
+package io.github.suho149.realtime_auction.domain.product.search;
+
+public enum ProductSearchSort {
+    NEWEST,      // 최근 등록순
+    ENDING_SOON, // 마감 임박순
+    PRICE_ASC,   // 현재가 낮은순
+    PRICE_DESC   // 현재가 높은순
+}
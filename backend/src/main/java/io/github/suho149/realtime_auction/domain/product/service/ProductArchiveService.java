@@ -0,0 +1,43 @@
+package io.github.suho149.realtime_auction.domain.product.service;
+
+import io.github.suho149.realtime_auction.domain.product.entity.ProductStatus;
+import io.github.suho149.realtime_auction.domain.product.event.ProductsArchivedEvent;
+import io.github.suho149.realtime_auction.domain.product.repository.ArchivedProductRepository;
+import io.github.suho149.realtime_auction.domain.product.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class ProductArchiveService {
+
+    private final ProductRepository productRepository;
+    private final ArchivedProductRepository archivedProductRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 종료된 상품 한 배치를 아카이브 테이블로 옮김 (복사와 삭제가 한 트랜잭션). 옮긴 개수를 반환
+    @Transactional
+    public int archiveBatch(LocalDateTime closedBefore, int batchSize) {
+        List<Long> ids = productRepository.findIdsByStatusAndAuctionEndTimeBefore(
+                ProductStatus.SOLD_OUT, closedBefore, PageRequest.of(0, batchSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        int copied = archivedProductRepository.copyFromProducts(ids, LocalDateTime.now());
+        int deleted = productRepository.deleteByIdInAndStatus(ids, ProductStatus.SOLD_OUT);
+        if (copied != deleted) {
+            // 롤백해서 어느 쪽에도 빠지거나 중복된 행이 남지 않게 함
+            throw new IllegalStateException("아카이브 복사/삭제 건수가 다릅니다. 복사: " + copied + ", 삭제: " + deleted);
+        }
+
+        eventPublisher.publishEvent(new ProductsArchivedEvent(ids));
+        return deleted;
+    }
+}
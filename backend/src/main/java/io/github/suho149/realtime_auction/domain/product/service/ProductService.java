@@ -2,29 +2,54 @@ package io.github.suho149.realtime_auction.domain.product.service;
 
 import io.github.suho149.realtime_auction.domain.product.dto.ProductCreateRequest;
 import io.github.suho149.realtime_auction.domain.product.dto.ProductResponse;
+import io.github.suho149.realtime_auction.domain.product.dto.ProductSearchRequest;
+import io.github.suho149.realtime_auction.domain.product.dto.ProductSearchResponse;
 import io.github.suho149.realtime_auction.domain.product.entity.Product;
+import io.github.suho149.realtime_auction.domain.product.event.ProductCreatedEvent;
+import io.github.suho149.realtime_auction.domain.product.repository.ArchivedProductRepository;
 import io.github.suho149.realtime_auction.domain.product.repository.ProductRepository;
+import io.github.suho149.realtime_auction.domain.product.search.ProductSearchIndex;
+import io.github.suho149.realtime_auction.domain.product.search.ProductSearchResult;
+import io.github.suho149.realtime_auction.domain.user.dto.UserProfile;
 import io.github.suho149.realtime_auction.domain.user.entity.User;
 import io.github.suho149.realtime_auction.domain.user.repository.UserRepository;
+import io.github.suho149.realtime_auction.domain.user.service.SellerStatsDelta;
+import io.github.suho149.realtime_auction.domain.user.service.SellerStatsService;
+import io.github.suho149.realtime_auction.domain.user.service.UserProfileCache;
+import io.github.suho149.realtime_auction.global.error.exception.InvalidRequestException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true) // 조회 기능이므로 readOnly = true 설정
 public class ProductService {
 
+    // 검색 결과는 앞에서부터 이 개수까지만 페이지로 조회 가능 (깊은 페이지는 정렬 비용이 커짐)
+    private static final int MAX_SEARCH_WINDOW = 10_000;
+
     private final ProductRepository productRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ProductSearchIndex productSearchIndex;
+    private final ArchivedProductRepository archivedProductRepository;
+    private final UserProfileCache userProfileCache;
+    private final SellerStatsService sellerStatsService;
 
     @Transactional
-    public Long createProduct(ProductCreateRequest request, String sellerEmail) {
-        // 1. 판매자 정보 조회
-        User seller = userRepository.findByEmail(sellerEmail)
-                .orElseThrow(() -> new IllegalArgumentException("판매자 정보를 찾을 수 없습니다."));
+    public Long createProduct(ProductCreateRequest request, Long sellerId, String sellerEmail) {
+        // 1. 판매자 참조 (토큰의 사용자 ID로 프록시만 만들고 SELECT 하지 않음)
+        User seller = userRepository.getReferenceById(sellerId);
 
         // 2. 요청 DTO를 Product 엔티티로 변환
         Product product = Product.builder()
@@ -39,6 +64,21 @@ public class ProductService {
         // 3. 상품 저장
         Product savedProduct = productRepository.save(product);
 
+        // 4. 판매자 현황의 진행 중 경매 수 증가 (같은 트랜잭션)
+        sellerStatsService.apply(sellerId, SellerStatsDelta.created(1));
+
+        // 5. 등록 이벤트 발행 (검색 색인 등은 커밋 이후에 반영)
+        eventPublisher.publishEvent(new ProductCreatedEvent(
+                savedProduct.getId(),
+                savedProduct.getTitle(),
+                savedProduct.getDescription(),
+                savedProduct.getStartingPrice(),
+                savedProduct.getAuctionStartTime(),
+                savedProduct.getAuctionEndTime(),
+                sellerId,
+                sellerEmail
+        ));
+
         return savedProduct.getId();
     }
 
@@ -48,10 +88,34 @@ public class ProductService {
                 .map(ProductResponse::from); // Page<Product> -> Page<ProductResponse>
     }
 
-    // 상품 상세 조회
+    // 상품 검색: 조건 매칭/정렬/페이징은 인메모리 색인에서, DB는 결과 페이지의 상품만 PK로 조회
+    public Page<ProductSearchResponse> searchProducts(ProductSearchRequest request, Pageable pageable) {
+        if (pageable.getOffset() + pageable.getPageSize() > MAX_SEARCH_WINDOW) {
+            throw new InvalidRequestException("검색 결과는 " + MAX_SEARCH_WINDOW + "번째까지만 조회할 수 있습니다.");
+        }
+        ProductSearchResult result = productSearchIndex.search(
+                request.toQuery(), (int) pageable.getOffset(), pageable.getPageSize(), System.currentTimeMillis());
+
+        List<Long> ids = result.getHits().stream().map(ProductSearchResult.Hit::getProductId).toList();
+        Map<Long, Product> products = productRepository.findAllByIdWithSeller(ids).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        List<ProductSearchResponse> content = result.getHits().stream()
+                .filter(hit -> products.containsKey(hit.getProductId()))
+                .map(hit -> ProductSearchResponse.of(products.get(hit.getProductId()), hit.getCurrentPrice()))
+                .toList();
+        return new PageImpl<>(content, pageable, result.getTotal());
+    }
+
+    // 상품 상세 조회 (products 테이블에 없으면 아카이브 테이블에서)
     public ProductResponse getProduct(Long productId) {
-        Product product = productRepository.findByIdWithSeller(productId)
-                .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다."));
-        return ProductResponse.from(product);
+        return productRepository.findByIdWithSeller(productId)
+                .map(ProductResponse::from)
+                .orElseGet(() -> archivedProductRepository.findByProductId(productId)
+                        .map(archived -> {
+                            UserProfile seller = userProfileCache.get(archived.getSellerId());
+                            return ProductResponse.from(archived, seller != null ? seller.getName() : null);
+                        })
+                        .orElseThrow(() -> new InvalidRequestException("상품을 찾을 수 없습니다.")));
     }
 }
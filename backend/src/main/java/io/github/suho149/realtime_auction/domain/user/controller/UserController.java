@@ -1,15 +1,25 @@
 package io.github.suho149.realtime_auction.domain.user.controller;
 
+import io.github.suho149.realtime_auction.domain.user.dto.SellerStatsResponse;
+import io.github.suho149.realtime_auction.domain.user.dto.UserAuctionResponse;
+import io.github.suho149.realtime_auction.domain.user.dto.UserAuctionRole;
 import io.github.suho149.realtime_auction.domain.user.dto.UserInfoResponse;
-import io.github.suho149.realtime_auction.domain.user.entity.User;
-import io.github.suho149.realtime_auction.domain.user.repository.UserRepository;
+import io.github.suho149.realtime_auction.domain.user.dto.UserProfile;
+import io.github.suho149.realtime_auction.domain.user.index.UserAuctionIndex;
+import io.github.suho149.realtime_auction.domain.user.service.SellerStatsService;
+import io.github.suho149.realtime_auction.domain.user.service.UserProfileCache;
+import io.github.suho149.realtime_auction.global.jwt.AuthUser;
 import io.github.suho149.realtime_auction.global.error.exception.UserNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -17,7 +27,9 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class UserController {
 
-    private final UserRepository userRepository; // DB에서 사용자 정보를 가져오기 위해 주입
+    private final UserProfileCache userProfileCache; // 사용자 ID로 캐시된 프로필 조회
+    private final SellerStatsService sellerStatsService;
+    private final UserAuctionIndex userAuctionIndex;
 
     @GetMapping("/me")
     public ResponseEntity<?> getMyInfo(Authentication authentication) {
@@ -25,14 +37,34 @@ public class UserController {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
 
-        // SecurityContext에서 사용자 이메일(principal의 name)을 가져옴
-        String email = authentication.getName();
-
-        // DB에서 해당 이메일의 사용자 정보를 조회
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다."));
+        // SecurityContext의 principal에 담긴 사용자 ID로 프로필 조회 (캐시에 없을 때만 PK로 DB 조회)
+        Long userId = AuthUser.from(authentication).getId();
+        UserProfile user = userProfileCache.get(userId);
+        if (user == null) {
+            throw new UserNotFoundException("사용자를 찾을 수 없습니다.");
+        }
 
         // User 엔티티를 UserInfoResponse DTO로 변환하여 반환
         return ResponseEntity.ok(new UserInfoResponse(user));
     }
+
+    // 내 판매 현황 (진행 중/낙찰/유찰 경매 수, 낙찰가 합계, 경매당 평균 입찰 수)
+    @GetMapping("/me/seller-stats")
+    public ResponseEntity<SellerStatsResponse> getMySellerStats(Authentication authentication) {
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        return ResponseEntity.ok(sellerStatsService.get(AuthUser.from(authentication).getId()));
+    }
+
+    // 내가 입찰한 경매(role=BIDDER, 최근 입찰 순) 또는 판매하는 경매(role=SELLER, 최근 등록 순)
+    @GetMapping("/me/auctions")
+    public ResponseEntity<Page<UserAuctionResponse>> getMyAuctions(Authentication authentication,
+                                                                   @RequestParam(defaultValue = "BIDDER") UserAuctionRole role,
+                                                                   @PageableDefault(size = 20) Pageable pageable) {
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        return ResponseEntity.ok(userAuctionIndex.find(AuthUser.from(authentication).getId(), role, pageable));
+    }
 }
@@ -0,0 +1,32 @@
+package io.github.suho149.realtime_auction.domain.user.dto;
+
+import io.github.suho149.realtime_auction.domain.user.entity.SellerStats;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 판매자 판매 현황 (내 판매 대시보드)
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class SellerStatsResponse {
+    private final long activeCount;
+    private final long soldCount;
+    private final long unsoldCount;
+    private final long grossWinningPrice;
+    private final Double averageBidsPerAuction; // 입찰 수를 아는 종료 경매 기준 (해당 경매가 없으면 null)
+
+    public static SellerStatsResponse from(SellerStats stats) {
+        return new SellerStatsResponse(
+                stats.getActiveCount(),
+                stats.getSoldCount(),
+                stats.getUnsoldCount(),
+                stats.getGrossWinningPrice(),
+                stats.getBidCountedAuctions() > 0 ? (double) stats.getTotalBids() / stats.getBidCountedAuctions() : null
+        );
+    }
+
+    // 아직 상품을 등록한 적 없는 판매자
+    public static SellerStatsResponse empty() {
+        return new SellerStatsResponse(0, 0, 0, 0, null);
+    }
+}
@@ -0,0 +1,15 @@
+package io.github.suho149.realtime_auction.domain.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 내 경매 목록의 항목 (입찰한 경매 또는 판매하는 경매)
+@Getter
+@AllArgsConstructor
+public class UserAuctionResponse {
+    private Long productId;
+    private String title;
+    private Long myLastBid;     // 입찰한 경매에서만: 내 마지막 입찰가
+    private Long currentPrice;  // 진행 중이면 최고 입찰가(없으면 시작가), 종료됐으면 낙찰가(유찰이면 null)
+    private UserAuctionStatus status;
+}
@@ -0,0 +1,7 @@
+package io.github.suho149.realtime_auction.domain.user.dto;
+
+// 내 경매 목록의 종류: 입찰한 경매 / 판매하는 경매
+public enum UserAuctionRole {
+    BIDDER,
+    SELLER
+}
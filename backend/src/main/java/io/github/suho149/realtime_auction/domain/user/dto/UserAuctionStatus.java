@@ -0,0 +1,12 @@
+package io.github.suho149.realtime_auction.domain.user.dto;
+
+public enum UserAuctionStatus {
+    LEADING,  // 입찰: 진행 중, 내가 최고 입찰자
+    OUTBID,   // 입찰: 진행 중, 다른 사용자가 더 높게 입찰
+    WON,      // 입찰: 종료, 낙찰
+    LOST,     // 입찰: 종료, 다른 사용자가 낙찰
+    SELLING,  // 판매: 진행 중
+    SOLD,     // 판매: 종료, 낙찰
+    UNSOLD,   // 판매: 종료, 유찰
+    ENDED     // 종료됐지만 결과 보관 기간이 지나 상세를 알 수 없음
+}
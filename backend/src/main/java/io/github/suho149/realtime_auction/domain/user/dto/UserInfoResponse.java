@@ -1,6 +1,5 @@
 package io.github.suho149.realtime_auction.domain.user.dto;
 
-import io.github.suho149.realtime_auction.domain.user.entity.User;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
@@ -11,7 +10,7 @@ public class UserInfoResponse {
     private String email;
     private String picture;
 
-    public UserInfoResponse(User user) {
+    public UserInfoResponse(UserProfile user) {
         this.name = user.getName();
         this.email = user.getEmail();
         this.picture = user.getPicture();
@@ -0,0 +1,19 @@
+package io.github.suho149.realtime_auction.domain.user.dto;
+
+import io.github.suho149.realtime_auction.domain.user.entity.User;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 캐시에 보관하는 사용자 정보 (엔티티를 영속성 컨텍스트 밖에서 들고 다니지 않도록 값만 복사)
+@Getter
+@AllArgsConstructor
+public class UserProfile {
+    private final Long id;
+    private final String name;
+    private final String email;
+    private final String picture;
+
+    public static UserProfile from(User user) {
+        return new UserProfile(user.getId(), user.getName(), user.getEmail(), user.getPicture());
+    }
+}
@@ -0,0 +1,38 @@
+package io.github.suho149.realtime_auction.domain.user.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 판매자별 판매 현황 요약. 상품 등록/경매 종료 트랜잭션에서 SellerStatsRepository.add로만 갱신한다 (조회 전용 엔티티)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "seller_stats")
+public class SellerStats {
+
+    @Id
+    private Long sellerId;
+
+    @Column(nullable = false)
+    private long activeCount;        // 진행 중(종료 처리 전) 경매 수
+
+    @Column(nullable = false)
+    private long soldCount;          // 낙찰된 경매 수
+
+    @Column(nullable = false)
+    private long unsoldCount;        // 유찰된 경매 수
+
+    @Column(nullable = false)
+    private long grossWinningPrice;  // 낙찰가 합계
+
+    @Column(nullable = false)
+    private long totalBids;          // 입찰 수를 아는 종료 경매들의 입찰 수 합계
+
+    @Column(nullable = false)
+    private long bidCountedAuctions; // 입찰 수를 아는 종료 경매 수 (도입 전 종료된 경매, Redis 유실 후 저널로 종료한 경매는 제외)
+}
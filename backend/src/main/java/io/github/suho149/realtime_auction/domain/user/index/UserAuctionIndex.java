@@ -0,0 +1,179 @@
+package io.github.suho149.realtime_auction.domain.user.index;
+
+import io.github.suho149.realtime_auction.domain.auction.event.BidPlacedEvent;
+import io.github.suho149.realtime_auction.domain.auction.store.AuctionRedisKeys;
+import io.github.suho149.realtime_auction.domain.product.event.ProductCreatedEvent;
+import io.github.suho149.realtime_auction.domain.user.dto.UserAuctionResponse;
+import io.github.suho149.realtime_auction.domain.user.dto.UserAuctionRole;
+import io.github.suho149.realtime_auction.domain.user.dto.UserAuctionStatus;
+import io.github.suho149.realtime_auction.global.redis.RedisBatch;
+import io.github.suho149.realtime_auction.global.redis.RedisStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 사용자별 "입찰한 경매"와 "판매하는 경매" 목록. 경매의 입찰자 집합(auction:{id}:bidders)은 사용자로 조회할 수 없고
+ * 종료 시 삭제되므로, 입찰/등록 시점에 사용자별 Sorted Set에 상품 ID를 따로 기록해 둔다.
+ *
+ * - 입찰 수락(BidPlacedEvent): 입찰한 경매 목록에 최근 입찰 순으로, 내 마지막 입찰가와 함께 기록
+ * - 상품 등록(커밋 후): 판매하는 경매 목록에 기록
+ * - 경매 종료(AuctionScheduler, 커밋 후): 경매별 결과(제목, 낙찰자, 낙찰가)를 result-ttl-ms 동안 보관. 경매 키가 지워진 뒤의 상태는 여기서 읽음
+ * 사용자별 목록은 최근 max-entries 건만 남기고, 마지막 기록 후 result-ttl-ms 가 지나면 만료된다 (결과도 그 뒤에는 남아있지 않음).
+ *
+ * 조회는 목록 한 페이지(ZREVRANGE + ZCARD)와 페이지에 든 경매들의 현재 상태를 각각 파이프라인 한 번으로 읽는다.
+ * 진행 중인 경매의 선두/추월 여부는 조회 시점의 최고 입찰자로 판단하므로, 추월될 때 이전 입찰자의 목록을 고칠 필요가 없다.
+ */
+@Slf4j
+@Component
+public class UserAuctionIndex {
+
+    // 입찰한 경매 목록/내 입찰가를 기록하고, 최근 ARGV[4]건을 넘는 오래된 항목은 두 키에서 함께 지운 뒤 만료 시간을 갱신
+    private static final RedisScript<Long> RECORD_BID_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('zadd', KEYS[1], ARGV[1], ARGV[2]) " +
+            "redis.call('hset', KEYS[2], ARGV[2], ARGV[3]) " +
+            "local overflow = redis.call('zcard', KEYS[1]) - tonumber(ARGV[4]) " +
+            "if overflow > 0 then " +
+            "  local oldest = redis.call('zrange', KEYS[1], 0, overflow - 1) " +
+            "  redis.call('zremrangebyrank', KEYS[1], 0, overflow - 1) " +
+            "  redis.call('hdel', KEYS[2], unpack(oldest)) " +
+            "end " +
+            "redis.call('pexpire', KEYS[1], ARGV[5]) " +
+            "redis.call('pexpire', KEYS[2], ARGV[5]) " +
+            "return overflow",
+            Long.class
+    );
+
+    private final RedisStore redisStore;
+    private final long resultTtlMs;
+    private final int maxEntries;
+
+    public UserAuctionIndex(RedisStore redisStore,
+                            @Value("${auction.user-auctions.result-ttl-ms:15552000000}") long resultTtlMs,
+                            @Value("${auction.user-auctions.max-entries:1000}") int maxEntries) {
+        this.redisStore = redisStore;
+        this.resultTtlMs = resultTtlMs;
+        this.maxEntries = maxEntries;
+    }
+
+    // 입찰 경로에서 동기 호출되므로 목록 갱신 실패가 이미 수락된 입찰 응답에 영향을 주지 않게 함
+    @EventListener
+    public void onBidPlaced(BidPlacedEvent event) {
+        try {
+            redisStore.execute(RECORD_BID_SCRIPT,
+                    List.of(UserAuctionKeys.bids(event.getBidderId()), UserAuctionKeys.bidAmounts(event.getBidderId())),
+                    String.valueOf(System.currentTimeMillis()), String.valueOf(event.getProductId()),
+                    String.valueOf(event.getBidAmount()), String.valueOf(maxEntries), String.valueOf(resultTtlMs));
+        } catch (Exception e) {
+            log.warn("사용자 입찰 목록 갱신 실패. 사용자 ID: {}, 상품 ID: {}, 원인: {}", event.getBidderId(), event.getProductId(), e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onProductCreated(ProductCreatedEvent event) {
+        String selling = UserAuctionKeys.selling(event.getSellerId());
+        redisStore.batch()
+                .addToSortedSet(selling, String.valueOf(event.getProductId()), System.currentTimeMillis())
+                .removeRangeByRank(selling, 0, -maxEntries - 1L)
+                .expire(selling, resultTtlMs)
+                .execute();
+    }
+
+    // 경매 종료 처리가 커밋된 뒤, Redis 경매 키를 지우기 전에 호출 (낙찰자가 없으면 winnerId, winningPrice 는 null)
+    public void recordClosed(long productId, String title, Long winnerId, Long winningPrice) {
+        Map<String, String> result = new LinkedHashMap<>();
+        result.put("title", title);
+        if (winnerId != null) {
+            result.put("winnerId", String.valueOf(winnerId));
+            result.put("winningPrice", String.valueOf(winningPrice));
+        }
+        redisStore.batch()
+                .putHashAll(AuctionRedisKeys.result(productId), result)
+                .expire(AuctionRedisKeys.result(productId), resultTtlMs)
+                .execute();
+    }
+
+    // 최근 입찰(등록) 순 한 페이지
+    @SuppressWarnings("unchecked")
+    public Page<UserAuctionResponse> find(long userId, UserAuctionRole role, Pageable pageable) {
+        String indexKey = (role == UserAuctionRole.BIDDER) ? UserAuctionKeys.bids(userId) : UserAuctionKeys.selling(userId);
+        List<Object> page = redisStore.batch()
+                .reverseRange(indexKey, pageable.getOffset(), pageable.getOffset() + pageable.getPageSize() - 1)
+                .sizeOfSortedSet(indexKey)
+                .execute();
+        Set<String> members = (Set<String>) page.get(0);
+        long total = (Long) page.get(1);
+        if (members == null || members.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, total);
+        }
+
+        // [내 마지막 입찰가들(입찰 목록만)] + 경매마다 [결과, 요약, 최고가, 최고 입찰자]
+        String[] productIds = members.toArray(String[]::new);
+        RedisBatch batch = redisStore.batch();
+        if (role == UserAuctionRole.BIDDER) {
+            batch.hashValues(UserAuctionKeys.bidAmounts(userId), productIds);
+        }
+        for (String productId : productIds) {
+            long id = Long.parseLong(productId);
+            batch.hashEntries(AuctionRedisKeys.result(id))
+                    .hashEntries(AuctionRedisKeys.summary(id))
+                    .get(AuctionRedisKeys.highestBid(id))
+                    .get(AuctionRedisKeys.highestBidder(id));
+        }
+        List<Object> results = batch.execute();
+
+        int offset = 0;
+        List<String> myBids = null;
+        if (role == UserAuctionRole.BIDDER) {
+            myBids = (List<String>) results.get(0);
+            offset = 1;
+        }
+        String user = String.valueOf(userId);
+        List<UserAuctionResponse> content = new ArrayList<>(productIds.length);
+        for (int i = 0; i < productIds.length; i++) {
+            int index = offset + i * 4;
+            Long myLastBid = (myBids != null && myBids.get(i) != null) ? Long.valueOf(myBids.get(i)) : null;
+            content.add(toResponse(Long.parseLong(productIds[i]), role, user, myLastBid,
+                    (Map<String, String>) results.get(index), (Map<String, String>) results.get(index + 1),
+                    (String) results.get(index + 2), (String) results.get(index + 3)));
+        }
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    private static UserAuctionResponse toResponse(long productId, UserAuctionRole role, String user, Long myLastBid,
+                                                  Map<String, String> result, Map<String, String> summary,
+                                                  String highestBid, String highestBidder) {
+        boolean bidder = role == UserAuctionRole.BIDDER;
+        if (result != null && !result.isEmpty()) {
+            String winningPrice = result.get("winningPrice");
+            UserAuctionStatus status = bidder
+                    ? (user.equals(result.get("winnerId")) ? UserAuctionStatus.WON : UserAuctionStatus.LOST)
+                    : (winningPrice != null ? UserAuctionStatus.SOLD : UserAuctionStatus.UNSOLD);
+            return new UserAuctionResponse(productId, result.get("title"), myLastBid,
+                    winningPrice != null ? Long.valueOf(winningPrice) : null, status);
+        }
+        if (summary != null && !summary.isEmpty()) {
+            UserAuctionStatus status = bidder
+                    ? (user.equals(highestBidder) ? UserAuctionStatus.LEADING : UserAuctionStatus.OUTBID)
+                    : UserAuctionStatus.SELLING;
+            return new UserAuctionResponse(productId, summary.get("title"), myLastBid,
+                    Long.valueOf(highestBid != null ? highestBid : summary.get("startingPrice")), status);
+        }
+        // 종료 결과의 보관 기간이 지났거나, 요약이 기록되기 전인 경우
+        return new UserAuctionResponse(productId, null, myLastBid, null, UserAuctionStatus.ENDED);
+    }
+}
@@ -0,0 +1,29 @@
+package io.github.suho149.realtime_auction.domain.user.index;
+
+/**
+ * 사용자별 경매 목록의 Redis 키 규칙. 한 사용자의 키들은 {userId} 해시 태그로 같은 슬롯에 둔다.
+ */
+final class UserAuctionKeys {
+
+    private UserAuctionKeys() {
+    }
+
+    // 입찰한 경매 (score: 마지막 입찰 시각 epoch millis)
+    static String bids(long userId) {
+        return prefix(userId) + ":bids";
+    }
+
+    // 입찰한 경매별 내 마지막 입찰가 (field: 상품 ID)
+    static String bidAmounts(long userId) {
+        return prefix(userId) + ":bids:amount";
+    }
+
+    // 판매하는 경매 (score: 등록 시각 epoch millis)
+    static String selling(long userId) {
+        return prefix(userId) + ":selling";
+    }
+
+    private static String prefix(long userId) {
+        return "user:{" + userId + "}";
+    }
+}
@@ -0,0 +1,24 @@
+package io.github.suho149.realtime_auction.domain.user.repository;
+
+import io.github.suho149.realtime_auction.domain.user.entity.SellerStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface SellerStatsRepository extends JpaRepository<SellerStats, Long> {
+
+    // 판매자 행이 없으면 만들고, 있으면 증감분을 더함 (행 잠금은 호출한 트랜잭션이 끝날 때까지 유지)
+    @Modifying
+    @Query(value = "INSERT INTO seller_stats " +
+            "(seller_id, active_count, sold_count, unsold_count, gross_winning_price, total_bids, bid_counted_auctions) " +
+            "VALUES (:sellerId, GREATEST(:active, 0), :sold, :unsold, :gross, :bids, :counted) " +
+            "ON DUPLICATE KEY UPDATE active_count = GREATEST(active_count + :active, 0), " +
+            "sold_count = sold_count + :sold, unsold_count = unsold_count + :unsold, " +
+            "gross_winning_price = gross_winning_price + :gross, total_bids = total_bids + :bids, " +
+            "bid_counted_auctions = bid_counted_auctions + :counted",
+            nativeQuery = true)
+    int add(@Param("sellerId") Long sellerId, @Param("active") long active, @Param("sold") long sold,
+            @Param("unsold") long unsold, @Param("gross") long grossWinningPrice,
+            @Param("bids") long bids, @Param("counted") long bidCountedAuctions);
+}
@@ -1,8 +1,10 @@
 package io.github.suho149.realtime_auction.domain.user.service;
 
 import io.github.suho149.realtime_auction.domain.user.dto.OAuthAttributes;
+import io.github.suho149.realtime_auction.domain.user.dto.UserProfile;
 import io.github.suho149.realtime_auction.domain.user.entity.User;
 import io.github.suho149.realtime_auction.domain.user.repository.UserRepository;
+import io.github.suho149.realtime_auction.global.jwt.AuthUser;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
@@ -15,12 +17,15 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 
 @RequiredArgsConstructor
 @Service
 @Transactional
 public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequest, OAuth2User> {
     private final UserRepository userRepository;
+    private final UserProfileCache userProfileCache;
 
     @Override
     public OAuth2User loadUser(OAuth2UserRequest userRequest) throws OAuth2AuthenticationException {
@@ -33,14 +38,21 @@ public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequ
         OAuthAttributes attributes = OAuthAttributes.of(registrationId, userNameAttributeName, oAuth2User.getAttributes());
 
         User user = saveOrUpdate(attributes);
+        // 로그인 시 바뀐 이름/사진을 이 노드 캐시에 바로 반영
+        userProfileCache.put(UserProfile.from(user));
+
+        // 토큰에 사용자 ID를 넣을 수 있도록 attribute에 함께 담아서 전달
+        Map<String, Object> principalAttributes = new HashMap<>(attributes.getAttributes());
+        principalAttributes.put(AuthUser.ID_ATTRIBUTE, user.getId());
 
         return new DefaultOAuth2User(
                 Collections.singleton(new SimpleGrantedAuthority(user.getRoleKey())),
-                attributes.getAttributes(),
+                principalAttributes,
                 "email" // 'name'으로 사용할 attribute key를 'email'로 명시
         );
     }
 
+    // 로그인할 때만 이메일로 조회 (users.email 유니크 인덱스 사용)
     private User saveOrUpdate(OAuthAttributes attributes) {
         User user = userRepository.findByEmail(attributes.getEmail())
                 .map(entity -> entity.update(attributes.getName(), attributes.getPicture()))
@@ -0,0 +1,21 @@
+package io.github.suho149.realtime_auction.domain.user.service;
+
+// 판매자 현황의 증감분. 같은 판매자의 변경을 합쳐서 한 번에 반영한다 (입찰 수를 모르는 종료 경매는 bids/bidCountedAuctions 를 더하지 않음)
+public record SellerStatsDelta(long active, long sold, long unsold, long grossWinningPrice, long bids, long bidCountedAuctions) {
+
+    public static SellerStatsDelta created(long count) {
+        return new SellerStatsDelta(count, 0, 0, 0, 0, 0);
+    }
+
+    // 낙찰가가 없으면 유찰. bidCount가 null이면 입찰 수를 모르는 경매
+    public static SellerStatsDelta closed(Long winningPrice, Long bidCount) {
+        boolean sold = winningPrice != null;
+        return new SellerStatsDelta(-1, sold ? 1 : 0, sold ? 0 : 1, sold ? winningPrice : 0,
+                bidCount != null ? bidCount : 0, bidCount != null ? 1 : 0);
+    }
+
+    public SellerStatsDelta plus(SellerStatsDelta other) {
+        return new SellerStatsDelta(active + other.active, sold + other.sold, unsold + other.unsold,
+                grossWinningPrice + other.grossWinningPrice, bids + other.bids, bidCountedAuctions + other.bidCountedAuctions);
+    }
+}
@@ -0,0 +1,43 @@
+package io.github.suho149.realtime_auction.domain.user.service;
+
+import io.github.suho149.realtime_auction.domain.user.dto.SellerStatsResponse;
+import io.github.suho149.realtime_auction.domain.user.repository.SellerStatsRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 판매자별 판매 현황. 상품 등록과 경매 종료 시점에 증감분을 seller_stats 행에 더해 두고,
+ * 조회는 판매자 ID(기본 키)로 한 행만 읽는다 (상품/아카이브 이력을 집계하지 않음).
+ *
+ * 반영은 호출한 트랜잭션 안에서 하므로 상품 등록/경매 종료와 함께 커밋되거나 롤백된다.
+ */
+@Service
+@RequiredArgsConstructor
+public class SellerStatsService {
+
+    private final SellerStatsRepository sellerStatsRepository;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void apply(Long sellerId, SellerStatsDelta delta) {
+        sellerStatsRepository.add(sellerId, delta.active(), delta.sold(), delta.unsold(),
+                delta.grossWinningPrice(), delta.bids(), delta.bidCountedAuctions());
+    }
+
+    // 여러 판매자를 한 트랜잭션에서 갱신할 때는 판매자 ID 순으로 (동시에 실행되는 트랜잭션끼리 행 잠금 순서를 맞춰 교착 방지)
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void applyAll(Map<Long, SellerStatsDelta> deltas) {
+        new TreeMap<>(deltas).forEach(this::apply);
+    }
+
+    @Transactional(readOnly = true)
+    public SellerStatsResponse get(Long sellerId) {
+        return sellerStatsRepository.findById(sellerId)
+                .map(SellerStatsResponse::from)
+                .orElseGet(SellerStatsResponse::empty);
+    }
+}
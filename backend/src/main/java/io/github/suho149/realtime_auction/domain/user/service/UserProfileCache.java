@@ -0,0 +1,74 @@
+package io.github.suho149.realtime_auction.domain.user.service;
+
+import io.github.suho149.realtime_auction.domain.user.dto.UserProfile;
+import io.github.suho149.realtime_auction.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 사용자 ID -> 이름/이메일/프로필 사진 캐시. 최대 크기를 넘으면 가장 오래 사용하지 않은 항목부터 버린다 (LRU).
+ * 이름과 사진은 로그인할 때만 바뀌므로, 로그인한 노드는 바로 갱신하고 다른 노드는 TTL이 지나면 다시 읽는다.
+ */
+@Component
+public class UserProfileCache {
+
+    private final UserRepository userRepository;
+    private final long ttlMs;
+    // 접근 순서로 정렬되는 LinkedHashMap (get도 순서를 바꾸므로 모든 접근은 synchronized)
+    private final LinkedHashMap<Long, CachedProfile> profiles;
+
+    public UserProfileCache(UserRepository userRepository,
+                            @Value("${user.profile-cache.max-size:10000}") int maxSize,
+                            @Value("${user.profile-cache.ttl-ms:300000}") long ttlMs) {
+        this.userRepository = userRepository;
+        this.ttlMs = ttlMs;
+        this.profiles = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedProfile> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    // 없는 사용자(탈퇴 등)면 null. 없는 사용자는 캐시하지 않음
+    public UserProfile get(long userId) {
+        long now = System.currentTimeMillis();
+        synchronized (profiles) {
+            CachedProfile cached = profiles.get(userId);
+            if (cached != null && cached.expiresAt > now) {
+                return cached.profile;
+            }
+        }
+
+        // DB 조회는 락 밖에서 (같은 사용자를 동시에 조회하면 중복 조회될 수 있지만 결과는 같음)
+        UserProfile profile = userRepository.findById(userId).map(UserProfile::from).orElse(null);
+        if (profile != null) {
+            put(profile);
+        }
+        return profile;
+    }
+
+    public void put(UserProfile profile) {
+        synchronized (profiles) {
+            profiles.put(profile.getId(), new CachedProfile(profile, System.currentTimeMillis() + ttlMs));
+        }
+    }
+
+    public void evict(long userId) {
+        synchronized (profiles) {
+            profiles.remove(userId);
+        }
+    }
+
+    public int size() {
+        synchronized (profiles) {
+            return profiles.size();
+        }
+    }
+
+    private record CachedProfile(UserProfile profile, long expiresAt) {
+    }
+}
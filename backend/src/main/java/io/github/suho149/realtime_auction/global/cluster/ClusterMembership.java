@@ -0,0 +1,133 @@
+package io.github.suho149.realtime_auction.global.cluster;
+
+import io.github.suho149.realtime_auction.global.redis.RedisStore;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis에 기록한 하트비트로 살아 있는 노드 목록을 유지하고, 그 목록으로 만든 consistent hash ring으로 키(상품 ID)의 소유 노드를 정한다.
+ *
+ * 각 노드는 heartbeat-interval-ms 마다 Sorted Set(score: 마지막 하트비트 시각)에 자기 ID를 기록하고,
+ * node-ttl-ms 동안 하트비트가 없는 노드는 목록에서 뺀다. 정상 종료하는 노드는 바로 빠진다.
+ * 목록이 바뀌면 링을 다시 만들고 ClusterMembershipChangedEvent를 발행한다.
+ * 하트비트는 다른 @Scheduled 작업(경매 종료 등)이 길어져도 밀리지 않도록 전용 스레드에서 실행한다.
+ *
+ * 노드마다 목록을 읽는 시점이 달라서 변경 직후 하트비트 한 주기 정도는 노드 간 소유 판단이 다를 수 있다.
+ * 소유 노드에서 처리하는 쪽도 이를 전제로 Redis 갱신을 조건부로 해야 한다. (AuctionService의 입찰 기록 스크립트)
+ */
+@Slf4j
+@Component
+public class ClusterMembership {
+
+    static final String NODES_KEY = "cluster:nodes";
+
+    private final RedisStore redisStore;
+    private final ApplicationEventPublisher eventPublisher;
+    private final String nodeId;
+    private final long nodeTtlMs;
+    private final long heartbeatIntervalMs;
+    private final int virtualNodes;
+
+    // 첫 하트비트 전(또는 Redis에 닿지 못하는 동안 처음부터)에는 혼자인 것으로 보고 모든 키를 직접 처리
+    private volatile ConsistentHashRing ring;
+    private ScheduledExecutorService heartbeater;
+
+    public ClusterMembership(RedisStore redisStore,
+                             ApplicationEventPublisher eventPublisher,
+                             NodeIdentity nodeIdentity,
+                             @Value("${auction.cluster.node-ttl-ms:5000}") long nodeTtlMs,
+                             @Value("${auction.cluster.heartbeat-interval-ms:1000}") long heartbeatIntervalMs,
+                             @Value("${auction.cluster.virtual-nodes:128}") int virtualNodes) {
+        this.redisStore = redisStore;
+        this.eventPublisher = eventPublisher;
+        this.nodeId = nodeIdentity.getId();
+        this.nodeTtlMs = nodeTtlMs;
+        this.heartbeatIntervalMs = heartbeatIntervalMs;
+        this.virtualNodes = virtualNodes;
+        this.ring = ConsistentHashRing.of(List.of(nodeId), virtualNodes);
+    }
+
+    @PostConstruct
+    public void start() {
+        heartbeater = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cluster-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        heartbeater.scheduleAtFixedRate(this::heartbeat, 0, heartbeatIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    public void heartbeat() {
+        long now = System.currentTimeMillis();
+        try {
+            List<Object> results = redisStore.batch()
+                    .addToSortedSet(NODES_KEY, nodeId, now)
+                    .removeRangeByScore(NODES_KEY, Double.NEGATIVE_INFINITY, now - nodeTtlMs)
+                    .rangeByScore(NODES_KEY, now - nodeTtlMs, Double.POSITIVE_INFINITY)
+                    .execute();
+            @SuppressWarnings("unchecked")
+            Set<String> liveNodes = (Set<String>) results.get(2);
+            update(liveNodes);
+        } catch (Exception e) {
+            // 다음 주기에 다시 시도 (그동안은 마지막으로 알던 목록 사용)
+            log.warn("클러스터 하트비트 실패: {}", e.getMessage());
+        }
+    }
+
+    // 정상 종료 시 바로 목록에서 빠져서 다른 노드가 TTL을 기다리지 않고 소유권을 넘겨받게 함
+    @PreDestroy
+    public void leave() {
+        if (heartbeater != null) {
+            // 진행 중인 하트비트가 탈퇴 기록 뒤에 다시 등록하지 않도록 끝날 때까지 기다림
+            heartbeater.shutdown();
+            try {
+                heartbeater.awaitTermination(heartbeatIntervalMs, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        try {
+            redisStore.batch().removeFromSortedSet(NODES_KEY, nodeId).execute();
+        } catch (Exception e) {
+            log.warn("클러스터 탈퇴 기록 실패: {}", e.getMessage());
+        }
+    }
+
+    // 키를 소유한 노드 ID
+    public String ownerOf(long key) {
+        String owner = ring.ownerOf(key);
+        return (owner != null) ? owner : nodeId;
+    }
+
+    public boolean isLocal(String node) {
+        return nodeId.equals(node);
+    }
+
+    public String localNodeId() {
+        return nodeId;
+    }
+
+    public Set<String> nodes() {
+        return ring.nodes();
+    }
+
+    void update(Set<String> liveNodes) {
+        ConsistentHashRing current = ring;
+        if (liveNodes == null || liveNodes.isEmpty() || liveNodes.equals(current.nodes())) {
+            return;
+        }
+        ring = ConsistentHashRing.of(liveNodes, virtualNodes);
+        log.info("클러스터 노드 변경 - 이전: {}, 현재: {}", current.nodes(), liveNodes);
+        eventPublisher.publishEvent(new ClusterMembershipChangedEvent(current.nodes(), Set.copyOf(liveNodes)));
+    }
+}
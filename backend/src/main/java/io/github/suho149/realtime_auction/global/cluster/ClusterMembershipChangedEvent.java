@@ -0,0 +1,14 @@
+package io.github.suho149.realtime_auction.global.cluster;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Set;
+
+// 살아 있는 노드 목록이 바뀌어 consistent hash ring을 다시 만들었을 때 발행
+@Getter
+@AllArgsConstructor
+public class ClusterMembershipChangedEvent {
+    private final Set<String> previousNodes;
+    private final Set<String> currentNodes;
+}
@@ -0,0 +1,93 @@
+package io.github.suho149.realtime_auction.global.cluster;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 노드 ID 목록으로 만든 불변 consistent hash ring.
+ * 노드마다 virtualNodes 개의 위치를 링에 두고, 키는 해시 위치에서 시계 방향으로 처음 만나는 노드가 소유한다.
+ * 노드가 들어오거나 나가도 그 노드가 맡는(맡던) 구간의 키만 주인이 바뀐다.
+ *
+ * 같은 노드 목록이면 어느 서버에서 만들어도 같은 링이 되도록 해시는 JVM에 의존하지 않는 값(FNV-1a + fmix64)을 사용한다.
+ */
+public final class ConsistentHashRing {
+
+    private static final ConsistentHashRing EMPTY = new ConsistentHashRing(Set.of(), new long[0], new String[0]);
+
+    private final Set<String> nodes;
+    private final long[] positions; // 오름차순
+    private final String[] owners;  // positions[i] 위치의 노드
+
+    private ConsistentHashRing(Set<String> nodes, long[] positions, String[] owners) {
+        this.nodes = nodes;
+        this.positions = positions;
+        this.owners = owners;
+    }
+
+    public static ConsistentHashRing of(Collection<String> nodes, int virtualNodes) {
+        if (nodes.isEmpty()) {
+            return EMPTY;
+        }
+        Set<String> sortedNodes = new TreeSet<>(nodes);
+        VirtualNode[] virtual = new VirtualNode[sortedNodes.size() * virtualNodes];
+        int i = 0;
+        for (String node : sortedNodes) {
+            for (int replica = 0; replica < virtualNodes; replica++) {
+                virtual[i++] = new VirtualNode(hash(node + "#" + replica), node);
+            }
+        }
+        // 위치가 겹치면 노드 ID 순으로 (모든 서버에서 같은 결과)
+        Arrays.sort(virtual, Comparator.comparingLong(VirtualNode::position).thenComparing(VirtualNode::node));
+
+        long[] positions = new long[virtual.length];
+        String[] owners = new String[virtual.length];
+        for (int j = 0; j < virtual.length; j++) {
+            positions[j] = virtual[j].position();
+            owners[j] = virtual[j].node();
+        }
+        return new ConsistentHashRing(Set.copyOf(sortedNodes), positions, owners);
+    }
+
+    // 키를 소유한 노드. 링이 비어 있으면 null
+    public String ownerOf(long key) {
+        if (positions.length == 0) {
+            return null;
+        }
+        int index = Arrays.binarySearch(positions, mix(key));
+        if (index < 0) {
+            index = -index - 1; // 키보다 큰 첫 위치
+        }
+        return owners[index == positions.length ? 0 : index];
+    }
+
+    public Set<String> nodes() {
+        return nodes;
+    }
+
+    private static long hash(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b & 0xff;
+            h *= 0x100000001b3L;
+        }
+        return mix(h);
+    }
+
+    // MurmurHash3 fmix64: 연속된 키(상품 ID)가 링의 한 구간에 몰리지 않도록 섞음
+    private static long mix(long key) {
+        long h = key;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private record VirtualNode(long position, String node) {
+    }
+}
@@ -0,0 +1,24 @@
+package io.github.suho149.realtime_auction.global.cluster;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * 여러 서버 노드가 Redis 등 공유 저장소에 노드별 값을 남길 때 사용하는 식별자.
+ * auction.node-id 를 지정하지 않으면 기동할 때마다 새로운 값을 만든다.
+ */
+@Component
+public class NodeIdentity {
+
+    private final String id;
+
+    public NodeIdentity(@Value("${auction.node-id:}") String configuredId) {
+        this.id = configuredId.isBlank() ? UUID.randomUUID().toString().substring(0, 8) : configuredId;
+    }
+
+    public String getId() {
+        return id;
+    }
+}
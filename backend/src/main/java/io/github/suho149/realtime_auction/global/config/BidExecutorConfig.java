@@ -0,0 +1,26 @@
+package io.github.suho149.realtime_auction.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class BidExecutorConfig {
+
+    // REST 입찰 API용 전용 스레드 풀. 입찰이 락/Redis를 기다리는 동안 서블릿 스레드를 점유하지 않도록 분리
+    // 다른 노드에서 전달받은 입찰(BidForwarder)도 여기서 처리
+    @Bean
+    public ThreadPoolTaskExecutor bidExecutor(@Value("${auction.bid-executor.core-size:8}") int coreSize,
+                                              @Value("${auction.bid-executor.max-size:32}") int maxSize,
+                                              @Value("${auction.bid-executor.queue-capacity:1000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("bid-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,64 @@
+package io.github.suho149.realtime_auction.global.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.github.suho149.realtime_auction.global.datasource.ReplicaLagMonitor;
+import io.github.suho149.realtime_auction.global.datasource.ReplicaRoutingDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 읽기 복제본 라우팅. auction.datasource.replica-urls 에 복제본 JDBC URL을 지정했을 때만 활성화되고,
+ * 지정하지 않으면 Spring Boot 기본 DataSource(spring.datasource.*) 하나만 사용한다.
+ * 복제본 접속 계정과 드라이버는 primary(spring.datasource.*)와 같다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "auction.datasource", name = "replica-urls")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(DataSourceProperties properties,
+                                                             @Value("${auction.datasource.replica-urls}") List<String> replicaUrls) {
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        primary.setPoolName("primary");
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (String url : replicaUrls) {
+            if (url.isBlank()) {
+                continue;
+            }
+            HikariDataSource replica = properties.initializeDataSourceBuilder()
+                    .type(HikariDataSource.class)
+                    .url(url.trim())
+                    .build();
+            String key = "replica-" + (replicas.size() + 1);
+            replica.setPoolName(key);
+            replica.setReadOnly(true);
+            replicas.put(key, replica);
+        }
+        return new ReplicaRoutingDataSource(primary, replicas);
+    }
+
+    // JPA/JdbcTemplate가 사용하는 DataSource. 트랜잭션의 readOnly 여부가 정해진 뒤(첫 쿼리 시점)에 대상을 고르도록 지연 프록시로 감쌈
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(ReplicaRoutingDataSource replicaRoutingDataSource,
+                                               @Value("${auction.datasource.max-lag-ms:1000}") long maxLagMs,
+                                               @Value("${auction.datasource.lag-query-timeout-seconds:1}") int queryTimeoutSeconds) {
+        return new ReplicaLagMonitor(replicaRoutingDataSource, maxLagMs, queryTimeoutSeconds);
+    }
+}
@@ -0,0 +1,34 @@
+package io.github.suho149.realtime_auction.global.config;
+
+import io.github.suho149.realtime_auction.domain.auction.cluster.BidForwarder;
+import io.github.suho149.realtime_auction.domain.product.search.ProductSearchIndexSync;
+import io.github.suho149.realtime_auction.global.jwt.TokenDenylist;
+import io.github.suho149.realtime_auction.global.websocket.UserMessageRelay;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.List;
+
+@Configuration
+public class RedisPubSubConfig {
+
+    // 노드 간 메시지 중계용 Redis Pub/Sub 구독 컨테이너
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                       UserMessageRelay userMessageRelay,
+                                                                       ProductSearchIndexSync productSearchIndexSync,
+                                                                       TokenDenylist tokenDenylist,
+                                                                       BidForwarder bidForwarder) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(userMessageRelay, new ChannelTopic(UserMessageRelay.CHANNEL));
+        container.addMessageListener(productSearchIndexSync, new ChannelTopic(ProductSearchIndexSync.CHANNEL));
+        container.addMessageListener(tokenDenylist, new ChannelTopic(TokenDenylist.CHANNEL));
+        // 입찰 전달은 노드별 채널 (자기 노드로 온 요청과 응답만 받음)
+        container.addMessageListener(bidForwarder, List.of(new ChannelTopic(bidForwarder.requestChannel()), new ChannelTopic(bidForwarder.replyChannel())));
+        return container;
+    }
+}
@@ -4,6 +4,7 @@ import io.github.suho149.realtime_auction.domain.user.service.CustomOAuth2UserSe
 import io.github.suho149.realtime_auction.global.handler.CustomAuthenticationEntryPoint;
 import io.github.suho149.realtime_auction.global.handler.OAuth2LoginSuccessHandler;
 import io.github.suho149.realtime_auction.global.jwt.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -65,10 +66,13 @@ public class SecurityConfig {
 
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
+                        // 비동기 응답(CompletableFuture) 완료 시의 ASYNC 디스패치는 최초 요청에서 이미 인증됨
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         // 상품 목록 조회는 인증 없이도 가능하도록 변경
                         .requestMatchers(HttpMethod.GET, "/api/v1/products", "/api/v1/products/**").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/v1/auctions/hot", "/api/v1/auctions/ending-soon").permitAll()
                         .requestMatchers("/", "/login", "/oauth2/**", "/api/v1/auth/reissue").permitAll()
-                        .requestMatchers("/ws/**").permitAll() // WebSocket 경로 허용 추가
+                        .requestMatchers("/ws/**", "/ws-native").permitAll() // WebSocket 경로 허용 추가 (인증은 STOMP CONNECT에서)
                         .anyRequest().authenticated()
                 )
                 .oauth2Login(oauth2 -> oauth2
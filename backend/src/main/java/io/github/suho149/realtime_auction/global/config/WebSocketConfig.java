@@ -1,25 +1,48 @@
 package io.github.suho149.realtime_auction.global.config;
 
 import io.github.suho149.realtime_auction.global.handler.StompHandler;
-import lombok.RequiredArgsConstructor;
+import io.github.suho149.realtime_auction.global.websocket.ExactDestinationSubscriptionRegistry;
+import io.github.suho149.realtime_auction.global.websocket.SlowConsumerGuard;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
 
 @Configuration
 @EnableWebSocketMessageBroker // WebSocket 메시지 브로커 활성화
-@RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final StompHandler stompHandler;
+    private final SlowConsumerGuard slowConsumerGuard;
+    private final int sendTimeLimitMs;
+    private final int sendBufferSizeLimit;
+
+    public WebSocketConfig(StompHandler stompHandler,
+                           SlowConsumerGuard slowConsumerGuard,
+                           @Value("${auction.websocket.send-time-limit-ms:5000}") int sendTimeLimitMs,
+                           @Value("${auction.websocket.send-buffer-size-limit:65536}") int sendBufferSizeLimit) {
+        this.stompHandler = stompHandler;
+        this.slowConsumerGuard = slowConsumerGuard;
+        this.sendTimeLimitMs = sendTimeLimitMs;
+        this.sendBufferSizeLimit = sendBufferSizeLimit;
+    }
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
         // 클라이언트에게 메시지를 보낼 때 사용할 prefix (구독 경로)
-        registry.enableSimpleBroker("/topic");
+        // /queue 는 /user/queue/... 형태의 사용자별 목적지에 사용
+        registry.enableSimpleBroker("/topic", "/queue");
         // 클라이언트에서 서버로 메시지를 보낼 때 사용할 prefix (발행 경로)
         registry.setApplicationDestinationPrefixes("/app");
     }
@@ -30,6 +53,9 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         registry.addEndpoint("/ws")
                 .setAllowedOrigins("http://localhost:3000") // 프론트엔드 출처 허용
                 .withSockJS(); // 브라우저 호환성을 위한 SockJS 사용
+        // SockJS 없이 WebSocket으로 바로 연결하는 엔드포인트 (SockJS 프레임/JSON 이스케이프 없음, 바이너리 프레임 가능)
+        registry.addEndpoint("/ws-native")
+                .setAllowedOrigins("http://localhost:3000");
     }
 
     // 클라이언트 인바운드 채널에 인터셉터 등록
@@ -37,4 +63,51 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     public void configureClientInboundChannel(ChannelRegistration registration) {
         registration.interceptors(stompHandler);
     }
+
+    // 클라이언트 아웃바운드 채널: 느린 세션으로 가는 경매 토픽 메시지는 최신 것만 남김
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.interceptors(slowConsumerGuard);
+    }
+
+    // 세션별 전송 제한. 상태 메시지가 수백 바이트라 버퍼 한도를 낮춰도 정상 세션에는 영향이 없고,
+    // 한도(시간/크기)를 넘을 만큼 받지 못하는 세션은 연결을 끊어서 다른 세션 전송을 막지 않게 함
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendTimeLimit(sendTimeLimitMs);
+        registration.setSendBufferSizeLimit(sendBufferSizeLimit);
+        registration.addDecoratorFactory(handler -> new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                super.afterConnectionEstablished(slowConsumerGuard.track(session));
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                slowConsumerGuard.untrack(session.getId());
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        });
+    }
+
+    // Simple Broker의 구독 저장소 (전송 전에 구독 여부를 확인할 수 있도록 빈으로 등록)
+    @Bean
+    public static ExactDestinationSubscriptionRegistry exactDestinationSubscriptionRegistry() {
+        return new ExactDestinationSubscriptionRegistry();
+    }
+
+    // Simple Broker의 구독 저장소를 목적지별 색인으로 교체 (MessageBrokerRegistry에는 설정 방법이 없어서 빈 후처리로)
+    // 설정 클래스의 다른 의존성보다 먼저 만들어지므로 static
+    @Bean
+    public static BeanPostProcessor subscriptionRegistryPostProcessor(ObjectProvider<ExactDestinationSubscriptionRegistry> subscriptionRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof SimpleBrokerMessageHandler brokerHandler) {
+                    brokerHandler.setSubscriptionRegistry(subscriptionRegistry.getObject());
+                }
+                return bean;
+            }
+        };
+    }
 }
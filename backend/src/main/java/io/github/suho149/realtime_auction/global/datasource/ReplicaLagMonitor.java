@@ -0,0 +1,102 @@
+package io.github.suho149.realtime_auction.global.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 복제본 지연을 하트비트로 측정해서 라우팅 대상 복제본 목록을 갱신한다.
+ *
+ * primary의 replication_heartbeat 행에 DB 시각(ms)을 주기적으로 기록하고, 각 복제본에서 같은 행을 읽어
+ * "복제본의 현재 시각 - 복제된 하트비트 시각"을 지연으로 본다. (SHOW SLAVE STATUS와 달리 권한이 필요 없고 ms 단위)
+ * 지연이 기준을 넘거나, 하트비트가 없거나, 접속할 수 없는 복제본은 다음 측정까지 읽기 대상에서 빠진다.
+ * 측정을 시작한 시각에서 읽기 대상 중 가장 큰 지연을 뺀 시각을 "모든 읽기 대상 복제본에 반영된 커밋 시각"으로 함께 알린다.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    static final String CREATE_TABLE_SQL =
+            "CREATE TABLE IF NOT EXISTS replication_heartbeat (id INT PRIMARY KEY, beat_at BIGINT NOT NULL)";
+    static final String BEAT_SQL =
+            "INSERT INTO replication_heartbeat (id, beat_at) VALUES (1, ROUND(UNIX_TIMESTAMP(NOW(3)) * 1000)) " +
+            "ON DUPLICATE KEY UPDATE beat_at = VALUES(beat_at)";
+    static final String LAG_SQL =
+            "SELECT ROUND(UNIX_TIMESTAMP(NOW(3)) * 1000) - beat_at FROM replication_heartbeat WHERE id = 1";
+
+    private final ReplicaRoutingDataSource routingDataSource;
+    private final JdbcTemplate primary;
+    private final Map<String, JdbcTemplate> replicas = new LinkedHashMap<>();
+    private final long maxLagMs;
+    private volatile boolean tableReady;
+
+    public ReplicaLagMonitor(ReplicaRoutingDataSource routingDataSource, long maxLagMs, int queryTimeoutSeconds) {
+        this.routingDataSource = routingDataSource;
+        this.maxLagMs = maxLagMs;
+        this.primary = jdbcTemplate(routingDataSource.primary(), queryTimeoutSeconds);
+        routingDataSource.replicas().forEach((key, dataSource) -> replicas.put(key, jdbcTemplate(dataSource, queryTimeoutSeconds)));
+    }
+
+    @Scheduled(fixedDelayString = "${auction.datasource.lag-check-interval-ms:1000}")
+    public void check() {
+        beat();
+
+        long measuredAt = System.currentTimeMillis();
+        Map<String, Long> lags = new LinkedHashMap<>();
+        replicas.forEach((key, replica) -> lags.put(key, measureLag(key, replica)));
+        apply(lags, measuredAt);
+    }
+
+    // 지연(ms, 측정 실패 시 null)으로 읽기 대상 복제본을 정하고 변화가 있으면 기록
+    void apply(Map<String, Long> lags, long measuredAt) {
+        List<String> healthy = new ArrayList<>();
+        long maxHealthyLag = 0L;
+        for (Map.Entry<String, Long> entry : lags.entrySet()) {
+            Long lag = entry.getValue();
+            if (lag != null && lag <= maxLagMs) {
+                healthy.add(entry.getKey());
+                maxHealthyLag = Math.max(maxHealthyLag, lag);
+            }
+        }
+
+        List<String> previous = routingDataSource.healthyReplicas();
+        if (!previous.equals(healthy)) {
+            log.warn("읽기 복제본 변경: {} -> {} (지연 ms: {}, 기준: {}ms)", previous, healthy, lags, maxLagMs);
+        }
+        routingDataSource.updateHealthyReplicas(healthy, measuredAt - maxHealthyLag);
+    }
+
+    private void beat() {
+        try {
+            if (!tableReady) {
+                primary.execute(CREATE_TABLE_SQL);
+                tableReady = true;
+            }
+            primary.update(BEAT_SQL);
+        } catch (Exception e) {
+            // 하트비트가 멈추면 복제본 지연이 계속 늘어나 모두 제외되므로 primary로만 읽게 됨
+            log.warn("복제 하트비트 기록 실패: {}", e.getMessage());
+        }
+    }
+
+    private Long measureLag(String key, JdbcTemplate replica) {
+        try {
+            List<Long> lag = replica.queryForList(LAG_SQL, Long.class);
+            return lag.isEmpty() ? null : lag.get(0);
+        } catch (Exception e) {
+            log.debug("복제본 지연 측정 실패 - {}: {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    private static JdbcTemplate jdbcTemplate(DataSource dataSource, int queryTimeoutSeconds) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.setQueryTimeout(queryTimeoutSeconds);
+        return jdbcTemplate;
+    }
+}
@@ -0,0 +1,114 @@
+package io.github.suho149.realtime_auction.global.datasource;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * readOnly 트랜잭션은 복제본(replica)으로, 나머지는 primary로 보내는 DataSource.
+ * 복제본은 ReplicaLagMonitor가 지연이 기준 이하라고 판단한 것만 돌아가며 사용하고, 하나도 없으면 primary를 사용한다.
+ *
+ * 트랜잭션의 readOnly 여부는 트랜잭션 시작 이후에 정해지므로, 실제 커넥션을 첫 쿼리 시점에 얻도록
+ * LazyConnectionDataSourceProxy로 감싸서 사용해야 한다 (DataSourceRoutingConfig).
+ *
+ * 특정 시각 이전의 커밋을 반드시 봐야 하는 읽기는 readCommittedBefore로 감싼다. 복제본이 그 시각까지 따라잡았으면
+ * 그대로 복제본에서, 아니면 그 읽기만 primary에서 읽는다 (readOnly 트랜잭션은 그대로 유지).
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    public static final String PRIMARY = "primary";
+
+    // readCommittedBefore 안에서 반드시 보여야 하는 커밋 시각
+    private static final ThreadLocal<Long> REQUIRED_COMMIT_TIME = new ThreadLocal<>();
+
+    private final DataSource primary;
+    private final Map<String, DataSource> replicas;
+    private final AtomicInteger next = new AtomicInteger();
+    private volatile Replication replication = new Replication(List.of(), Long.MIN_VALUE);
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas) {
+        this.primary = primary;
+        this.replicas = new LinkedHashMap<>(replicas);
+
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+        Replication current = replication;
+        if (current.healthy().isEmpty()) {
+            return PRIMARY;
+        }
+        Long requiredCommitTime = REQUIRED_COMMIT_TIME.get();
+        if (requiredCommitTime != null && requiredCommitTime > current.replicatedUntil()) {
+            return PRIMARY;
+        }
+        return current.healthy().get(Math.floorMod(next.getAndIncrement(), current.healthy().size()));
+    }
+
+    // committedBefore(epoch ms) 이전에 커밋된 데이터가 보장되어야 하는 읽기. 복제본 라우팅이 없으면 그냥 실행됨
+    public static <T> T readCommittedBefore(long committedBefore, Supplier<T> reader) {
+        Long previous = REQUIRED_COMMIT_TIME.get();
+        REQUIRED_COMMIT_TIME.set(previous != null ? Math.max(previous, committedBefore) : committedBefore);
+        try {
+            return reader.get();
+        } finally {
+            if (previous != null) {
+                REQUIRED_COMMIT_TIME.set(previous);
+            } else {
+                REQUIRED_COMMIT_TIME.remove();
+            }
+        }
+    }
+
+    // 지연 감시 결과 반영 (읽기 요청은 이 목록 안에서 라운드로빈)
+    // replicatedUntil: 이 시각(epoch ms) 이전의 커밋은 목록의 모든 복제본에 반영되어 있음
+    public void updateHealthyReplicas(List<String> replicaKeys, long replicatedUntil) {
+        replication = new Replication(List.copyOf(replicaKeys), replicatedUntil);
+    }
+
+    public List<String> healthyReplicas() {
+        return replication.healthy();
+    }
+
+    public DataSource primary() {
+        return primary;
+    }
+
+    public Map<String, DataSource> replicas() {
+        return replicas;
+    }
+
+    // 커넥션 풀 종료 (풀은 빈이 아니라 이 DataSource가 직접 소유)
+    @Override
+    public void destroy() throws Exception {
+        for (DataSource replica : replicas.values()) {
+            close(replica);
+        }
+        close(primary);
+    }
+
+    private record Replication(List<String> healthy, long replicatedUntil) {
+    }
+
+    private static void close(DataSource dataSource) throws Exception {
+        if (dataSource instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
@@ -1,12 +1,14 @@
 package io.github.suho149.realtime_auction.global.error;
 
 import io.github.suho149.realtime_auction.global.error.dto.ErrorResponse;
+import io.github.suho149.realtime_auction.global.error.exception.InvalidRequestException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 
 @RestControllerAdvice
@@ -24,5 +26,19 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
     }
 
+    // 존재하지 않는 상품 등 잘못된 요청 값 (내부 오류의 IllegalArgumentException은 400으로 바꾸지 않음)
+    @ExceptionHandler(InvalidRequestException.class)
+    protected ResponseEntity<ErrorResponse> handleInvalidRequestException(InvalidRequestException e) {
+        final ErrorResponse response = new ErrorResponse("INVALID_REQUEST", e.getMessage());
+        return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+    }
+
+    // 입찰 스레드 풀 대기열이 가득 찬 경우
+    @ExceptionHandler(RejectedExecutionException.class)
+    protected ResponseEntity<ErrorResponse> handleRejectedExecutionException(RejectedExecutionException e) {
+        final ErrorResponse response = new ErrorResponse("TOO_MANY_REQUESTS", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        return new ResponseEntity<>(response, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
     // TODO: 다른 커스텀 예외들도 여기에 추가 (예: UserNotFoundException)
 }
@@ -0,0 +1,9 @@
+package io.github.suho149.realtime_auction.global.error.exception;
+
+// 존재하지 않는 상품, 지원하지 않는 형식 등 클라이언트 요청 값이 잘못된 경우 (400 응답)
+// 내부 오류로 발생한 IllegalArgumentException과 구분하기 위해 요청을 검증하는 곳에서만 사용한다
+public class InvalidRequestException extends IllegalArgumentException {
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+}
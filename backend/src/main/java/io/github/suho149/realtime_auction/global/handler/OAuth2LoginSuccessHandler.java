@@ -3,12 +3,12 @@ package io.github.suho149.realtime_auction.global.handler;
 import io.github.suho149.realtime_auction.domain.user.entity.User;
 import io.github.suho149.realtime_auction.domain.user.repository.UserRepository;
 import io.github.suho149.realtime_auction.global.jwt.JwtTokenProvider;
+import io.github.suho149.realtime_auction.global.redis.RedisStore;
 import io.github.suho149.realtime_auction.global.util.CookieUtil;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.security.web.authentication.SimpleUrlAuthenticationSuccessHandler;
@@ -24,7 +24,7 @@ import java.util.concurrent.TimeUnit;
 public class OAuth2LoginSuccessHandler extends SimpleUrlAuthenticationSuccessHandler {
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisStore redisStore;
     private final UserRepository userRepository;
 
     @Override
@@ -39,7 +39,7 @@ public class OAuth2LoginSuccessHandler extends SimpleUrlAuthenticationSuccessHan
         String refreshToken = jwtTokenProvider.generateRefreshToken(authentication);
 
         // Redis에 Refresh Token 저장
-        redisTemplate.opsForValue().set(
+        redisStore.set(
                 "RT:" + email, // user.getEmail() 대신 email 변수 사용
                 refreshToken,
                 jwtTokenProvider.getRefreshTokenExpirationMs(),
@@ -0,0 +1,35 @@
+package io.github.suho149.realtime_auction.global.jwt;
+
+import lombok.Getter;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.security.Principal;
+import java.util.Collection;
+
+/**
+ * JWT로 인증된 사용자. 이름(getName/getUsername)은 기존과 같이 이메일이고, 사용자 ID를 함께 들고 있어
+ * 요청마다 이메일로 사용자 테이블을 조회하지 않아도 된다.
+ */
+@Getter
+public class AuthUser extends User {
+
+    // OAuth2 로그인 직후 토큰 발급 시 사용자 ID를 전달하는 attribute 이름
+    public static final String ID_ATTRIBUTE = "userId";
+
+    private final Long id;
+
+    public AuthUser(Long id, String email, Collection<? extends GrantedAuthority> authorities) {
+        super(email, "", authorities);
+        this.id = id;
+    }
+
+    // REST(Authentication), STOMP(Principal) 양쪽에서 현재 사용자를 꺼낼 때 사용
+    public static AuthUser from(Principal principal) {
+        if (principal instanceof Authentication authentication && authentication.getPrincipal() instanceof AuthUser authUser) {
+            return authUser;
+        }
+        throw new IllegalStateException("인증된 사용자 정보가 없습니다.");
+    }
+}
@@ -9,31 +9,36 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.userdetails.User;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.stereotype.Component;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.core.user.OAuth2User;
+import org.springframework.stereotype.Component;
 
 import java.security.Key;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Date;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Component
 public class JwtTokenProvider {
 
+    private static final String USER_ID_CLAIM = "uid";
+
     private final Key key;
+    private final TokenDenylist tokenDenylist;
     private final long accessTokenExpirationMs;
     @Getter
     private final long refreshTokenExpirationMs;
 
     public JwtTokenProvider(@Value("${jwt.secret}") String secretKey,
                             @Value("${jwt.access-token-expiration-ms}") long accessTokenExpirationMs,
-                            @Value("${jwt.refresh-token-expiration-ms}") long refreshTokenExpirationMs) {
+                            @Value("${jwt.refresh-token-expiration-ms}") long refreshTokenExpirationMs,
+                            TokenDenylist tokenDenylist) {
         byte[] keyBytes = Decoders.BASE64.decode(secretKey);
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.tokenDenylist = tokenDenylist;
         this.accessTokenExpirationMs = accessTokenExpirationMs;
         this.refreshTokenExpirationMs = refreshTokenExpirationMs;
     }
@@ -55,7 +60,9 @@ public class JwtTokenProvider {
         Date validity = new Date(now + expirationMs);
 
         return Jwts.builder()
+                .setId(UUID.randomUUID().toString()) // 폐기(로그아웃) 대상을 가리키는 토큰 ID
                 .setSubject(authentication.getName())
+                .claim(USER_ID_CLAIM, userId(authentication))
                 .claim("auth", authorities)
                 .setIssuedAt(new Date())
                 .setExpiration(validity)
@@ -72,13 +79,23 @@ public class JwtTokenProvider {
                         .collect(Collectors.toList());
 
         // claims.getSubject()를 사용하여 사용자 이름(이메일)을 가져옵니다.
-        UserDetails principal = new User(claims.getSubject(), "", authorities);
+        AuthUser principal = new AuthUser(claims.get(USER_ID_CLAIM, Long.class), claims.getSubject(), authorities);
         return new UsernamePasswordAuthenticationToken(principal, token, authorities);
     }
 
     public boolean validateToken(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+            Claims claims = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+            // 사용자 ID가 없는 이전 형식의 토큰은 다시 로그인하도록 거부
+            if (claims.get(USER_ID_CLAIM) == null) {
+                log.info("JWT Token without user id");
+                return false;
+            }
+            // 대부분의 토큰은 로컬 Bloom filter 확인만으로 통과 (Redis 조회 없음)
+            if (claims.getId() != null && tokenDenylist.isRevoked(claims.getId())) {
+                log.info("Revoked JWT Token");
+                return false;
+            }
             return true;
         } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
             log.info("Invalid JWT Token", e);
@@ -91,4 +108,28 @@ public class JwtTokenProvider {
         }
         return false;
     }
+
+    // 로그아웃 시 토큰이 만료될 때까지 다시 사용할 수 없도록 폐기 (이미 만료되었거나 잘못된 토큰이면 무시)
+    public void revoke(String token) {
+        try {
+            Claims claims = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+            if (claims.getId() != null) {
+                tokenDenylist.revoke(claims.getId(), claims.getExpiration().getTime());
+            }
+        } catch (JwtException | IllegalArgumentException e) {
+            log.info("Skip revoking invalid JWT Token: {}", e.getMessage());
+        }
+    }
+
+    // OAuth2 로그인 직후에는 OAuth2User attribute에서, 재발급 시에는 기존 토큰의 AuthUser에서 사용자 ID를 가져옴
+    private static Long userId(Authentication authentication) {
+        Object principal = authentication.getPrincipal();
+        if (principal instanceof AuthUser authUser) {
+            return authUser.getId();
+        }
+        if (principal instanceof OAuth2User oAuth2User && oAuth2User.getAttribute(AuthUser.ID_ATTRIBUTE) instanceof Number id) {
+            return id.longValue();
+        }
+        throw new IllegalStateException("토큰을 발급할 사용자 ID가 없습니다.");
+    }
 }
@@ -0,0 +1,106 @@
+package io.github.suho149.realtime_auction.global.jwt;
+
+import io.github.suho149.realtime_auction.global.redis.RedisStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+/**
+ * 로그아웃 등으로 폐기된 토큰 ID(jti) 목록.
+ *
+ * - 원본: Redis Sorted Set (멤버 = jti, 점수 = 토큰 만료 시각). 만료된 항목은 주기적으로 정리한다.
+ * - 각 노드: 같은 목록을 Bloom filter로 들고 있고, 새 폐기는 Redis Pub/Sub으로 즉시 전달받는다.
+ *   요청마다 Bloom filter만 확인하고, "있을 수도 있음"일 때만 Redis에서 정확히 확인하므로
+ *   폐기되지 않은 대부분의 토큰은 Redis 왕복 없이 통과한다.
+ * - Bloom filter는 삭제가 안 되므로 주기적으로 새 filter를 Redis 원본으로 다시 채워서 교체한다.
+ *   교체 직후 채워지는 동안에는 이전 filter도 함께 확인하고, Pub/Sub 메시지를 놓친 경우도 이때 복구된다.
+ */
+@Slf4j
+@Component
+public class TokenDenylist implements MessageListener {
+
+    public static final String CHANNEL = "token-revocation";
+    private static final String REVOKED_TOKENS_KEY = "token:revoked";
+
+    private final RedisStore redisStore;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+
+    private volatile BloomFilter current;
+    private volatile BloomFilter previous;
+
+    public TokenDenylist(RedisStore redisStore,
+                         @Value("${jwt.revocation.expected-insertions:100000}") long expectedInsertions,
+                         @Value("${jwt.revocation.false-positive-rate:0.001}") double falsePositiveRate) {
+        this.redisStore = redisStore;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.current = new BloomFilter(expectedInsertions, falsePositiveRate);
+        this.previous = current;
+    }
+
+    // 토큰이 만료될 때까지만 폐기 목록에 남김
+    public void revoke(String tokenId, long expiresAtMillis) {
+        if (expiresAtMillis <= System.currentTimeMillis()) {
+            return;
+        }
+        redisStore.addToSortedSet(REVOKED_TOKENS_KEY, tokenId, expiresAtMillis);
+        current.add(tokenId);
+        redisStore.publish(CHANNEL, tokenId);
+    }
+
+    public boolean isRevoked(String tokenId) {
+        if (!current.mightContain(tokenId) && !previous.mightContain(tokenId)) {
+            return false;
+        }
+
+        // Bloom filter 적중(실제 폐기 또는 오탐)일 때만 Redis로 정확히 확인
+        try {
+            Double expiresAt = redisStore.score(REVOKED_TOKENS_KEY, tokenId);
+            return expiresAt != null && expiresAt > System.currentTimeMillis();
+        } catch (Exception e) {
+            // 확인할 수 없으면 폐기된 것으로 간주 (폐기 토큰 또는 드문 오탐만 여기까지 옴)
+            log.warn("토큰 폐기 여부 확인 실패, 거부합니다: {}", e.getMessage());
+            return true;
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        current.add(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedRateString = "${jwt.revocation.rebuild-interval-ms:60000}",
+            initialDelayString = "${jwt.revocation.rebuild-interval-ms:60000}")
+    public void rebuild() {
+        try {
+            BloomFilter fresh = new BloomFilter(expectedInsertions, falsePositiveRate);
+            // 먼저 교체해서 채우는 동안 도착한 폐기도 새 filter에 들어가게 함
+            previous = current;
+            current = fresh;
+
+            long now = System.currentTimeMillis();
+            redisStore.removeRangeByScore(REVOKED_TOKENS_KEY, Double.NEGATIVE_INFINITY, now);
+            Set<String> revoked = redisStore.rangeByScore(REVOKED_TOKENS_KEY, now, Double.POSITIVE_INFINITY);
+            if (revoked != null) {
+                revoked.forEach(fresh::add);
+            }
+            previous = fresh;
+            if (revoked != null && revoked.size() > expectedInsertions) {
+                log.warn("폐기 토큰 수({})가 Bloom filter 예상 크기({})를 넘어 오탐률이 높아집니다.", revoked.size(), expectedInsertions);
+            }
+        } catch (Exception e) {
+            // 다음 주기에 다시 시도. 그동안에는 이전 filter도 계속 확인
+            log.warn("토큰 폐기 목록 재구성 실패: {}", e.getMessage());
+        }
+    }
+}
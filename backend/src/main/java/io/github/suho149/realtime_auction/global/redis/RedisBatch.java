@@ -0,0 +1,201 @@
+package io.github.suho149.realtime_auction.global.redis;
+
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 여러 명령을 모아서 한 번의 파이프라인(왕복 1회)으로 전송하는 명시적 배치.
+ * execute()의 결과는 명령을 추가한 순서대로 반환된다 (문자열 값은 String으로 역직렬화).
+ */
+public class RedisBatch {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final List<Consumer<RedisConnection>> commands = new ArrayList<>();
+
+    RedisBatch(RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    public RedisBatch get(String key) {
+        byte[] rawKey = raw(key);
+        commands.add(connection -> connection.stringCommands().get(rawKey));
+        return this;
+    }
+
+    public RedisBatch get(byte[] key) {
+        commands.add(connection -> connection.stringCommands().get(key));
+        return this;
+    }
+
+    public RedisBatch set(String key, String value) {
+        return set(raw(key), raw(value));
+    }
+
+    public RedisBatch set(byte[] key, byte[] value) {
+        commands.add(connection -> connection.stringCommands().set(key, value));
+        return this;
+    }
+
+    // 키가 없을 때만 설정 (SETNX)
+    public RedisBatch setIfAbsent(byte[] key, byte[] value) {
+        commands.add(connection -> connection.stringCommands().setNX(key, value));
+        return this;
+    }
+
+    public RedisBatch addToSet(byte[] key, byte[]... members) {
+        commands.add(connection -> connection.setCommands().sAdd(key, members));
+        return this;
+    }
+
+    public RedisBatch sizeOfSet(byte[] key) {
+        commands.add(connection -> connection.setCommands().sCard(key));
+        return this;
+    }
+
+    public RedisBatch increment(String key) {
+        byte[] rawKey = raw(key);
+        commands.add(connection -> connection.stringCommands().incr(rawKey));
+        return this;
+    }
+
+    public RedisBatch putHash(String key, String field, String value) {
+        byte[] rawKey = raw(key);
+        byte[] rawField = raw(field);
+        byte[] rawValue = raw(value);
+        commands.add(connection -> connection.hashCommands().hSet(rawKey, rawField, rawValue));
+        return this;
+    }
+
+    public RedisBatch deleteHashFields(String key, String... fields) {
+        byte[] rawKey = raw(key);
+        byte[][] rawFields = raw(fields);
+        commands.add(connection -> connection.hashCommands().hDel(rawKey, rawFields));
+        return this;
+    }
+
+    // 결과는 Map<String, String>
+    public RedisBatch hashEntries(String key) {
+        byte[] rawKey = raw(key);
+        commands.add(connection -> connection.hashCommands().hGetAll(rawKey));
+        return this;
+    }
+
+    // 결과는 필드 순서대로의 List<String> (없는 필드는 null)
+    public RedisBatch hashValues(String key, String... fields) {
+        byte[] rawKey = raw(key);
+        byte[][] rawFields = raw(fields);
+        commands.add(connection -> connection.hashCommands().hMGet(rawKey, rawFields));
+        return this;
+    }
+
+    public RedisBatch addToHyperLogLog(String key, String... values) {
+        byte[] rawKey = raw(key);
+        byte[][] rawValues = raw(values);
+        commands.add(connection -> connection.hyperLogLogCommands().pfAdd(rawKey, rawValues));
+        return this;
+    }
+
+    // 여러 키를 주면 합집합의 추정 개수 (클러스터에서는 같은 슬롯의 키만 가능)
+    public RedisBatch countHyperLogLog(String... keys) {
+        byte[][] rawKeys = raw(keys);
+        commands.add(connection -> connection.hyperLogLogCommands().pfCount(rawKeys));
+        return this;
+    }
+
+    public RedisBatch putHashAll(String key, Map<String, String> entries) {
+        byte[] rawKey = raw(key);
+        Map<byte[], byte[]> rawEntries = new LinkedHashMap<>();
+        entries.forEach((field, value) -> rawEntries.put(raw(field), raw(value)));
+        commands.add(connection -> connection.hashCommands().hMSet(rawKey, rawEntries));
+        return this;
+    }
+
+    public RedisBatch addToSortedSet(String key, String member, double score) {
+        byte[] rawKey = raw(key);
+        byte[] rawMember = raw(member);
+        commands.add(connection -> connection.zSetCommands().zAdd(rawKey, score, rawMember));
+        return this;
+    }
+
+    public RedisBatch removeFromSortedSet(String key, String... members) {
+        byte[] rawKey = raw(key);
+        byte[][] rawMembers = raw(members);
+        commands.add(connection -> connection.zSetCommands().zRem(rawKey, rawMembers));
+        return this;
+    }
+
+    // 결과는 점수 오름차순 Set<String>
+    public RedisBatch rangeByScore(String key, double min, double max) {
+        byte[] rawKey = raw(key);
+        commands.add(connection -> connection.zSetCommands().zRangeByScore(rawKey, min, max));
+        return this;
+    }
+
+    // 결과는 점수 내림차순 Set<String> (start, end는 0부터 시작하는 순위, 양 끝 포함)
+    public RedisBatch reverseRange(String key, long start, long end) {
+        byte[] rawKey = raw(key);
+        commands.add(connection -> connection.zSetCommands().zRevRange(rawKey, start, end));
+        return this;
+    }
+
+    public RedisBatch sizeOfSortedSet(String key) {
+        byte[] rawKey = raw(key);
+        commands.add(connection -> connection.zSetCommands().zCard(rawKey));
+        return this;
+    }
+
+    // start, end는 점수 오름차순 0부터의 순위 (음수는 뒤에서부터, 양 끝 포함)
+    public RedisBatch removeRangeByRank(String key, long start, long end) {
+        byte[] rawKey = raw(key);
+        commands.add(connection -> connection.zSetCommands().zRemRange(rawKey, start, end));
+        return this;
+    }
+
+    public RedisBatch removeRangeByScore(String key, double min, double max) {
+        byte[] rawKey = raw(key);
+        commands.add(connection -> connection.zSetCommands().zRemRangeByScore(rawKey, min, max));
+        return this;
+    }
+
+    public RedisBatch expire(String key, long timeoutMs) {
+        byte[] rawKey = raw(key);
+        commands.add(connection -> connection.keyCommands().pExpire(rawKey, timeoutMs));
+        return this;
+    }
+
+    public RedisBatch delete(String... keys) {
+        byte[][] rawKeys = raw(keys);
+        commands.add(connection -> connection.keyCommands().del(rawKeys));
+        return this;
+    }
+
+    public List<Object> execute() {
+        if (commands.isEmpty()) {
+            return List.of();
+        }
+        return redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            commands.forEach(command -> command.accept(connection));
+            return null;
+        });
+    }
+
+    private static byte[] raw(String value) {
+        return RedisSerializer.string().serialize(value);
+    }
+
+    private static byte[][] raw(String[] values) {
+        byte[][] raw = new byte[values.length][];
+        for (int i = 0; i < values.length; i++) {
+            raw[i] = raw(values[i]);
+        }
+        return raw;
+    }
+}
@@ -0,0 +1,68 @@
+package io.github.suho149.realtime_auction.global.redis;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SET NX PX 기반 분산 락. 획득 1회당 인스턴스 하나를 사용한다 (RedisStore.getLock).
+ * 해제 시 Lua로 토큰을 비교해서, 리스가 만료된 뒤 다른 노드가 잡은 락을 지우지 않도록 한다.
+ */
+public class RedisLock {
+
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class
+    );
+    private static final long MIN_BACKOFF_MS = 2;
+    private static final long MAX_BACKOFF_MS = 50;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final String key;
+    private final String token = UUID.randomUUID().toString();
+    private volatile Thread owner;
+
+    RedisLock(RedisTemplate<String, String> redisTemplate, String key) {
+        this.redisTemplate = redisTemplate;
+        this.key = key;
+    }
+
+    // waitTime 동안 획득을 재시도하고, 획득하면 leaseTime 뒤 자동으로 만료된다
+    public boolean tryLock(long waitTime, long leaseTime, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(waitTime);
+        long backoffMs = MIN_BACKOFF_MS;
+
+        while (true) {
+            if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, token, leaseTime, unit))) {
+                owner = Thread.currentThread();
+                return true;
+            }
+
+            long remainingMs = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (remainingMs <= 0) {
+                return false;
+            }
+            // 대기자가 동시에 재시도하지 않도록 지터를 섞은 지수 백오프
+            long sleepMs = backoffMs + ThreadLocalRandom.current().nextLong(backoffMs);
+            Thread.sleep(Math.max(1, Math.min(sleepMs, remainingMs)));
+            backoffMs = Math.min(backoffMs * 2, MAX_BACKOFF_MS);
+        }
+    }
+
+    public boolean isHeldByCurrentThread() {
+        return owner == Thread.currentThread();
+    }
+
+    public void unlock() {
+        if (!isHeldByCurrentThread()) {
+            return;
+        }
+        owner = null;
+        redisTemplate.execute(UNLOCK_SCRIPT, List.of(key), token);
+    }
+}
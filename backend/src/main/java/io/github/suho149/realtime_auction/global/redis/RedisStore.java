@@ -0,0 +1,138 @@
+package io.github.suho149.realtime_auction.global.redis;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 애플리케이션의 모든 Redis 접근을 담당하는 단일 진입점.
+ * 하나의 Lettuce 커넥션 팩토리(spring.data.redis.*)만 사용하며,
+ * 분산 락(RedisLock)과 파이프라인 배치(RedisBatch)도 같은 커넥션 위에서 동작한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisStore {
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public String get(String key) {
+        return redisTemplate.opsForValue().get(key);
+    }
+
+    // 값을 String으로 만들지 않고 바이트 그대로 조회
+    public byte[] get(byte[] key) {
+        return redisTemplate.execute((RedisCallback<byte[]>) connection -> connection.stringCommands().get(key));
+    }
+
+    public void set(String key, String value) {
+        redisTemplate.opsForValue().set(key, value);
+    }
+
+    public void set(String key, String value, long timeout, TimeUnit unit) {
+        redisTemplate.opsForValue().set(key, value, timeout, unit);
+    }
+
+    // 클러스터에서는 모든 키가 같은 슬롯(해시 태그)이어야 한 번에 삭제된다
+    public void delete(String... keys) {
+        redisTemplate.delete(Arrays.asList(keys));
+    }
+
+    public void addToSet(String key, String... members) {
+        redisTemplate.opsForSet().add(key, members);
+    }
+
+    public Set<String> members(String key) {
+        return redisTemplate.opsForSet().members(key);
+    }
+
+    public long sizeOfSet(String key) {
+        Long size = redisTemplate.opsForSet().size(key);
+        return size != null ? size : 0L;
+    }
+
+    // 점수 범위 안의 멤버를 점수 오름차순으로 offset부터 count개
+    public Set<String> rangeByScore(String key, double min, double max, long offset, long count) {
+        return redisTemplate.opsForZSet().rangeByScore(key, min, max, offset, count);
+    }
+
+    public Set<String> rangeByScore(String key, double min, double max) {
+        return redisTemplate.opsForZSet().rangeByScore(key, min, max);
+    }
+
+    public void addToSortedSet(String key, String member, double score) {
+        redisTemplate.opsForZSet().add(key, member, score);
+    }
+
+    // 멤버가 없으면 null
+    public Double score(String key, String member) {
+        return redisTemplate.opsForZSet().score(key, member);
+    }
+
+    public long removeRangeByScore(String key, double min, double max) {
+        Long removed = redisTemplate.opsForZSet().removeRangeByScore(key, min, max);
+        return removed != null ? removed : 0L;
+    }
+
+    // 점수 내림차순 상위 멤버와 점수
+    public Set<ZSetOperations.TypedTuple<String>> reverseRangeWithScores(String key, long start, long end) {
+        return redisTemplate.opsForZSet().reverseRangeWithScores(key, start, end);
+    }
+
+    public <T> T execute(RedisScript<T> script, List<String> keys, Object... args) {
+        return redisTemplate.execute(script, keys, args);
+    }
+
+    // 미리 만든 키/인자 바이트로 스크립트 실행 (호출마다 키 문자열과 리스트를 만들지 않음)
+    // 결과는 역직렬화하지 않으므로 bulk string은 byte[], 정수는 Long 그대로 (MULTI면 그 List)
+    @SuppressWarnings("unchecked")
+    public <T> T execute(RedisScript<T> script, byte[][] keys, byte[]... args) {
+        byte[][] keysAndArgs = new byte[keys.length + args.length][];
+        System.arraycopy(keys, 0, keysAndArgs, 0, keys.length);
+        System.arraycopy(args, 0, keysAndArgs, keys.length, args.length);
+        ReturnType returnType = ReturnType.fromJavaType(script.getResultType());
+        return (T) redisTemplate.execute((RedisCallback<Object>) connection -> {
+            try {
+                return connection.scriptingCommands().evalSha(script.getSha1(), returnType, keys.length, keysAndArgs);
+            } catch (RuntimeException e) {
+                if (!isNoScript(e)) {
+                    throw e;
+                }
+                // 스크립트 캐시에 없으면(재시작/플러시 직후) 본문으로 실행해서 다시 캐시되게 함
+                return connection.scriptingCommands().eval(script.getScriptAsString().getBytes(StandardCharsets.UTF_8),
+                        returnType, keys.length, keysAndArgs);
+            }
+        });
+    }
+
+    // 모든 노드가 구독하는 채널로 메시지 발행 (Redis Pub/Sub)
+    public void publish(String channel, String message) {
+        redisTemplate.convertAndSend(channel, message);
+    }
+
+    public RedisLock getLock(String key) {
+        return new RedisLock(redisTemplate, key);
+    }
+
+    public RedisBatch batch() {
+        return new RedisBatch(redisTemplate);
+    }
+
+    private static boolean isNoScript(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause.getMessage() != null && cause.getMessage().contains("NOSCRIPT")) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,171 @@
+package io.github.suho149.realtime_auction.global.websocket;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.broker.AbstractSubscriptionRegistry;
+import org.springframework.messaging.simp.broker.DefaultSubscriptionRegistry;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.util.PathMatcher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 정확한 목적지("/topic/auctions/{id}", "/queue/outbid-user{세션}" 등) 구독을 목적지별로 색인하는 Simple Broker 구독 저장소.
+ *
+ * 기본 구현(DefaultSubscriptionRegistry)은 목적지마다 모든 구독과 패턴을 비교한 결과를 제한된 크기의 캐시에 담는데,
+ * 구독자가 많으면 구독/해제마다 캐시가 갱신되고 밀려나면서 전송 시간이 늘어난다.
+ * 여기서는 목적지 -> (세션 -> 구독 ID) 를 동시성 맵에 보관하고, 전송할 때는 목적지별로 만들어 둔 불변 구독 목록을 그대로 돌려준다.
+ * 목록은 구독이 바뀐 뒤 첫 전송에서 한 번만 다시 만든다 (구독이 몰려도 전송 사이에 한 번).
+ *
+ * 패턴("/topic/auctions/*") 구독은 드물어서 기본 구현에 그대로 맡긴다.
+ * selector 헤더는 기본 설정과 마찬가지로 사용하지 않는다.
+ */
+public class ExactDestinationSubscriptionRegistry extends AbstractSubscriptionRegistry {
+
+    // 역색인에서 패턴 구독을 표시하는 값 (실제 목적지 문자열과 겹치지 않도록 동일성으로 비교)
+    private static final String PATTERN = new String("pattern");
+    private static final MultiValueMap<String, String> EMPTY = CollectionUtils.unmodifiableMultiValueMap(new LinkedMultiValueMap<>());
+
+    private final PathMatcher pathMatcher = new AntPathMatcher();
+    private final DefaultSubscriptionRegistry patternRegistry = new DefaultSubscriptionRegistry();
+    private final AtomicInteger patternSubscriptionCount = new AtomicInteger();
+
+    // 목적지 -> 구독
+    private final Map<String, Topic> topics = new ConcurrentHashMap<>();
+    // 세션 -> (구독 ID -> 목적지). 해제할 때 목적지를 찾기 위한 역색인
+    private final Map<String, Map<String, String>> sessions = new ConcurrentHashMap<>();
+
+    @Override
+    protected void addSubscriptionInternal(String sessionId, String subscriptionId, String destination, Message<?> message) {
+        if (pathMatcher.isPattern(destination)) {
+            patternRegistry.registerSubscription(message);
+            patternSubscriptionCount.incrementAndGet();
+            sessions.computeIfAbsent(sessionId, id -> new ConcurrentHashMap<>()).put(subscriptionId, PATTERN);
+            return;
+        }
+        // compute 안에서 추가해야 동시에 비어서 제거되는 목적지에 구독이 들어가 사라지지 않음
+        topics.compute(destination, (d, topic) -> {
+            Topic target = (topic != null) ? topic : new Topic();
+            target.add(sessionId, subscriptionId);
+            return target;
+        });
+        sessions.computeIfAbsent(sessionId, id -> new ConcurrentHashMap<>()).put(subscriptionId, destination);
+    }
+
+    @Override
+    protected void removeSubscriptionInternal(String sessionId, String subscriptionId, Message<?> message) {
+        Map<String, String> subscriptions = sessions.get(sessionId);
+        String destination = (subscriptions != null) ? subscriptions.remove(subscriptionId) : null;
+        if (destination == null) {
+            return;
+        }
+        if (destination == PATTERN) {
+            patternRegistry.unregisterSubscription(message);
+            patternSubscriptionCount.decrementAndGet();
+            return;
+        }
+        removeFromTopic(destination, sessionId, subscriptionId);
+    }
+
+    @Override
+    public void unregisterAllSubscriptions(String sessionId) {
+        Map<String, String> subscriptions = sessions.remove(sessionId);
+        if (subscriptions == null) {
+            return;
+        }
+        subscriptions.forEach((subscriptionId, destination) -> {
+            if (destination == PATTERN) {
+                patternSubscriptionCount.decrementAndGet();
+            } else {
+                removeFromTopic(destination, sessionId, subscriptionId);
+            }
+        });
+        patternRegistry.unregisterAllSubscriptions(sessionId);
+    }
+
+    @Override
+    protected MultiValueMap<String, String> findSubscriptionsInternal(String destination, Message<?> message) {
+        Topic topic = topics.get(destination);
+        MultiValueMap<String, String> exact = (topic != null) ? topic.snapshot() : EMPTY;
+        if (patternSubscriptionCount.get() == 0) {
+            return exact;
+        }
+
+        MultiValueMap<String, String> matched = patternRegistry.findSubscriptions(message);
+        if (matched.isEmpty()) {
+            return exact;
+        }
+        MultiValueMap<String, String> merged = new LinkedMultiValueMap<>(exact.size() + matched.size());
+        exact.forEach(merged::addAll);
+        matched.forEach(merged::addAll);
+        return merged;
+    }
+
+    // 목적지로 전송하면 받을 구독이 있을 수 있는지 (패턴 구독이 있으면 항상 true). 전송할 본문을 만들지 판단할 때 사용
+    public boolean hasSubscribers(String destination) {
+        return topics.containsKey(destination) || patternSubscriptionCount.get() > 0;
+    }
+
+    // 정확한 목적지로 구독 중인 목적지 수
+    public int destinationCount() {
+        return topics.size();
+    }
+
+    private void removeFromTopic(String destination, String sessionId, String subscriptionId) {
+        // 마지막 구독이 빠진 목적지는 제거
+        topics.computeIfPresent(destination, (d, topic) -> topic.remove(sessionId, subscriptionId) ? null : topic);
+    }
+
+    // 한 목적지의 구독. 변경은 맵에, 전송은 불변 스냅샷으로
+    private static final class Topic {
+
+        // 세션 -> 구독 ID 목록 (한 세션이 같은 목적지를 여러 번 구독하는 경우는 드물어서 불변 리스트를 교체)
+        private final Map<String, List<String>> subscriptions = new ConcurrentHashMap<>();
+        private final AtomicLong version = new AtomicLong();
+        private volatile Snapshot snapshot;
+
+        void add(String sessionId, String subscriptionId) {
+            subscriptions.merge(sessionId, List.of(subscriptionId), (current, added) -> {
+                List<String> merged = new ArrayList<>(current);
+                merged.add(subscriptionId);
+                return List.copyOf(merged);
+            });
+            version.incrementAndGet();
+        }
+
+        // 마지막 구독이 빠져서 목적지가 비면 true
+        boolean remove(String sessionId, String subscriptionId) {
+            subscriptions.computeIfPresent(sessionId, (id, current) -> {
+                List<String> remaining = new ArrayList<>(current);
+                remaining.remove(subscriptionId);
+                return remaining.isEmpty() ? null : List.copyOf(remaining);
+            });
+            version.incrementAndGet();
+            return subscriptions.isEmpty();
+        }
+
+        MultiValueMap<String, String> snapshot() {
+            Snapshot current = snapshot;
+            long currentVersion = version.get();
+            if (current != null && current.version() == currentVersion) {
+                return current.subscriptions();
+            }
+            // 만드는 도중 구독이 바뀌면 버전이 달라져서 다음 전송에서 다시 만듦
+            LinkedMultiValueMap<String, String> built = new LinkedMultiValueMap<>(subscriptions.size());
+            subscriptions.forEach(built::put);
+            current = new Snapshot(currentVersion, CollectionUtils.unmodifiableMultiValueMap(built));
+            snapshot = current;
+            return current.subscriptions();
+        }
+    }
+
+    private record Snapshot(long version, MultiValueMap<String, String> subscriptions) {
+    }
+}
@@ -0,0 +1,184 @@
+package io.github.suho149.realtime_auction.global.websocket;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 느린 구독자 보호. 세션의 소켓 쓰기가 slow-threshold-ms 이상 끝나지 않고 있으면(클라이언트가 받지 못하는 중)
+ * 그 세션으로 가는 경매 토픽(/topic/auctions/...) 메시지를 보내지 않고 구독별로 마지막 메시지 하나만 보관한다.
+ * 쓰기가 끝나면 보관한 최신 메시지만 보내므로, 느린 클라이언트는 중간 상태를 건너뛰고 최신 상태를 받는다.
+ *
+ * 쓰기 진행 여부는 세션을 감싼 TrackedSession이 기록하고 (WebSocketConfig의 핸들러 데코레이터),
+ * 보관 여부는 clientOutboundChannel 인터셉터(preSend)에서 판단한다. 입찰 응답 등 경매 토픽이 아닌 메시지는 그대로 보낸다.
+ */
+@Slf4j
+@Component
+public class SlowConsumerGuard implements ChannelInterceptor {
+
+    private static final String AUCTION_TOPIC_PREFIX = "/topic/auctions/";
+    private static final int REPORT_LIMIT = 5;
+
+    private final long slowThresholdMs;
+    private final Map<String, SessionState> sessions = new ConcurrentHashMap<>();
+    private volatile MessageChannel outboundChannel;
+
+    public SlowConsumerGuard(@Value("${auction.websocket.slow-threshold-ms:100}") long slowThresholdMs) {
+        this.slowThresholdMs = slowThresholdMs;
+    }
+
+    // 연결된 세션을 쓰기 시간 기록용으로 감쌈
+    public WebSocketSession track(WebSocketSession session) {
+        SessionState state = new SessionState();
+        sessions.put(session.getId(), state);
+        return new TrackedSession(session, state);
+    }
+
+    public void untrack(String sessionId) {
+        sessions.remove(sessionId);
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        outboundChannel = channel;
+        if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) != SimpMessageType.MESSAGE) {
+            return message;
+        }
+        String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+        String subscriptionId = SimpMessageHeaderAccessor.getSubscriptionId(message.getHeaders());
+        if (destination == null || subscriptionId == null || !destination.startsWith(AUCTION_TOPIC_PREFIX)) {
+            return message;
+        }
+        SessionState state = sessions.get(SimpMessageHeaderAccessor.getSessionId(message.getHeaders()));
+        if (state == null) {
+            return message;
+        }
+        // 보관하면 채널로 보내지 않음 (이전에 보관한 같은 구독의 메시지는 교체되어 버려짐)
+        return state.holdIfSlow(subscriptionId, message, System.currentTimeMillis(), slowThresholdMs) ? null : message;
+    }
+
+    // 세션의 현재 지연(ms). 쓰기 중이 아니면 0
+    public long lagMillis(String sessionId) {
+        SessionState state = sessions.get(sessionId);
+        return (state != null) ? state.lagMillis(System.currentTimeMillis()) : 0L;
+    }
+
+    // 지연 중인 세션과 구간 동안 건너뛴 메시지 수를 기록
+    @Scheduled(fixedRateString = "${auction.websocket.lag-report-interval-ms:10000}")
+    public void reportLag() {
+        long now = System.currentTimeMillis();
+        List<SessionLag> lagging = new ArrayList<>();
+        sessions.forEach((sessionId, state) -> {
+            SessionLag lag = state.drainReport(sessionId, now);
+            if (lag.lagMillis() >= slowThresholdMs || lag.conflated() > 0) {
+                lagging.add(lag);
+            }
+        });
+        if (lagging.isEmpty()) {
+            return;
+        }
+        lagging.sort(Comparator.comparingLong(SessionLag::lagMillis).reversed());
+        long conflated = lagging.stream().mapToLong(SessionLag::conflated).sum();
+        log.warn("느린 WebSocket 세션 {}개 / 전체 {}개, 건너뛴 메시지 {}건, 지연 상위: {}",
+                lagging.size(), sessions.size(), conflated, lagging.subList(0, Math.min(REPORT_LIMIT, lagging.size())));
+    }
+
+    // 쓰기가 끝난 뒤 보관했던 최신 메시지들을 다시 채널로 (여전히 느리면 preSend에서 다시 보관됨)
+    private void resend(List<Message<?>> pending) {
+        MessageChannel channel = outboundChannel;
+        if (channel == null) {
+            return;
+        }
+        for (Message<?> message : pending) {
+            channel.send(message);
+        }
+    }
+
+    record SessionLag(String sessionId, long lagMillis, long conflated) {
+    }
+
+    // 세션 하나의 쓰기 상태와 보관 중인 메시지. 모든 필드는 this로 동기화
+    static final class SessionState {
+
+        private long writeStartedAt; // 0 = 쓰기 중이 아님
+        private final Map<String, Message<?>> pending = new LinkedHashMap<>(); // 구독 ID -> 최신 메시지
+        private long conflated; // 마지막 보고 이후 건너뛴(교체된) 메시지 수
+
+        synchronized boolean holdIfSlow(String subscriptionId, Message<?> message, long now, long thresholdMs) {
+            // 이미 보관 중인 메시지가 있으면 쓰기가 끝날 때 함께 나가므로 순서를 지키기 위해 계속 보관
+            boolean slow = writeStartedAt != 0 && now - writeStartedAt >= thresholdMs;
+            if (!slow && pending.isEmpty()) {
+                return false;
+            }
+            if (pending.put(subscriptionId, message) != null) {
+                conflated++;
+            }
+            return true;
+        }
+
+        synchronized void writeStarted(long now) {
+            writeStartedAt = now;
+        }
+
+        synchronized List<Message<?>> writeFinished() {
+            writeStartedAt = 0;
+            if (pending.isEmpty()) {
+                return List.of();
+            }
+            List<Message<?>> flushed = new ArrayList<>(pending.values());
+            pending.clear();
+            return flushed;
+        }
+
+        synchronized long lagMillis(long now) {
+            return writeStartedAt != 0 ? now - writeStartedAt : 0L;
+        }
+
+        synchronized SessionLag drainReport(String sessionId, long now) {
+            SessionLag lag = new SessionLag(sessionId, lagMillis(now), conflated);
+            conflated = 0;
+            return lag;
+        }
+    }
+
+    // 실제 소켓 쓰기(ConcurrentWebSocketSessionDecorator 안쪽)의 시작/종료를 기록하는 세션
+    private final class TrackedSession extends WebSocketSessionDecorator {
+
+        private final SessionState state;
+
+        TrackedSession(WebSocketSession delegate, SessionState state) {
+            super(delegate);
+            this.state = state;
+        }
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) throws IOException {
+            state.writeStarted(System.currentTimeMillis());
+            try {
+                super.sendMessage(message);
+            } finally {
+                List<Message<?>> pending = state.writeFinished();
+                if (!pending.isEmpty()) {
+                    resend(pending);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package io.github.suho149.realtime_auction.global.websocket;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.suho149.realtime_auction.global.redis.RedisStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * 특정 사용자에게 보내는 메시지(/user/queue/...)를 모든 노드로 중계한다.
+ * 심플 브로커는 자기 노드에 연결된 세션만 알기 때문에, Redis Pub/Sub으로 전 노드에 전달하고
+ * 각 노드가 자신에게 연결된 해당 사용자의 세션들로 전송한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserMessageRelay implements MessageListener {
+
+    public static final String CHANNEL = "ws:user-messages";
+
+    private final RedisStore redisStore;
+    private final SimpMessageSendingOperations messagingTemplate;
+    private final ObjectMapper objectMapper;
+
+    // destination 은 "/queue/..." 형태 (클라이언트는 "/user/queue/..." 를 구독)
+    public void sendToUser(String user, String destination, Object payload) {
+        try {
+            RelayedMessage message = new RelayedMessage(user, destination, objectMapper.writeValueAsString(payload));
+            redisStore.publish(CHANNEL, objectMapper.writeValueAsString(message));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("사용자 메시지 직렬화 실패", e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            RelayedMessage relayed = objectMapper.readValue(message.getBody(), RelayedMessage.class);
+            // 이미 직렬화된 JSON 문자열을 그대로 전송 (이 노드에 해당 사용자의 세션이 없으면 아무 일도 없음)
+            messagingTemplate.convertAndSendToUser(relayed.user(), relayed.destination(), relayed.payload());
+        } catch (IOException e) {
+            log.warn("사용자 메시지 중계 실패: {}", e.getMessage());
+        }
+    }
+
+    record RelayedMessage(String user, String destination, String payload) {
+    }
+}
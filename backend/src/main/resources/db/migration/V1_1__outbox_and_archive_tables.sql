@@ -0,0 +1,34 @@
+-- 알림 아웃박스와 상품 아카이브 테이블. baseline(버전 1)으로 등록된 DB도 실행하도록 V1 뒤, 인덱스(V2) 앞에 둔다.
+-- ddl-auto 로 이미 만들어진 DB가 있을 수 있어 IF NOT EXISTS 로 만든다.
+
+CREATE TABLE IF NOT EXISTS notification_outbox (
+    id              BIGINT       NOT NULL AUTO_INCREMENT,
+    attempts        INT          NOT NULL,
+    created_at      DATETIME(6)  NOT NULL,
+    last_error      VARCHAR(500),
+    message         VARCHAR(255) NOT NULL,
+    next_attempt_at DATETIME(6)  NOT NULL,
+    product_id      BIGINT       NOT NULL,
+    recipient_email VARCHAR(255) NOT NULL,
+    sent_at         DATETIME(6),
+    status          ENUM ('PENDING', 'SENT', 'FAILED') NOT NULL,
+    type            ENUM ('AUCTION_WON', 'AUCTION_SOLD', 'AUCTION_UNSOLD') NOT NULL,
+    PRIMARY KEY (id),
+    INDEX idx_notification_outbox_status_next_attempt (status, next_attempt_at)
+) ENGINE = InnoDB;
+
+-- 월별 파티션은 ArchivePartitionManager가 만든다 (파티션 테이블은 외래 키를 가질 수 없음)
+CREATE TABLE IF NOT EXISTS archived_products (
+    id                 BIGINT       NOT NULL,
+    auction_end_time   DATETIME(6)  NOT NULL,
+    archived_at        DATETIME(6)  NOT NULL,
+    auction_start_time DATETIME(6)  NOT NULL,
+    description        LONGTEXT     NOT NULL,
+    starting_price     BIGINT       NOT NULL,
+    status             ENUM ('SELLING', 'SOLD_OUT') NOT NULL,
+    title              VARCHAR(100) NOT NULL,
+    winning_price      BIGINT,
+    seller_id          BIGINT       NOT NULL,
+    winner_id          BIGINT,
+    PRIMARY KEY (auction_end_time, id)
+) ENGINE = InnoDB;
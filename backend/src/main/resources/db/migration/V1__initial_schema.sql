@@ -0,0 +1,28 @@
+-- 초기 스키마: Flyway 도입 전까지 JPA(ddl-auto: update)가 만들던 users, product 테이블과 같다.
+-- 이미 운영 중인 DB는 baseline(버전 1)으로 등록되어 이 스크립트를 건너뛰므로, 이후 추가된 테이블은 여기에 넣지 않는다.
+-- (이메일 유니크 인덱스는 V2, 외래 키 이름은 DB가 정함)
+
+CREATE TABLE users (
+    id      BIGINT       NOT NULL AUTO_INCREMENT,
+    email   VARCHAR(255) NOT NULL,
+    name    VARCHAR(255) NOT NULL,
+    picture VARCHAR(255),
+    role    ENUM ('GUEST', 'USER') NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE product (
+    id                 BIGINT       NOT NULL AUTO_INCREMENT,
+    auction_end_time   DATETIME(6)  NOT NULL,
+    auction_start_time DATETIME(6)  NOT NULL,
+    description        LONGTEXT     NOT NULL,
+    starting_price     BIGINT       NOT NULL,
+    status             ENUM ('SELLING', 'SOLD_OUT') NOT NULL,
+    title              VARCHAR(100) NOT NULL,
+    winning_price      BIGINT,
+    seller_id          BIGINT       NOT NULL,
+    winner_id          BIGINT,
+    PRIMARY KEY (id),
+    FOREIGN KEY (seller_id) REFERENCES users (id),
+    FOREIGN KEY (winner_id) REFERENCES users (id)
+) ENGINE = InnoDB;
@@ -0,0 +1,21 @@
+-- 자주 실행되는 조회가 전체 스캔하지 않도록 인덱스 추가 (ddl-auto 시절 DB에 이미 있을 수 있어 IF NOT EXISTS)
+-- 쿼리별 실행 계획은 SchemaIndexPlanTest가 확인한다.
+
+-- 경매 종료 스케줄러(status + 종료 시각 이전), 아카이브 대상 조회
+CREATE INDEX IF NOT EXISTS idx_product_status_end_time ON product (status, auction_end_time);
+
+-- 경매 활성화(status + 시작 시각 구간)
+CREATE INDEX IF NOT EXISTS idx_product_status_start_time ON product (status, auction_start_time);
+
+-- 상태별로 id 순서대로 나눠 읽는 조회 (랭킹 초기화, 키 마이그레이션 등)
+CREATE INDEX IF NOT EXISTS idx_product_status_id ON product (status, id);
+
+-- 로그인 시 이메일로 사용자 조회. ddl-auto로 만든 DB에는 중복 이메일이 있으면 먼저 정리해야 한다
+CREATE UNIQUE INDEX IF NOT EXISTS uk_users_email ON users (email);
+
+-- 전송할 알림 조회 (status + 다음 시도 시각), 전송 완료 알림 정리 (status + 전송 시각 이전)
+CREATE INDEX IF NOT EXISTS idx_notification_outbox_status_next_attempt ON notification_outbox (status, next_attempt_at);
+CREATE INDEX IF NOT EXISTS idx_notification_outbox_status_sent_at ON notification_outbox (status, sent_at);
+
+-- 아카이브 상품 ID 조회 (기본 키가 종료 시각부터 시작하므로 ID만으로는 사용할 수 없음)
+CREATE INDEX IF NOT EXISTS idx_archived_products_id ON archived_products (id);
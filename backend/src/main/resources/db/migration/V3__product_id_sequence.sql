@@ -0,0 +1,13 @@
+-- 상품 ID를 IDENTITY 대신 시퀀스에서 받음 (Hibernate pooled-lo, 한 번에 50개 할당)
+-- 기존 상품 ID와 겹치지 않도록 지금까지 발급된 ID 다음부터 시작
+-- (가장 큰 ID가 이미 아카이브로 옮겨졌거나 삭제됐을 수 있으므로 AUTO_INCREMENT 값과 아카이브 테이블의 최대 ID도 함께 봄)
+SET @product_seq_start = GREATEST(
+        (SELECT COALESCE(MAX(id), 0) + 1 FROM product),
+        (SELECT COALESCE(MAX(id), 0) + 1 FROM archived_products),
+        COALESCE((SELECT AUTO_INCREMENT FROM information_schema.TABLES
+                  WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'product'), 1));
+SET @create_product_seq = CONCAT('CREATE SEQUENCE IF NOT EXISTS product_seq START WITH ', @product_seq_start,
+                                 ' INCREMENT BY 50 NOCACHE');
+PREPARE stmt FROM @create_product_seq;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,25 @@
+-- 판매자별 판매 현황 요약 (SellerStatsService). 상품 등록/경매 종료 트랜잭션에서 증감분을 더해서 유지한다
+CREATE TABLE seller_stats (
+    seller_id            BIGINT NOT NULL,
+    active_count         BIGINT NOT NULL,
+    sold_count           BIGINT NOT NULL,
+    unsold_count         BIGINT NOT NULL,
+    gross_winning_price  BIGINT NOT NULL,
+    total_bids           BIGINT NOT NULL,
+    bid_counted_auctions BIGINT NOT NULL,
+    PRIMARY KEY (seller_id)
+) ENGINE = InnoDB;
+
+-- 기존 상품/아카이브 상품으로 한 번 채움. 종료된 경매의 입찰 수는 남아있지 않아서 평균 입찰 수는 이후 종료분부터 집계
+INSERT INTO seller_stats (seller_id, active_count, sold_count, unsold_count, gross_winning_price, total_bids, bid_counted_auctions)
+SELECT seller_id,
+       SUM(status = 'SELLING'),
+       SUM(status = 'SOLD_OUT' AND winning_price IS NOT NULL),
+       SUM(status = 'SOLD_OUT' AND winning_price IS NULL),
+       COALESCE(SUM(CASE WHEN status = 'SOLD_OUT' THEN winning_price END), 0),
+       0,
+       0
+FROM (SELECT seller_id, status, winning_price FROM product
+      UNION ALL
+      SELECT seller_id, status, winning_price FROM archived_products) history
+GROUP BY seller_id;
@@ -0,0 +1,272 @@
+package io.github.suho149.realtime_auction;
+
+import io.github.suho149.realtime_auction.domain.notification.entity.OutboxStatus;
+import io.github.suho149.realtime_auction.domain.notification.repository.NotificationOutboxRepository;
+import io.github.suho149.realtime_auction.domain.product.entity.ProductStatus;
+import io.github.suho149.realtime_auction.domain.product.repository.ArchivedProductRepository;
+import io.github.suho149.realtime_auction.domain.product.repository.ProductRepository;
+import io.github.suho149.realtime_auction.domain.user.repository.SellerStatsRepository;
+import io.github.suho149.realtime_auction.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MariaDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Flyway 마이그레이션을 적용한 MariaDB에서 리포지토리 메서드를 실제로 호출하고, Hibernate가 실행한 SQL(바인딩 값 포함)의
+ * 실행 계획을 확인한다. 문장 하나라도 테이블 전체 스캔(type = ALL)으로 실행되면 실패한다. Docker가 없으면 건너뛴다.
+ *
+ * 리포지토리 인터페이스에 선언된 메서드는 모두 아래 호출 목록에 있어야 한다 (새 쿼리 메서드를 추가하면 여기에도 호출을 추가).
+ * 데이터를 바꾸는 메서드도 실행 계획만 확인하도록 호출마다 트랜잭션을 롤백한다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SchemaIndexPlanTest {
+
+    private static final List<Class<?>> REPOSITORIES = List.of(ProductRepository.class, ArchivedProductRepository.class,
+            UserRepository.class, SellerStatsRepository.class, NotificationOutboxRepository.class);
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 1, 2, 0);
+
+    @Container
+    private static final MariaDBContainer<?> MARIADB = new MariaDBContainer<>("mariadb:11.4");
+
+    private static boolean seeded;
+
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private ArchivedProductRepository archivedProductRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private SellerStatsRepository sellerStatsRepository;
+    @Autowired
+    private NotificationOutboxRepository notificationOutboxRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(
+            new DriverManagerDataSource(MARIADB.getJdbcUrl(), MARIADB.getUsername(), MARIADB.getPassword()));
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MARIADB::getJdbcUrl);
+        registry.add("spring.datasource.username", MARIADB::getUsername);
+        registry.add("spring.datasource.password", MARIADB::getPassword);
+    }
+
+    @BeforeEach
+    void seed() {
+        if (seeded) {
+            return;
+        }
+        // 실제와 비슷한 분포: 대부분 종료된 상품, 일부 진행 중 상품, 대부분 전송 완료된 알림
+        jdbcTemplate.execute("INSERT INTO users (email, name, role) " +
+                "SELECT CONCAT('user', seq, '@example.com'), CONCAT('user', seq), 'USER' FROM seq_1_to_2000");
+        jdbcTemplate.execute("INSERT INTO product (title, description, starting_price, auction_start_time, auction_end_time, status, seller_id) " +
+                "SELECT CONCAT('상품 ', seq), '설명', 1000, " +
+                "'2024-01-01' + INTERVAL seq MINUTE, '2024-01-02' + INTERVAL seq MINUTE, " +
+                "IF(seq % 20 = 0, 'SELLING', 'SOLD_OUT'), 1 + seq % 2000 FROM seq_1_to_50000");
+        jdbcTemplate.execute("INSERT INTO notification_outbox (recipient_email, type, product_id, message, status, attempts, next_attempt_at, created_at, sent_at) " +
+                "SELECT 'user1@example.com', 'AUCTION_WON', seq, '낙찰', IF(seq % 50 = 0, 'PENDING', 'SENT'), 0, " +
+                "'2024-01-01' + INTERVAL seq MINUTE, '2024-01-01' + INTERVAL seq MINUTE, '2024-01-01' + INTERVAL seq MINUTE FROM seq_1_to_20000");
+        jdbcTemplate.execute("INSERT INTO archived_products (id, auction_end_time, archived_at, auction_start_time, description, starting_price, status, title, seller_id) " +
+                "SELECT 100000 + seq, '2023-01-01' + INTERVAL seq MINUTE, NOW(), '2023-01-01', '설명', 1000, 'SOLD_OUT', '상품', 1 FROM seq_1_to_20000");
+        jdbcTemplate.execute("INSERT INTO seller_stats (seller_id, active_count, sold_count, unsold_count, gross_winning_price, total_bids, bid_counted_auctions) " +
+                "SELECT seq, 1, 0, 0, 0, 0, 0 FROM seq_1_to_2000");
+        jdbcTemplate.execute("ANALYZE TABLE users, product, notification_outbox, archived_products, seller_stats");
+        seeded = true;
+    }
+
+    // 호출하는 쪽(서비스/스케줄러)과 같은 형태의 인자로 리포지토리 메서드를 호출
+    private Map<String, Runnable> invocations() {
+        List<Long> ids = LongStream.rangeClosed(49_901, 50_000).boxed().toList();
+        Map<String, Runnable> invocations = new LinkedHashMap<>();
+        invocations.put("ProductRepository.findAllWithSeller",
+                () -> productRepository.findAllWithSeller(PageRequest.of(0, 10, Sort.by("id"))));
+        invocations.put("ProductRepository.findByIdWithSeller", () -> productRepository.findByIdWithSeller(42L));
+        invocations.put("ProductRepository.findAllByIdWithSeller", () -> productRepository.findAllByIdWithSeller(ids.subList(0, 20)));
+        invocations.put("ProductRepository.findByIdGreaterThanOrderByIdAsc",
+                () -> productRepository.findByIdGreaterThanOrderByIdAsc(40_000L, PageRequest.of(0, 1000)));
+        invocations.put("ProductRepository.findByStatusAndIdGreaterThanOrderByIdAsc",
+                () -> productRepository.findByStatusAndIdGreaterThanOrderByIdAsc(ProductStatus.SELLING, 0L, PageRequest.of(0, 1000)));
+        invocations.put("ProductRepository.findStartingBetween",
+                () -> productRepository.findStartingBetween(ProductStatus.SELLING, LocalDateTime.of(2024, 1, 10, 0, 0),
+                        LocalDateTime.of(2024, 1, 10, 0, 1), 0L, PageRequest.of(0, 500)));
+        invocations.put("ProductRepository.findByAuctionEndTimeBeforeAndStatus",
+                () -> productRepository.findByAuctionEndTimeBeforeAndStatus(LocalDateTime.of(2024, 1, 2, 1, 0), ProductStatus.SELLING));
+        invocations.put("ProductRepository.findIdsByStatusAndAuctionEndTimeBefore",
+                () -> productRepository.findIdsByStatusAndAuctionEndTimeBefore(ProductStatus.SOLD_OUT,
+                        LocalDateTime.of(2024, 1, 2, 1, 0), PageRequest.of(0, 500)));
+        invocations.put("ProductRepository.deleteByIdInAndStatus", () -> productRepository.deleteByIdInAndStatus(ids, ProductStatus.SOLD_OUT));
+        invocations.put("ProductRepository.findIdsByStatus", () -> productRepository.findIdsByStatus(ProductStatus.SELLING));
+        invocations.put("ArchivedProductRepository.findByProductId", () -> archivedProductRepository.findByProductId(100_042L));
+        invocations.put("ArchivedProductRepository.copyFromProducts", () -> archivedProductRepository.copyFromProducts(ids, NOW));
+        invocations.put("UserRepository.findByEmail", () -> userRepository.findByEmail("user42@example.com"));
+        invocations.put("SellerStatsRepository.add", () -> sellerStatsRepository.add(42L, -1, 1, 0, 15_000L, 7, 1));
+        invocations.put("SellerStatsRepository.findById", () -> sellerStatsRepository.findById(42L));
+        invocations.put("NotificationOutboxRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc",
+                () -> notificationOutboxRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(OutboxStatus.PENDING, NOW,
+                        PageRequest.of(0, 100)));
+        invocations.put("NotificationOutboxRepository.markSent",
+                () -> notificationOutboxRepository.markSent(List.of(50L, 100L, 150L), OutboxStatus.SENT, NOW));
+        invocations.put("NotificationOutboxRepository.deleteSentBefore",
+                () -> notificationOutboxRepository.deleteSentBefore(OutboxStatus.SENT, NOW));
+        return invocations;
+    }
+
+    @Test
+    void 리포지토리에_선언된_쿼리_메서드는_모두_실행_계획을_확인한다() {
+        List<String> declared = REPOSITORIES.stream()
+                .flatMap(repository -> Arrays.stream(repository.getDeclaredMethods())
+                        .filter(method -> !method.isSynthetic() && !method.isDefault())
+                        .map(method -> repository.getSimpleName() + "." + method.getName()))
+                .toList();
+
+        assertThat(invocations().keySet()).containsAll(declared);
+    }
+
+    @Test
+    void 리포지토리_쿼리는_전체_스캔하지_않는다() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        List<String> violations = new ArrayList<>();
+        invocations().forEach((name, invocation) -> {
+            SqlRecorder.clear();
+            transaction.executeWithoutResult(status -> {
+                invocation.run();
+                status.setRollbackOnly();
+            });
+            List<SqlRecorder.Statement> statements = SqlRecorder.drain();
+            if (statements.isEmpty()) {
+                violations.add(name + ": 실행된 SQL 없음");
+            }
+            for (SqlRecorder.Statement statement : statements) {
+                List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + statement.sql(), statement.parameters().toArray());
+                // INSERT 대상 테이블 행은 항상 type = ALL로 표시되므로 제외 (INSERT ... SELECT의 SELECT 부분은 검사)
+                if (plan.isEmpty() || plan.stream().anyMatch(row -> "ALL".equals(row.get("type"))
+                        && !"INSERT".equals(row.get("select_type")))) {
+                    violations.add(name + ": " + statement.sql() + " -> " + plan);
+                }
+            }
+        });
+
+        assertThat(violations).isEmpty();
+    }
+
+    // 애플리케이션 DataSource를 감싸서 실행된 PreparedStatement의 SQL과 바인딩 값을 기록
+    @TestConfiguration
+    static class RecordingDataSourceConfig {
+
+        @Bean
+        static BeanPostProcessor recordingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return (bean instanceof DataSource dataSource) ? SqlRecorder.wrap(dataSource, DataSource.class) : bean;
+                }
+            };
+        }
+    }
+
+    static final class SqlRecorder {
+
+        record Statement(String sql, List<Object> parameters) {
+        }
+
+        private static final List<Statement> STATEMENTS = new ArrayList<>();
+
+        private SqlRecorder() {
+        }
+
+        static synchronized void clear() {
+            STATEMENTS.clear();
+        }
+
+        static synchronized List<Statement> drain() {
+            List<Statement> drained = List.copyOf(STATEMENTS);
+            STATEMENTS.clear();
+            return drained;
+        }
+
+        private static synchronized void record(String sql, List<Object> parameters) {
+            STATEMENTS.add(new Statement(sql, new ArrayList<>(parameters)));
+        }
+
+        // DataSource -> Connection -> PreparedStatement 순으로 감싸고, 나머지 호출은 그대로 위임
+        @SuppressWarnings("unchecked")
+        static <T> T wrap(T target, Class<T> type) {
+            return (T) Proxy.newProxyInstance(SqlRecorder.class.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+                Object result = invoke(target, method, args);
+                if (result instanceof Connection connection && method.getName().equals("getConnection")) {
+                    return wrap(connection, Connection.class);
+                }
+                if (result instanceof PreparedStatement statement && method.getName().equals("prepareStatement")) {
+                    return recording(statement, (String) args[0]);
+                }
+                return result;
+            });
+        }
+
+        private static PreparedStatement recording(PreparedStatement target, String sql) {
+            List<Object> parameters = new ArrayList<>();
+            return (PreparedStatement) Proxy.newProxyInstance(SqlRecorder.class.getClassLoader(), new Class<?>[]{PreparedStatement.class},
+                    (proxy, method, args) -> {
+                        String name = method.getName();
+                        if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                            while (parameters.size() < index) {
+                                parameters.add(null);
+                            }
+                            parameters.set(index - 1, name.equals("setNull") ? null : args[1]);
+                        } else if (name.startsWith("execute") && (args == null || args.length == 0)) {
+                            record(sql, parameters);
+                        } else if (name.equals("clearParameters")) {
+                            parameters.clear();
+                        }
+                        return invoke(target, method, args);
+                    });
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
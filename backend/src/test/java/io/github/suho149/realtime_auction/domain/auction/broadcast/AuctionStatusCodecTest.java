@@ -0,0 +1,45 @@
+package io.github.suho149.realtime_auction.domain.auction.broadcast;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.suho149.realtime_auction.domain.auction.dto.AuctionStatusResponse;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AuctionStatusCodecTest {
+
+    @Test
+    void 바이너리로_인코딩한_상태를_그대로_복원한다() {
+        AuctionStatusResponse status = new AuctionStatusResponse(1_250_000L, "홍길동", 42, 3_401L);
+
+        AuctionStatusResponse decoded = AuctionStatusCodec.decode(AuctionStatusCodec.encode(status));
+
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(status);
+    }
+
+    @Test
+    void 최고가가_없으면_0으로_기록한다() {
+        AuctionStatusResponse decoded = AuctionStatusCodec.decode(
+                AuctionStatusCodec.encode(new AuctionStatusResponse(null, "입찰자 없음", 0, 0L)));
+
+        assertThat(decoded.getCurrentHighestBid()).isZero();
+        assertThat(decoded.getHighestBidderName()).isEqualTo("입찰자 없음");
+    }
+
+    @Test
+    void 바이너리_형식이_JSON보다_작다() throws Exception {
+        AuctionStatusResponse status = new AuctionStatusResponse(1_250_000L, "홍길동", 42, 3_401L);
+
+        int json = new ObjectMapper().writeValueAsBytes(status).length;
+        int binary = AuctionStatusCodec.encode(status).length;
+
+        assertThat(binary * 4).as("JSON %d바이트, 바이너리 %d바이트", json, binary).isLessThan(json);
+    }
+
+    @Test
+    void 버전이_다르면_거부한다() {
+        assertThatThrownBy(() -> AuctionStatusCodec.decode(new byte[]{9, 0}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
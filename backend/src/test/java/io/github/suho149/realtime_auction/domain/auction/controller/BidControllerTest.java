@@ -0,0 +1,159 @@
+package io.github.suho149.realtime_auction.domain.auction.controller;
+
+import io.github.suho149.realtime_auction.domain.auction.cluster.AuctionBidRouter;
+import io.github.suho149.realtime_auction.domain.auction.dto.BidResult;
+import io.github.suho149.realtime_auction.global.error.exception.InvalidRequestException;
+import io.github.suho149.realtime_auction.global.jwt.AuthUser;
+import io.github.suho149.realtime_auction.global.jwt.JwtTokenProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 보안 필터는 끄고 인증 주체만 요청에 직접 넣어, 컨트롤러와 GlobalExceptionHandler의 상태 코드 매핑만 확인
+@WebMvcTest(BidController.class)
+@AutoConfigureMockMvc(addFilters = false)
+class BidControllerTest {
+
+    private static final long PRODUCT_ID = 7L;
+    private static final long BIDDER_ID = 42L;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private AuctionBidRouter auctionBidRouter;
+
+    @MockitoBean(name = "bidExecutor")
+    private ThreadPoolTaskExecutor bidExecutor;
+
+    // JwtAuthenticationFilter(Filter 빈)가 슬라이스에 함께 올라오므로 의존성만 채움
+    @MockitoBean
+    private JwtTokenProvider jwtTokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        // 입찰 작업을 호출 스레드에서 바로 실행
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(bidExecutor).execute(any(Runnable.class));
+    }
+
+    @Test
+    void 수락된_입찰은_200과_현재_최고가를_반환한다() throws Exception {
+        when(auctionBidRouter.placeBid(PRODUCT_ID, 15000L, BIDDER_ID)).thenReturn(BidResult.accepted(15000L, 3L));
+
+        MvcResult result = mockMvc.perform(bid(15000L))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("ACCEPTED"))
+                .andExpect(jsonPath("$.currentHighestBid").value(15000))
+                .andExpect(jsonPath("$.sequence").value(3));
+    }
+
+    @Test
+    void 거절된_입찰은_409와_거절_사유를_반환한다() throws Exception {
+        when(auctionBidRouter.placeBid(PRODUCT_ID, 10000L, BIDDER_ID))
+                .thenReturn(BidResult.rejected("입찰가가 현재 최고가보다 높아야 합니다.", 15000L));
+
+        MvcResult result = mockMvc.perform(bid(10000L))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.status").value("REJECTED"))
+                .andExpect(jsonPath("$.reason").value("입찰가가 현재 최고가보다 높아야 합니다."))
+                .andExpect(jsonPath("$.currentHighestBid").value(15000));
+    }
+
+    @Test
+    void 소유_노드의_응답을_받지_못하면_202와_결과를_알_수_없음을_반환한다() throws Exception {
+        when(auctionBidRouter.placeBid(PRODUCT_ID, 15000L, BIDDER_ID))
+                .thenReturn(BidResult.unknown("입찰 처리 결과를 확인하지 못했습니다. 현재 가격을 확인한 뒤 다시 시도해주세요.", 12000L));
+
+        MvcResult result = mockMvc.perform(bid(15000L))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.status").value("UNKNOWN"))
+                .andExpect(jsonPath("$.currentHighestBid").value(12000));
+    }
+
+    @Test
+    void 입찰_스레드_풀이_가득_차면_503을_반환한다() throws Exception {
+        doThrow(new TaskRejectedException("대기열 초과")).when(bidExecutor).execute(any(Runnable.class));
+
+        mockMvc.perform(bid(15000L))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.code").value("TOO_MANY_REQUESTS"));
+
+        verifyNoInteractions(auctionBidRouter);
+    }
+
+    @Test
+    void 존재하지_않는_상품에_입찰하면_400을_반환한다() throws Exception {
+        when(auctionBidRouter.placeBid(PRODUCT_ID, 15000L, BIDDER_ID))
+                .thenThrow(new InvalidRequestException("상품을 찾을 수 없습니다."));
+
+        MvcResult result = mockMvc.perform(bid(15000L))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("INVALID_REQUEST"))
+                .andExpect(jsonPath("$.message").value("상품을 찾을 수 없습니다."));
+    }
+
+    @Test
+    void 내부_오류의_IllegalArgumentException은_400으로_바꾸지_않는다() throws Exception {
+        when(auctionBidRouter.placeBid(PRODUCT_ID, 15000L, BIDDER_ID))
+                .thenThrow(new IllegalArgumentException("입찰 전달 메시지 직렬화 실패"));
+
+        MvcResult result = mockMvc.perform(bid(15000L))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        assertThatThrownBy(() -> mockMvc.perform(asyncDispatch(result)))
+                .hasRootCauseInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static MockHttpServletRequestBuilder bid(long bidAmount) {
+        AuthUser user = new AuthUser(BIDDER_ID, "bidder@example.com", List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        return post("/api/v1/auctions/{productId}/bids", PRODUCT_ID)
+                .principal(new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"bidAmount\": " + bidAmount + "}");
+    }
+}
@@ -0,0 +1,43 @@
+package io.github.suho149.realtime_auction.domain.auction.journal;
+
+import io.github.suho149.realtime_auction.domain.auction.store.AuctionRedisKeys;
+import io.github.suho149.realtime_auction.global.redis.RedisStore;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class BidJournalRecoveryTest {
+
+    private final BidJournal bidJournal = mock(BidJournal.class);
+    private final RedisStore redisStore = mock(RedisStore.class);
+    private final BidJournalRecovery recovery = new BidJournalRecovery(bidJournal, redisStore);
+
+    @Test
+    void 최고가와_입찰_순번을_한_경매의_키에_대한_스크립트_한_번으로_복구한다() {
+        JournaledAuction auction = JournaledAuction.restore(3L, 2000L, "8",
+                new LinkedHashSet<>(List.of("7", "8")), 42L, 5L);
+        when(bidJournal.find(3L)).thenReturn(auction);
+
+        assertThat(recovery.recover(3L)).isSameAs(auction);
+
+        verify(redisStore).execute(any(RedisScript.class),
+                eq(List.of(AuctionRedisKeys.highestBid(3L), AuctionRedisKeys.highestBidder(3L),
+                        AuctionRedisKeys.bidders(3L), AuctionRedisKeys.sequence(3L))),
+                eq("2000"), eq("8"), eq("5"), eq("7"), eq("8"));
+        verifyNoMoreInteractions(redisStore);
+    }
+
+    @Test
+    void 저널에_없는_경매는_복구하지_않는다() {
+        assertThat(recovery.recover(9L)).isNull();
+
+        verifyNoInteractions(redisStore);
+    }
+}
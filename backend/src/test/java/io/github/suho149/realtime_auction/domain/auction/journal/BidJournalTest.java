@@ -0,0 +1,116 @@
+package io.github.suho149.realtime_auction.domain.auction.journal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BidJournalTest {
+
+    private static final int SEGMENT_SIZE = 1024 * 1024;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void 재시작하면_저널을_재생해서_경매_상태를_복원한다() throws IOException {
+        BidJournal journal = open();
+        journal.appendBid(1L, 1000L, "a@test.com", 1L);
+        journal.appendBid(1L, 2000L, "b@test.com", 2L);
+        journal.appendBid(2L, 500L, "a@test.com", 1L);
+        journal.appendClose(2L);
+        journal.close();
+
+        BidJournal reopened = open();
+        JournaledAuction auction = reopened.find(1L);
+
+        assertThat(auction.getHighestBid()).isEqualTo(2000L);
+        assertThat(auction.getHighestBidder()).isEqualTo("b@test.com");
+        assertThat(auction.getBidders()).containsExactlyInAnyOrder("a@test.com", "b@test.com");
+        assertThat(reopened.find(2L)).isNull();
+        reopened.close();
+    }
+
+    @Test
+    void 재시작하면_경매별_입찰_순번도_복원한다() throws IOException {
+        BidJournal journal = open();
+        journal.appendBid(1L, 1000L, "a@test.com", 1L);
+        journal.appendBid(2L, 500L, "a@test.com", 1L);
+        journal.appendBid(1L, 2000L, "b@test.com", 2L);
+        journal.snapshot();
+        journal.appendBid(1L, 3000L, "c@test.com", 3L);
+        journal.close();
+
+        BidJournal reopened = open();
+
+        assertThat(reopened.find(1L).getBidSequence()).isEqualTo(3L);
+        assertThat(reopened.find(2L).getBidSequence()).isEqualTo(1L);
+        reopened.close();
+    }
+
+    @Test
+    void 체크섬이_깨진_레코드부터는_재생하지_않는다() throws IOException {
+        BidJournal journal = open();
+        journal.appendBid(1L, 1000L, "a@test.com", 1L);
+        journal.appendBid(1L, 2000L, "b@test.com", 2L);
+        journal.close();
+
+        // 두 번째 레코드의 입찰가 바이트를 손상시킴
+        Path segment = segments().get(0);
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            int secondRecord = 8 + 35 + "a@test.com".length();
+            channel.write(ByteBuffer.wrap(new byte[]{0x7F}), secondRecord + 8 + 20);
+        }
+
+        BidJournal reopened = open();
+        assertThat(reopened.find(1L).getHighestBid()).isEqualTo(1000L);
+
+        // 손상된 꼬리 이후에도 정상적으로 이어서 기록된다
+        reopened.appendBid(1L, 3000L, "c@test.com", 3L);
+        reopened.close();
+        assertThat(open().find(1L).getHighestBid()).isEqualTo(3000L);
+    }
+
+    @Test
+    void 스냅샷_이후_이전_세그먼트를_정리하고_종료된_경매는_제외한다() throws IOException {
+        BidJournal journal = open();
+        for (int i = 0; i < 30_000; i++) {
+            journal.appendBid(i % 3, 100L + i, "user" + (i % 5) + "@test.com", i / 3 + 1L);
+        }
+        journal.appendClose(0L);
+        assertThat(segments()).hasSizeGreaterThan(1);
+
+        journal.snapshot();
+        journal.appendBid(1L, 1_000_000L, "late@test.com", 10_001L);
+        journal.close();
+
+        assertThat(segments()).hasSize(1);
+        BidJournal reopened = open();
+        assertThat(reopened.find(0L)).isNull();
+        assertThat(reopened.find(1L).getHighestBid()).isEqualTo(1_000_000L);
+        assertThat(reopened.find(2L).getBidders()).hasSize(5);
+        assertThat(reopened.liveAuctions()).hasSize(2);
+        reopened.close();
+    }
+
+    private BidJournal open() throws IOException {
+        BidJournal journal = new BidJournal(dir.toString(), SEGMENT_SIZE, 1L, true);
+        journal.open();
+        return journal;
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(path -> path.getFileName().toString().endsWith(".log")).sorted().toList();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package io.github.suho149.realtime_auction.domain.auction.presence;
+
+import io.github.suho149.realtime_auction.global.jwt.AuthUser;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ViewerPresenceTrackerTest {
+
+    private final ViewerPresenceTracker tracker = new ViewerPresenceTracker();
+
+    @Test
+    void 구독_해제_연결종료에_따라_경매별_시청자_수가_바뀐다() {
+        tracker.onSubscribe(new SessionSubscribeEvent(this, frame(StompCommand.SUBSCRIBE, "s1", "sub-0", "/topic/auctions/1"), null));
+        tracker.onSubscribe(new SessionSubscribeEvent(this, frame(StompCommand.SUBSCRIBE, "s2", "sub-0", "/topic/auctions/1"), null));
+        tracker.onSubscribe(new SessionSubscribeEvent(this, frame(StompCommand.SUBSCRIBE, "s2", "sub-1", "/topic/auctions/2"), null));
+        // 하위 토픽 구독은 시청으로 세지 않는다
+        tracker.onSubscribe(new SessionSubscribeEvent(this, frame(StompCommand.SUBSCRIBE, "s2", "sub-2", "/topic/auctions/1/viewers"), null));
+        assertThat(tracker.localCounts()).containsEntry(1L, 2L).containsEntry(2L, 1L).hasSize(2);
+
+        tracker.onUnsubscribe(new SessionUnsubscribeEvent(this, frame(StompCommand.UNSUBSCRIBE, "s1", "sub-0", null), null));
+        assertThat(tracker.localCounts()).containsEntry(1L, 1L);
+
+        // 연결 종료 이벤트가 두 번 와도 한 번만 반영
+        SessionDisconnectEvent disconnect = new SessionDisconnectEvent(this, frame(StompCommand.DISCONNECT, "s2", null, null), "s2", CloseStatus.NORMAL);
+        tracker.onDisconnect(disconnect);
+        tracker.onDisconnect(disconnect);
+        assertThat(tracker.localCounts()).isEmpty();
+        assertThat(tracker.localViewers()).isEmpty();
+    }
+
+    @Test
+    void 한_세션이_JSON과_바이너리_토픽을_함께_구독해도_한_명으로_센다() {
+        tracker.onSubscribe(new SessionSubscribeEvent(this, frame(StompCommand.SUBSCRIBE, "s1", "sub-0", "/topic/auctions/1"), null));
+        tracker.onSubscribe(new SessionSubscribeEvent(this, frame(StompCommand.SUBSCRIBE, "s1", "sub-1", "/topic/auctions/1/binary"), null));
+        tracker.onSubscribe(new SessionSubscribeEvent(this, frame(StompCommand.SUBSCRIBE, "s2", "sub-0", "/topic/auctions/1/binary"), null));
+        assertThat(tracker.localCounts()).containsEntry(1L, 2L);
+
+        // 두 구독 중 하나만 해제하면 여전히 시청 중
+        tracker.onUnsubscribe(new SessionUnsubscribeEvent(this, frame(StompCommand.UNSUBSCRIBE, "s1", "sub-0", null), null));
+        assertThat(tracker.localCounts()).containsEntry(1L, 2L);
+
+        tracker.onUnsubscribe(new SessionUnsubscribeEvent(this, frame(StompCommand.UNSUBSCRIBE, "s1", "sub-1", null), null));
+        tracker.onUnsubscribe(new SessionUnsubscribeEvent(this, frame(StompCommand.UNSUBSCRIBE, "s2", "sub-0", null), null));
+        assertThat(tracker.localCounts()).isEmpty();
+    }
+
+    @Test
+    void 로그인_사용자는_이메일이_아닌_사용자_ID로_식별한다() {
+        AuthUser authUser = new AuthUser(7L, "viewer@test.com", List.of());
+        UsernamePasswordAuthenticationToken user = new UsernamePasswordAuthenticationToken(authUser, null, authUser.getAuthorities());
+
+        tracker.onSubscribe(new SessionSubscribeEvent(this, frame(StompCommand.SUBSCRIBE, "s1", "sub-0", "/topic/auctions/1"), user));
+        tracker.onSubscribe(new SessionSubscribeEvent(this, frame(StompCommand.SUBSCRIBE, "s2", "sub-0", "/topic/auctions/1"), null));
+
+        assertThat(tracker.localViewers().get(1L)).containsExactlyInAnyOrder("user:7", "session:s2");
+    }
+
+    private static Message<byte[]> frame(StompCommand command, String sessionId, String subscriptionId, String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setSessionId(sessionId);
+        if (subscriptionId != null) {
+            accessor.setSubscriptionId(subscriptionId);
+        }
+        if (destination != null) {
+            accessor.setDestination(destination);
+        }
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
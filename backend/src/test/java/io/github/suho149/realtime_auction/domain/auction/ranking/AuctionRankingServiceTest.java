@@ -0,0 +1,157 @@
+package io.github.suho149.realtime_auction.domain.auction.ranking;
+
+import io.github.suho149.realtime_auction.domain.auction.dto.AuctionRankingResponse;
+import io.github.suho149.realtime_auction.domain.auction.store.AuctionRedisKeys;
+import io.github.suho149.realtime_auction.domain.product.repository.ProductRepository;
+import io.github.suho149.realtime_auction.global.redis.RedisBatch;
+import io.github.suho149.realtime_auction.global.redis.RedisStore;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 점수 계산은 RECORD_BID_SCRIPT / RESCALE_SCRIPT 와 같은 식을 Java로 옮겨 확인한다 (스크립트를 바꾸면 여기도 함께).
+ */
+class AuctionRankingServiceTest {
+
+    private static final long HALF_LIFE_MS = 600_000L;
+    private static final long END_TIME_MILLIS = 1_893_456_000_000L;
+
+    private final RedisStore redisStore = mock(RedisStore.class);
+    private final AuctionRankingService rankingService =
+            new AuctionRankingService(redisStore, mock(ProductRepository.class), HALF_LIFE_MS);
+
+    @Test
+    void 재조정_전후로_인기_점수를_현재_시각으로_환산한_값이_같다() {
+        long now = System.currentTimeMillis();
+        long epoch = now - 3 * HALF_LIFE_MS;
+        // 상품 1: 방금 입찰 2건, 상품 2: 반감기 1회 전 입찰 1건
+        Map<String, Double> scores = new LinkedHashMap<>();
+        scores.put("1", weight(now, epoch) + weight(now, epoch));
+        scores.put("2", weight(now - HALF_LIFE_MS, epoch));
+
+        List<AuctionRankingResponse> before = hot(scores, epoch);
+
+        long steps = (now - epoch) / HALF_LIFE_MS;
+        scores.replaceAll((member, score) -> score * Math.pow(2, -steps));
+        List<AuctionRankingResponse> after = hot(scores, epoch + steps * HALF_LIFE_MS);
+
+        assertThat(scores.get("1")).isCloseTo(2.0, offset(1e-9));
+        for (List<AuctionRankingResponse> ranking : List.of(before, after)) {
+            assertThat(ranking).extracting(AuctionRankingResponse::getProductId).containsExactly(1L, 2L);
+            assertThat(ranking.get(0).getHeat()).isCloseTo(2.0, offset(0.01));
+            assertThat(ranking.get(1).getHeat()).isCloseTo(0.5, offset(0.01));
+        }
+    }
+
+    @Test
+    void 재조정은_현재_시각과_반감기와_제거_기준_점수를_스크립트에_넘긴다() {
+        long before = System.currentTimeMillis();
+        rankingService.rescaleHotRanking();
+
+        verify(redisStore).execute(any(RedisScript.class), eq(List.of(AuctionRedisKeys.hotRanking(), AuctionRedisKeys.hotRankingEpoch())),
+                argThat((String now) -> Long.parseLong(now) >= before),
+                eq(String.valueOf(HALF_LIFE_MS)), eq("0.01"));
+    }
+
+    @Test
+    void 인기_랭킹은_기준_시각_다음부터_경매마다_요약과_최고가를_읽는다() {
+        long epoch = System.currentTimeMillis();
+        when(redisStore.reverseRangeWithScores(AuctionRedisKeys.hotRanking(), 0, 2)).thenReturn(tuples(Map.of("5", 3.0, "6", 2.0, "7", 1.0)));
+        RedisBatch batch = batchReturning(Arrays.asList(
+                String.valueOf(epoch),
+                summary("입찰 있음", 1000L), "4000",
+                Map.of(), null,                      // 종료 처리와 겹쳐 요약이 지워진 경매
+                summary("입찰 없음", 2000L), null));
+
+        List<AuctionRankingResponse> ranking = rankingService.hot(3);
+
+        assertThat(ranking)
+                .extracting(AuctionRankingResponse::getProductId, AuctionRankingResponse::getTitle, AuctionRankingResponse::getCurrentPrice)
+                .containsExactly(tuple(5L, "입찰 있음", 4000L), tuple(7L, "입찰 없음", 2000L));
+        assertThat(ranking.get(0).getAuctionEndTime()).isEqualTo(endTime());
+        verify(batch).get(AuctionRedisKeys.hotRankingEpoch());
+    }
+
+    @Test
+    void 마감_임박_랭킹은_기준_시각_없이_첫_항목부터_요약과_최고가를_읽는다() {
+        when(redisStore.rangeByScore(eq(AuctionRedisKeys.endingSoonRanking()), anyDouble(), eq(Double.POSITIVE_INFINITY), eq(0L), anyLong()))
+                .thenReturn(new LinkedHashSet<>(List.of("8", "9")));
+        batchReturning(Arrays.asList(
+                summary("곧 마감", 3000L), null,
+                summary("조금 뒤 마감", 1000L), "7000"));
+
+        List<AuctionRankingResponse> ranking = rankingService.endingSoon(2);
+
+        assertThat(ranking)
+                .extracting(AuctionRankingResponse::getProductId, AuctionRankingResponse::getTitle,
+                        AuctionRankingResponse::getCurrentPrice, AuctionRankingResponse::getHeat)
+                .containsExactly(tuple(8L, "곧 마감", 3000L, null), tuple(9L, "조금 뒤 마감", 7000L, null));
+    }
+
+    // RECORD_BID_SCRIPT: 입찰 1건의 가중치 2^((입찰 시각 - 기준 시각) / 반감기)
+    private static double weight(long bidAt, long epoch) {
+        return Math.pow(2, (double) (bidAt - epoch) / HALF_LIFE_MS);
+    }
+
+    private List<AuctionRankingResponse> hot(Map<String, Double> scores, long epoch) {
+        when(redisStore.reverseRangeWithScores(AuctionRedisKeys.hotRanking(), 0, scores.size() - 1)).thenReturn(tuples(scores));
+        List<Object> results = new ArrayList<>();
+        results.add(String.valueOf(epoch));
+        scores.keySet().forEach(member -> {
+            results.add(summary("상품 " + member, 1000L));
+            results.add(null);
+        });
+        batchReturning(results);
+        return rankingService.hot(scores.size());
+    }
+
+    private RedisBatch batchReturning(List<Object> results) {
+        RedisBatch batch = mock(RedisBatch.class, Answers.RETURNS_SELF);
+        when(batch.execute()).thenReturn(results);
+        when(redisStore.batch()).thenReturn(batch);
+        return batch;
+    }
+
+    // 점수 내림차순 (ZREVRANGE WITHSCORES 응답 순서)
+    private static Set<ZSetOperations.TypedTuple<String>> tuples(Map<String, Double> scores) {
+        Set<ZSetOperations.TypedTuple<String>> tuples = new LinkedHashSet<>();
+        scores.entrySet().stream()
+                .sorted(Map.Entry.<String, Double>comparingByValue().reversed())
+                .forEach(entry -> tuples.add(new DefaultTypedTuple<>(entry.getKey(), entry.getValue())));
+        return tuples;
+    }
+
+    private static Map<String, String> summary(String title, long startingPrice) {
+        return Map.of("title", title, "startingPrice", String.valueOf(startingPrice), "auctionEndTime", String.valueOf(END_TIME_MILLIS));
+    }
+
+    private static LocalDateTime endTime() {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(END_TIME_MILLIS), ZoneId.systemDefault());
+    }
+}
@@ -0,0 +1,78 @@
+package io.github.suho149.realtime_auction.domain.auction.scheduler;
+
+import io.github.suho149.realtime_auction.domain.auction.service.AuctionService;
+import io.github.suho149.realtime_auction.domain.auction.store.LiveAuctionStore;
+import io.github.suho149.realtime_auction.domain.product.entity.Product;
+import io.github.suho149.realtime_auction.domain.product.entity.ProductStatus;
+import io.github.suho149.realtime_auction.domain.product.repository.ProductRepository;
+import io.github.suho149.realtime_auction.global.redis.RedisBatch;
+import io.github.suho149.realtime_auction.global.redis.RedisStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Answers;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class AuctionActivationSchedulerTest {
+
+    private final ProductRepository productRepository = mock(ProductRepository.class);
+    private final RedisStore redisStore = mock(RedisStore.class);
+    private final RedisBatch batch = mock(RedisBatch.class, Answers.RETURNS_SELF);
+    private final LiveAuctionStore liveAuctionStore = new LiveAuctionStore();
+    private final AuctionActivationScheduler scheduler = new AuctionActivationScheduler(productRepository, redisStore,
+            liveAuctionStore, mock(AuctionService.class), 60_000L, 300_000L);
+
+    @BeforeEach
+    void setUp() {
+        when(redisStore.batch()).thenReturn(batch);
+        when(productRepository.findStartingBetween(any(), any(), any(), anyLong(), any(Pageable.class))).thenReturn(List.of());
+    }
+
+    @Test
+    void 이전_실행이_지나간_구간에_다른_노드가_등록한_상품도_다음_실행에서_활성화한다() {
+        scheduler.activate();
+        Product product = product(7L, LocalDateTime.now().plusSeconds(10));
+        when(productRepository.findStartingBetween(any(), any(), any(), anyLong(), any(Pageable.class))).thenReturn(List.of(product));
+
+        scheduler.activate();
+
+        ArgumentCaptor<LocalDateTime> from = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(productRepository, times(2)).findStartingBetween(eq(ProductStatus.SELLING), from.capture(), any(), eq(0L), any(Pageable.class));
+        assertThat(from.getAllValues().get(1)).isBefore(product.getAuctionStartTime());
+        assertThat(liveAuctionStore.contains(7L)).isTrue();
+        verify(batch).setIfAbsent(liveAuctionStore.highestBidKey(7L), LiveAuctionStore.toDecimalBytes(1000L));
+    }
+
+    @Test
+    void 이미_등록된_경매는_다시_조회돼도_건너뛴다() {
+        Product product = product(7L, LocalDateTime.now().plusSeconds(10));
+        when(productRepository.findStartingBetween(any(), any(), any(), anyLong(), any(Pageable.class))).thenReturn(List.of(product));
+
+        scheduler.activate();
+        scheduler.activate();
+
+        verify(batch, times(1)).setIfAbsent(any(), any());
+    }
+
+    private static Product product(long id, LocalDateTime startTime) {
+        Product product = Product.builder()
+                .title("상품")
+                .description("설명")
+                .startingPrice(1000L)
+                .auctionStartTime(startTime)
+                .auctionEndTime(startTime.plusHours(1))
+                .build();
+        ReflectionTestUtils.setField(product, "id", id);
+        return product;
+    }
+}
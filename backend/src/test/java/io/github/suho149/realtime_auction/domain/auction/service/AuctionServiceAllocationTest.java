@@ -0,0 +1,165 @@
+package io.github.suho149.realtime_auction.domain.auction.service;
+
+import io.github.suho149.realtime_auction.domain.auction.broadcast.AuctionStatusBroadcaster;
+import io.github.suho149.realtime_auction.domain.auction.dto.AuctionStatusResponse;
+import io.github.suho149.realtime_auction.domain.auction.dto.BidResult;
+import io.github.suho149.realtime_auction.domain.auction.presence.ViewerCountAggregator;
+import io.github.suho149.realtime_auction.domain.auction.store.LiveAuctionStore;
+import io.github.suho149.realtime_auction.domain.notification.service.OutbidNotifier;
+import io.github.suho149.realtime_auction.domain.product.repository.ProductRepository;
+import io.github.suho149.realtime_auction.domain.user.dto.UserProfile;
+import io.github.suho149.realtime_auction.domain.user.service.UserProfileCache;
+import io.github.suho149.realtime_auction.global.cluster.NodeIdentity;
+import io.github.suho149.realtime_auction.global.redis.RedisStore;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assumptions.assumeThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 수락되는 입찰 하나가 AuctionService 안에서 할당하는 힙 크기를 스레드 할당 카운터로 잰다.
+ * Redis 클라이언트와 협력 객체(브로드캐스트 전송, 프로필 캐시, 시청자 수, 알림)는 할당 없는 대역으로 바꿔서 입찰 경로 자체만 본다.
+ *
+ * 입찰마다 남는 할당 (예산에 포함)
+ * - 입찰 기록 스크립트 인자: 입찰가/입찰자 10진수 바이트 배열 2개와 가변 인자 배열 (Redis 클라이언트가 그대로 전송)
+ * - 응답 BidResult와 입찰 순번 박싱, BidPlacedEvent, 브로드캐스트할 AuctionStatusResponse와 최고가 박싱
+ * Redis 클라이언트의 스크립트 결과 List와 이벤트 리스너/브로드캐스트 직렬화의 할당은 이 측정에 포함하지 않는다.
+ */
+class AuctionServiceAllocationTest {
+
+    private static final long PRODUCT_ID = 1_000_007L;
+    private static final long FIRST_BIDDER = 1_000_001L;
+    private static final long SECOND_BIDDER = 1_000_002L;
+    private static final int WARMUP_BIDS = 50_000;
+    private static final int MEASURED_BIDS = 100_000;
+    // 위의 허용 할당 합계(약 200바이트)에 여유를 둔 값. 입찰자 문자열, 이전 입찰자 문자열/박싱이 다시 생기면 넘는다
+    private static final long BYTES_PER_BID_BUDGET = 256L;
+
+    @Test
+    void 수락되는_입찰의_할당은_예산_안이다() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeThat(threads.isThreadAllocatedMemorySupported()).isTrue();
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        LiveAuctionStore liveAuctionStore = new LiveAuctionStore();
+        liveAuctionStore.register(PRODUCT_ID, 1_000L);
+        AuctionService service = new AuctionService(mock(ProductRepository.class), new AcceptingRedisStore(), new NoopBroadcaster(),
+                liveAuctionStore, new NoopViewerCount(), new NoopOutbidNotifier(), new FixedProfileCache(), event -> {
+        }, none(), none());
+
+        long bidAmount = placeBids(service, 1_000L, WARMUP_BIDS);
+        long before = threads.getCurrentThreadAllocatedBytes();
+        placeBids(service, bidAmount, MEASURED_BIDS);
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+        assertThat(allocated / MEASURED_BIDS).isLessThanOrEqualTo(BYTES_PER_BID_BUDGET);
+    }
+
+    // 두 입찰자가 번갈아 올려 부르므로 매번 수락되고, 이전 최고 입찰자 알림 경로도 지남
+    private static long placeBids(AuctionService service, long startAmount, int count) {
+        long bidAmount = startAmount;
+        for (int i = 0; i < count; i++) {
+            bidAmount += 100L;
+            BidResult result = service.placeBid(PRODUCT_ID, bidAmount, (i & 1) == 0 ? FIRST_BIDDER : SECOND_BIDDER);
+            if (result.getStatus() != BidResult.Status.ACCEPTED) {
+                throw new IllegalStateException("입찰이 거절됨: " + result.getReason());
+            }
+        }
+        return bidAmount;
+    }
+
+    private static <T> ObjectProvider<T> none() {
+        return new ObjectProvider<>() {
+            @Override
+            public T getObject(Object... args) {
+                return null;
+            }
+
+            @Override
+            public T getIfAvailable() {
+                return null;
+            }
+
+            @Override
+            public T getIfUnique() {
+                return null;
+            }
+
+            @Override
+            public T getObject() {
+                return null;
+            }
+        };
+    }
+
+    // 입찰 기록 스크립트를 항상 수락으로 응답 (결과 List는 미리 만들어 둔 것을 재사용)
+    private static final class AcceptingRedisStore extends RedisStore {
+
+        private final List<Object> accepted = Arrays.asList(1L, LiveAuctionStore.toDecimalBytes(FIRST_BIDDER), 2L, 1L);
+
+        AcceptingRedisStore() {
+            super(null);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T execute(RedisScript<T> script, byte[][] keys, byte[]... args) {
+            return (T) accepted;
+        }
+    }
+
+    private static final class NoopBroadcaster extends AuctionStatusBroadcaster {
+
+        NoopBroadcaster() {
+            super(null, null, null);
+        }
+
+        @Override
+        public void broadcast(long productId, AuctionStatusResponse status) {
+        }
+    }
+
+    private static final class NoopViewerCount extends ViewerCountAggregator {
+
+        NoopViewerCount() {
+            super(null, null, null, new NodeIdentity("allocation-test"), 2_000L, false);
+        }
+
+        @Override
+        public long viewerCount(long productId) {
+            return 0L;
+        }
+    }
+
+    private static final class NoopOutbidNotifier extends OutbidNotifier {
+
+        NoopOutbidNotifier() {
+            super(null, null);
+        }
+
+        @Override
+        public void outbid(long previousBidder, long productId, long newHighestBid) {
+        }
+    }
+
+    private static final class FixedProfileCache extends UserProfileCache {
+
+        private final UserProfile profile = new UserProfile(FIRST_BIDDER, "입찰자", "bidder@test.com", null);
+
+        FixedProfileCache() {
+            super(null, 1, 0L);
+        }
+
+        @Override
+        public UserProfile get(long userId) {
+            return profile;
+        }
+    }
+}
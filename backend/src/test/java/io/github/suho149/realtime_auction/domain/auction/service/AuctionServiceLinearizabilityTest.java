@@ -0,0 +1,253 @@
+package io.github.suho149.realtime_auction.domain.auction.service;
+
+import io.github.suho149.realtime_auction.domain.auction.broadcast.AuctionStatusBroadcaster;
+import io.github.suho149.realtime_auction.domain.auction.dto.BidResult;
+import io.github.suho149.realtime_auction.domain.auction.journal.BidJournal;
+import io.github.suho149.realtime_auction.domain.auction.journal.JournaledAuction;
+import io.github.suho149.realtime_auction.domain.auction.presence.ViewerCountAggregator;
+import io.github.suho149.realtime_auction.domain.auction.service.BidHistoryChecker.BidOperation;
+import io.github.suho149.realtime_auction.domain.auction.service.BidHistoryChecker.RejectionCheck;
+import io.github.suho149.realtime_auction.domain.auction.store.AuctionRedisKeys;
+import io.github.suho149.realtime_auction.domain.auction.store.LiveAuctionStore;
+import io.github.suho149.realtime_auction.domain.notification.service.OutbidNotifier;
+import io.github.suho149.realtime_auction.domain.product.repository.ProductRepository;
+import io.github.suho149.realtime_auction.domain.user.service.UserProfileCache;
+import io.github.suho149.realtime_auction.global.cluster.ClusterMembershipChangedEvent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 여러 스레드가 한 경매에 무작위 입찰을 동시에 보낸 기록을 BidHistoryChecker로 확인한다.
+ * Redis는 InMemoryBidRedisStore(지연 스파이크 주입), 나머지 협력 객체는 목으로 대신하고 LiveAuctionStore는 실제 구현을 쓴다.
+ *
+ * 장애 주입
+ * - Redis 지연 스파이크: 명령 앞뒤로 무작위 정지
+ * - 소유 노드 이동: 진행 중인 입찰이 남은 채로 다른 노드가 경매를 넘겨받음 (멤버십 변경 이벤트로 캐시를 비움)
+ * - 두 노드 동시 소유: 락 임대 만료처럼 두 노드가 같은 경매를 동시에 처리 (Redis 조건부 기록만으로 보호)
+ * 반복 횟수는 BID_HISTORY_ROUNDS 환경 변수로 늘릴 수 있다.
+ */
+class AuctionServiceLinearizabilityTest {
+
+    private static final long PRODUCT_ID = 7L;
+    private static final long STARTING_PRICE = 10_000L;
+    private static final int THREADS = 8;
+    private static final int BIDS_PER_THREAD = 300;
+    private static final int HANDOFF_EVERY = 150;
+    private static final int ROUNDS = Integer.parseInt(System.getenv().getOrDefault("BID_HISTORY_ROUNDS", "3"));
+
+    @Test
+    void 단일_소유_노드의_동시_입찰_기록은_선형화_가능하다() throws Exception {
+        for (int round = 0; round < ROUNDS; round++) {
+            InMemoryBidRedisStore redis = new InMemoryBidRedisStore(PRODUCT_ID, 0.02, 3);
+            AuctionService node = node(redis);
+
+            List<BidOperation> history = run(round, (operation, random) -> node);
+
+            verify(redis, history, RejectionCheck.REPORTED_VALUE);
+        }
+    }
+
+    @Test
+    void 소유_노드가_바뀌는_중에도_입찰_기록은_선형화_가능하다() throws Exception {
+        for (int round = 0; round < ROUNDS; round++) {
+            InMemoryBidRedisStore redis = new InMemoryBidRedisStore(PRODUCT_ID, 0.02, 3);
+            AuctionService[] nodes = {node(redis), node(redis)};
+            AtomicInteger owner = new AtomicInteger();
+            ClusterMembershipChangedEvent changed = new ClusterMembershipChangedEvent(Set.of("a"), Set.of("a", "b"));
+
+            List<BidOperation> history = run(round, (operation, random) -> {
+                if (operation > 0 && operation % HANDOFF_EVERY == 0) {
+                    // 새 소유 노드는 캐시를 비운 뒤 넘겨받고, 이전 노드는 진행 중인 입찰을 마저 처리한 채로 나중에 캐시를 비움
+                    synchronized (owner) {
+                        int next = 1 - owner.get();
+                        nodes[next].onClusterMembershipChanged(changed);
+                        owner.set(next);
+                        nodes[1 - next].onClusterMembershipChanged(changed);
+                    }
+                }
+                return nodes[owner.get()];
+            });
+
+            // 넘겨받기 직전에 이전 노드가 캐싱한 최고가로 거절할 수 있으므로 거절은 결과만 확인
+            verify(redis, history, RejectionCheck.OUTCOME);
+        }
+    }
+
+    @Test
+    void 두_노드가_같은_경매를_동시에_처리해도_수락된_입찰은_선형화_가능하다() throws Exception {
+        for (int round = 0; round < ROUNDS; round++) {
+            InMemoryBidRedisStore redis = new InMemoryBidRedisStore(PRODUCT_ID, 0.05, 5);
+            AuctionService[] nodes = {node(redis), node(redis)};
+
+            List<BidOperation> history = run(round, (operation, random) -> nodes[random.nextInt(nodes.length)]);
+
+            verify(redis, history, RejectionCheck.OUTCOME);
+        }
+    }
+
+    @Test
+    void 넘겨받은_노드가_먼저_기록하면_이전_노드의_입찰은_거절되고_저널에_남지_않는다(@TempDir Path dir) throws Exception {
+        InMemoryBidRedisStore redis = new InMemoryBidRedisStore(PRODUCT_ID, 0, 1);
+        BidJournal previousJournal = journal(dir.resolve("previous"));
+        BidJournal nextJournal = journal(dir.resolve("next"));
+        AuctionService previousOwner = node(redis, previousJournal);
+        AuctionService nextOwner = node(redis, nextJournal);
+
+        // 이전 노드가 11,000원을 캐싱한 채로, 새 소유 노드가 Redis 기준으로 12,000원을 먼저 기록
+        assertThat(previousOwner.placeBid(PRODUCT_ID, 11_000L, 1L).getStatus()).isEqualTo(BidResult.Status.ACCEPTED);
+        assertThat(nextOwner.placeBid(PRODUCT_ID, 12_000L, 2L).getStatus()).isEqualTo(BidResult.Status.ACCEPTED);
+
+        // 이전 노드는 메모리 검증은 통과하지만 Redis 조건부 기록에서 거절됨
+        BidResult rejected = previousOwner.placeBid(PRODUCT_ID, 11_500L, 3L);
+
+        assertThat(rejected.getStatus()).isEqualTo(BidResult.Status.REJECTED);
+        assertThat(rejected.getCurrentHighestBid()).isEqualTo(12_000L);
+        assertThat(redis.value(AuctionRedisKeys.highestBid(PRODUCT_ID))).isEqualTo("12000");
+        assertThat(redis.members(AuctionRedisKeys.bidders(PRODUCT_ID))).containsExactlyInAnyOrder("1", "2");
+
+        // 거절된 입찰은 이전 노드의 저널에 남지 않으므로 재시작 후 복구해도 수락된 입찰까지만 반영됨
+        previousJournal.close();
+        BidJournal reopened = journal(dir.resolve("previous"));
+        JournaledAuction recovered = reopened.find(PRODUCT_ID);
+        assertThat(recovered.getHighestBid()).isEqualTo(11_000L);
+        assertThat(recovered.getBidders()).containsExactly("1");
+        reopened.close();
+        nextJournal.close();
+    }
+
+    @Test
+    void 검사기는_잃어버린_갱신과_지난_값_읽기를_찾아낸다() {
+        // 두 입찰이 겹치지 않는데 나중 입찰이 더 낮은 금액으로 수락됨 (조건부 기록이 빠진 경우)
+        List<BidOperation> lostUpdate = List.of(
+                new BidOperation(12_000L, 1L, 1, 2, BidResult.accepted(12_000L, 1)),
+                new BidOperation(11_000L, 2L, 3, 4, BidResult.accepted(11_000L, 2)));
+        assertThat(BidHistoryChecker.check(STARTING_PRICE, lostUpdate, "11000", "2", RejectionCheck.OUTCOME)).isNotEmpty();
+
+        // 순번은 맞지만 먼저 끝난 입찰이 더 늦은 순번을 받음
+        List<BidOperation> reordered = List.of(
+                new BidOperation(11_000L, 1L, 1, 2, BidResult.accepted(11_000L, 2)),
+                new BidOperation(10_500L, 2L, 3, 4, BidResult.accepted(10_500L, 1)));
+        assertThat(BidHistoryChecker.check(STARTING_PRICE, reordered, "11000", "1", RejectionCheck.OUTCOME)).isNotEmpty();
+
+        // 12,000원이 수락된 뒤 시작한 입찰이 이전 최고가 11,000원을 근거로 거절됨
+        List<BidOperation> staleRead = List.of(
+                new BidOperation(11_000L, 1L, 1, 2, BidResult.accepted(11_000L, 1)),
+                new BidOperation(12_000L, 2L, 3, 4, BidResult.accepted(12_000L, 2)),
+                new BidOperation(10_900L, 3L, 5, 6, BidResult.rejected(BidHistoryChecker.PRICE_REJECTION, 11_000L)));
+        assertThat(BidHistoryChecker.check(STARTING_PRICE, staleRead, "12000", "2", RejectionCheck.REPORTED_VALUE)).isNotEmpty();
+        // 거절 결과 자체는 맞음
+        assertThat(BidHistoryChecker.check(STARTING_PRICE, staleRead, "12000", "2", RejectionCheck.OUTCOME)).isEmpty();
+
+        // 최고가보다 높은 입찰을 거절
+        List<BidOperation> wrongRejection = List.of(
+                new BidOperation(11_000L, 1L, 1, 2, BidResult.accepted(11_000L, 1)),
+                new BidOperation(11_500L, 2L, 3, 4, BidResult.rejected(BidHistoryChecker.PRICE_REJECTION, 11_000L)));
+        assertThat(BidHistoryChecker.check(STARTING_PRICE, wrongRejection, "11000", "1", RejectionCheck.OUTCOME)).isNotEmpty();
+
+        // 최종 상태가 마지막 수락 입찰과 다름
+        List<BidOperation> single = List.of(new BidOperation(11_000L, 1L, 1, 2, BidResult.accepted(11_000L, 1)));
+        assertThat(BidHistoryChecker.check(STARTING_PRICE, single, "11000", "2", RejectionCheck.OUTCOME)).isNotEmpty();
+        assertThat(BidHistoryChecker.check(STARTING_PRICE, single, "11000", "1", RejectionCheck.REPORTED_VALUE)).isEmpty();
+    }
+
+    private void verify(InMemoryBidRedisStore redis, List<BidOperation> history, RejectionCheck rejectionCheck) {
+        String highestBid = redis.value(AuctionRedisKeys.highestBid(PRODUCT_ID));
+        String highestBidder = redis.value(AuctionRedisKeys.highestBidder(PRODUCT_ID));
+
+        assertThat(BidHistoryChecker.check(STARTING_PRICE, history, highestBid, highestBidder, rejectionCheck)).isEmpty();
+
+        // 기록이 의미 있도록 수락과 가격 거절이 모두 섞였는지, 입찰자 집합이 수락된 입찰자와 같은지 확인
+        assertThat(history).anyMatch(BidOperation::accepted).anyMatch(BidOperation::priceRejected);
+        Set<String> acceptedBidders = history.stream()
+                .filter(BidOperation::accepted)
+                .map(operation -> String.valueOf(operation.bidderId()))
+                .collect(Collectors.toSet());
+        assertThat(redis.members(AuctionRedisKeys.bidders(PRODUCT_ID))).isEqualTo(acceptedBidders);
+    }
+
+    // THREADS개 스레드가 각자 BIDS_PER_THREAD번 입찰하고 호출/응답을 공유 논리 시계로 기록
+    private List<BidOperation> run(int round, Router router) throws Exception {
+        AtomicLong clock = new AtomicLong();
+        AtomicInteger operations = new AtomicInteger();
+        ConcurrentLinkedQueue<BidOperation> history = new ConcurrentLinkedQueue<>();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < THREADS; thread++) {
+                long bidderId = thread + 1;
+                Random random = new Random(round * 1_000L + thread);
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    long lastSeen = STARTING_PRICE;
+                    for (int i = 0; i < BIDS_PER_THREAD; i++) {
+                        AuctionService node = router.route(operations.getAndIncrement(), random);
+                        // 마지막으로 본 최고가 근처로 입찰 (일부는 같거나 낮아서 거절)
+                        long bidAmount = lastSeen + (random.nextInt(8) - 2) * 100L;
+                        long invokedAt = clock.incrementAndGet();
+                        BidResult result = node.placeBid(PRODUCT_ID, bidAmount, bidderId);
+                        long respondedAt = clock.incrementAndGet();
+                        history.add(new BidOperation(bidAmount, bidderId, invokedAt, respondedAt, result));
+                        lastSeen = Math.max(lastSeen, result.getCurrentHighestBid());
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return List.copyOf(history);
+    }
+
+    private static AuctionService node(InMemoryBidRedisStore redis) {
+        return node(redis, null);
+    }
+
+    // journal 이 null 이면 저널 기능이 꺼진 노드
+    @SuppressWarnings("unchecked")
+    private static AuctionService node(InMemoryBidRedisStore redis, BidJournal journal) {
+        LiveAuctionStore liveAuctionStore = new LiveAuctionStore();
+        liveAuctionStore.register(PRODUCT_ID, STARTING_PRICE);
+        ObjectProvider<BidJournal> journalProvider = mock(ObjectProvider.class);
+        when(journalProvider.getIfAvailable()).thenReturn(journal);
+        return new AuctionService(mock(ProductRepository.class), redis, mock(AuctionStatusBroadcaster.class), liveAuctionStore,
+                mock(ViewerCountAggregator.class), mock(OutbidNotifier.class), mock(UserProfileCache.class),
+                mock(ApplicationEventPublisher.class), journalProvider, mock(ObjectProvider.class));
+    }
+
+    private static BidJournal journal(Path dir) throws Exception {
+        BidJournal journal = new BidJournal(dir.toString(), 1024 * 1024, 1L, true);
+        journal.open();
+        return journal;
+    }
+
+    // 입찰 하나를 처리할 노드 선택 (operation: 전체 입찰 중 몇 번째인지)
+    @FunctionalInterface
+    private interface Router {
+        AuctionService route(int operation, Random random);
+    }
+}
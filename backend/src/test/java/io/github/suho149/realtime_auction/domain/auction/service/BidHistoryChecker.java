@@ -0,0 +1,163 @@
+package io.github.suho149.realtime_auction.domain.auction.service;
+
+import io.github.suho149.realtime_auction.domain.auction.dto.BidResult;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 한 경매에 대한 동시 입찰 기록(호출/응답 시각과 결과)이 선형화 가능한지 확인한다.
+ *
+ * 경매 최고가는 "현재가보다 높으면 바꾸고 순번을 받는다 / 아니면 거절" 연산만 있는 레지스터라서
+ * 일반적인 선형화 탐색 대신 다음처럼 확인한다.
+ * - 수락된 입찰은 순번(1..n, 빠짐/중복 없음)이 곧 선형화 순서이고, 그 순서로 금액이 엄격히 증가해야 한다.
+ * - 가격 거절은 최고가를 읽기만 하므로 수락 입찰 사이의 한 칸(slot)에 놓는다.
+ *   REPORTED_VALUE는 응답에 담긴 현재가가 최고가였던 칸에, OUTCOME은 응답 전에 시작한 수락 입찰들 바로 뒤 칸에 놓는다
+ *   (OUTCOME은 거절 자체가 맞는지만 보고, 응답의 현재가는 지난 값이어도 허용).
+ * - 칸 순서로 늘어놓았을 때 앞 칸 연산의 호출보다 먼저 응답한 뒷 칸 연산이 없어야 한다 (실시간 순서 보존).
+ * - 마지막 수락 입찰이 최종 최고가/최고 입찰자여야 한다.
+ * 락 획득 실패 같은 가격 외 거절은 상태를 바꾸지 않으므로 확인하지 않는다.
+ */
+final class BidHistoryChecker {
+
+    static final String PRICE_REJECTION = "입찰가가 현재 최고가보다 높아야 합니다.";
+    private static final int MAX_VIOLATIONS = 10;
+
+    enum RejectionCheck {
+        REPORTED_VALUE,
+        OUTCOME
+    }
+
+    // 입찰 하나의 호출/응답. 시각은 모든 스레드가 공유하는 논리 시계 값
+    record BidOperation(long bidAmount, long bidderId, long invokedAt, long respondedAt, BidResult result) {
+
+        boolean accepted() {
+            return result.getStatus() == BidResult.Status.ACCEPTED;
+        }
+
+        boolean priceRejected() {
+            return result.getStatus() == BidResult.Status.REJECTED && PRICE_REJECTION.equals(result.getReason());
+        }
+    }
+
+    private BidHistoryChecker() {
+    }
+
+    // 위반 내용 목록 (비어 있으면 선형화 가능)
+    static List<String> check(long startingPrice, List<BidOperation> history,
+                              String finalHighestBid, String finalHighestBidder, RejectionCheck rejectionCheck) {
+        List<String> violations = new ArrayList<>();
+        List<BidOperation> accepted = history.stream()
+                .filter(BidOperation::accepted)
+                .sorted(Comparator.comparingLong(operation -> operation.result().getSequence()))
+                .toList();
+
+        // 1. 수락 입찰: 순번이 1..n이고 금액이 시작가부터 엄격히 증가
+        Map<Long, Integer> slotByAmount = new HashMap<>();
+        long previousAmount = startingPrice;
+        for (int i = 0; i < accepted.size(); i++) {
+            BidOperation operation = accepted.get(i);
+            if (operation.result().getSequence() != i + 1) {
+                report(violations, "수락 순번이 1부터 연속되지 않음: " + (i + 1) + "번째가 " + operation);
+            }
+            if (operation.bidAmount() <= previousAmount) {
+                report(violations, "수락 입찰가가 직전 최고가 " + previousAmount + " 이하: " + operation);
+            }
+            if (operation.result().getCurrentHighestBid() != operation.bidAmount()) {
+                report(violations, "수락 응답의 최고가가 입찰가와 다름: " + operation);
+            }
+            slotByAmount.put(operation.bidAmount(), i + 1);
+            previousAmount = operation.bidAmount();
+        }
+
+        // 2. 최종 상태는 마지막 수락 입찰
+        if (!accepted.isEmpty()) {
+            BidOperation last = accepted.get(accepted.size() - 1);
+            if (!String.valueOf(last.bidAmount()).equals(finalHighestBid)
+                    || !String.valueOf(last.bidderId()).equals(finalHighestBidder)) {
+                report(violations, "최종 상태(" + finalHighestBid + ", " + finalHighestBidder + ")가 마지막 수락 입찰과 다름: " + last);
+            }
+        }
+
+        // 3. 칸 배정: 수락 입찰 k번 = 2k, 수락 입찰 k번 뒤의 거절 = 2k + 1 (k = 0 은 시작가)
+        long[] invokedBefore = new long[accepted.size() + 1]; // 수락 입찰 1..k 중 가장 늦은 호출 시각
+        invokedBefore[0] = Long.MIN_VALUE;
+        for (int i = 0; i < accepted.size(); i++) {
+            invokedBefore[i + 1] = Math.max(invokedBefore[i], accepted.get(i).invokedAt());
+        }
+        List<Slotted> slotted = new ArrayList<>(history.size());
+        for (int i = 0; i < accepted.size(); i++) {
+            slotted.add(new Slotted(2L * (i + 1), accepted.get(i)));
+        }
+        for (BidOperation operation : history) {
+            if (!operation.priceRejected()) {
+                continue;
+            }
+            long reported = operation.result().getCurrentHighestBid();
+            int slot;
+            if (rejectionCheck == RejectionCheck.REPORTED_VALUE) {
+                Integer reportedSlot = (reported == startingPrice) ? Integer.valueOf(0) : slotByAmount.get(reported);
+                if (reportedSlot == null) {
+                    report(violations, "최고가였던 적 없는 값으로 거절: " + operation);
+                    continue;
+                }
+                slot = reportedSlot;
+            } else {
+                slot = latestSlotInvokedBefore(invokedBefore, operation.respondedAt());
+                reported = (slot == 0) ? startingPrice : accepted.get(slot - 1).bidAmount();
+            }
+            if (operation.bidAmount() > reported) {
+                report(violations, "최고가 " + reported + "보다 높은 입찰을 거절: " + operation);
+            }
+            slotted.add(new Slotted(2L * slot + 1, operation));
+        }
+
+        // 4. 실시간 순서: 칸 순으로 볼 때 앞 칸 연산이 모두 호출된 뒤에 응답해야 함
+        slotted.sort(Comparator.comparingLong(Slotted::slot));
+        long latestInvocation = Long.MIN_VALUE;
+        int groupStart = 0;
+        while (groupStart < slotted.size()) {
+            long slot = slotted.get(groupStart).slot();
+            int groupEnd = groupStart;
+            while (groupEnd < slotted.size() && slotted.get(groupEnd).slot() == slot) {
+                BidOperation operation = slotted.get(groupEnd).operation();
+                if (operation.respondedAt() < latestInvocation) {
+                    report(violations, "먼저 끝난 연산이 나중에 시작한 연산 뒤에 선형화됨: " + operation);
+                }
+                groupEnd++;
+            }
+            for (int i = groupStart; i < groupEnd; i++) {
+                latestInvocation = Math.max(latestInvocation, slotted.get(i).operation().invokedAt());
+            }
+            groupStart = groupEnd;
+        }
+        return violations;
+    }
+
+    // 응답 전에 호출된 수락 입찰만으로 이루어진 가장 긴 앞부분의 길이 (invokedBefore는 오름차순)
+    private static int latestSlotInvokedBefore(long[] invokedBefore, long respondedAt) {
+        int low = 0;
+        int high = invokedBefore.length - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (invokedBefore[mid] < respondedAt) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    private static void report(List<String> violations, String violation) {
+        if (violations.size() < MAX_VIOLATIONS) {
+            violations.add(violation);
+        }
+    }
+
+    private record Slotted(long slot, BidOperation operation) {
+    }
+}
@@ -0,0 +1,134 @@
+package io.github.suho149.realtime_auction.domain.auction.service;
+
+import io.github.suho149.realtime_auction.domain.auction.store.AuctionRedisKeys;
+import io.github.suho149.realtime_auction.global.redis.RedisBatch;
+import io.github.suho149.realtime_auction.global.redis.RedisStore;
+import org.mockito.Answers;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 경매 하나에 대해 AuctionService의 입찰 경로가 쓰는 Redis 명령(최고가 조회, 입찰 기록 스크립트)을 메모리에서 흉내 내는 대역.
+ * 명령 하나는 Redis처럼 원자적으로 실행하고, 명령 앞뒤에 지연 스파이크(네트워크/Redis 정지)를 무작위로 넣을 수 있다.
+ * 배치는 브로드캐스트가 캐시 없이 현재 상태를 읽는 경우(최고가, 최고 입찰자, 입찰자 수)만 지원한다.
+ * 입찰 기록 스크립트는 Lua 대신 AuctionService.WRITE_BID_SCRIPT와 같은 의미의 Java 코드로 실행한다 (스크립트를 바꾸면 여기도 함께).
+ */
+class InMemoryBidRedisStore extends RedisStore {
+
+    private final Map<String, String> values = new HashMap<>();
+    private final Map<String, Set<String>> sets = new HashMap<>();
+    private final long productId;
+    private final double spikeProbability;
+    private final int maxSpikeMillis;
+
+    InMemoryBidRedisStore(long productId, double spikeProbability, int maxSpikeMillis) {
+        super(null);
+        this.productId = productId;
+        this.spikeProbability = spikeProbability;
+        this.maxSpikeMillis = maxSpikeMillis;
+    }
+
+    @Override
+    public String get(String key) {
+        spike();
+        String value;
+        synchronized (this) {
+            value = values.get(key);
+        }
+        spike();
+        return value;
+    }
+
+    @Override
+    public byte[] get(byte[] key) {
+        String value = get(string(key));
+        return (value != null) ? bytes(value) : null;
+    }
+
+    // 바이트 키/인자로 실행하는 경로만 사용. 결과도 Redis처럼 문자열 값은 byte[]
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T execute(RedisScript<T> script, byte[][] keys, byte[]... args) {
+        List<String> keyNames = Arrays.stream(keys).map(InMemoryBidRedisStore::string).toList();
+        if (keyNames.size() != 4 || !keyNames.get(0).endsWith(":highestBid")) {
+            throw new IllegalStateException("지원하지 않는 스크립트: " + keyNames);
+        }
+        spike();
+        List<Object> result;
+        synchronized (this) {
+            result = writeBid(keyNames, string(args[0]), string(args[1]));
+        }
+        spike();
+        return (T) result;
+    }
+
+    // 브로드캐스트용 조회 배치. 어떤 명령을 추가하든 이 대역이 맡은 경매의 최고가/최고 입찰자/입찰자 수를 돌려줌
+    @Override
+    public RedisBatch batch() {
+        RedisBatch batch = mock(RedisBatch.class, Answers.RETURNS_SELF);
+        when(batch.execute()).thenAnswer(invocation -> {
+            synchronized (this) {
+                return Arrays.asList(values.get(AuctionRedisKeys.highestBid(productId)),
+                        values.get(AuctionRedisKeys.highestBidder(productId)),
+                        (long) sets.getOrDefault(AuctionRedisKeys.bidders(productId), Set.of()).size());
+            }
+        });
+        return batch;
+    }
+
+    synchronized String value(String key) {
+        return values.get(key);
+    }
+
+    synchronized Set<String> members(String key) {
+        return new HashSet<>(sets.getOrDefault(key, Set.of()));
+    }
+
+    // 수락 [1, 이전 최고 입찰자, 입찰자 수, 입찰 순번] / 거절 [0, 현재 최고가]
+    private List<Object> writeBid(List<String> keys, String bidAmount, String bidder) {
+        String current = values.get(keys.get(0));
+        if (current != null && Long.parseLong(current) >= Long.parseLong(bidAmount)) {
+            return List.of(0L, bytes(current));
+        }
+        String previous = values.get(keys.get(1));
+        values.put(keys.get(0), bidAmount);
+        values.put(keys.get(1), bidder);
+        Set<String> bidders = sets.computeIfAbsent(keys.get(2), k -> new HashSet<>());
+        bidders.add(bidder);
+        long sequence = Long.parseLong(values.getOrDefault(keys.get(3), "0")) + 1;
+        values.put(keys.get(3), Long.toString(sequence));
+        // 이전 최고 입찰자가 없으면 스크립트 응답처럼 null (Lua에서는 false)
+        return Arrays.asList(1L, (previous != null) ? bytes(previous) : null, (long) bidders.size(), sequence);
+    }
+
+    private static String string(byte[] value) {
+        return new String(value, StandardCharsets.UTF_8);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private void spike() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (spikeProbability <= 0 || random.nextDouble() >= spikeProbability) {
+            return;
+        }
+        try {
+            Thread.sleep(1 + random.nextInt(maxSpikeMillis));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
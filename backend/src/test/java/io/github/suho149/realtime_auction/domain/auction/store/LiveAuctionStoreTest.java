@@ -0,0 +1,132 @@
+package io.github.suho149.realtime_auction.domain.auction.store;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LiveAuctionStoreTest {
+
+    @Test
+    void 등록_입찰반영_삭제가_일반_Map과_같은_결과를_낸다() {
+        LiveAuctionStore store = new LiveAuctionStore();
+        Map<Long, Long> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        // 등록/삭제를 섞어서 리사이즈와 backward-shift 삭제 경로를 함께 검증
+        for (int i = 0; i < 200_000; i++) {
+            long productId = 1 + random.nextInt(3_000);
+            if (random.nextBoolean()) {
+                store.register(productId, productId * 100);
+                expected.putIfAbsent(productId, productId * 100);
+            } else {
+                store.remove(productId);
+                expected.remove(productId);
+            }
+        }
+
+        assertThat(store.size()).isEqualTo(expected.size());
+        for (long productId = 1; productId <= 3_000; productId++) {
+            Long startingPrice = expected.get(productId);
+            assertThat(store.contains(productId)).isEqualTo(startingPrice != null);
+            assertThat(store.startingPrice(productId)).isEqualTo(startingPrice != null ? startingPrice : LiveAuctionStore.MISSING);
+        }
+    }
+
+    @Test
+    void 종료_시각이_지난_경매만_삭제한다() {
+        LiveAuctionStore store = new LiveAuctionStore();
+        // 리사이즈가 일어나도록 여러 개를 등록하고, 짝수 ID만 종료 시각이 지난 것으로
+        for (long productId = 1; productId <= 5_000; productId++) {
+            long endTime = (productId % 2 == 0) ? 1_000L : 10_000L;
+            store.register(productId, productId * 100, 0L, endTime);
+        }
+
+        assertThat(store.removeEndedBefore(5_000L)).isEqualTo(2_500);
+
+        assertThat(store.size()).isEqualTo(2_500);
+        for (long productId = 1; productId <= 5_000; productId++) {
+            assertThat(store.contains(productId)).isEqualTo(productId % 2 == 1);
+        }
+        assertThat(store.startingPrice(4_999L)).isEqualTo(499_900L);
+    }
+
+    @Test
+    void 입찰을_반영하면_최고가와_입찰자를_조회할_수_있다() {
+        LiveAuctionStore store = new LiveAuctionStore();
+        store.register(7L, 1_000L);
+        assertThat(store.highestBid(7L)).isEqualTo(LiveAuctionStore.MISSING);
+
+        store.recordBid(7L, 5_000L, 1_001L, 3);
+
+        assertThat(store.highestBid(7L)).isEqualTo(5_000L);
+        assertThat(store.highestBidderId(7L)).isEqualTo(1_001L);
+        assertThat(store.bidderCount(7L)).isEqualTo(3);
+        assertThat(new String(store.highestBidKey(7L), StandardCharsets.UTF_8)).isEqualTo("auction:{7}:highestBid");
+        assertThat(store.highestBidKey(7L)).isSameAs(store.highestBidKey(7L));
+        // 입찰 기록 스크립트 키는 등록된 경매면 매번 같은 배열, 아니면 새로 만듦
+        assertThat(store.bidScriptKeys(7L)).isSameAs(store.bidScriptKeys(7L));
+        assertThat(Arrays.stream(store.bidScriptKeys(7L)).map(key -> new String(key, StandardCharsets.UTF_8)))
+                .containsExactly("auction:{7}:highestBid", "auction:{7}:highestBidder", "auction:{7}:bidders", "auction:{7}:sequence");
+        assertThat(store.bidScriptKeys(8L)).isNotSameAs(store.bidScriptKeys(8L));
+    }
+
+    @Test
+    void 십진수_바이트_변환은_Long_문자열과_같다() {
+        for (long value : new long[]{0L, 9L, 10L, 1_234_567L, -42L, Long.MAX_VALUE, Long.MIN_VALUE}) {
+            byte[] bytes = LiveAuctionStore.toDecimalBytes(value);
+            assertThat(new String(bytes, StandardCharsets.US_ASCII)).isEqualTo(Long.toString(value));
+            if (value != Long.MIN_VALUE) {
+                assertThat(LiveAuctionStore.parseDecimal(bytes)).isEqualTo(value);
+            }
+        }
+    }
+
+    @Test
+    void 입찰자_바이트는_사용자_ID일_때만_변환한다() {
+        assertThat(LiveAuctionStore.parseBidderId("1234".getBytes(StandardCharsets.US_ASCII))).isEqualTo(1_234L);
+        assertThat(LiveAuctionStore.parseBidderId("a@test.com".getBytes(StandardCharsets.UTF_8))).isEqualTo(LiveAuctionStore.MISSING);
+        assertThat(LiveAuctionStore.parseBidderId(new byte[0])).isEqualTo(LiveAuctionStore.MISSING);
+        assertThat(LiveAuctionStore.parseBidderId((byte[]) null)).isEqualTo(LiveAuctionStore.MISSING);
+    }
+
+    @Test
+    void 경매_기간_밖의_입찰_시각을_구분한다() {
+        LiveAuctionStore store = new LiveAuctionStore();
+        store.register(7L, 1_000L, 10_000L, 20_000L);
+
+        assertThat(store.biddingWindow(7L, 9_999L)).isEqualTo(LiveAuctionStore.BiddingWindow.NOT_STARTED);
+        assertThat(store.biddingWindow(7L, 10_000L)).isEqualTo(LiveAuctionStore.BiddingWindow.OPEN);
+        assertThat(store.biddingWindow(7L, 20_000L)).isEqualTo(LiveAuctionStore.BiddingWindow.ENDED);
+        assertThat(store.biddingWindow(8L, 15_000L)).isEqualTo(LiveAuctionStore.BiddingWindow.UNKNOWN);
+
+        // 시간 제한 없이 등록한 경매는 항상 입찰 가능
+        store.register(9L, 1_000L);
+        assertThat(store.biddingWindow(9L, Long.MAX_VALUE - 1)).isEqualTo(LiveAuctionStore.BiddingWindow.OPEN);
+    }
+
+    @Test
+    void 캐싱된_입찰을_비워도_등록_정보는_남는다() {
+        LiveAuctionStore store = new LiveAuctionStore();
+        store.register(7L, 1_000L, 10_000L, 20_000L);
+        store.register(8L, 2_000L);
+        store.recordBid(7L, 5_000L, 1L, 3);
+        store.recordBid(8L, 6_000L, 2L, 1);
+
+        store.forgetBid(8L);
+        assertThat(store.highestBid(8L)).isEqualTo(LiveAuctionStore.MISSING);
+        assertThat(store.highestBid(7L)).isEqualTo(5_000L);
+
+        store.forgetBids();
+        assertThat(store.highestBid(7L)).isEqualTo(LiveAuctionStore.MISSING);
+        assertThat(store.highestBidderId(7L)).isEqualTo(LiveAuctionStore.MISSING);
+        assertThat(store.bidderCount(7L)).isZero();
+        assertThat(store.startingPrice(7L)).isEqualTo(1_000L);
+        assertThat(store.biddingWindow(7L, 15_000L)).isEqualTo(LiveAuctionStore.BiddingWindow.OPEN);
+    }
+}
@@ -0,0 +1,79 @@
+package io.github.suho149.realtime_auction.domain.notification.scheduler;
+
+import io.github.suho149.realtime_auction.domain.notification.channel.NotificationChannel;
+import io.github.suho149.realtime_auction.domain.notification.dto.NotificationMessage;
+import io.github.suho149.realtime_auction.domain.notification.entity.NotificationOutbox;
+import io.github.suho149.realtime_auction.domain.notification.entity.NotificationType;
+import io.github.suho149.realtime_auction.domain.notification.service.NotificationOutboxService;
+import io.github.suho149.realtime_auction.global.redis.RedisLock;
+import io.github.suho149.realtime_auction.global.redis.RedisStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class NotificationDispatcherTest {
+
+    private final NotificationOutboxService outboxService = mock(NotificationOutboxService.class);
+    private final NotificationChannel healthyChannel = mock(NotificationChannel.class);
+    private final NotificationChannel failingChannel = mock(NotificationChannel.class);
+    private final RedisStore redisStore = mock(RedisStore.class);
+    private final RedisLock lock = mock(RedisLock.class);
+
+    @BeforeEach
+    void setUp() throws Exception {
+        when(redisStore.getLock(any())).thenReturn(lock);
+        when(lock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).thenReturn(true);
+        when(failingChannel.name()).thenReturn("failing");
+    }
+
+    @Test
+    void 모든_채널에_전송되면_전송완료로_표시한다() throws Exception {
+        List<NotificationMessage> batch = List.of(message(1L), message(2L));
+        when(outboxService.findDue(100)).thenReturn(batch);
+
+        dispatcher(healthyChannel).dispatch();
+
+        verify(healthyChannel).deliver(batch);
+        verify(outboxService).markSent(List.of(1L, 2L));
+        verify(outboxService, never()).markFailed(any());
+        verify(lock).unlock();
+    }
+
+    @Test
+    void 채널_하나라도_실패하면_배치_전체를_재시도_대상으로_남긴다() throws Exception {
+        List<NotificationMessage> batch = List.of(message(1L), message(2L));
+        when(outboxService.findDue(100)).thenReturn(batch);
+        doThrow(new IllegalStateException("down")).when(failingChannel).deliver(batch);
+
+        dispatcher(healthyChannel, failingChannel).dispatch();
+
+        verify(outboxService).markSent(List.of());
+        verify(outboxService).markFailed(eq(Map.of(1L, "failing: down", 2L, "failing: down")));
+    }
+
+    private NotificationDispatcher dispatcher(NotificationChannel... channels) {
+        NotificationDispatcher dispatcher = new NotificationDispatcher(outboxService, List.of(channels), redisStore);
+        ReflectionTestUtils.setField(dispatcher, "batchSize", 100);
+        return dispatcher;
+    }
+
+    private static NotificationMessage message(Long id) {
+        NotificationOutbox outbox = NotificationOutbox.builder()
+                .recipientEmail("user" + id + "@test.com")
+                .type(NotificationType.AUCTION_WON)
+                .productId(10L)
+                .message("낙찰")
+                .build();
+        ReflectionTestUtils.setField(outbox, "id", id);
+        return new NotificationMessage(outbox);
+    }
+}
@@ -0,0 +1,124 @@
+package io.github.suho149.realtime_auction.domain.product.bulk;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProductImportReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Test
+    void CSV는_헤더로_열을_찾고_따옴표_안의_쉼표와_줄바꿈을_값으로_읽는다() throws IOException {
+        String csv = "\uFEFFstartingPrice,Title,description,auctionStartTime,auctionEndTime,memo\r\n"
+                + "1000,\"시계, 새상품\",\"첫 줄\n둘째 줄 \"\"정품\"\"\",2030-01-01T10:00:00,2030-01-02T10:00:00,무시\r\n"
+                + "\n"
+                + "2000,가방,설명,2030-01-01T10:00:00,2030-01-02T10:00:00,\n";
+
+        List<ProductImportRow> rows = readAll(csv(csv));
+
+        assertThat(rows).hasSize(2);
+        ProductImportRow first = rows.get(0);
+        assertThat(first.line()).isEqualTo(2);
+        assertThat(first.request().getTitle()).isEqualTo("시계, 새상품");
+        assertThat(first.request().getDescription()).isEqualTo("첫 줄\n둘째 줄 \"정품\"");
+        assertThat(first.request().getStartingPrice()).isEqualTo(1000L);
+        assertThat(first.request().getAuctionStartTime()).isEqualTo(LocalDateTime.of(2030, 1, 1, 10, 0));
+        // 따옴표 안의 줄바꿈과 빈 줄도 줄 번호에 포함
+        assertThat(rows.get(1).line()).isEqualTo(5);
+        assertThat(rows.get(1).request().getTitle()).isEqualTo("가방");
+    }
+
+    @Test
+    void CSV의_잘못된_행은_실패로_돌려주고_다음_행을_계속_읽는다() throws IOException {
+        String csv = "title,description,startingPrice,auctionStartTime,auctionEndTime\n"
+                + "시계,설명,abc,2030-01-01T10:00:00,2030-01-02T10:00:00\n"
+                + "시계,설명\n"
+                + "시계,설명,,2030-01-01T10:00:00,2030-01-02T10:00:00\n"
+                + "\"닫히지 않은 따옴표,설명,1000,2030-01-01T10:00:00,2030-01-02T10:00:00\n";
+
+        List<ProductImportRow> rows = readAll(csv(csv));
+
+        assertThat(rows).extracting(ProductImportRow::line).containsExactly(2L, 3L, 4L, 5L);
+        assertThat(rows.get(0).error()).contains("값 형식");
+        assertThat(rows.get(1).error()).contains("열 개수");
+        // 빈 값은 null로 읽고 검증에서 거름
+        assertThat(rows.get(2).isFailed()).isFalse();
+        assertThat(rows.get(2).request().getStartingPrice()).isNull();
+        assertThat(rows.get(3).error()).contains("따옴표");
+    }
+
+    @Test
+    void CSV_헤더에_필요한_열이_없으면_요청_전체를_거절한다() {
+        assertThatThrownBy(() -> readAll(csv("title,description\n시계,설명\n")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("startingPrice");
+    }
+
+    @Test
+    void 너무_긴_행은_실패로_처리하고_다음_행부터_계속_읽는다() throws IOException {
+        String longTitle = "가".repeat(ProductImportReader.MAX_ROW_CHARS + 1);
+        String ndjson = "{\"title\":\"" + longTitle + "\"}\n{\"title\":\"시계\"}\n";
+
+        List<ProductImportRow> rows = readAll(ndjson(ndjson));
+
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0).error()).contains("너무 깁니다");
+        assertThat(rows.get(1).request().getTitle()).isEqualTo("시계");
+    }
+
+    @Test
+    void NDJSON은_한_줄씩_읽고_빈_줄은_건너뛰며_잘못된_JSON은_실패로_돌려준다() throws IOException {
+        String ndjson = "{\"title\":\"시계\",\"startingPrice\":1000,\"auctionStartTime\":\"2030-01-01T10:00:00\"}\r\n"
+                + "\n"
+                + "{\"title\":\n"
+                + "{\"title\":\"가방\"}";
+
+        List<ProductImportRow> rows = readAll(ndjson(ndjson));
+
+        assertThat(rows).extracting(ProductImportRow::line).containsExactly(1L, 3L, 4L);
+        assertThat(rows.get(0).request().getStartingPrice()).isEqualTo(1000L);
+        assertThat(rows.get(0).request().getAuctionStartTime()).isEqualTo(LocalDateTime.of(2030, 1, 1, 10, 0));
+        assertThat(rows.get(1).error()).contains("JSON 형식");
+        assertThat(rows.get(2).request().getTitle()).isEqualTo("가방");
+    }
+
+    @Test
+    void 지원하지_않는_형식은_거절한다() {
+        assertThatThrownBy(() -> ProductImportReader.of(MediaType.APPLICATION_JSON, new ByteArrayInputStream(new byte[0]), objectMapper))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private List<ProductImportRow> readAll(ProductImportReader reader) throws IOException {
+        List<ProductImportRow> rows = new ArrayList<>();
+        try (reader) {
+            ProductImportRow row;
+            while ((row = reader.next()) != null) {
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+
+    private ProductImportReader csv(String body) throws IOException {
+        return ProductImportReader.of(ProductImportReader.TEXT_CSV, stream(body), objectMapper);
+    }
+
+    private ProductImportReader ndjson(String body) throws IOException {
+        return ProductImportReader.of(MediaType.APPLICATION_NDJSON, stream(body), objectMapper);
+    }
+
+    private static ByteArrayInputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,91 @@
+package io.github.suho149.realtime_auction.domain.product.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.suho149.realtime_auction.domain.auction.event.AuctionClosedEvent;
+import io.github.suho149.realtime_auction.domain.product.cache.ProductResponseCache.ResponseVersion;
+import io.github.suho149.realtime_auction.global.redis.RedisBatch;
+import io.github.suho149.realtime_auction.global.redis.RedisStore;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ProductResponseCacheTest {
+
+    private final RedisStore redisStore = mock(RedisStore.class);
+
+    @Test
+    void ETag는_Redis_버전으로_만들고_버전이_없으면_0이다() {
+        RedisBatch listBatch = mock(RedisBatch.class, Answers.RETURNS_SELF);
+        RedisBatch detailBatch = mock(RedisBatch.class, Answers.RETURNS_SELF);
+        when(redisStore.batch()).thenReturn(listBatch, detailBatch);
+        when(listBatch.execute()).thenReturn(List.of("7", "1700000000000"));
+        when(detailBatch.execute()).thenReturn(Arrays.asList(null, null));
+        ProductResponseCache cache = new ProductResponseCache(redisStore, new ObjectMapper(), 5_000, 10);
+
+        assertThat(cache.listVersion()).isEqualTo(new ResponseVersion("\"products-7\"", 1_700_000_000_000L));
+        assertThat(cache.detailVersion(3L)).isEqualTo(new ResponseVersion("\"product-3-0\"", 0L));
+        verify(listBatch).get("products:list:version");
+        verify(listBatch).get("products:list:version:bumped-at");
+    }
+
+    @Test
+    void Redis에_접근할_수_없으면_버전은_null이다() {
+        when(redisStore.batch()).thenThrow(new IllegalStateException("down"));
+        ProductResponseCache cache = new ProductResponseCache(redisStore, new ObjectMapper(), 5_000, 10);
+
+        assertThat(cache.listVersion()).isNull();
+    }
+
+    @Test
+    void 같은_버전의_응답은_한_번만_만든다() {
+        ProductResponseCache cache = new ProductResponseCache(redisStore, new ObjectMapper(), 5_000, 10);
+        AtomicInteger loads = new AtomicInteger();
+
+        byte[] first = cache.getOrLoad(version("\"product-1-0\""), "detail:1", () -> Map.of("id", loads.incrementAndGet()));
+        byte[] second = cache.getOrLoad(version("\"product-1-0\""), "detail:1", () -> Map.of("id", loads.incrementAndGet()));
+        cache.getOrLoad(version("\"product-1-1\""), "detail:1", () -> Map.of("id", loads.incrementAndGet()));
+
+        assertThat(second).isSameAs(first);
+        assertThat(new String(first)).isEqualTo("{\"id\":1}");
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void TTL이_지나면_다시_만든다() {
+        ProductResponseCache cache = new ProductResponseCache(redisStore, new ObjectMapper(), 0, 10);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.getOrLoad(version("\"products-1\""), "list", loads::incrementAndGet);
+        cache.getOrLoad(version("\"products-1\""), "list", loads::incrementAndGet);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void 경매가_종료되면_목록과_상세_버전을_함께_올린다() {
+        RedisBatch batch = mock(RedisBatch.class, Answers.RETURNS_SELF);
+        when(redisStore.batch()).thenReturn(batch);
+        when(batch.execute()).thenReturn(List.of(1L, true, 1L, true));
+        ProductResponseCache cache = new ProductResponseCache(redisStore, new ObjectMapper(), 5_000, 10);
+
+        cache.onAuctionClosed(new AuctionClosedEvent(5L, "상품", "seller@test.com", null, null, null));
+
+        verify(batch).increment("products:list:version");
+        verify(batch).increment("product:5:version");
+        verify(batch).set(eq("product:5:version:bumped-at"), anyString());
+        verify(batch).execute();
+    }
+
+    private static ResponseVersion version(String eTag) {
+        return new ResponseVersion(eTag, 0L);
+    }
+}
@@ -0,0 +1,40 @@
+package io.github.suho149.realtime_auction.domain.product.scheduler;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ArchivePartitionManagerTest {
+
+    private static final YearMonth OCTOBER = YearMonth.of(2026, 10);
+
+    @Test
+    void 파티션이_없으면_이전_이력과_이번달부터_미리_만들_달까지_나눈다() {
+        assertThat(ArchivePartitionManager.partitionTableSql(OCTOBER, 1)).isEqualTo(
+                "ALTER TABLE archived_products PARTITION BY RANGE COLUMNS(auction_end_time) (" +
+                "PARTITION p_history VALUES LESS THAN ('2026-10-01'), " +
+                "PARTITION p202610 VALUES LESS THAN ('2026-11-01'), " +
+                "PARTITION p202611 VALUES LESS THAN ('2026-12-01'), " +
+                "PARTITION p_future VALUES LESS THAN (MAXVALUE))");
+    }
+
+    @Test
+    void 마지막_월별_파티션_다음_달부터_부족한_달만_추가한다() {
+        List<String> existing = List.of("p_history", "p202610", "p202611", "p_future");
+
+        assertThat(ArchivePartitionManager.monthsToAdd(existing, OCTOBER, 3))
+                .containsExactly(YearMonth.of(2026, 12), YearMonth.of(2027, 1));
+        assertThat(ArchivePartitionManager.monthsToAdd(existing, OCTOBER, 1)).isEmpty();
+    }
+
+    @Test
+    void 오래_멈춰있었다면_지난_달은_건너뛰고_이번_달부터_추가한다() {
+        List<String> existing = List.of("p_history", "p202601", "p_future");
+
+        assertThat(ArchivePartitionManager.monthsToAdd(existing, OCTOBER, 1))
+                .containsExactly(YearMonth.of(2026, 10), YearMonth.of(2026, 11));
+    }
+}
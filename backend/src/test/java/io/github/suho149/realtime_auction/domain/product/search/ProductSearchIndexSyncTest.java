@@ -0,0 +1,45 @@
+package io.github.suho149.realtime_auction.domain.product.search;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.suho149.realtime_auction.domain.auction.event.BidPlacedEvent;
+import io.github.suho149.realtime_auction.domain.product.repository.ProductRepository;
+import io.github.suho149.realtime_auction.global.redis.RedisStore;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ProductSearchIndexSyncTest {
+
+    private final RedisStore redisStore = mock(RedisStore.class);
+    private final ProductSearchIndexSync sync = new ProductSearchIndexSync(
+            new ProductSearchIndex(), mock(ProductRepository.class), redisStore, new ObjectMapper());
+
+    @Test
+    void 입찰_가격은_모아서_경매당_최고가만_한_번_전파한다() {
+        sync.onBidPlaced(new BidPlacedEvent(1L, 1_000L, 7L, 1L));
+        sync.onBidPlaced(new BidPlacedEvent(1L, 3_000L, 8L, 2L));
+        sync.onBidPlaced(new BidPlacedEvent(2L, 500L, 7L, 1L));
+        verifyNoInteractions(redisStore);
+
+        sync.flushPrices();
+        sync.flushPrices();
+
+        verify(redisStore).publish(eq(ProductSearchIndexSync.CHANNEL), contains("\"productId\":1,\"title\":null,\"description\":null,\"price\":3000"));
+        verify(redisStore).publish(eq(ProductSearchIndexSync.CHANNEL), contains("\"productId\":2,\"title\":null,\"description\":null,\"price\":500"));
+        verifyNoMoreInteractions(redisStore);
+    }
+
+    @Test
+    void 전파에_실패하면_입찰_경로로_예외를_넘기지_않고_다음_주기에_다시_보낸다() {
+        doThrow(new IllegalStateException("down")).doNothing().when(redisStore).publish(anyString(), anyString());
+
+        assertThatCode(() -> sync.onBidPlaced(new BidPlacedEvent(1L, 1_000L, 7L, 1L))).doesNotThrowAnyException();
+        sync.flushPrices();
+        sync.flushPrices();
+
+        verify(redisStore, times(2)).publish(eq(ProductSearchIndexSync.CHANNEL), contains("\"price\":1000"));
+    }
+}
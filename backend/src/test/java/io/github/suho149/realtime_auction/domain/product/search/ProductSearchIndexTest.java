@@ -0,0 +1,133 @@
+package io.github.suho149.realtime_auction.domain.product.search;
+
+import io.github.suho149.realtime_auction.domain.product.entity.ProductStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductSearchIndexTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductSearchIndexTest.class);
+    private static final long NOW = 1_700_000_000_000L;
+    private static final long HOUR = 3_600_000L;
+
+    @Test
+    void 검색어는_제목과_설명의_단어를_접두어로_찾고_여러_단어는_모두_포함해야_한다() {
+        ProductSearchIndex index = new ProductSearchIndex();
+        index.add(1L, "아이폰 15 프로", "미개봉 새상품", ProductStatus.SELLING, 1_000L, NOW + HOUR);
+        index.add(2L, "갤럭시 S24", "아이폰을 쓰다가 바꿨습니다", ProductStatus.SELLING, 2_000L, NOW + HOUR);
+        index.add(3L, "맥북 에어", "Apple 정품", ProductStatus.SELLING, 3_000L, NOW + HOUR);
+
+        assertThat(ids(index, query("아이폰").build())).containsExactly(2L, 1L);
+        assertThat(ids(index, query("아이폰 미개봉").build())).containsExactly(1L);
+        assertThat(ids(index, query("APPLE").build())).containsExactly(3L);
+        assertThat(ids(index, query("없는단어").build())).isEmpty();
+    }
+
+    @Test
+    void 상태_현재가_마감시간_조건으로_거르고_정렬한다() {
+        ProductSearchIndex index = new ProductSearchIndex();
+        index.add(1L, "시계 A", "", ProductStatus.SELLING, 10_000L, NOW + 3 * HOUR);
+        index.add(2L, "시계 B", "", ProductStatus.SELLING, 20_000L, NOW + HOUR / 2);
+        index.add(3L, "시계 C", "", ProductStatus.SELLING, 30_000L, NOW + HOUR / 4);
+        index.add(4L, "시계 D", "", ProductStatus.SOLD_OUT, 40_000L, NOW - HOUR);
+
+        // 입찰로 현재가가 오르고, 경매 종료는 상태와 최종가에 반영된다
+        index.updatePrice(1L, 25_000L);
+        index.updatePrice(1L, 5_000L); // 낮은 값으로는 되돌아가지 않음
+        index.close(3L, 35_000L);
+
+        assertThat(ids(index, query("시계").status(ProductStatus.SELLING).sort(ProductSearchSort.PRICE_DESC).build()))
+                .containsExactly(1L, 2L);
+        assertThat(ids(index, query(null).minPrice(20_000L).maxPrice(35_000L).sort(ProductSearchSort.PRICE_ASC).build()))
+                .containsExactly(2L, 1L, 3L);
+        assertThat(ids(index, query(null).endingWithinMillis(HOUR).sort(ProductSearchSort.ENDING_SOON).build()))
+                .containsExactly(3L, 2L);
+        assertThat(ids(index, query(null).status(ProductStatus.SOLD_OUT).build())).containsExactly(4L, 3L);
+    }
+
+    @Test
+    void 페이지와_전체_개수를_함께_반환한다() {
+        ProductSearchIndex index = new ProductSearchIndex();
+        for (long id = 1; id <= 50; id++) {
+            index.add(id, "상품 " + id, "", ProductStatus.SELLING, id * 100, NOW + id * HOUR);
+        }
+
+        ProductSearchResult page = index.search(query("상품").sort(ProductSearchSort.ENDING_SOON).build(), 20, 10, NOW);
+
+        assertThat(page.getTotal()).isEqualTo(50);
+        assertThat(page.getHits()).extracting(ProductSearchResult.Hit::getProductId)
+                .containsExactly(21L, 22L, 23L, 24L, 25L, 26L, 27L, 28L, 29L, 30L);
+    }
+
+    @Test
+    void 아카이브로_제거된_상품은_어떤_조건으로도_찾지_않는다() {
+        ProductSearchIndex index = new ProductSearchIndex();
+        index.add(1L, "카메라 A", "", ProductStatus.SOLD_OUT, 1_000L, NOW - HOUR);
+        index.add(2L, "카메라 B", "", ProductStatus.SELLING, 2_000L, NOW + HOUR);
+        index.add(3L, "카메라 C", "", ProductStatus.SOLD_OUT, 3_000L, NOW - HOUR);
+
+        index.remove(1L);
+
+        assertThat(index.contains(1L)).isFalse();
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(ids(index, query(null).build())).containsExactly(3L, 2L);
+        assertThat(ids(index, query("카메라").build())).containsExactly(3L, 2L);
+        assertThat(ids(index, query(null).status(ProductStatus.SOLD_OUT).build())).containsExactly(3L);
+    }
+
+    // 백만 건 색인 후 검색 지연 측정. RUN_BENCHMARKS=true 를 지정했을 때만 실행된다.
+    @Test
+    @EnabledIfEnvironmentVariable(named = "RUN_BENCHMARKS", matches = "true")
+    void 백만건에서_검색은_20ms_안에_끝난다() {
+        ProductSearchIndex index = new ProductSearchIndex();
+        Random random = new Random(42);
+        String[] vocabulary = new String[20_000];
+        for (int i = 0; i < vocabulary.length; i++) {
+            vocabulary[i] = "단어" + Integer.toString(i, 36);
+        }
+        for (long id = 1; id <= 1_000_000; id++) {
+            StringBuilder title = new StringBuilder();
+            StringBuilder description = new StringBuilder();
+            for (int i = 0; i < 4; i++) {
+                title.append(vocabulary[zipf(random, vocabulary.length)]).append(' ');
+            }
+            for (int i = 0; i < 30; i++) {
+                description.append(vocabulary[zipf(random, vocabulary.length)]).append(' ');
+            }
+            ProductStatus status = random.nextInt(10) < 7 ? ProductStatus.SELLING : ProductStatus.SOLD_OUT;
+            index.add(id, title.toString(), description.toString(), status, 1_000 + random.nextInt(1_000_000), NOW + random.nextInt(7 * 24) * HOUR);
+        }
+
+        ProductSearchQuery query = query(vocabulary[0]).status(ProductStatus.SELLING)
+                .minPrice(10_000L).maxPrice(500_000L).sort(ProductSearchSort.ENDING_SOON).build();
+        long[] elapsed = new long[200];
+        for (int i = 0; i < elapsed.length; i++) {
+            long start = System.nanoTime();
+            index.search(query, 0, 20, NOW);
+            elapsed[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(elapsed);
+        log.info("검색 지연 - 중앙값: {}ms, p90: {}ms", String.format("%.2f", elapsed[100] / 1e6), String.format("%.2f", elapsed[180] / 1e6));
+        assertThat(elapsed[100]).isLessThan(20_000_000L);
+    }
+
+    private static ProductSearchQuery.ProductSearchQueryBuilder query(String keyword) {
+        return ProductSearchQuery.builder().keyword(keyword);
+    }
+
+    private static List<Long> ids(ProductSearchIndex index, ProductSearchQuery query) {
+        return index.search(query, 0, 20, NOW).getHits().stream().map(ProductSearchResult.Hit::getProductId).toList();
+    }
+
+    private static int zipf(Random random, int size) {
+        return (int) Math.min(size - 1, Math.floor(Math.pow(size, random.nextDouble())) - 1);
+    }
+}
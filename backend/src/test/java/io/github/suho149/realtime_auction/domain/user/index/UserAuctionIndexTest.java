@@ -0,0 +1,92 @@
+package io.github.suho149.realtime_auction.domain.user.index;
+
+import io.github.suho149.realtime_auction.domain.auction.event.BidPlacedEvent;
+import io.github.suho149.realtime_auction.domain.user.dto.UserAuctionResponse;
+import io.github.suho149.realtime_auction.domain.user.dto.UserAuctionRole;
+import io.github.suho149.realtime_auction.domain.user.dto.UserAuctionStatus;
+import io.github.suho149.realtime_auction.global.redis.RedisBatch;
+import io.github.suho149.realtime_auction.global.redis.RedisStore;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.*;
+
+class UserAuctionIndexTest {
+
+    private final RedisStore redisStore = mock(RedisStore.class);
+    private final RedisBatch pageBatch = mock(RedisBatch.class, Answers.RETURNS_SELF);
+    private final RedisBatch detailBatch = mock(RedisBatch.class, Answers.RETURNS_SELF);
+    private final UserAuctionIndex index = new UserAuctionIndex(redisStore, 60_000L, 100);
+
+    @Test
+    void 입찰한_경매는_진행_중이면_선두_추월을_종료됐으면_낙찰_여부를_돌려준다() {
+        when(redisStore.batch()).thenReturn(pageBatch, detailBatch);
+        when(pageBatch.execute()).thenReturn(List.of(new LinkedHashSet<>(List.of("3", "2", "1")), 5L));
+        // [내 마지막 입찰가] + 경매마다 [결과, 요약, 최고가, 최고 입찰자]
+        when(detailBatch.execute()).thenReturn(Arrays.asList(
+                Arrays.asList("12000", "9000", "30000"),
+                Map.of(), Map.of("title", "진행 중 선두", "startingPrice", "10000"), "12000", "7",
+                Map.of(), Map.of("title", "진행 중 추월", "startingPrice", "5000"), "9500", "8",
+                Map.of("title", "종료", "winnerId", "7", "winningPrice", "30000"), Map.of(), null, null));
+
+        Page<UserAuctionResponse> page = index.find(7L, UserAuctionRole.BIDDER, PageRequest.of(0, 3));
+
+        assertThat(page.getTotalElements()).isEqualTo(5L);
+        assertThat(page.getContent())
+                .extracting(UserAuctionResponse::getProductId, UserAuctionResponse::getTitle, UserAuctionResponse::getMyLastBid,
+                        UserAuctionResponse::getCurrentPrice, UserAuctionResponse::getStatus)
+                .containsExactly(
+                        tuple(3L, "진행 중 선두", 12_000L, 12_000L, UserAuctionStatus.LEADING),
+                        tuple(2L, "진행 중 추월", 9_000L, 9_500L, UserAuctionStatus.OUTBID),
+                        tuple(1L, "종료", 30_000L, 30_000L, UserAuctionStatus.WON));
+        verify(pageBatch).reverseRange("user:{7}:bids", 0, 2);
+        verify(detailBatch).hashValues("user:{7}:bids:amount", "3", "2", "1");
+    }
+
+    @Test
+    void 판매하는_경매는_입찰이_없으면_시작가를_결과가_없으면_종료로_돌려준다() {
+        when(redisStore.batch()).thenReturn(pageBatch, detailBatch);
+        when(pageBatch.execute()).thenReturn(List.of(new LinkedHashSet<>(List.of("2", "1", "0")), 3L));
+        when(detailBatch.execute()).thenReturn(Arrays.asList(
+                Map.of(), Map.of("title", "판매 중", "startingPrice", "10000"), null, null,
+                Map.of("title", "유찰"), Map.of(), null, null,
+                Map.of(), Map.of(), null, null));
+
+        Page<UserAuctionResponse> page = index.find(7L, UserAuctionRole.SELLER, PageRequest.of(0, 3));
+
+        assertThat(page.getContent())
+                .extracting(UserAuctionResponse::getCurrentPrice, UserAuctionResponse::getStatus)
+                .containsExactly(
+                        tuple(10_000L, UserAuctionStatus.SELLING),
+                        tuple(null, UserAuctionStatus.UNSOLD),
+                        tuple(null, UserAuctionStatus.ENDED));
+        verify(detailBatch, never()).hashValues(anyString(), any(String[].class));
+    }
+
+    @Test
+    void 목록이_비어있으면_경매_상태를_조회하지_않는다() {
+        when(redisStore.batch()).thenReturn(pageBatch);
+        when(pageBatch.execute()).thenReturn(List.of(new LinkedHashSet<String>(), 0L));
+
+        assertThat(index.find(7L, UserAuctionRole.BIDDER, PageRequest.of(0, 20)).getContent()).isEmpty();
+        verify(redisStore, times(1)).batch();
+    }
+
+    @Test
+    void 입찰_기록은_사용자_목록을_최근_항목만_남기고_만료_시간을_갱신한다() {
+        index.onBidPlaced(new BidPlacedEvent(3L, 12_000L, 7L, 1L));
+
+        verify(redisStore).execute(any(RedisScript.class), eq(List.of("user:{7}:bids", "user:{7}:bids:amount")),
+                anyString(), eq("3"), eq("12000"), eq("100"), eq("60000"));
+    }
+}
@@ -0,0 +1,28 @@
+package io.github.suho149.realtime_auction.domain.user.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SellerStatsDeltaTest {
+
+    @Test
+    void 종료된_경매는_진행_중에서_빠지고_낙찰_유찰로_나뉜다() {
+        SellerStatsDelta delta = SellerStatsDelta.created(3)
+                .plus(SellerStatsDelta.closed(15_000L, 7L))
+                .plus(SellerStatsDelta.closed(null, 0L));
+
+        assertThat(delta).isEqualTo(new SellerStatsDelta(1, 1, 1, 15_000L, 7L, 2));
+    }
+
+    @Test
+    void 입찰_수를_모르는_경매는_평균_입찰_수_집계에서_제외한다() {
+        SellerStatsDelta delta = SellerStatsDelta.closed(20_000L, null)
+                .plus(SellerStatsDelta.closed(10_000L, 4L));
+
+        assertThat(delta.bids()).isEqualTo(4L);
+        assertThat(delta.bidCountedAuctions()).isEqualTo(1L);
+        assertThat(delta.sold()).isEqualTo(2L);
+        assertThat(delta.grossWinningPrice()).isEqualTo(30_000L);
+    }
+}
@@ -0,0 +1,79 @@
+package io.github.suho149.realtime_auction.domain.user.service;
+
+import io.github.suho149.realtime_auction.domain.user.dto.UserProfile;
+import io.github.suho149.realtime_auction.domain.user.entity.Role;
+import io.github.suho149.realtime_auction.domain.user.entity.User;
+import io.github.suho149.realtime_auction.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class UserProfileCacheTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+
+    @Test
+    void 한_번_조회한_사용자는_DB를_다시_조회하지_않는다() {
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user(1L)));
+        UserProfileCache cache = new UserProfileCache(userRepository, 10, 60_000);
+
+        UserProfile first = cache.get(1L);
+        UserProfile second = cache.get(1L);
+
+        assertThat(second).isSameAs(first);
+        assertThat(second.getEmail()).isEqualTo("user1@test.com");
+        verify(userRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    void 최대_크기를_넘으면_가장_오래_사용하지_않은_항목을_버린다() {
+        when(userRepository.findById(anyLong())).thenAnswer(invocation -> Optional.of(user(invocation.getArgument(0))));
+        UserProfileCache cache = new UserProfileCache(userRepository, 2, 60_000);
+
+        cache.get(1L);
+        cache.get(2L);
+        cache.get(1L); // 1을 최근 사용으로
+        cache.get(3L); // 2가 제거됨
+
+        assertThat(cache.size()).isEqualTo(2);
+        cache.get(1L);
+        cache.get(2L);
+        verify(userRepository, times(1)).findById(1L);
+        verify(userRepository, times(2)).findById(2L);
+    }
+
+    @Test
+    void TTL이_지나면_다시_조회한다() {
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user(1L)));
+        UserProfileCache cache = new UserProfileCache(userRepository, 10, 0);
+
+        cache.get(1L);
+        cache.get(1L);
+
+        verify(userRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    void 없는_사용자는_null이고_캐시하지_않는다() {
+        when(userRepository.findById(1L)).thenReturn(Optional.empty());
+        UserProfileCache cache = new UserProfileCache(userRepository, 10, 60_000);
+
+        assertThat(cache.get(1L)).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    private static User user(long id) {
+        User user = User.builder()
+                .name("user" + id)
+                .email("user" + id + "@test.com")
+                .role(Role.USER)
+                .build();
+        ReflectionTestUtils.setField(user, "id", id);
+        return user;
+    }
+}
@@ -0,0 +1,66 @@
+package io.github.suho149.realtime_auction.global.cluster;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConsistentHashRingTest {
+
+    private static final int VIRTUAL_NODES = 128;
+    private static final int KEYS = 100_000;
+
+    @Test
+    void 같은_노드_목록이면_순서와_관계없이_같은_소유자를_정한다() {
+        ConsistentHashRing ring = ConsistentHashRing.of(List.of("a", "b", "c"), VIRTUAL_NODES);
+        ConsistentHashRing reordered = ConsistentHashRing.of(List.of("c", "a", "b"), VIRTUAL_NODES);
+
+        for (long key = 1; key <= 1_000; key++) {
+            assertThat(reordered.ownerOf(key)).isEqualTo(ring.ownerOf(key));
+        }
+    }
+
+    @Test
+    void 키가_노드들에_고르게_나뉜다() {
+        ConsistentHashRing ring = ConsistentHashRing.of(List.of("a", "b", "c", "d"), VIRTUAL_NODES);
+
+        Map<String, Integer> counts = new HashMap<>();
+        for (long key = 1; key <= KEYS; key++) {
+            counts.merge(ring.ownerOf(key), 1, Integer::sum);
+        }
+
+        assertThat(counts).containsOnlyKeys("a", "b", "c", "d");
+        // 평균(25%)에서 크게 벗어나지 않음
+        assertThat(counts.values()).allSatisfy(count -> assertThat(count).isBetween(KEYS * 15 / 100, KEYS * 35 / 100));
+    }
+
+    @Test
+    void 노드가_들어오거나_나가면_그_노드의_키만_주인이_바뀐다() {
+        ConsistentHashRing before = ConsistentHashRing.of(List.of("a", "b", "c"), VIRTUAL_NODES);
+        ConsistentHashRing joined = ConsistentHashRing.of(List.of("a", "b", "c", "d"), VIRTUAL_NODES);
+        ConsistentHashRing left = ConsistentHashRing.of(List.of("a", "c"), VIRTUAL_NODES);
+
+        int moved = 0;
+        for (long key = 1; key <= KEYS; key++) {
+            String owner = before.ownerOf(key);
+            // 새 노드로 옮겨간 키 외에는 그대로
+            if (!joined.ownerOf(key).equals(owner)) {
+                assertThat(joined.ownerOf(key)).isEqualTo("d");
+                moved++;
+            }
+            // 나간 노드의 키만 다른 노드로
+            if (!owner.equals("b")) {
+                assertThat(left.ownerOf(key)).isEqualTo(owner);
+            }
+        }
+        assertThat(moved).isBetween(KEYS * 15 / 100, KEYS * 35 / 100);
+    }
+
+    @Test
+    void 빈_링은_소유자가_없다() {
+        assertThat(ConsistentHashRing.of(List.of(), VIRTUAL_NODES).ownerOf(1L)).isNull();
+    }
+}
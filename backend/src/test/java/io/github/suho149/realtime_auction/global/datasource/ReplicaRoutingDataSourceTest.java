@@ -0,0 +1,124 @@
+package io.github.suho149.realtime_auction.global.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+// 두 MariaDB 인스턴스(primary, 복제본) 대신 커넥션을 구분할 수 있는 DataSource로 라우팅만 검증
+class ReplicaRoutingDataSourceTest {
+
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection replica1Connection = mock(Connection.class);
+    private final Connection replica2Connection = mock(Connection.class);
+    private final ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(
+            dataSource(primaryConnection),
+            replicas(dataSource(replica1Connection), dataSource(replica2Connection)));
+    private final ReplicaLagMonitor monitor = new ReplicaLagMonitor(routingDataSource, 1_000, 1);
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void 쓰기_트랜잭션은_primary를_사용한다() throws Exception {
+        routingDataSource.updateHealthyReplicas(List.of("replica-1", "replica-2"), 0L);
+
+        assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    void 읽기_전용_트랜잭션은_복제본을_번갈아_사용한다() throws Exception {
+        routingDataSource.updateHealthyReplicas(List.of("replica-1", "replica-2"), 0L);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        Connection first = routingDataSource.getConnection();
+        Connection second = routingDataSource.getConnection();
+
+        assertThat(List.of(first, second)).containsExactlyInAnyOrder(replica1Connection, replica2Connection);
+    }
+
+    @Test
+    void 지연이_기준을_넘은_복제본은_제외하고_모두_넘으면_primary에서_읽는다() throws Exception {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        monitor.apply(lags("replica-1", 200L, "replica-2", 5_000L), 10_000L);
+        assertThat(routingDataSource.getConnection()).isSameAs(replica1Connection);
+        assertThat(routingDataSource.getConnection()).isSameAs(replica1Connection);
+
+        // 측정 실패(null)도 제외
+        monitor.apply(lags("replica-1", null, "replica-2", 5_000L), 10_000L);
+        assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+
+        monitor.apply(lags("replica-1", 0L, "replica-2", 1_000L), 10_000L);
+        assertThat(routingDataSource.healthyReplicas()).containsExactly("replica-1", "replica-2");
+    }
+
+    @Test
+    void 복제본이_따라잡지_못한_커밋을_봐야_하는_읽기만_primary에서_읽는다() throws Exception {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        // 10초에 측정한 지연이 200ms -> 9.8초 이전의 커밋은 복제본에 반영됨
+        monitor.apply(lags("replica-1", 200L, "replica-2", 5_000L), 10_000L);
+
+        assertThat(ReplicaRoutingDataSource.readCommittedBefore(9_800L, this::connection)).isSameAs(replica1Connection);
+        assertThat(ReplicaRoutingDataSource.readCommittedBefore(9_900L, this::connection)).isSameAs(primaryConnection);
+        // 감싸지 않은 읽기는 그대로 복제본
+        assertThat(routingDataSource.getConnection()).isSameAs(replica1Connection);
+    }
+
+    @Test
+    void 지연_프록시는_트랜잭션의_readOnly가_정해진_뒤_대상을_고른다() throws Exception {
+        routingDataSource.updateHealthyReplicas(List.of("replica-1"), 0L);
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+
+        // 트랜잭션 시작 시점에 커넥션 프록시를 먼저 받고, readOnly 설정은 그 뒤에 이루어짐
+        Connection connection = dataSource.getConnection();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        connection.prepareStatement("SELECT 1");
+
+        verify(replica1Connection).prepareStatement("SELECT 1");
+        verify(primaryConnection, never()).prepareStatement("SELECT 1");
+    }
+
+    private Connection connection() {
+        try {
+            return routingDataSource.getConnection();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static DataSource dataSource(Connection connection) {
+        DataSource dataSource = mock(DataSource.class);
+        try {
+            when(dataSource.getConnection()).thenReturn(connection);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        return dataSource;
+    }
+
+    private static Map<String, DataSource> replicas(DataSource replica1, DataSource replica2) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-1", replica1);
+        replicas.put("replica-2", replica2);
+        return replicas;
+    }
+
+    private static Map<String, Long> lags(String key1, Long lag1, String key2, Long lag2) {
+        Map<String, Long> lags = new LinkedHashMap<>();
+        lags.put(key1, lag1);
+        lags.put(key2, lag2);
+        return lags;
+    }
+}
@@ -0,0 +1,49 @@
+package io.github.suho149.realtime_auction.global.jwt;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTest {
+
+    @Test
+    void 추가한_값은_항상_있다고_답한다() {
+        BloomFilter filter = new BloomFilter(10_000, 0.001);
+        String[] added = new String[10_000];
+        for (int i = 0; i < added.length; i++) {
+            added[i] = UUID.randomUUID().toString();
+            filter.add(added[i]);
+        }
+
+        for (String value : added) {
+            assertThat(filter.mightContain(value)).isTrue();
+        }
+    }
+
+    @Test
+    void 예상_크기_안에서는_오탐률이_목표_근처로_유지된다() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.add(UUID.randomUUID().toString());
+        }
+
+        int falsePositives = 0;
+        int trials = 100_000;
+        for (int i = 0; i < trials; i++) {
+            if (filter.mightContain(UUID.randomUUID().toString())) {
+                falsePositives++;
+            }
+        }
+
+        assertThat((double) falsePositives / trials).isLessThan(0.02);
+    }
+
+    @Test
+    void 아무것도_추가하지_않으면_없다고_답한다() {
+        BloomFilter filter = new BloomFilter(1_000, 0.01);
+
+        assertThat(filter.mightContain("token")).isFalse();
+    }
+}
@@ -0,0 +1,52 @@
+package io.github.suho149.realtime_auction.global.jwt;
+
+import io.github.suho149.realtime_auction.global.redis.RedisStore;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class TokenDenylistTest {
+
+    private final RedisStore redisStore = mock(RedisStore.class);
+    private final TokenDenylist denylist = new TokenDenylist(redisStore, 1_000, 0.001);
+
+    @Test
+    void 폐기되지_않은_토큰은_Redis를_조회하지_않는다() {
+        assertThat(denylist.isRevoked("active-token")).isFalse();
+
+        verify(redisStore, never()).score(anyString(), anyString());
+    }
+
+    @Test
+    void 폐기한_토큰은_Redis에서_정확히_확인한_뒤_거부한다() {
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        denylist.revoke("revoked-token", expiresAt);
+        when(redisStore.score(anyString(), eq("revoked-token"))).thenReturn((double) expiresAt);
+
+        assertThat(denylist.isRevoked("revoked-token")).isTrue();
+        verify(redisStore).publish(TokenDenylist.CHANNEL, "revoked-token");
+    }
+
+    @Test
+    void 이미_만료된_토큰은_폐기_목록에_넣지_않는다() {
+        denylist.revoke("expired-token", System.currentTimeMillis() - 1);
+
+        verifyNoInteractions(redisStore);
+    }
+
+    @Test
+    void 재구성하면_Redis_원본의_폐기_토큰을_다시_채운다() {
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        when(redisStore.rangeByScore(anyString(), anyDouble(), anyDouble())).thenReturn(Set.of("other-node-token"));
+        when(redisStore.score(anyString(), eq("other-node-token"))).thenReturn((double) expiresAt);
+
+        denylist.rebuild();
+
+        assertThat(denylist.isRevoked("other-node-token")).isTrue();
+        verify(redisStore).removeRangeByScore(anyString(), eq(Double.NEGATIVE_INFINITY), anyDouble());
+    }
+}
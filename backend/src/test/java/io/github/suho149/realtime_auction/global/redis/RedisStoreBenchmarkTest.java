@@ -0,0 +1,158 @@
+package io.github.suho149.realtime_auction.global.redis;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.redisson.Redisson;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.redisson.config.Config;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+// 실제 Redis가 필요한 측정용 테스트. RUN_BENCHMARKS=true 를 지정했을 때만 실행된다. (Redis 주소는 REDIS_BENCHMARK_HOST, 기본 localhost)
+// 입찰 한 건의 Redis 작업을 이전 클라이언트 구성(Redisson 분산 락 + RedisTemplate 순차 명령)과
+// 현재 구성(Lettuce 하나로 조회 + RedisBatch 파이프라인)으로 실행해서, 클라이언트가 연 커넥션 수와 입찰별 지연을 기록한다.
+// 시간은 환경에 따라 달라지므로 비교 결과를 단정하지 않고 로그로만 남긴다.
+@EnabledIfEnvironmentVariable(named = "RUN_BENCHMARKS", matches = "true")
+class RedisStoreBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisStoreBenchmarkTest.class);
+    private static final String HOST = System.getenv().getOrDefault("REDIS_BENCHMARK_HOST", "localhost");
+    private static final int PORT = 6379;
+    private static final int WARMUP_BIDS = 500;
+    private static final int BIDS = 2_000;
+
+    @Test
+    void 이전_클라이언트와_현재_클라이언트의_커넥션_수와_입찰_지연을_기록한다() {
+        // 커넥션 수 조회용 클라이언트는 기준값에 포함되도록 먼저 연결
+        LettuceConnectionFactory monitorFactory = connectionFactory();
+        try {
+            StringRedisTemplate monitor = template(monitorFactory);
+            measureClients(monitor);
+        } finally {
+            monitorFactory.destroy();
+        }
+    }
+
+    private static void measureClients(StringRedisTemplate monitor) {
+        long baseline = connectedClients(monitor);
+
+        // 이전 구성: Redisson(락) + Spring Data Redis(명령) 두 클라이언트
+        Config config = new Config();
+        config.useSingleServer().setAddress("redis://" + HOST + ":" + PORT);
+        RedissonClient redisson = Redisson.create(config);
+        LettuceConnectionFactory legacyFactory = connectionFactory();
+        try {
+            StringRedisTemplate legacyTemplate = template(legacyFactory);
+            long[] legacy = measure(i -> legacyBid(redisson, legacyTemplate, i));
+            report("이전(Redisson + RedisTemplate)", connectedClients(monitor) - baseline, legacy);
+        } finally {
+            redisson.shutdown();
+            legacyFactory.destroy();
+        }
+
+        // 현재 구성: RedisStore 하나 (Lettuce 공유 커넥션 + 파이프라인 커넥션)
+        long afterLegacy = connectedClients(monitor);
+        LettuceConnectionFactory factory = connectionFactory();
+        try {
+            RedisStore redisStore = new RedisStore(template(factory));
+            long[] current = measure(i -> currentBid(redisStore, i));
+            report("현재(RedisStore)", connectedClients(monitor) - afterLegacy, current);
+            redisStore.delete("bench:{1}:highestBid", "bench:{1}:highestBidder", "bench:{1}:bidders");
+        } finally {
+            factory.destroy();
+        }
+    }
+
+    // 이전 AuctionService.placeBid 의 Redis 작업: 분산 락 안에서 조회 후 명령을 하나씩 전송
+    private static void legacyBid(RedissonClient redisson, StringRedisTemplate template, int i) {
+        RLock lock = redisson.getLock("bench:{1}:lock");
+        try {
+            if (!lock.tryLock(10, 5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("벤치마크 락 획득 실패");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+        try {
+            template.opsForValue().get("bench:{1}:highestBid");
+            template.opsForValue().set("bench:{1}:highestBid", String.valueOf(i));
+            template.opsForValue().set("bench:{1}:highestBidder", "user" + i);
+            template.opsForSet().add("bench:{1}:bidders", "user" + (i % 50));
+            template.opsForSet().size("bench:{1}:bidders");
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 현재 구성: 노드 안의 락(측정 대상 아님) 안에서 조회 한 번 + 쓰기 파이프라인 한 번
+    private static void currentBid(RedisStore redisStore, int i) {
+        redisStore.get(raw("bench:{1}:highestBid"));
+        redisStore.batch()
+                .set("bench:{1}:highestBid", String.valueOf(i))
+                .set("bench:{1}:highestBidder", "user" + i)
+                .addToSet(raw("bench:{1}:bidders"), raw("user" + (i % 50)))
+                .sizeOfSet(raw("bench:{1}:bidders"))
+                .execute();
+    }
+
+    private static void report(String client, long connections, long[] latencies) {
+        Arrays.sort(latencies);
+        log.info("{} - 입찰 {}건, 늘어난 커넥션 수: {}, 지연 p50: {}us, p99: {}us, 최대: {}us",
+                client, latencies.length, connections, percentile(latencies, 0.50) / 1_000,
+                percentile(latencies, 0.99) / 1_000, latencies[latencies.length - 1] / 1_000);
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1)];
+    }
+
+    // 워밍업 후 입찰 한 건씩 걸린 시간(ns)
+    private static long[] measure(Bid bid) {
+        for (int i = 0; i < WARMUP_BIDS; i++) {
+            bid.place(i);
+        }
+        long[] latencies = new long[BIDS];
+        for (int i = 0; i < BIDS; i++) {
+            long start = System.nanoTime();
+            bid.place(i);
+            latencies[i] = System.nanoTime() - start;
+        }
+        return latencies;
+    }
+
+    private static long connectedClients(StringRedisTemplate template) {
+        Properties info = template.execute((RedisCallback<Properties>) connection -> connection.serverCommands().info("clients"));
+        return Long.parseLong(info.getProperty("connected_clients"));
+    }
+
+    private static LettuceConnectionFactory connectionFactory() {
+        LettuceConnectionFactory factory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(HOST, PORT));
+        factory.afterPropertiesSet();
+        factory.start();
+        return factory;
+    }
+
+    private static StringRedisTemplate template(LettuceConnectionFactory factory) {
+        return new StringRedisTemplate(factory);
+    }
+
+    private static byte[] raw(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @FunctionalInterface
+    private interface Bid {
+        void place(int i);
+    }
+}
@@ -0,0 +1,63 @@
+package io.github.suho149.realtime_auction.global.websocket;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.broker.DefaultSubscriptionRegistry;
+import org.springframework.messaging.simp.broker.SubscriptionRegistry;
+
+import static io.github.suho149.realtime_auction.global.websocket.ExactDestinationSubscriptionRegistryTest.message;
+import static io.github.suho149.realtime_auction.global.websocket.ExactDestinationSubscriptionRegistryTest.subscribe;
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 측정용 테스트. RUN_BENCHMARKS=true 를 지정했을 때만 실행된다.
+@EnabledIfEnvironmentVariable(named = "RUN_BENCHMARKS", matches = "true")
+class ExactDestinationSubscriptionRegistryBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ExactDestinationSubscriptionRegistryBenchmarkTest.class);
+
+    private static final int SESSIONS = 100_000;
+    private static final int AUCTIONS = 1_000;
+    private static final int ROUNDS = 20;
+
+    @Test
+    void 구독자가_많을_때_기본_구현보다_구독_변경과_전송_대상_조회가_빠르다() {
+        long defaultNanos = measure(new DefaultSubscriptionRegistry());
+        long exactNanos = measure(new ExactDestinationSubscriptionRegistry());
+
+        log.info("세션 {}개, 경매 {}개 - 기본: {}ms, 목적지 색인: {}ms",
+                SESSIONS, AUCTIONS, defaultNanos / 1_000_000, exactNanos / 1_000_000);
+        assertThat(exactNanos).isLessThan(defaultNanos);
+    }
+
+    // 세션마다 경매 하나를 구독한 상태에서, 구독 변경(전체의 1%)과 모든 경매로의 전송을 번갈아 수행
+    private static long measure(SubscriptionRegistry registry) {
+        for (int session = 0; session < SESSIONS; session++) {
+            registry.registerSubscription(subscribe("s" + session, "sub-0", destination(session)));
+        }
+        Message<?>[] messages = new Message<?>[AUCTIONS];
+        for (int auction = 0; auction < AUCTIONS; auction++) {
+            messages[auction] = message("/topic/auctions/" + auction);
+        }
+
+        long start = System.nanoTime();
+        long delivered = 0;
+        for (int round = 1; round <= ROUNDS; round++) {
+            for (int session = 0; session < SESSIONS; session += 100) {
+                registry.registerSubscription(subscribe("s" + session, "sub-" + round, destination(session + round)));
+            }
+            for (Message<?> message : messages) {
+                delivered += registry.findSubscriptions(message).size();
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        assertThat(delivered).isPositive();
+        return elapsed;
+    }
+
+    private static String destination(int session) {
+        return "/topic/auctions/" + (session % AUCTIONS);
+    }
+}
@@ -0,0 +1,90 @@
+package io.github.suho149.realtime_auction.global.websocket;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MultiValueMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ExactDestinationSubscriptionRegistryTest {
+
+    private final ExactDestinationSubscriptionRegistry registry = new ExactDestinationSubscriptionRegistry();
+
+    @Test
+    void 정확한_목적지의_구독만_찾는다() {
+        registry.registerSubscription(subscribe("s1", "sub-1", "/topic/auctions/1"));
+        registry.registerSubscription(subscribe("s2", "sub-1", "/topic/auctions/1"));
+        registry.registerSubscription(subscribe("s2", "sub-2", "/topic/auctions/1/viewers"));
+
+        MultiValueMap<String, String> found = registry.findSubscriptions(message("/topic/auctions/1"));
+
+        assertThat(found).containsOnlyKeys("s1", "s2");
+        assertThat(found.get("s2")).containsExactly("sub-1");
+        assertThat(registry.findSubscriptions(message("/topic/auctions/2"))).isEmpty();
+    }
+
+    @Test
+    void 구독이_바뀌지_않으면_같은_불변_목록을_돌려준다() {
+        registry.registerSubscription(subscribe("s1", "sub-1", "/topic/auctions/1"));
+
+        MultiValueMap<String, String> first = registry.findSubscriptions(message("/topic/auctions/1"));
+        MultiValueMap<String, String> second = registry.findSubscriptions(message("/topic/auctions/1"));
+
+        assertThat(second).isSameAs(first);
+        assertThatThrownBy(() -> first.add("s2", "sub-1")).isInstanceOf(UnsupportedOperationException.class);
+
+        registry.registerSubscription(subscribe("s2", "sub-1", "/topic/auctions/1"));
+        assertThat(registry.findSubscriptions(message("/topic/auctions/1"))).containsOnlyKeys("s1", "s2");
+    }
+
+    @Test
+    void 구독_해제와_세션_종료를_반영하고_빈_목적지는_정리한다() {
+        registry.registerSubscription(subscribe("s1", "sub-1", "/topic/auctions/1"));
+        registry.registerSubscription(subscribe("s1", "sub-2", "/topic/auctions/2"));
+        registry.registerSubscription(subscribe("s2", "sub-1", "/topic/auctions/1"));
+
+        registry.unregisterSubscription(unsubscribe("s2", "sub-1"));
+        assertThat(registry.findSubscriptions(message("/topic/auctions/1"))).containsOnlyKeys("s1");
+
+        registry.unregisterAllSubscriptions("s1");
+        assertThat(registry.findSubscriptions(message("/topic/auctions/1"))).isEmpty();
+        assertThat(registry.destinationCount()).isZero();
+    }
+
+    @Test
+    void 패턴_구독은_기본_구현으로_찾아서_합친다() {
+        registry.registerSubscription(subscribe("s1", "sub-1", "/topic/auctions/1"));
+        registry.registerSubscription(subscribe("s2", "sub-9", "/topic/auctions/*"));
+
+        assertThat(registry.findSubscriptions(message("/topic/auctions/1"))).containsOnlyKeys("s1", "s2");
+        assertThat(registry.findSubscriptions(message("/topic/auctions/5"))).containsOnlyKeys("s2");
+
+        registry.unregisterAllSubscriptions("s2");
+        assertThat(registry.findSubscriptions(message("/topic/auctions/5"))).isEmpty();
+    }
+
+    static Message<byte[]> subscribe(String sessionId, String subscriptionId, String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    static Message<byte[]> unsubscribe(String sessionId, String subscriptionId) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.UNSUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    static Message<byte[]> message(String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
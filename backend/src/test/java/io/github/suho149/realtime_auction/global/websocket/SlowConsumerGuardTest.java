@@ -0,0 +1,89 @@
+package io.github.suho149.realtime_auction.global.websocket;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class SlowConsumerGuardTest {
+
+    private final SlowConsumerGuard guard = new SlowConsumerGuard(0);
+    private final MessageChannel channel = mock(MessageChannel.class);
+
+    @Test
+    void 쓰기가_끝나지_않은_세션에는_구독별_최신_메시지만_보관했다가_보낸다() throws Exception {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        WebSocketSession session = session("s1");
+        doAnswer(invocation -> {
+            writing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(session).sendMessage(any());
+        WebSocketSession tracked = guard.track(session);
+
+        // 클라이언트가 받지 못해 소켓 쓰기가 멈춘 상태
+        CompletableFuture<Void> write = CompletableFuture.runAsync(() -> send(tracked));
+        assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+
+        Message<?> first = message("s1", "sub-1", "/topic/auctions/1", "1000");
+        Message<?> latest = message("s1", "sub-1", "/topic/auctions/1", "2000");
+        Message<?> viewers = message("s1", "sub-2", "/topic/auctions/1/viewers", "3");
+        Message<?> outbid = message("s1", "sub-3", "/queue/outbid-users1", "outbid");
+        assertThat(guard.preSend(first, channel)).isNull();
+        assertThat(guard.preSend(latest, channel)).isNull();
+        assertThat(guard.preSend(viewers, channel)).isNull();
+        assertThat(guard.preSend(outbid, channel)).isSameAs(outbid); // 경매 토픽이 아닌 메시지는 그대로
+        assertThat(guard.lagMillis("s1")).isGreaterThanOrEqualTo(0L);
+
+        release.countDown();
+        write.get(5, TimeUnit.SECONDS);
+
+        verify(channel).send(latest);
+        verify(channel).send(viewers);
+        verify(channel, never()).send(first);
+        assertThat(guard.lagMillis("s1")).isZero();
+    }
+
+    @Test
+    void 쓰기_중이_아니면_바로_보낸다() {
+        guard.track(session("s1"));
+        Message<?> message = message("s1", "sub-1", "/topic/auctions/1", "1000");
+
+        assertThat(guard.preSend(message, channel)).isSameAs(message);
+    }
+
+    private static void send(WebSocketSession session) {
+        try {
+            session.sendMessage(new TextMessage("MESSAGE"));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static WebSocketSession session(String id) {
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn(id);
+        return session;
+    }
+
+    private static Message<?> message(String sessionId, String subscriptionId, String destination, String payload) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(payload.getBytes(), accessor.getMessageHeaders());
+    }
+}
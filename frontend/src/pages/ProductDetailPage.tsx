@@ -22,6 +22,7 @@ interface AuctionStatus {
     currentHighestBid: number;
     highestBidderName: string;
     bidderCount: number;
+    viewerCount: number;
 }
 
 // 쿠키 값을 가져오는 헬퍼 함수
@@ -40,6 +41,8 @@ const ProductDetailPage = () => {
     const [loading, setLoading] = useState(true);
 
     const [auctionStatus, setAuctionStatus] = useState<AuctionStatus | null>(null);
+    const [viewerCount, setViewerCount] = useState(0);
+    const [outbidMessage, setOutbidMessage] = useState<string | null>(null);
     const [bidAmount, setBidAmount] = useState(0);
     const clientRef = useRef<Client | null>(null);
 
@@ -66,7 +69,10 @@ const ProductDetailPage = () => {
 
                 // WebSocket 클라이언트 생성 시 connectHeaders 추가
                 const client = new Client({
-                    webSocketFactory: () => new SockJS('http://localhost:8080/ws'),
+                    // WebSocket을 지원하면 SockJS 없이 바로 연결 (지원하지 않는 환경만 SockJS로)
+                    webSocketFactory: () => typeof WebSocket !== 'undefined'
+                        ? new WebSocket('ws://localhost:8080/ws-native')
+                        : new SockJS('http://localhost:8080/ws'),
                     connectHeaders: {
                         // Authorization 헤더에 Bearer 토큰을 담아 전송
                         Authorization: `Bearer ${accessToken}`
@@ -81,6 +87,19 @@ const ProductDetailPage = () => {
                     client.subscribe(`/topic/auctions/${productId}`, (message) => {
                         const status = JSON.parse(message.body) as AuctionStatus;
                         setAuctionStatus(status);
+                        setViewerCount(status.viewerCount);
+                    });
+                    // 시청자 수는 서버가 일정 주기로만 전송
+                    client.subscribe(`/topic/auctions/${productId}/viewers`, (message) => {
+                        setViewerCount((JSON.parse(message.body) as { viewerCount: number }).viewerCount);
+                    });
+                    // 내가 최고 입찰자 자리에서 밀려났을 때 받는 개인 알림
+                    client.subscribe('/user/queue/outbid', (message) => {
+                        const { alerts } = JSON.parse(message.body) as { alerts: { productId: number; currentHighestBid: number }[] };
+                        const alert = alerts.find((a) => a.productId === Number(productId));
+                        if (alert) {
+                            setOutbidMessage(`더 높은 입찰이 들어왔습니다. 현재 최고가: ${alert.currentHighestBid.toLocaleString()}원`);
+                        }
                     });
                 };
 
@@ -156,6 +175,8 @@ const ProductDetailPage = () => {
             <p><strong>현재 최고가:</strong> {auctionStatus ? auctionStatus.currentHighestBid.toLocaleString() : product?.startingPrice.toLocaleString()}원</p>
             <p><strong>최고 입찰자:</strong> {auctionStatus ? auctionStatus.highestBidderName : '없음'}</p>
             <p><strong>총 입찰자 수:</strong> {auctionStatus ? auctionStatus.bidderCount : 0}명</p>
+            <p><strong>지금 보는 중:</strong> {viewerCount}명</p>
+            {outbidMessage && <p style={{ color: 'red' }}>{outbidMessage}</p>}
 
             {/* 경매가 진행 중일 때만 입찰 폼을 보여줌 */}
             {!isAuctionEnded ? (